@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.BenchmarkSettings;
+import org.springframework.data.jdbc.repository.config.AbstractJdbcConfiguration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Benchmarks for {@link JdbcAggregateTemplate} saving and loading aggregates with a one-to-many relationship against
+ * embedded databases.
+ */
+@Microbenchmark
+public class JdbcAggregateTemplateBenchmark extends BenchmarkSettings {
+
+	@Benchmark
+	public Object save(StateHolder state) {
+		return state.template.save(StateHolder.newAggregate("save"));
+	}
+
+	@Benchmark
+	public Object saveAll(StateHolder state) {
+		return state.template.saveAll(state.newAggregates());
+	}
+
+	@Benchmark
+	public Object findById(StateHolder state) {
+		return state.template.findById(state.existingId, Customer.class);
+	}
+
+	@Benchmark
+	public Object findAll(StateHolder state) {
+		return state.template.findAll(Customer.class);
+	}
+
+	@State(Scope.Benchmark)
+	public static class StateHolder {
+
+		static final int AGGREGATES = 100;
+		static final int BATCH_SIZE = 20;
+
+		@Param({ "H2", "HSQL" }) EmbeddedDatabaseType database;
+
+		EmbeddedDatabase dataSource;
+
+		AnnotationConfigApplicationContext context;
+
+		JdbcAggregateTemplate template;
+
+		NamedParameterJdbcTemplate jdbcTemplate;
+
+		Long existingId;
+
+		long maxSeededId;
+
+		@Setup
+		public void setup() {
+
+			dataSource = new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(database).build();
+
+			jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+			jdbcTemplate.getJdbcOperations().execute(
+					"CREATE TABLE customer (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(100))");
+			jdbcTemplate.getJdbcOperations().execute(
+					"CREATE TABLE purchase (customer BIGINT, customer_key INTEGER, product VARCHAR(100), amount INTEGER)");
+
+			context = new AnnotationConfigApplicationContext();
+			context.registerBean(DataSource.class, () -> dataSource);
+			context.register(BenchmarkConfiguration.class);
+			context.refresh();
+
+			template = context.getBean(JdbcAggregateTemplate.class);
+
+			List<Customer> seeded = new ArrayList<>();
+			for (int i = 0; i < AGGREGATES; i++) {
+				seeded.add(newAggregate("customer-" + i));
+			}
+
+			for (Customer customer : template.saveAll(seeded)) {
+				maxSeededId = Math.max(maxSeededId, customer.id());
+			}
+
+			existingId = maxSeededId;
+		}
+
+		/**
+		 * Remove aggregates created by the save benchmarks to keep the data set stable across iterations.
+		 */
+		@TearDown(Level.Iteration)
+		public void removeSavedAggregates() {
+
+			jdbcTemplate.getJdbcOperations().update("DELETE FROM purchase WHERE customer > ?", maxSeededId);
+			jdbcTemplate.getJdbcOperations().update("DELETE FROM customer WHERE id > ?", maxSeededId);
+		}
+
+		@TearDown
+		public void tearDown() {
+
+			context.close();
+			dataSource.shutdown();
+		}
+
+		List<Customer> newAggregates() {
+
+			List<Customer> customers = new ArrayList<>(BATCH_SIZE);
+			for (int i = 0; i < BATCH_SIZE; i++) {
+				customers.add(newAggregate("saveAll-" + i));
+			}
+
+			return customers;
+		}
+
+		static Customer newAggregate(String name) {
+			return new Customer(null, name,
+					List.of(new Purchase("book", 1), new Purchase("pen", 3), new Purchase("paper", 500)));
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class BenchmarkConfiguration extends AbstractJdbcConfiguration {
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return Collections.emptyList();
+		}
+
+		@Bean
+		NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+			return new NamedParameterJdbcTemplate(dataSource);
+		}
+	}
+
+	record Customer(@Id Long id, String name, List<Purchase> purchases) {
+	}
+
+	record Purchase(String product, int amount) {
+	}
+}
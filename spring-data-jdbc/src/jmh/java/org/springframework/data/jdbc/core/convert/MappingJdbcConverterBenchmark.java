@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.BenchmarkSettings;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.domain.RowDocument;
+
+/**
+ * Benchmarks for {@link MappingJdbcConverter#readAndResolve(Class, RowDocument)} reading flat entities, entities
+ * requiring value conversion and entities with embedded values and collections.
+ */
+@Microbenchmark
+public class MappingJdbcConverterBenchmark extends BenchmarkSettings {
+
+	@Benchmark
+	public Object readSimpleEntity(StateHolder state) {
+		return state.converter.readAndResolve(SimpleEntity.class, state.simpleDocument);
+	}
+
+	@Benchmark
+	public Object readEntityWithConversions(StateHolder state) {
+		return state.converter.readAndResolve(ConvertedEntity.class, state.convertedDocument);
+	}
+
+	@Benchmark
+	public Object readAggregate(StateHolder state) {
+		return state.converter.readAndResolve(Aggregate.class, state.aggregateDocument);
+	}
+
+	@State(Scope.Benchmark)
+	public static class StateHolder {
+
+		JdbcMappingContext context = new JdbcMappingContext();
+
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> List.of());
+
+		RowDocument simpleDocument;
+
+		RowDocument convertedDocument;
+
+		RowDocument aggregateDocument;
+
+		@Setup
+		public void setup() {
+
+			simpleDocument = new RowDocument().append("id", 1L).append("first_name", "Walter")
+					.append("last_name", "White").append("age", 50);
+
+			convertedDocument = new RowDocument().append("id", 1).append("status", "ACTIVE")
+					.append("created", Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 12, 0))).append("score", "42");
+
+			aggregateDocument = new RowDocument().append("id", 1L).append("name", "Walter")
+					.append("address_street", "Negra Arroyo Lane").append("address_city", "Albuquerque");
+		}
+	}
+
+	record SimpleEntity(@Id Long id, String firstName, String lastName, int age) {
+	}
+
+	record ConvertedEntity(@Id Long id, Status status, LocalDateTime created, int score) {
+	}
+
+	record Aggregate(@Id Long id, String name, @Embedded.Nullable(prefix = "address_") Address address,
+			List<Phone> phones) {
+	}
+
+	record Address(String street, String city) {
+	}
+
+	record Phone(String number) {
+	}
+
+	enum Status {
+		ACTIVE, INACTIVE
+	}
+}
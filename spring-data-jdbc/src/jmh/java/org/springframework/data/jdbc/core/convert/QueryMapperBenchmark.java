@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.BenchmarkSettings;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Benchmarks for {@link QueryMapper} mapping {@link Criteria} and {@link Sort} to their SQL representation.
+ */
+@Microbenchmark
+public class QueryMapperBenchmark extends BenchmarkSettings {
+
+	@Benchmark
+	public Object mapSimpleCriteria(StateHolder state) {
+		return state.queryMapper.getMappedObject(new MapSqlParameterSource(), state.simpleCriteria, state.table,
+				state.persistentEntity);
+	}
+
+	@Benchmark
+	public Object mapCompositeCriteria(StateHolder state) {
+		return state.queryMapper.getMappedObject(new MapSqlParameterSource(), state.compositeCriteria, state.table,
+				state.persistentEntity);
+	}
+
+	@Benchmark
+	public Object mapSort(StateHolder state) {
+		return state.queryMapper.getMappedSort(state.table, state.sort, state.persistentEntity);
+	}
+
+	@State(Scope.Benchmark)
+	public static class StateHolder {
+
+		JdbcMappingContext context = new JdbcMappingContext();
+
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> List.of());
+
+		QueryMapper queryMapper = new QueryMapper(converter);
+
+		RelationalPersistentEntity<?> persistentEntity;
+
+		Table table;
+
+		Criteria simpleCriteria = Criteria.where("lastName").is("White");
+
+		Criteria compositeCriteria = Criteria.where("lastName").is("White") //
+				.and("age").between(30, 60) //
+				.and(Criteria.where("city").in("Albuquerque", "Santa Fe").or("status").is(Status.ACTIVE));
+
+		Sort sort = Sort.by(Sort.Order.asc("lastName"), Sort.Order.desc("age"));
+
+		@Setup
+		public void setup() {
+
+			persistentEntity = context.getRequiredPersistentEntity(Person.class);
+			table = Table.create(persistentEntity.getQualifiedTableName());
+		}
+	}
+
+	record Person(@Id Long id, String firstName, String lastName, int age, String city, Status status) {
+	}
+
+	enum Status {
+		ACTIVE, INACTIVE
+	}
+}
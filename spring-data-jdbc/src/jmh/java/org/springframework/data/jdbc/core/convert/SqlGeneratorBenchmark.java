@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.BenchmarkSettings;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Benchmarks for {@link SqlGenerator} rendering statements from scratch and for query-derived statements that are
+ * rendered on each invocation.
+ */
+@Microbenchmark
+public class SqlGeneratorBenchmark extends BenchmarkSettings {
+
+	@Benchmark
+	public String findOne(StateHolder state) {
+		return state.newSqlGenerator().getFindOne();
+	}
+
+	@Benchmark
+	public String insert(StateHolder state) {
+		return state.newSqlGenerator().getInsert(Collections.emptySet());
+	}
+
+	@Benchmark
+	public String update(StateHolder state) {
+		return state.newSqlGenerator().getUpdate();
+	}
+
+	@Benchmark
+	public String findAllSorted(StateHolder state) {
+		return state.sqlGenerator.getFindAll(state.sort);
+	}
+
+	@Benchmark
+	public String findAllPaged(StateHolder state) {
+		return state.sqlGenerator.getFindAll(state.pageable);
+	}
+
+	@Benchmark
+	public String selectByQuery(StateHolder state) {
+		return state.sqlGenerator.selectByQuery(state.query, new MapSqlParameterSource());
+	}
+
+	@State(Scope.Benchmark)
+	public static class StateHolder {
+
+		JdbcMappingContext context = new JdbcMappingContext();
+
+		JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> List.of());
+
+		RelationalPersistentEntity<?> persistentEntity;
+
+		SqlGenerator sqlGenerator;
+
+		Sort sort = Sort.by("lastName", "firstName");
+
+		PageRequest pageable = PageRequest.of(2, 20, sort);
+
+		Query query = Query.query(Criteria.where("lastName").is("White").and("age").greaterThan(30)).sort(sort)
+				.limit(10);
+
+		@Setup
+		public void setup() {
+
+			persistentEntity = context.getRequiredPersistentEntity(Person.class);
+			sqlGenerator = newSqlGenerator();
+		}
+
+		SqlGenerator newSqlGenerator() {
+			return new SqlGenerator(context, converter, persistentEntity, H2Dialect.INSTANCE);
+		}
+	}
+
+	record Person(@Id Long id, String firstName, String lastName, int age, String street, String city,
+			List<Phone> phones) {
+	}
+
+	record Phone(String number) {
+	}
+}
@@ -15,15 +15,29 @@
  */
 package org.springframework.data.jdbc.core;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.observability.JdbcObservation;
+import org.springframework.data.jdbc.core.observability.JdbcObservation.HighCardinalityKeys;
+import org.springframework.data.jdbc.core.observability.JdbcObservation.LowCardinalityKeys;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DbActionExecutionException;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
-
-import java.util.List;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Executes an {@link MutableAggregateChange}.
@@ -37,6 +51,8 @@ class AggregateChangeExecutor {
 
 	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	private @Nullable AggregateCache aggregateCache;
 
 	AggregateChangeExecutor(JdbcConverter converter, DataAccessStrategy accessStrategy) {
 
@@ -44,6 +60,30 @@ class AggregateChangeExecutor {
 		this.accessStrategy = accessStrategy;
 	}
 
+	/**
+	 * Set the {@link ObservationRegistry} used to record {@link JdbcObservation#AGGREGATE_CHANGE} and
+	 * {@link JdbcObservation#DB_ACTION} observations. Defaults to {@link ObservationRegistry#NOOP}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 3.4
+	 */
+	void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Set the {@link AggregateCache} to evict aggregates from when executing changes to them.
+	 *
+	 * @param aggregateCache can be {@literal null} to disable eviction.
+	 * @since 3.4
+	 */
+	void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
 	/**
 	 * Execute a save aggregate change. It returns the resulting root entities, with all changes that might apply. This
 	 * might be the original instances or new instances, depending on their mutability.
@@ -58,9 +98,17 @@ class AggregateChangeExecutor {
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
 				accessStrategy);
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+		if (observationRegistry.isNoop()) {
+
+			aggregateChange.forEachAction(action -> execute(action, executionContext));
+			return executionContext.populateIdsIfNecessary();
+		}
 
-		return executionContext.populateIdsIfNecessary();
+		return observe(aggregateChange, observation -> {
+
+			aggregateChange.forEachAction(action -> observe(observation, aggregateChange, action, executionContext));
+			return executionContext.populateIdsIfNecessary();
+		});
 	}
 
 	/**
@@ -75,7 +123,84 @@ class AggregateChangeExecutor {
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
 				accessStrategy);
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+		if (observationRegistry.isNoop()) {
+
+			aggregateChange.forEachAction(action -> execute(action, executionContext));
+			return;
+		}
+
+		observe(aggregateChange, observation -> {
+
+			aggregateChange.forEachAction(action -> observe(observation, aggregateChange, action, executionContext));
+			return null;
+		});
+	}
+
+	/**
+	 * Run {@code execution} within a {@link JdbcObservation#AGGREGATE_CHANGE} observation. The observation is in scope
+	 * while executing, so that observations of the actions and of the underlying JDBC calls become its children.
+	 */
+	private <T, R> R observe(AggregateChange<T> aggregateChange, Function<Observation, R> execution) {
+
+		int[] actionCount = { 0 };
+		aggregateChange.forEachAction(action -> actionCount[0]++);
+
+		String aggregateType = aggregateChange.getEntityType().getSimpleName();
+		String kind = aggregateChange.getKind().name().toLowerCase(Locale.ROOT);
+
+		Observation observation = JdbcObservation.AGGREGATE_CHANGE.observation(observationRegistry) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.AGGREGATE_TYPE.withValue(aggregateType)) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.CHANGE_KIND.withValue(kind)) //
+				.highCardinalityKeyValue(HighCardinalityKeys.ACTION_COUNT.withValue(Integer.toString(actionCount[0]))) //
+				.start();
+
+		try (Observation.Scope scope = observation.openScope()) {
+
+			R result = execution.apply(observation);
+			observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(JdbcObservation.OUTCOME_SUCCESS));
+			return result;
+		} catch (RuntimeException e) {
+
+			observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(outcomeOf(e)));
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	private void observe(Observation parent, AggregateChange<?> aggregateChange, DbAction<?> action,
+			JdbcAggregateChangeExecutionContext executionContext) {
+
+		int batchSize = action instanceof DbAction.BatchWithValue<?, ?, ?> batch ? batch.getActions().size() : 1;
+
+		String aggregateType = aggregateChange.getEntityType().getSimpleName();
+
+		Observation observation = JdbcObservation.DB_ACTION.observation(observationRegistry) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.AGGREGATE_TYPE.withValue(aggregateType)) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.ENTITY_TYPE.withValue(action.getEntityType().getSimpleName())) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.ACTION.withValue(action.getClass().getSimpleName())) //
+				.highCardinalityKeyValue(HighCardinalityKeys.BATCH_SIZE.withValue(Integer.toString(batchSize))) //
+				.parentObservation(parent) //
+				.start();
+
+		try (Observation.Scope scope = observation.openScope()) {
+
+			execute(action, executionContext);
+			observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(JdbcObservation.OUTCOME_SUCCESS));
+		} catch (RuntimeException e) {
+
+			observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(outcomeOf(e)));
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	private static String outcomeOf(Throwable e) {
+		return e instanceof OptimisticLockingFailureException ? JdbcObservation.OUTCOME_OPTIMISTIC_LOCK_FAILURE
+				: JdbcObservation.OUTCOME_ERROR;
 	}
 
 	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
@@ -91,8 +216,18 @@ class AggregateChangeExecutor {
 				executionContext.executeBatchInsert(batchInsert);
 			} else if (action instanceof DbAction.UpdateRoot<?> updateRoot) {
 				executionContext.executeUpdateRoot(updateRoot);
+			} else if (action instanceof DbAction.BatchUpdateRoot<?> batchUpdateRoot) {
+				executionContext.executeBatchUpdateRoot(batchUpdateRoot);
+			} else if (action instanceof DbAction.UpsertRoot<?> upsertRoot) {
+				executionContext.executeUpsertRoot(upsertRoot);
+			} else if (action instanceof DbAction.BatchUpsertRoot<?> batchUpsertRoot) {
+				executionContext.executeBatchUpsertRoot(batchUpsertRoot);
+			} else if (action instanceof DbAction.Update<?> update) {
+				executionContext.executeUpdate(update);
 			} else if (action instanceof DbAction.Delete<?> delete) {
 				executionContext.executeDelete(delete);
+			} else if (action instanceof DbAction.DeleteSingle<?> deleteSingle) {
+				executionContext.executeDeleteSingle(deleteSingle);
 			} else if (action instanceof DbAction.BatchDelete<?> batchDelete) {
 				executionContext.executeBatchDelete(batchDelete);
 			} else if (action instanceof DbAction.DeleteAll<?> deleteAll) {
@@ -117,5 +252,72 @@ class AggregateChangeExecutor {
 			}
 			throw new DbActionExecutionException(action, e);
 		}
+
+		if (aggregateCache != null) {
+			evict(aggregateCache, action);
+		}
+	}
+
+	private void evict(AggregateCache cache, DbAction<?> action) {
+
+		if (action instanceof DbAction.WithRoot<?> withRoot) {
+
+			Object id = converter.getMappingContext().getRequiredPersistentEntity(withRoot.getEntityType())
+					.getIdentifierAccessor(withRoot.getEntity()).getIdentifier();
+
+			if (id != null) {
+
+				Object cacheId = getCacheId(withRoot.getEntityType(), id);
+				evictNowAndAfterCompletion(() -> cache.evict(withRoot.getEntityType(), cacheId));
+			}
+		} else if (action instanceof DbAction.DeleteRoot<?> deleteRoot) {
+
+			Object cacheId = getCacheId(deleteRoot.getEntityType(), deleteRoot.getId());
+			evictNowAndAfterCompletion(() -> cache.evict(deleteRoot.getEntityType(), cacheId));
+		} else if (action instanceof DbAction.DeleteAllRoot<?> deleteAllRoot) {
+			evictNowAndAfterCompletion(() -> cache.evictAll(deleteAllRoot.getEntityType()));
+		} else if (action instanceof DbAction.BatchWithValue<?, ?, ?> batch) {
+			batch.getActions().forEach(it -> evict(cache, it));
+		}
+	}
+
+	/**
+	 * Convert {@code id} to the type of the identifier property of {@code type} so that the same aggregate is cached
+	 * under the same identifier, regardless of the identifier type it got requested or deleted with.
+	 *
+	 * @param type the aggregate type.
+	 * @param id the aggregate identifier.
+	 * @return the identifier to use with the {@link AggregateCache}.
+	 */
+	Object getCacheId(Class<?> type, Object id) {
+
+		Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(
+				converter.getMappingContext().getRequiredPersistentEntity(type).getRequiredIdProperty().getType());
+
+		if (idType.isInstance(id)) {
+			return id;
+		}
+
+		Object converted = converter.getConversionService().convert(id, idType);
+		return converted != null ? converted : id;
+	}
+
+	/**
+	 * Evict right away and, when running within a transaction, once more after its completion so that aggregates read
+	 * concurrently before the transaction committed or rolled back do not stay in the cache.
+	 */
+	private static void evictNowAndAfterCompletion(Runnable eviction) {
+
+		eviction.run();
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
 	}
 }
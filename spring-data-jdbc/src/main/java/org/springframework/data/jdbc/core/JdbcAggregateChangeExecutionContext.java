@@ -63,6 +63,7 @@ import org.springframework.util.Assert;
 class JdbcAggregateChangeExecutionContext {
 
 	private static final String UPDATE_FAILED = "Failed to update entity [%s]; Id [%s] not found in database";
+	private static final String UPDATE_REFERENCED_FAILED = "Failed to update entity [%s]; Identifier [%s] not found in database";
 	private static final String UPDATE_FAILED_OPTIMISTIC_LOCKING = "Failed to update entity [%s]; The entity was updated since it was rea or it isn't in the database at all";
 
 	private final RelationalMappingContext context;
@@ -131,6 +132,67 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(update));
 	}
 
+	<T> void executeBatchUpdateRoot(DbAction.BatchUpdateRoot<T> batchUpdateRoot) {
+
+		List<DbAction.UpdateRoot<T>> updates = batchUpdateRoot.getActions();
+		List<T> instances = updates.stream().map(DbAction.UpdateRoot::getEntity).toList();
+
+		boolean[] updated;
+		if (batchUpdateRoot.isVersioned()) {
+
+			List<Number> previousVersions = updates.stream().map(DbAction.UpdateRoot::getPreviousVersion)
+					.collect(Collectors.toList());
+			updated = accessStrategy.updateAllWithVersion(instances, batchUpdateRoot.getEntityType(), previousVersions);
+		} else {
+			updated = accessStrategy.updateAll(instances, batchUpdateRoot.getEntityType());
+		}
+
+		for (int i = 0; i < updates.size(); i++) {
+
+			DbAction.UpdateRoot<T> update = updates.get(i);
+
+			if (!updated[i]) {
+
+				if (batchUpdateRoot.isVersioned()) {
+					throw new OptimisticLockingFailureException(
+							String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity()));
+				}
+
+				throw new IncorrectUpdateSemanticsDataAccessException(
+						String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
+			}
+
+			add(new DbActionExecutionResult(update));
+		}
+	}
+
+	<T> void executeUpsertRoot(DbAction.UpsertRoot<T> upsert) {
+
+		accessStrategy.upsert(upsert.getEntity(), upsert.getEntityType());
+		add(new DbActionExecutionResult(upsert));
+	}
+
+	<T> void executeBatchUpsertRoot(DbAction.BatchUpsertRoot<T> batchUpsertRoot) {
+
+		List<DbAction.UpsertRoot<T>> upserts = batchUpsertRoot.getActions();
+		List<T> instances = upserts.stream().map(DbAction.UpsertRoot::getEntity).toList();
+
+		accessStrategy.upsertAll(instances, batchUpsertRoot.getEntityType());
+
+		upserts.forEach(upsert -> add(new DbActionExecutionResult(upsert)));
+	}
+
+	<T> void executeUpdate(DbAction.Update<T> update) {
+
+		Identifier identifier = getIdentifier(update);
+
+		if (!accessStrategy.update(update.getEntity(), update.getEntityType(), identifier)) {
+
+			throw new IncorrectUpdateSemanticsDataAccessException(
+					String.format(UPDATE_REFERENCED_FAILED, update.getEntity(), identifier));
+		}
+	}
+
 	<T> void executeDeleteRoot(DbAction.DeleteRoot<T> delete) {
 
 		if (delete.getPreviousVersion() != null) {
@@ -151,6 +213,11 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath());
 	}
 
+	<T> void executeDeleteSingle(DbAction.DeleteSingle<T> delete) {
+
+		accessStrategy.delete(getIdentifier(delete), delete.getEntityType());
+	}
+
 	<T> void executeBatchDelete(DbAction.BatchDelete<T> batchDelete) {
 
 		List<Object> rootIds = batchDelete.getActions().stream().map(DbAction.Delete::getRootId).toList();
@@ -194,6 +261,24 @@ class JdbcAggregateChangeExecutionContext {
 		return identifier.build();
 	}
 
+	/**
+	 * Returns the {@link Identifier} of the row backing the entity of an action: the parent keys plus the id of the
+	 * entity, if it has one.
+	 */
+	private Identifier getIdentifier(DbAction.WithDependingOn<?> action) {
+
+		Identifier parentKeys = getParentKeys(action, converter);
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(action.getEntityType());
+		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
+
+		if (idProperty == null) {
+			return parentKeys;
+		}
+
+		return parentKeys.withPart(idProperty.getColumnName(), getIdFrom(action), converter.getColumnType(idProperty));
+	}
+
 	private Object getParentId(DbAction.WithDependingOn<?> action) {
 
 		DbAction.WithEntity<?> idOwningAction = getIdOwningAction(action,
@@ -262,7 +347,8 @@ class JdbcAggregateChangeExecutionContext {
 
 			Object newEntity = setIdAndCascadingProperties(action, result.getGeneratedId(), cascadingValues);
 
-			if (action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot) {
+			if (action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot
+					|| action instanceof DbAction.UpsertRoot) {
 				// noinspection unchecked
 				roots.add((T) newEntity);
 			}
@@ -324,6 +410,10 @@ class JdbcAggregateChangeExecutionContext {
 			return pathToValue;
 		}
 
+		if (action instanceof DbAction.UpsertRoot) {
+			return pathToValue;
+		}
+
 		throw new IllegalArgumentException(String.format("DbAction of type %s is not supported", action.getClass()));
 	}
 
@@ -16,6 +16,8 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.Example;
@@ -95,6 +97,27 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T update(T instance);
 
+	/**
+	 * Dedicated update function that only writes the differences between the aggregate and its previous state. This skips
+	 * the test if the aggregate root is new or not and always performs an update of the aggregate root. Entities
+	 * referenced by the aggregate root get inserted, updated or deleted individually, based on a comparison with the
+	 * entities referenced by {@code previousState}, instead of being deleted and reinserted as a whole.
+	 * <p>
+	 * Only entities that don't reference further entities can be compared individually and they must be identifiable
+	 * within their parent by a map key, list index or id. All other referenced entities get deleted and reinserted as
+	 * with {@link #update(Object)}.
+	 * <p>
+	 * {@code previousState} must reflect the state of the aggregate in the database, for example as loaded, and must not
+	 * share mutable instances with {@code instance}. Identical instances are considered unchanged.
+	 *
+	 * @param instance the aggregate root of the aggregate to be updated. Must not be {@code null}.
+	 * @param previousState the state of the aggregate as currently stored in the database. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @since 3.4
+	 */
+	<T> T update(T instance, T previousState);
+
 	/**
 	 * Updates all aggregate instances, including all the members of each aggregate instance.
 	 *
@@ -105,6 +128,37 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> updateAll(Iterable<T> instances);
 
+	/**
+	 * Dedicated upsert function. This skips the test if the aggregate root is new and inserts the aggregate root or
+	 * updates the existing row with the same id using a single statement, e.g. {@code MERGE} or
+	 * {@code INSERT … ON CONFLICT}. Entities referenced by the aggregate root get deleted and reinserted.
+	 * <p>
+	 * This is useful if the client provides ids and does not know whether the aggregate exists already. The id of the
+	 * aggregate root must be set. Aggregates using optimistic locking cannot be upserted.
+	 * </p>
+	 *
+	 * @param instance the aggregate root of the aggregate to be upserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 * @since 3.4
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getUpsertRenderContext()
+	 */
+	<T> T upsert(T instance);
+
+	/**
+	 * Upserts all aggregate instances, including all the members of each aggregate instance. Aggregate roots get
+	 * upserted using a single batch.
+	 *
+	 * @param instances the aggregate roots to be upserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instances.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 * @since 3.4
+	 * @see #upsert(Object)
+	 */
+	<T> Iterable<T> upsertAll(Iterable<T> instances);
+
 	/**
 	 * Counts the number of aggregates of a given type.
 	 *
@@ -173,6 +227,27 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Load all aggregates of a given type to a {@link Stream}. The stream holds the underlying cursor open and loads
+	 * aggregates lazily while it is consumed, honoring the fetch size of the underlying
+	 * {@link org.springframework.jdbc.core.JdbcTemplate}. The stream must be closed after use, e.g. using a
+	 * try-with-resources block.
+	 * <p>
+	 * Unless aggregates are loaded with a single query, references of each aggregate are loaded with additional
+	 * statements while the cursor is still open, one aggregate at a time. This requires a driver that can run statements
+	 * while a result set is being read on the same connection, and issues one set of statements per aggregate where
+	 * {@link #findAll(Class)} loads references of all aggregates together. The default implementation streams the result
+	 * of {@link #findAll(Class)}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	/**
 	 * Load all aggregates of a given type, sorted.
 	 *
@@ -184,6 +259,21 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Sort sort);
 
+	/**
+	 * Load all aggregates of a given type, sorted, to a {@link Stream}. The stream holds the underlying cursor open and
+	 * loads aggregates lazily while it is consumed. The stream must be closed after use. See {@link #streamAll(Class)} for
+	 * how references are loaded. The default implementation streams the result of {@link #findAll(Class, Sort)}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return StreamSupport.stream(findAll(domainType, sort).spliterator(), false);
+	}
+
 	/**
 	 * Load a page of (potentially sorted) aggregates of a given type.
 	 *
@@ -217,6 +307,21 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream}. The stream holds the underlying
+	 * cursor open and loads aggregates lazily while it is consumed. The stream must be closed after use. See
+	 * {@link #streamAll(Class)} for how references are loaded. The default implementation streams the result of
+	 * {@link #findAll(Query, Class)}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @return a non-null stream with all the matching results.
+	 * @since 3.4
+	 */
+	default <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return StreamSupport.stream(findAll(query, domainType).spliterator(), false);
+	}
+
 	/**
 	 * Returns a {@link Page} of entities matching the given {@link Query}. In case no match could be found, an empty
 	 * {@link Page} is returned.
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +27,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationContext;
@@ -32,8 +35,10 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.StatementSettings;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.EntityLifecycleEventDelegate;
@@ -44,6 +49,7 @@ import org.springframework.data.relational.core.conversion.MutableAggregateChang
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
+import org.springframework.data.relational.core.conversion.RelationalEntityUpsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityVersionUtils;
 import org.springframework.data.relational.core.conversion.RootAggregateChange;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -53,6 +59,7 @@ import org.springframework.data.relational.core.mapping.event.*;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -70,7 +77,7 @@ import org.springframework.util.ClassUtils;
  */
 public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
-	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
+	private final EntityLifecycleEventDelegate eventDelegate;
 	private final RelationalMappingContext context;
 
 	private final RelationalEntityDeleteWriter jdbcEntityDeleteWriter;
@@ -80,6 +87,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final JdbcConverter converter;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private @Nullable AggregateCache aggregateCache;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -98,6 +106,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(converter, "RelationalConverter must not be null");
 		Assert.notNull(dataAccessStrategy, "DataAccessStrategy must not be null");
 
+		this.eventDelegate = new EntityLifecycleEventDelegate();
 		this.eventDelegate.setPublisher(publisher);
 		this.context = context;
 		this.accessStrategy = dataAccessStrategy;
@@ -126,6 +135,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(converter, "RelationalConverter must not be null");
 		Assert.notNull(dataAccessStrategy, "DataAccessStrategy must not be null");
 
+		this.eventDelegate = new EntityLifecycleEventDelegate();
 		this.eventDelegate.setPublisher(publisher);
 		this.context = context;
 		this.accessStrategy = dataAccessStrategy;
@@ -135,6 +145,18 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
 	}
 
+	private JdbcAggregateTemplate(JdbcAggregateTemplate source, DataAccessStrategy accessStrategy) {
+
+		this.eventDelegate = source.eventDelegate;
+		this.context = source.context;
+		this.accessStrategy = accessStrategy;
+		this.converter = source.converter;
+		this.jdbcEntityDeleteWriter = source.jdbcEntityDeleteWriter;
+		this.executor = source.executor;
+		this.entityCallbacks = source.entityCallbacks;
+		this.aggregateCache = source.aggregateCache;
+	}
+
 	/**
 	 * Sets the callbacks to be invoked on life cycle events.
 	 *
@@ -160,6 +182,56 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure the {@link ObservationRegistry} to record observations for aggregate changes and the individual database
+	 * actions they consist of. Observations are not recorded by default.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 3.4
+	 * @see org.springframework.data.jdbc.core.observability.JdbcObservation
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		this.executor.setObservationRegistry(observationRegistry);
+	}
+
+	/**
+	 * Configure an {@link AggregateCache} consulted by {@link #findById(Object, Class)} before querying the database.
+	 * Saving and deleting aggregates through this template evicts the affected cache entries. Aggregates are not cached
+	 * by default.
+	 * <p>
+	 * The cache is bypassed while a transaction is active so that aggregates reflecting uncommitted changes or a
+	 * transaction-specific snapshot do not get shared with other callers.
+	 * <p>
+	 * Cached aggregates are shared between callers and must be treated as immutable. {@code AfterConvert} callbacks and
+	 * events are triggered for the cached instance on every cache hit.
+	 *
+	 * @param aggregateCache can be {@literal null} to disable caching.
+	 * @since 3.4
+	 * @see org.springframework.data.jdbc.core.cache.LocalAggregateCache
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+
+		this.aggregateCache = aggregateCache;
+		this.executor.setAggregateCache(aggregateCache);
+	}
+
+	/**
+	 * Return a {@link JdbcAggregateTemplate} that applies the given {@link StatementSettings} such as fetch size, maximum
+	 * number of rows and query timeout to the statements reading aggregate roots. The returned template shares its
+	 * configuration with this template at the time of the call and writes aggregates the same way.
+	 *
+	 * @param settings must not be {@literal null}.
+	 * @return a {@link JdbcAggregateTemplate} applying {@code settings}.
+	 * @since 3.4
+	 * @see DataAccessStrategy#withStatementSettings(StatementSettings)
+	 */
+	public JdbcAggregateTemplate withStatementSettings(StatementSettings settings) {
+
+		Assert.notNull(settings, "StatementSettings must not be null");
+
+		return new JdbcAggregateTemplate(this, accessStrategy.withStatementSettings(settings));
+	}
+
 	@Override
 	public <T> T save(T instance) {
 
@@ -238,6 +310,16 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 				new EntityAndChangeCreator<>(instance, entity -> createUpdateChange(prepareVersionForUpdate(entity))));
 	}
 
+	@Override
+	public <T> T update(T instance, T previousState) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null");
+		Assert.notNull(previousState, "Previous state must not be null");
+
+		return performSave(new EntityAndChangeCreator<>(instance,
+				entity -> createUpdateChange(prepareVersionForUpdate(entity), previousState)));
+	}
+
 	@Override
 	public <T> Iterable<T> updateAll(Iterable<T> instances) {
 
@@ -257,6 +339,34 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return performSaveAll(entityAndChangeCreators);
 	}
 
+	@Override
+	public <T> T upsert(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null");
+
+		verifyUpsertable(instance);
+
+		return performSave(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
+	}
+
+	@Override
+	public <T> Iterable<T> upsertAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null");
+
+		if (!instances.iterator().hasNext()) {
+			return Collections.emptyList();
+		}
+
+		List<EntityAndChangeCreator<T>> entityAndChangeCreators = new ArrayList<>();
+		for (T instance : instances) {
+
+			verifyUpsertable(instance);
+			entityAndChangeCreators.add(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
+		}
+		return performSaveAll(entityAndChangeCreators);
+	}
+
 	@Override
 	public long count(Class<?> domainType) {
 
@@ -290,13 +400,20 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(domainType, "Domain type must not be null");
 
-		T entity = accessStrategy.findById(id, domainType);
+		T entity = aggregateCache != null && !TransactionSynchronizationManager.isActualTransactionActive()
+				? findByIdCached(aggregateCache, id, domainType)
+				: accessStrategy.findById(id, domainType);
 		if (entity == null) {
 			return null;
 		}
 		return triggerAfterConvert(entity);
 	}
 
+	@Nullable
+	private <T> T findByIdCached(AggregateCache cache, Object id, Class<T> domainType) {
+		return cache.get(domainType, executor.getCacheId(domainType, id), () -> accessStrategy.findById(id, domainType));
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
 
@@ -306,6 +423,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterConvert(all);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.streamAll(domainType, sort).map(this::triggerAfterConvert);
+	}
+
 	@Override
 	public <T> Page<T> findAll(Class<T> domainType, Pageable pageable) {
 
@@ -327,6 +452,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return accessStrategy.findAll(query, domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return accessStrategy.streamAll(query, domainType);
+	}
+
 	@Override
 	public <T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 
@@ -345,6 +475,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterConvert(all);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.streamAll(domainType).map(this::triggerAfterConvert);
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
@@ -433,6 +571,15 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		context.getRequiredPersistentEntity(instance.getClass()).getRequiredIdProperty();
 	}
 
+	private <T> void verifyUpsertable(T instance) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+		persistentEntity.getRequiredIdProperty();
+
+		Assert.isTrue(!persistentEntity.hasVersionProperty(),
+				() -> "Aggregates using optimistic locking cannot be upserted: " + persistentEntity.getType().getName());
+	}
+
 	private <T> void doDeleteAll(Iterable<? extends T> instances, Class<T> domainType) {
 
 		BatchingAggregateChange<T, DeleteAggregateChange<T>> batchingAggregateChange = BatchingAggregateChange
@@ -542,10 +689,25 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	}
 
 	private <T> RootAggregateChange<T> createUpdateChange(EntityAndPreviousVersion<T> entityAndVersion) {
+		return createUpdateChange(entityAndVersion, null);
+	}
+
+	private <T> RootAggregateChange<T> createUpdateChange(EntityAndPreviousVersion<T> entityAndVersion,
+			@Nullable T previousState) {
 
 		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(entityAndVersion.entity,
 				entityAndVersion.version);
-		new RelationalEntityUpdateWriter<T>(context).write(entityAndVersion.entity, aggregateChange);
+		new RelationalEntityUpdateWriter<T>(context, previousState).write(entityAndVersion.entity, aggregateChange);
+		return aggregateChange;
+	}
+
+	private <T> RootAggregateChange<T> createUpsertChange(T instance) {
+
+		Assert.notNull(getRequiredPersistentEntity(instance).getIdentifierAccessor(instance).getIdentifier(),
+				"The id of an aggregate root to upsert must not be null");
+
+		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
+		new RelationalEntityUpsertWriter<T>(context).write(instance, aggregateChange);
 		return aggregateChange;
 	}
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache for aggregates loaded by identifier, consulted by
+ * {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate#findById(Object, Class)} before issuing any query.
+ * Entries are evicted when the template saves or deletes the corresponding aggregate and when all aggregates of a type
+ * get deleted. The template neither reads from nor populates the cache while a transaction is active.
+ * <p>
+ * Cached aggregates are returned as they are, without copying them, and are therefore shared between callers. They
+ * must be treated as immutable: modifying a returned aggregate, including from an
+ * {@link org.springframework.data.relational.core.mapping.event.AfterConvertCallback} that runs again on every cache
+ * hit, modifies the cached instance. Changes applied to the database without going through the template (e.g.
+ * modifying queries or other applications) are not visible until the entry gets evicted.
+ * <p>
+ * Identifiers are passed in the type of the identifier property of the aggregate.
+ *
+ * @since 3.4
+ * @see LocalAggregateCache
+ */
+public interface AggregateCache {
+
+	/**
+	 * Return the cached aggregate of the given type and identifier.
+	 *
+	 * @param type the aggregate type, must not be {@literal null}.
+	 * @param id the aggregate identifier, must not be {@literal null}.
+	 * @return the cached aggregate or {@literal null} if there is no cache entry.
+	 */
+	@Nullable
+	<T> T get(Class<T> type, Object id);
+
+	/**
+	 * Return the cached aggregate of the given type and identifier or load and cache it using {@code loader}. The
+	 * loaded aggregate must not be cached if the entry gets evicted while loading it, so that an aggregate read
+	 * concurrently with a change to it does not stay in the cache.
+	 *
+	 * @param type the aggregate type, must not be {@literal null}.
+	 * @param id the aggregate identifier, must not be {@literal null}.
+	 * @param loader loads the aggregate if it is not cached, must not be {@literal null}. May return {@literal null}.
+	 * @return the cached or loaded aggregate, {@literal null} if the aggregate does not exist.
+	 */
+	@Nullable
+	<T> T get(Class<T> type, Object id, Supplier<? extends T> loader);
+
+	/**
+	 * Cache the given aggregate. Unlike {@link #get(Class, Object, Supplier)} this does not account for concurrent
+	 * evictions.
+	 *
+	 * @param type the aggregate type, must not be {@literal null}.
+	 * @param id the aggregate identifier, must not be {@literal null}.
+	 * @param aggregate the aggregate to cache, must not be {@literal null}.
+	 */
+	<T> void put(Class<T> type, Object id, T aggregate);
+
+	/**
+	 * Evict the aggregate of the given type and identifier.
+	 *
+	 * @param type the aggregate type, must not be {@literal null}.
+	 * @param id the aggregate identifier, must not be {@literal null}.
+	 */
+	void evict(Class<?> type, Object id);
+
+	/**
+	 * Evict all aggregates of the given type.
+	 *
+	 * @param type the aggregate type, must not be {@literal null}.
+	 */
+	void evictAll(Class<?> type);
+
+	/**
+	 * Evict all cached aggregates.
+	 */
+	void clear();
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * {@link AggregateCache} keeping aggregates in local memory. The cache holds up to a maximum number of aggregates and
+ * evicts the least recently used one when exceeding it. Entries expire after an optional time to live.
+ *
+ * @since 3.4
+ */
+public class LocalAggregateCache implements AggregateCache {
+
+	private final @Nullable Duration timeToLive;
+	private final Clock clock;
+	private final ConcurrentLruCache<CacheKey, AtomicReference<CacheEntry>> entries;
+
+	/**
+	 * Generation per aggregate type, incremented by {@link #evictAll(Class)} to invalidate all entries of a type without
+	 * iterating the cache.
+	 */
+	private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link LocalAggregateCache} holding up to {@code maximumSize} aggregates that do not expire.
+	 *
+	 * @param maximumSize the maximum number of cached aggregates, must be greater than zero.
+	 */
+	public LocalAggregateCache(int maximumSize) {
+		this(maximumSize, null, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a new {@link LocalAggregateCache} holding up to {@code maximumSize} aggregates that expire
+	 * {@code timeToLive} after being cached.
+	 *
+	 * @param maximumSize the maximum number of cached aggregates, must be greater than zero.
+	 * @param timeToLive the time to live of cache entries, must not be {@literal null} and must be positive.
+	 */
+	public LocalAggregateCache(int maximumSize, Duration timeToLive) {
+		this(maximumSize, timeToLive, Clock.systemUTC());
+	}
+
+	LocalAggregateCache(int maximumSize, @Nullable Duration timeToLive, Clock clock) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+		Assert.isTrue(timeToLive == null || (!timeToLive.isNegative() && !timeToLive.isZero()),
+				"Time to live must be positive");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		this.entries = new ConcurrentLruCache<>(maximumSize, key -> new AtomicReference<>());
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(Class<T> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		CacheKey key = new CacheKey(type, id);
+
+		// avoid creating entries for aggregates that are not cached
+		return this.entries.contains(key) ? (T) getAggregate(key, this.entries.get(key)) : null;
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(Class<T> type, Object id, Supplier<? extends T> loader) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Id must not be null");
+		Assert.notNull(loader, "Loader must not be null");
+
+		CacheKey key = new CacheKey(type, id);
+		AtomicReference<CacheEntry> holder = this.entries.get(key);
+		Object aggregate = getAggregate(key, holder);
+
+		if (aggregate != null) {
+			return (T) aggregate;
+		}
+
+		// evictions remove the holder or change the generation so that a concurrently loaded aggregate does not get cached
+		long generation = getGeneration(type).get();
+		CacheEntry loading = CacheEntry.loading(generation);
+		holder.set(loading);
+
+		T loaded = null;
+
+		try {
+			loaded = loader.get();
+		} finally {
+
+			if (loaded != null) {
+				holder.compareAndSet(loading, new CacheEntry(loaded, expiresAt(), generation));
+			} else if (holder.compareAndSet(loading, null)) {
+				this.entries.remove(key);
+			}
+		}
+
+		return loaded;
+	}
+
+	@Override
+	public <T> void put(Class<T> type, Object id, T aggregate) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Id must not be null");
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		this.entries.get(new CacheKey(type, id))
+				.set(new CacheEntry(aggregate, expiresAt(), getGeneration(type).get()));
+	}
+
+	@Override
+	public void evict(Class<?> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		this.entries.remove(new CacheKey(type, id));
+	}
+
+	@Override
+	public void evictAll(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		getGeneration(type).incrementAndGet();
+	}
+
+	@Override
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * @return the number of cached aggregates including expired or evicted ones that were not accessed since and
+	 *         aggregates currently being loaded.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Return the aggregate held by {@code holder}, removing expired entries and entries of an outdated generation.
+	 */
+	@Nullable
+	private Object getAggregate(CacheKey key, AtomicReference<CacheEntry> holder) {
+
+		CacheEntry entry = holder.get();
+
+		if (entry == null || entry.aggregate() == null) {
+			return null;
+		}
+
+		if (entry.isExpired(this.clock.instant()) || entry.generation() != getGeneration(key.type()).get()) {
+
+			if (holder.compareAndSet(entry, null)) {
+				this.entries.remove(key);
+			}
+			return null;
+		}
+
+		return entry.aggregate();
+	}
+
+	private AtomicLong getGeneration(Class<?> type) {
+		return this.generations.computeIfAbsent(type, it -> new AtomicLong());
+	}
+
+	@Nullable
+	private Instant expiresAt() {
+		return this.timeToLive != null ? this.clock.instant().plus(this.timeToLive) : null;
+	}
+
+	private record CacheKey(Class<?> type, Object id) {
+	}
+
+	/**
+	 * Cached aggregate or, without an aggregate, placeholder for an aggregate being loaded. Placeholders are compared by
+	 * identity.
+	 */
+	private record CacheEntry(@Nullable Object aggregate, @Nullable Instant expiresAt, long generation) {
+
+		static CacheEntry loading(long generation) {
+			return new CacheEntry(null, null, generation);
+		}
+
+		boolean isExpired(Instant now) {
+			return this.expiresAt != null && !now.isBefore(this.expiresAt);
+		}
+	}
+}
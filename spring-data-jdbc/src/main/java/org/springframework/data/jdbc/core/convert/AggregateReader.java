@@ -22,17 +22,24 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.InListStrategy;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sqlgeneration.AliasFactory;
+import org.springframework.data.relational.core.sqlgeneration.CachingSqlGenerator;
 import org.springframework.data.relational.core.sqlgeneration.SingleQuerySqlGenerator;
 import org.springframework.data.relational.core.sqlgeneration.SqlGenerator;
 import org.springframework.data.relational.domain.RowDocument;
@@ -44,7 +51,8 @@ import org.springframework.lang.Nullable;
 
 /**
  * Reads complete Aggregates from the database, by generating appropriate SQL using a {@link SingleQuerySqlGenerator}
- * through {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate}. Results are converted into an
+ * through {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate}. Generated SQL is cached per
+ * aggregate and condition structure using {@link CachingSqlGenerator}. Results are converted into an
  * intermediate {@link RowDocumentResultSetExtractor RowDocument} and mapped via
  * {@link org.springframework.data.relational.core.conversion.RelationalConverter#read(Class, RowDocument)}.
  *
@@ -59,19 +67,34 @@ class AggregateReader implements PathToColumnMapping {
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations jdbcTemplate;
 	private final RowDocumentResultSetExtractor extractor;
+	private final InListStrategy inListStrategy;
 
 	AggregateReader(Dialect dialect, JdbcConverter converter, NamedParameterJdbcOperations jdbcTemplate) {
 
 		this.aliasFactory = new AliasFactory();
 		this.converter = converter;
 		this.jdbcTemplate = jdbcTemplate;
-		this.sqlGenerator = new SingleQuerySqlGenerator(converter.getMappingContext(), aliasFactory, dialect);
+		this.sqlGenerator = new CachingSqlGenerator(
+				new SingleQuerySqlGenerator(converter.getMappingContext(), aliasFactory, dialect));
 		this.extractor = new RowDocumentResultSetExtractor(converter.getMappingContext(), this);
+		this.inListStrategy = dialect.getInListStrategy();
+	}
+
+	/**
+	 * Return whether aggregates can be loaded sorted, limited and with an offset.
+	 */
+	boolean supportsOrderingAndLimiting() {
+		return sqlGenerator.supportsOrderingAndLimiting();
 	}
 
 	@Override
 	public String column(AggregatePath path) {
 
+		// a single referenced entity is present if its row is present, even if all its columns are null
+		if (path.isEntity() && !path.isEmbedded() && !path.isRoot() && !path.isMultiValued()) {
+			return keyColumn(path);
+		}
+
 		String alias = aliasFactory.getColumnAlias(path);
 
 		if (alias == null) {
@@ -157,25 +180,85 @@ class AggregateReader implements PathToColumnMapping {
 		return doFind(query, entity, rs -> extractAll(rs, entity));
 	}
 
+	/**
+	 * Stream all aggregates by type. The returned {@link Stream} holds the underlying cursor open and assembles aggregates
+	 * lazily while it is consumed, so it must be closed after use, e.g. using a try-with-resources block.
+	 *
+	 * @param entity the persistent entity type must not be {@literal null}.
+	 * @return the found aggregate roots.
+	 * @param <T> aggregator type.
+	 * @since 3.4
+	 */
+	public <T> Stream<T> streamAll(RelationalPersistentEntity<T> entity) {
+		return doStream(sqlGenerator.findAll(entity), new MapSqlParameterSource(), entity);
+	}
+
+	/**
+	 * Stream all aggregates by query. The returned {@link Stream} holds the underlying cursor open and assembles
+	 * aggregates lazily while it is consumed, so it must be closed after use, e.g. using a try-with-resources block.
+	 *
+	 * @param query the query to run, must not be {@literal null}.
+	 * @param entity the persistent entity type must not be {@literal null}.
+	 * @return the found aggregate roots.
+	 * @param <T> aggregator type.
+	 * @since 3.4
+	 */
+	public <T> Stream<T> streamAll(Query query, RelationalPersistentEntity<T> entity) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sql = createSql(query, parameterSource, entity);
+
+		return doStream(sql, parameterSource, entity);
+	}
+
+	private <T> Stream<T> doStream(String sql, MapSqlParameterSource parameterSource,
+			RelationalPersistentEntity<T> entity) {
+
+		// each element is the same ResultSet, advanced to the next row by the stream
+		Stream<ResultSet> rows = jdbcTemplate.queryForStream(sql, parameterSource, (rs, rowNum) -> rs);
+
+		try {
+
+			Iterator<RowDocument> documents = extractor.iterate(entity, rows.iterator());
+
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED), false) //
+					.map(document -> converter.read(entity.getType(), document)) //
+					.onClose(rows::close);
+		} catch (RuntimeException e) {
+
+			rows.close();
+			throw e;
+		}
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	private <T, R> R doFind(Query query, RelationalPersistentEntity<T> entity, ResultSetExtractor<R> extractor) {
 
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
-		Condition condition = createCondition(query, parameterSource, entity);
-		String sql = sqlGenerator.findAll(entity, condition);
+		String sql = createSql(query, parameterSource, entity);
 
 		return jdbcTemplate.query(sql, parameterSource, extractor);
 	}
 
-	@Nullable
-	private Condition createCondition(Query query, MapSqlParameterSource parameterSource,
-			RelationalPersistentEntity<?> entity) {
+	/**
+	 * Create the SQL for the given {@link Query}. Sort, limit and offset of the query apply to the aggregate roots.
+	 */
+	private String createSql(Query query, MapSqlParameterSource parameterSource, RelationalPersistentEntity<?> entity) {
 
-		QueryMapper queryMapper = new QueryMapper(converter);
+		QueryMapper queryMapper = new QueryMapper(converter, inListStrategy);
+		Table table = Table.create(entity.getQualifiedTableName());
 
 		Optional<CriteriaDefinition> criteria = query.getCriteria();
-		return criteria.map(criteriaDefinition -> queryMapper.getMappedObject(parameterSource, criteriaDefinition,
-				Table.create(entity.getQualifiedTableName()), entity)).orElse(null);
+		Condition condition = criteria.map(
+				criteriaDefinition -> queryMapper.getMappedObject(parameterSource, criteriaDefinition, table, entity))
+				.orElse(null);
+
+		if (!query.isSorted() && !query.isLimited() && query.getOffset() <= 0) {
+			return sqlGenerator.findAll(entity, condition);
+		}
+
+		List<OrderByField> orderBy = queryMapper.getMappedSort(table, query.getSort(), entity);
+		return sqlGenerator.findAll(entity, condition, orderBy, query.getLimit(), query.getOffset());
 	}
 
 	/**
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -72,11 +73,41 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return collect(das -> das.updateAll(instances, domainType));
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return collect(das -> das.updateAllWithVersion(instances, domainType, previousVersions));
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		collectVoid(das -> das.upsert(instance, domainType));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		collectVoid(das -> das.upsertAll(instances, domainType));
+	}
+
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+		return collect(das -> das.update(instance, domainType, identifier));
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 		collectVoid(das -> das.delete(id, domainType));
 	}
 
+	@Override
+	public void delete(Identifier identifier, Class<?> domainType) {
+		collectVoid(das -> das.delete(identifier, domainType));
+	}
+
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
 		collectVoid(das -> das.delete(ids, domainType));
@@ -132,6 +163,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return collect(das -> das.streamAll(domainType));
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 		return collect(das -> das.findAllById(ids, domainType));
@@ -153,6 +189,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType, sort));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return collect(das -> das.streamAll(domainType, sort));
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
 		return collect(das -> das.findAll(domainType, pageable));
@@ -168,6 +209,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(query, domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return collect(das -> das.streamAll(query, domainType));
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 		return collect(das -> das.findAll(query, domainType, pageable));
@@ -183,6 +229,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.count(query, domainType));
 	}
 
+	@Override
+	public DataAccessStrategy withStatementSettings(StatementSettings settings) {
+		return new CascadingDataAccessStrategy(strategies.stream().map(das -> das.withStatementSettings(settings)).toList());
+	}
+
 	private <T> T collect(Function<DataAccessStrategy, T> function) {
 
 		return strategies.stream().collect(new FunctionCollector<>(function));
@@ -18,6 +18,8 @@ package org.springframework.data.jdbc.core.convert;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
@@ -102,6 +104,106 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the data of multiple entities in the database using a single batch. Referenced entities don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return whether the update actually updated a row, for each of the {@code instances}.
+	 * @since 3.4
+	 */
+	default <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			updated[i] = update(instances.get(i), domainType);
+		}
+		return updated;
+	}
+
+	/**
+	 * Updates the data of multiple entities in the database using a single batch and enforce optimistic record locking
+	 * using the {@code previousVersions}. Referenced entities don't get handled.
+	 * <P>
+	 * The statement will be of the form : {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :previousVersion }.
+	 * Callers are expected to check the result for each row and to raise an {@link OptimisticLockingFailureException} if
+	 * a row was not updated.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param previousVersions the previous versions assigned to the instances being saved, in the order of
+	 *          {@code instances}. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return whether the update actually updated a row, for each of the {@code instances}.
+	 * @throws OptimisticLockingFailureException if an implementation checks the result for each row itself, like the
+	 *           default implementation running {@link #updateWithVersion(Object, Class, Number)} for each instance.
+	 * @since 3.4
+	 */
+	default <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+		}
+		return updated;
+	}
+
+	/**
+	 * Inserts the data of a single entity or updates the existing row with the same id, using a single statement.
+	 * Referenced entities don't get handled. The id of the instance must be set.
+	 * <P>
+	 * The statement depends on the {@link org.springframework.data.relational.core.dialect.Dialect}, e.g.
+	 * {@code MERGE INTO …} or {@code INSERT … ON CONFLICT (ID) DO UPDATE …}.
+	 *
+	 * @param instance the instance to upsert. Must not be {@code null}.
+	 * @param domainType the type of the instance to upsert. Must not be {@code null}.
+	 * @param <T> the type of the instance to upsert.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 * @since 3.4
+	 */
+	default <T> void upsert(T instance, Class<T> domainType) {
+		throw new UnsupportedOperationException("Upserts are not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Inserts the data of multiple entities or updates the existing rows with the same ids using a single batch.
+	 * Referenced entities don't get handled. The ids of the instances must be set.
+	 * <p>
+	 * The default implementation upserts the instances one by one through {@link #upsert(Object, Class)}.
+	 *
+	 * @param instances the instances to upsert. Must not be {@code null} or empty.
+	 * @param domainType the type of the instances to upsert. Must not be {@code null}.
+	 * @param <T> the type of the instances to upsert.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 * @since 3.4
+	 */
+	default <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		instances.forEach(instance -> upsert(instance, domainType));
+	}
+
+	/**
+	 * Updates the data of a single entity that is not the root of an aggregate. Referenced entities don't get handled.
+	 * <P>
+	 * The statement will be of the form : {@code UPDATE … SET … WHERE BACK_REFERENCE = :backReference AND …} using all
+	 * the columns of the {@code identifier} in the where clause.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param identifier the values identifying the row to update. Namely references back to a parent entity, key/index
+	 *          columns for entities that are stored in a {@link Map} or {@link List} and the id for entities that have
+	 *          an id. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @throws UnsupportedOperationException if the strategy does not support updating single referenced entities, the
+	 *           default. Required by {@code JdbcAggregateOperations.update(instance, previousState)}.
+	 * @since 3.4
+	 */
+	default <T> boolean update(T instance, Class<T> domainType, Identifier identifier) {
+		throw new UnsupportedOperationException(
+				"Updating referenced entities by identifier is not supported by " + getClass().getName());
+	}
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -115,6 +217,26 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	 */
 	void delete(Object id, Class<?> domainType);
 
+	/**
+	 * Deletes a single row of an entity that is not the root of an aggregate. Does not handle cascading deletes.
+	 * <P>
+	 * The statement will be of the form : {@code DELETE FROM … WHERE BACK_REFERENCE = :backReference AND …} using all the
+	 * columns of the {@code identifier} in the where clause.
+	 *
+	 * @param identifier the values identifying the row to delete. Namely references back to a parent entity, key/index
+	 *          columns for entities that are stored in a {@link Map} or {@link List} and the id for entities that have
+	 *          an id. Must not be {@code null}.
+	 * @param domainType the type of entity to be deleted. Implicitly determines the table to operate on. Must not be
+	 *          {@code null}.
+	 * @throws UnsupportedOperationException if the strategy does not support deleting single referenced entities, the
+	 *           default. Required by {@code JdbcAggregateOperations.update(instance, previousState)}.
+	 * @since 3.4
+	 */
+	default void delete(Identifier identifier, Class<?> domainType) {
+		throw new UnsupportedOperationException(
+				"Deleting referenced entities by identifier is not supported by " + getClass().getName());
+	}
+
 	/**
 	 * Deletes multiple rows identified by the ids, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -252,6 +374,21 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	@Override
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Loads all entities of the given type to a {@link Stream}. The stream holds the underlying cursor open and maps
+	 * entities while it is consumed. It must be closed after use. The default implementation streams the result of
+	 * {@link #findAll(Class)}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	@Override
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	/**
 	 * Loads all entities that match one of the ids passed as an argument. It is not guaranteed that the number of ids
 	 * passed in matches the number of entities returned.
@@ -280,6 +417,22 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	@Override
 	<T> Iterable<T> findAll(Class<T> domainType, Sort sort);
 
+	/**
+	 * Loads all entities of the given type, sorted, to a {@link Stream}. The stream holds the underlying cursor open and
+	 * maps entities while it is consumed. It must be closed after use. The default implementation streams the result of
+	 * {@link #findAll(Class, Sort)}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	@Override
+	default <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return StreamSupport.stream(findAll(domainType, sort).spliterator(), false);
+	}
+
 	/**
 	 * Loads all entities of the given type, paged and sorted.
 	 *
@@ -316,6 +469,21 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	@Override
 	<T> Iterable<T> findAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream}. The stream holds the underlying
+	 * cursor open and maps entities while it is consumed. It must be closed after use. The default implementation streams
+	 * the result of {@link #findAll(Query, Class)}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@code null}.
+	 * @return a non-null stream with all the matching results.
+	 * @since 3.4
+	 */
+	@Override
+	default <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return StreamSupport.stream(findAll(query, domainType).spliterator(), false);
+	}
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Iterable}. Applies the {@link Pageable}
 	 * to the result.
@@ -330,4 +498,15 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	@Override
 	<T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Return a {@link DataAccessStrategy} that applies the given {@link StatementSettings} to the statements it uses to
+	 * read aggregates. Strategies that cannot apply statement settings return themselves, which is also the default.
+	 *
+	 * @param settings must not be {@literal null}.
+	 * @return a {@link DataAccessStrategy} applying {@code settings}.
+	 * @since 3.4
+	 */
+	default DataAccessStrategy withStatementSettings(StatementSettings settings) {
+		return this;
+	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.util.Assert;
 
@@ -34,6 +36,8 @@ public class DataAccessStrategyFactory {
 	private final NamedParameterJdbcOperations operations;
 	private final SqlParametersFactory sqlParametersFactory;
 	private final InsertStrategyFactory insertStrategyFactory;
+	private boolean batchRelationLoadingEnabled = true;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
 	/**
 	 * Creates a new {@link DataAccessStrategyFactory}.
@@ -61,6 +65,33 @@ public class DataAccessStrategyFactory {
 		this.insertStrategyFactory = insertStrategyFactory;
 	}
 
+	/**
+	 * Configure whether the created {@link DefaultDataAccessStrategy} loads relations of multiple aggregate roots in
+	 * batches. Enabled by default.
+	 *
+	 * @param batchRelationLoadingEnabled {@literal true} to load relations in batches.
+	 * @since 3.4
+	 * @see DefaultDataAccessStrategy#setBatchRelationLoadingEnabled(boolean)
+	 */
+	public void setBatchRelationLoadingEnabled(boolean batchRelationLoadingEnabled) {
+		this.batchRelationLoadingEnabled = batchRelationLoadingEnabled;
+	}
+
+	/**
+	 * Configure the {@link ObservationRegistry} used to record which read path (Single Query Loading or fallback) the
+	 * created {@link DataAccessStrategy} uses. Observations are not recorded by default.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 3.4
+	 * @see org.springframework.data.jdbc.core.observability.JdbcObservation#AGGREGATE_READ
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
 	/**
 	 * Creates a new {@link DataAccessStrategy}.
 	 *
@@ -71,10 +102,16 @@ public class DataAccessStrategyFactory {
 		DefaultDataAccessStrategy defaultDataAccessStrategy = new DefaultDataAccessStrategy(sqlGeneratorSource,
 				this.converter.getMappingContext(), this.converter, this.operations, sqlParametersFactory,
 				insertStrategyFactory);
+		defaultDataAccessStrategy.setBatchRelationLoadingEnabled(batchRelationLoadingEnabled);
+
+		// reads are observed by SingleQueryFallbackDataAccessStrategy, which falls back for all reads if Single Query
+		// Loading is disabled
+		if (this.converter.getMappingContext().isSingleQueryLoadingEnabled() || !observationRegistry.isNoop()) {
+			SingleQueryFallbackDataAccessStrategy strategy = new SingleQueryFallbackDataAccessStrategy(sqlGeneratorSource,
+					converter, operations, defaultDataAccessStrategy);
+			strategy.setObservationRegistry(observationRegistry);
 
-		if (this.converter.getMappingContext().isSingleQueryLoadingEnabled()) {
-			return new SingleQueryFallbackDataAccessStrategy(sqlGeneratorSource, converter, operations,
-					defaultDataAccessStrategy);
+			return strategy;
 		}
 
 		return defaultDataAccessStrategy;
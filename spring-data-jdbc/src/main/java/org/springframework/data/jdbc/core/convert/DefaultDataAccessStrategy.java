@@ -19,9 +19,19 @@ import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -37,7 +47,10 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -64,12 +77,20 @@ import org.springframework.util.Assert;
  */
 public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
+	/**
+	 * Maximum number of identifiers in a single {@code IN (…)} clause when loading relations in batches.
+	 */
+	private static final int BATCH_SIZE = 1000;
+
 	private final SqlGeneratorSource sqlGeneratorSource;
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations operations;
+	private final NamedParameterJdbcOperations readOperations;
+	private final Map<StatementSettings, NamedParameterJdbcOperations> operationsBySettings;
 	private final SqlParametersFactory sqlParametersFactory;
 	private final InsertStrategyFactory insertStrategyFactory;
+	private boolean batchRelationLoadingEnabled = true;
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -95,10 +116,57 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.context = context;
 		this.converter = converter;
 		this.operations = operations;
+		this.readOperations = operations;
+		this.operationsBySettings = new ConcurrentHashMap<>();
 		this.sqlParametersFactory = sqlParametersFactory;
 		this.insertStrategyFactory = insertStrategyFactory;
 	}
 
+	private DefaultDataAccessStrategy(DefaultDataAccessStrategy source, NamedParameterJdbcOperations readOperations) {
+
+		this.sqlGeneratorSource = source.sqlGeneratorSource;
+		this.context = source.context;
+		this.converter = source.converter;
+		this.operations = source.operations;
+		this.readOperations = readOperations;
+		this.operationsBySettings = source.operationsBySettings;
+		this.sqlParametersFactory = source.sqlParametersFactory;
+		this.insertStrategyFactory = source.insertStrategyFactory;
+		this.batchRelationLoadingEnabled = source.batchRelationLoadingEnabled;
+	}
+
+	/**
+	 * Configure whether collections and maps referenced by aggregate roots get loaded in batches when loading multiple
+	 * aggregates. When enabled, the identifiers of all loaded aggregate roots are collected and the referenced entities
+	 * of each relation are loaded using a single {@code IN (…)} query instead of one query per aggregate root. Nested
+	 * relations are loaded per referencing entity. Enabled by default.
+	 *
+	 * @param batchRelationLoadingEnabled {@literal true} to load relations in batches.
+	 * @since 3.4
+	 */
+	public void setBatchRelationLoadingEnabled(boolean batchRelationLoadingEnabled) {
+		this.batchRelationLoadingEnabled = batchRelationLoadingEnabled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned strategy applies the settings to statements reading aggregate roots while relations get loaded with
+	 * the settings of the underlying {@link NamedParameterJdbcOperations}. Operations applying a particular set of
+	 * settings are created once and reused.
+	 */
+	@Override
+	public DataAccessStrategy withStatementSettings(StatementSettings settings) {
+
+		Assert.notNull(settings, "StatementSettings must not be null");
+
+		if (settings.isEmpty()) {
+			return this;
+		}
+
+		return new DefaultDataAccessStrategy(this, operationsBySettings.computeIfAbsent(settings, it -> it.applyTo(operations)));
+	}
+
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
 
@@ -120,10 +188,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 						insertSubject.getIdentifier(), idValueSource))
 				.toArray(SqlIdentifierParameterSource[]::new);
 
-		String insertSql = sql(domainType).getInsert(sqlParameterSources[0].getIdentifiers());
+		SqlGenerator sqlGenerator = sql(domainType);
+		Set<SqlIdentifier> additionalColumns = sqlParameterSources[0].getIdentifiers();
+		String insertSql = sqlGenerator.getInsert(additionalColumns);
 
-		return insertStrategyFactory.batchInsertStrategy(idValueSource, getIdColumn(domainType)).execute(insertSql,
-				sqlParameterSources);
+		return insertStrategyFactory
+				.batchInsertStrategy(idValueSource, getIdColumn(domainType),
+						rows -> sqlGenerator.getInsert(additionalColumns, rows)) //
+				.execute(insertSql, sqlParameterSources);
 	}
 
 	@Override
@@ -156,6 +228,136 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return true;
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+
+		SqlIdentifierParameterSource[] parameterSources = instances.stream()
+				.map(instance -> sqlParametersFactory.forUpdate(instance, domainType))
+				.toArray(SqlIdentifierParameterSource[]::new);
+
+		if (parameterSources[0].size() <= 1) {
+
+			boolean[] updated = new boolean[instances.size()];
+			Arrays.fill(updated, true); // conceptually the rows were correctly updated
+			return updated;
+		}
+
+		int[] updateCounts = operations.batchUpdate(sql(domainType).getUpdate(), parameterSources);
+
+		boolean[] updated = new boolean[updateCounts.length];
+		for (int i = 0; i < updateCounts.length; i++) {
+
+			// the driver executed the statement but did not report the number of rows. Without a version there is nothing
+			// to tell an update of an existing row from a missing one, just like for a successful non-batched update.
+			updated[i] = updateCounts[i] == Statement.SUCCESS_NO_INFO || updateCounts[i] > 0;
+		}
+		return updated;
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forInsert(instance, domainType,
+				Identifier.empty(), IdValueSource.PROVIDED);
+
+		operations.update(sql(domainType).getUpsert(), parameterSource);
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+
+		Assert.notEmpty(instances, "Batch upsert must contain at least one instance");
+
+		SqlIdentifierParameterSource[] parameterSources = instances.stream()
+				.map(instance -> sqlParametersFactory.forInsert(instance, domainType, Identifier.empty(),
+						IdValueSource.PROVIDED))
+				.toArray(SqlIdentifierParameterSource[]::new);
+
+		operations.batchUpdate(sql(domainType).getUpsert(), parameterSources);
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+		Assert.isTrue(instances.size() == previousVersions.size(),
+				"Previous versions must contain a version for each instance");
+
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+
+			// Adjust update statement to set the new version and use the old version in where clause.
+			parameterSources[i] = sqlParametersFactory.forUpdate(instances.get(i), domainType);
+			parameterSources[i].addValue(VERSION_SQL_PARAMETER, previousVersions.get(i));
+		}
+
+		int[] updateCounts = operations.batchUpdate(sql(domainType).getUpdateWithVersion(), parameterSources);
+
+		boolean[] updated = new boolean[updateCounts.length];
+		List<Integer> unknown = new ArrayList<>();
+		for (int i = 0; i < updateCounts.length; i++) {
+
+			if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+				unknown.add(i);
+			} else {
+				updated[i] = updateCounts[i] > 0;
+			}
+		}
+
+		if (!unknown.isEmpty()) {
+			checkUpdatedToCurrentVersion(instances, domainType, unknown, updated);
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Determine whether the rows of the instances at {@code indexes}, whose batch update the driver reported as
+	 * {@link Statement#SUCCESS_NO_INFO}, got updated by reading their versions using a single query: a row was updated if
+	 * it holds the current version of its instance.
+	 */
+	private <T> void checkUpdatedToCurrentVersion(List<T> instances, Class<T> domainType, List<Integer> indexes,
+			boolean[] updated) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		RelationalPersistentProperty versionProperty = persistentEntity.getRequiredVersionProperty();
+
+		List<Object> ids = new ArrayList<>(indexes.size());
+		for (int index : indexes) {
+			ids.add(persistentEntity.getIdentifierAccessor(instances.get(index)).getRequiredIdentifier());
+		}
+
+		SqlGenerator sqlGenerator = sql(domainType);
+		SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(ids, domainType,
+				sqlGenerator.getInListStrategy());
+		String findVersionsSql = SqlParametersFactory.isBoundAsArray(parameterSource)
+				? sqlGenerator.getFindVersionsInArray()
+				: sqlGenerator.getFindVersionsInList();
+
+		Map<Object, Long> versions = new HashMap<>();
+		operations.query(findVersionsSql, parameterSource, (RowCallbackHandler) rs -> versions
+				.put(converter.readValue(rs.getObject(1), idProperty.getTypeInformation()), rs.getLong(2)));
+
+		for (int i = 0; i < indexes.size(); i++) {
+
+			Number currentVersion = (Number) persistentEntity.getPropertyAccessor(instances.get(indexes.get(i)))
+					.getProperty(versionProperty);
+			updated[indexes.get(i)] = currentVersion != null
+					&& Long.valueOf(currentVersion.longValue()).equals(versions.get(ids.get(i)));
+		}
+	}
+
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forUpdate(instance, domainType, identifier);
+
+		return operations.update(sql(domainType).getUpdateByIdentifier(identifier), parameterSource) != 0;
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
@@ -168,12 +370,24 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
 
-		String deleteByIdInSql = sql(domainType).getDeleteByIdIn();
-		SqlParameterSource parameter = sqlParametersFactory.forQueryByIds(ids, domainType);
+		SqlGenerator sqlGenerator = sql(domainType);
+		SqlParameterSource parameter = sqlParametersFactory.forQueryByIds(ids, domainType,
+				sqlGenerator.getInListStrategy());
+		String deleteByIdInSql = SqlParametersFactory.isBoundAsArray(parameter) ? sqlGenerator.getDeleteByIdInArray()
+				: sqlGenerator.getDeleteByIdIn();
 
 		operations.update(deleteByIdInSql, parameter);
 	}
 
+	@Override
+	public void delete(Identifier identifier, Class<?> domainType) {
+
+		String deleteByIdentifierSql = sql(domainType).getDeleteByIdentifier(identifier);
+		SqlParameterSource parameters = sqlParametersFactory.forQueryByIdentifier(identifier);
+
+		operations.update(deleteByIdentifierSql, parameters);
+	}
+
 	@Override
 	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
 
@@ -215,9 +429,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		Assert.notNull(referencingProperty, "No property found matching the PropertyPath " + propertyPath);
 
-		String delete = sql(rootEntity.getType()).createDeleteInByPath(propertyPath);
+		SqlGenerator sqlGenerator = sql(rootEntity.getType());
+		SqlIdentifierParameterSource parameters = sqlParametersFactory.forQueryByIds(rootIds, rootEntity.getType(),
+				sqlGenerator.getInListStrategy());
+		String delete = SqlParametersFactory.isBoundAsArray(parameters)
+				? sqlGenerator.createDeleteInArrayByPath(propertyPath)
+				: sqlGenerator.createDeleteInByPath(propertyPath);
 
-		SqlIdentifierParameterSource parameters = sqlParametersFactory.forQueryByIds(rootIds, rootEntity.getType());
 		operations.update(delete, parameters);
 	}
 
@@ -251,7 +469,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public long count(Class<?> domainType) {
 
-		Long result = operations.getJdbcOperations().queryForObject(sql(domainType).getCount(), Long.class);
+		Long result = readOperations.getJdbcOperations().queryForObject(sql(domainType).getCount(), Long.class);
 
 		Assert.notNull(result, "The result of a count query must not be null");
 
@@ -265,7 +483,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlIdentifierParameterSource parameter = sqlParametersFactory.forQueryById(id, domainType, ID_SQL_PARAMETER);
 
 		try {
-			return operations.queryForObject(findOneSql, parameter, getEntityRowMapper(domainType));
+			return readOperations.queryForObject(findOneSql, parameter, getEntityRowMapper(domainType));
 		} catch (EmptyResultDataAccessException e) {
 			return null;
 		}
@@ -273,7 +491,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), getEntityRowMapper(domainType));
+		return query(sql(domainType).getFindAll(), EmptySqlParameterSource.INSTANCE, domainType);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return readOperations.queryForStream(sql(domainType).getFindAll(), new MapSqlParameterSource(),
+				getEntityRowMapper(domainType));
 	}
 
 	@Override
@@ -283,9 +507,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 			return Collections.emptyList();
 		}
 
-		SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(ids, domainType);
-		String findAllInListSql = sql(domainType).getFindAllInList();
-		return operations.query(findAllInListSql, parameterSource, getEntityRowMapper(domainType));
+		SqlGenerator sqlGenerator = sql(domainType);
+		SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(ids, domainType,
+				sqlGenerator.getInListStrategy());
+		String findAllInListSql = SqlParametersFactory.isBoundAsArray(parameterSource) ? sqlGenerator.getFindAllInArray()
+				: sqlGenerator.getFindAllInList();
+		return query(findAllInListSql, parameterSource, domainType);
 	}
 
 	@Override
@@ -303,26 +530,34 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				.getFindAllByProperty(identifier, propertyPath);
 
 		SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIdentifier(identifier);
-		return operations.query(findAllByProperty, parameterSource, new RowMapper<>() {
+		return operations.query(findAllByProperty, parameterSource,
+				(rs, rowNum) -> mapReferencedEntity(path, identifier, rs, rowNum));
+	}
 
-			@Override
-			public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+	/**
+	 * Map the current row of the {@link ResultSet} to an entity referenced via {@code path}.
+	 *
+	 * @param path the path to the referenced entity.
+	 * @param identifier the identifier of the referencing entity.
+	 * @param rs the {@link ResultSet} pointing at the row to map.
+	 * @param index the index of the row among the entities referenced by the same entity.
+	 */
+	private Object mapReferencedEntity(AggregatePath path, Identifier identifier, ResultSet rs, int index)
+			throws SQLException {
 
-				if (path.isMap()) {
-					return getMapEntityRowMapper(path, identifier).mapRow(rs, rowNum);
-				}
+		if (path.isMap()) {
+			return getMapEntityRowMapper(path, identifier).mapRow(rs, index);
+		}
 
-				// Add row number as key for paths that do not define an identifier and that are contained in a collection.
-				Identifier identifierToUse = identifier;
-				if (!path.hasIdProperty() && path.isQualified()) {
+		// Add row number as key for paths that do not define an identifier and that are contained in a collection.
+		Identifier identifierToUse = identifier;
+		if (!path.hasIdProperty() && path.isQualified()) {
 
-					TableInfo tableInfo = path.getTableInfo();
-					identifierToUse = identifierToUse.withPart(tableInfo.qualifierColumnInfo().name(), rowNum, Object.class);
-				}
+			TableInfo tableInfo = path.getTableInfo();
+			identifierToUse = identifierToUse.withPart(tableInfo.qualifierColumnInfo().name(), index, Object.class);
+		}
 
-				return getEntityRowMapper(path, identifierToUse).mapRow(rs, rowNum);
-			}
-		});
+		return getEntityRowMapper(path, identifierToUse).mapRow(rs, index);
 	}
 
 	@Override
@@ -331,7 +566,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String existsSql = sql(domainType).getExists();
 		SqlParameterSource parameter = sqlParametersFactory.forQueryById(id, domainType, ID_SQL_PARAMETER);
 
-		Boolean result = operations.queryForObject(existsSql, parameter, Boolean.class);
+		Boolean result = readOperations.queryForObject(existsSql, parameter, Boolean.class);
 		Assert.state(result != null, "The result of an exists query must not be null");
 
 		return result;
@@ -339,12 +574,18 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), getEntityRowMapper(domainType));
+		return query(sql(domainType).getFindAll(sort), EmptySqlParameterSource.INSTANCE, domainType);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return readOperations.queryForStream(sql(domainType).getFindAll(sort), new MapSqlParameterSource(),
+				getEntityRowMapper(domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), getEntityRowMapper(domainType));
+		return query(sql(domainType).getFindAll(pageable), EmptySqlParameterSource.INSTANCE, domainType);
 	}
 
 	@Override
@@ -354,7 +595,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
 		try {
-			return Optional.ofNullable(operations.queryForObject(sqlQuery, parameterSource, getEntityRowMapper(domainType)));
+			return Optional.ofNullable(readOperations.queryForObject(sqlQuery, parameterSource, getEntityRowMapper(domainType)));
 		} catch (EmptyResultDataAccessException e) {
 			return Optional.empty();
 		}
@@ -366,7 +607,16 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+		return query(sqlQuery, parameterSource, domainType);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
+
+		return readOperations.queryForStream(sqlQuery, parameterSource, getEntityRowMapper(domainType));
 	}
 
 	@Override
@@ -375,7 +625,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource, pageable);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+		return query(sqlQuery, parameterSource, domainType);
 	}
 
 	@Override
@@ -384,7 +634,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).existsByQuery(query, parameterSource);
 
-		Boolean result = operations.queryForObject(sqlQuery, parameterSource, Boolean.class);
+		Boolean result = readOperations.queryForObject(sqlQuery, parameterSource, Boolean.class);
 
 		Assert.state(result != null, "The result of an exists query must not be null");
 
@@ -397,13 +647,72 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).countByQuery(query, parameterSource);
 
-		Long result = operations.queryForObject(sqlQuery, parameterSource, Long.class);
+		Long result = readOperations.queryForObject(sqlQuery, parameterSource, Long.class);
 
 		Assert.state(result != null, "The result of a count query must not be null.");
 
 		return result;
 	}
 
+	/**
+	 * Run a query selecting aggregate roots and map the result to entities. Relations of the aggregate roots are loaded
+	 * in batches if {@link #setBatchRelationLoadingEnabled(boolean) enabled} and applicable.
+	 */
+	private <T> List<T> query(String sql, SqlParameterSource parameterSource, Class<T> domainType) {
+
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+
+		if (!batchRelationLoadingEnabled || !hasBatchableRelations(entity)) {
+			return readOperations.query(sql, parameterSource, getEntityRowMapper(domainType));
+		}
+
+		List<RowDocument> documents = readOperations.query(sql, parameterSource,
+				(rs, rowNum) -> RowDocumentResultSetExtractor.toRowDocument(rs));
+
+		if (documents.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		RelationResolver relationResolver = new BatchRelationResolver(entity, documents);
+		List<T> result = new ArrayList<>(documents.size());
+
+		for (RowDocument document : documents) {
+			result.add(converter.readAndResolve(entity.getTypeInformation(), document, Identifier.empty(), relationResolver));
+		}
+
+		return result;
+	}
+
+	private boolean hasBatchableRelations(RelationalPersistentEntity<?> entity) {
+
+		if (!entity.hasIdProperty()) {
+			return false;
+		}
+
+		for (RelationalPersistentProperty property : entity) {
+			if (isBatchable(context.getAggregatePath(entity).append(property))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Relations can be loaded in batches if they are collections or maps of entities directly referenced by an aggregate
+	 * root with an identifier. In that case the back reference consists of the identifier of the aggregate root only.
+	 */
+	private static boolean isBatchable(AggregatePath path) {
+
+		if (path.isRoot() || !path.getParentPath().isRoot() || !path.getParentPath().hasIdProperty()) {
+			return false;
+		}
+
+		RelationalPersistentProperty property = path.getRequiredLeafProperty();
+
+		return property.isEntity() && !property.isEmbedded() && (property.isCollectionLike() || property.isMap());
+	}
+
 	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType) {
 		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
 	}
@@ -446,4 +755,100 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return baseProperty.getOwner().getType();
 	}
 
+	/**
+	 * {@link RelationResolver} for a list of aggregate roots loading the entities of each batchable relation for all
+	 * aggregate roots at once, when the relation is first resolved. Referenced entities are assigned to their aggregate
+	 * root using the back reference column. Other relations are resolved through {@link #findAllByPath}.
+	 */
+	private class BatchRelationResolver implements RelationResolver {
+
+		private final RelationalPersistentProperty idProperty;
+		private final Collection<Object> ids;
+		private final Map<AggregatePath, Map<Object, List<Object>>> relations = new HashMap<>();
+
+		BatchRelationResolver(RelationalPersistentEntity<?> entity, List<RowDocument> documents) {
+
+			this.idProperty = entity.getRequiredIdProperty();
+			this.ids = new LinkedHashSet<>(documents.size());
+
+			for (RowDocument document : documents) {
+
+				Object id = readId(document.get(idProperty.getColumnName().getReference()));
+				if (id != null) {
+					ids.add(id);
+				}
+			}
+		}
+
+		@Override
+		public Iterable<Object> findAllByPath(Identifier identifier,
+				PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath) {
+
+			AggregatePath path = context.getAggregatePath(propertyPath);
+
+			if (identifier.size() != 1 || !isBatchable(path)) {
+				return DefaultDataAccessStrategy.this.findAllByPath(identifier, propertyPath);
+			}
+
+			Object parentId = readId(identifier.getParts().iterator().next().getValue());
+			List<Object> referenced = relations.computeIfAbsent(path, this::load).get(parentId);
+
+			return referenced == null ? Collections.emptyList() : referenced;
+		}
+
+		private Map<Object, List<Object>> load(AggregatePath path) {
+
+			AggregatePath.TableInfo tableInfo = path.getTableInfo();
+			SqlIdentifier backReferenceColumn = tableInfo.reverseColumnInfo().name();
+			String sql = sql(path.getRequiredLeafEntity().getType()).getFindAllByPropertyIn(backReferenceColumn,
+					tableInfo.qualifierColumnInfo(), path.isOrdered());
+
+			Map<Object, List<Object>> referenced = new HashMap<>();
+
+			for (List<Object> chunk : partition(ids)) {
+
+				SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(chunk,
+						idProperty.getOwner().getType());
+
+				operations.query(sql, parameterSource, (RowCallbackHandler) rs -> {
+
+					Object parentId = readId(rs.getObject(backReferenceColumn.getReference()));
+					List<Object> entities = referenced.computeIfAbsent(parentId, key -> new ArrayList<>());
+					Identifier identifier = Identifier.of(backReferenceColumn, parentId, idProperty.getActualType());
+
+					entities.add(mapReferencedEntity(path, identifier, rs, entities.size()));
+				});
+			}
+
+			return referenced;
+		}
+
+		@Nullable
+		private Object readId(@Nullable Object value) {
+			return converter.readValue(value, idProperty.getTypeInformation());
+		}
+
+		private static List<List<Object>> partition(Collection<Object> ids) {
+
+			List<List<Object>> chunks = new ArrayList<>();
+			List<Object> chunk = new ArrayList<>(Math.min(ids.size(), BATCH_SIZE));
+
+			for (Object id : ids) {
+
+				chunk.add(id);
+
+				if (chunk.size() == BATCH_SIZE) {
+					chunks.add(chunk);
+					chunk = new ArrayList<>(BATCH_SIZE);
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				chunks.add(chunk);
+			}
+
+			return chunks;
+		}
+	}
+
 }
@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -72,6 +73,26 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return delegate.updateAll(instances, domainType);
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return delegate.updateAllWithVersion(instances, domainType, previousVersions);
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		delegate.upsert(instance, domainType);
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		delegate.upsertAll(instances, domainType);
+	}
+
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		delegate.delete(rootId, propertyPath);
@@ -82,11 +103,21 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.delete(rootIds, propertyPath);
 	}
 
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+		return delegate.update(instance, domainType, identifier);
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 		delegate.delete(id, domainType);
 	}
 
+	@Override
+	public void delete(Identifier identifier, Class<?> domainType) {
+		delegate.delete(identifier, domainType);
+	}
+
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
 		delegate.delete(ids, domainType);
@@ -135,6 +166,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return delegate.streamAll(domainType);
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 		return delegate.findAllById(ids, domainType);
@@ -156,6 +192,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType, sort);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return delegate.streamAll(domainType, sort);
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
 		return delegate.findAll(domainType, pageable);
@@ -171,6 +212,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(query, domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return delegate.streamAll(query, domainType);
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 		return delegate.findAll(query, domainType, pageable);
@@ -186,6 +232,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.count(query, domainType);
 	}
 
+	@Override
+	public DataAccessStrategy withStatementSettings(StatementSettings settings) {
+		return settings.isEmpty() ? this : delegate.withStatementSettings(settings);
+	}
+
 	/**
 	 * Must be called exactly once before calling any of the other methods.
 	 *
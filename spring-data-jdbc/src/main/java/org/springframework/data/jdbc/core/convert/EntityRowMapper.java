@@ -41,6 +41,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final AggregatePath path;
 	private final JdbcConverter converter;
 	private final @Nullable Identifier identifier;
+	private final ResultSetRowReader rowReader = new ResultSetRowReader();
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(AggregatePath path, JdbcConverter converter, Identifier identifier) {
@@ -62,7 +63,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
 
-		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(resultSet);
+		RowDocument document = rowReader.read(resultSet);
 
 		return identifier == null //
 				? converter.readAndResolve(entity.getTypeInformation(), document, Identifier.empty()) //
@@ -79,21 +79,32 @@ class IdGeneratingBatchInsertStrategy implements BatchInsertStrategy {
 		Object[] ids = new Object[sqlParameterSources.length];
 		List<Map<String, Object>> keyList = holder.getKeyList();
 		for (int i = 0; i < keyList.size(); i++) {
-
-			Map<String, Object> keys = keyList.get(i);
-			if (keys.size() > 1) {
-				if (idColumn != null) {
-					ids[i] = keys.get(idColumn.getReference());
-				}
-			} else {
-				ids[i] = keys.entrySet().stream().findFirst() //
-						.map(Map.Entry::getValue) //
-						.orElseThrow(() -> new IllegalStateException("KeyHolder contains an empty key list"));
-			}
+			ids[i] = getId(keyList.get(i), idColumn);
 		}
 		return ids;
 	}
 
+	/**
+	 * Extract the generated id from the generated {@code keys} of a single row.
+	 *
+	 * @param keys the generated keys of a row.
+	 * @param idColumn the identifier for the id column. May be {@code null}.
+	 * @return the generated id. May be {@code null} if the driver returned multiple keys and {@code idColumn} is
+	 *         {@code null}.
+	 * @since 3.4
+	 */
+	@Nullable
+	static Object getId(Map<String, Object> keys, @Nullable SqlIdentifier idColumn) {
+
+		if (keys.size() > 1) {
+			return idColumn != null ? keys.get(idColumn.getReference()) : null;
+		}
+
+		return keys.entrySet().stream().findFirst() //
+				.map(Map.Entry::getValue) //
+				.orElseThrow(() -> new IllegalStateException("KeyHolder contains an empty key list"));
+	}
+
 	private String[] getKeyColumnNames(IdGeneration idGeneration) {
 
 		return Optional.ofNullable(idColumn).map(idColumn -> new String[] { idGeneration.getKeyColumnName(idColumn) })
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.Array;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.dialect.InListStrategy;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Utility methods to bind the values of collection-valued {@code IN} predicates according to an
+ * {@link InListStrategy}.
+ *
+ * @since 3.4
+ */
+final class InListBinding {
+
+	private InListBinding() {}
+
+	/**
+	 * Create a {@link JdbcValue} holding a SQL array of the already converted {@code values}. Returns {@literal null} if
+	 * the values cannot be bound as an array because they are empty, contain {@literal null} or values of different
+	 * types, have no known SQL type or because the {@link JdbcTypeFactory} does not support arrays.
+	 *
+	 * @param converter the converter used to create the array, must not be {@literal null}.
+	 * @param values the converted values.
+	 * @return the array value or {@literal null} if the values cannot be bound as an array.
+	 */
+	@Nullable
+	static JdbcValue toArray(JdbcConverter converter, Iterable<?> values) {
+
+		List<Object> elements = new ArrayList<>();
+		Class<?> elementType = null;
+
+		for (Object value : values) {
+
+			if (value == null || (elementType != null && !elementType.equals(value.getClass()))) {
+				return null;
+			}
+
+			elementType = value.getClass();
+			elements.add(value);
+		}
+
+		if (elementType == null || elementType.isArray()
+				|| JdbcUtil.targetSqlTypeFor(elementType) == JdbcUtil.TYPE_UNKNOWN) {
+			return null;
+		}
+
+		Object array = Array.newInstance(elementType, elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			Array.set(array, i, elements.get(i));
+		}
+
+		try {
+
+			JdbcValue jdbcValue = converter.writeJdbcValue(array, TypeInformation.of(array.getClass()), JDBCType.ARRAY);
+			return jdbcValue.getJdbcType() == JDBCType.ARRAY ? jdbcValue : null;
+		} catch (UnsupportedOperationException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Pad {@code values} according to {@link InListStrategy#pad(List)} unless the strategy is
+	 * {@link InListStrategy#EXPAND}.
+	 *
+	 * @param strategy the strategy in use, must not be {@literal null}.
+	 * @param values the values to bind.
+	 * @return the values to bind, possibly padded.
+	 */
+	static List<Object> pad(InListStrategy strategy, List<Object> values) {
+		return strategy == InListStrategy.EXPAND ? values : InListStrategy.pad(values);
+	}
+}
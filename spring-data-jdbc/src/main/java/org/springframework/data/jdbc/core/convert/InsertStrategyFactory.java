@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.function.IntFunction;
+
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -70,6 +72,30 @@ public class InsertStrategyFactory {
 		return new DefaultBatchInsertStrategy(jdbcOperations);
 	}
 
+	/**
+	 * @param idValueSource the {@link IdValueSource} for the insert.
+	 * @param idColumn the identifier for the id, if an ids are expected to be generated. May be {@code null}.
+	 * @param multiRowInsertSql function rendering a multi-row insert for a given number of rows.
+	 * @return the {@link BatchInsertStrategy} to be used for the batch insert. Combines rows into multi-row inserts if
+	 *         supported by the {@link Dialect}.
+	 * @since 3.4
+	 * @see Dialect#getMaxRowsPerInsert()
+	 */
+	BatchInsertStrategy batchInsertStrategy(IdValueSource idValueSource, @Nullable SqlIdentifier idColumn,
+			IntFunction<String> multiRowInsertSql) {
+
+		BatchInsertStrategy batchInsertStrategy = batchInsertStrategy(idValueSource, idColumn);
+		boolean generatesIds = IdValueSource.GENERATED.equals(idValueSource);
+
+		if (dialect.getMaxRowsPerInsert() < 2
+				|| (generatesIds && !dialect.getIdGeneration().supportedForMultiRowInserts())) {
+			return batchInsertStrategy;
+		}
+
+		return new MultiRowBatchInsertStrategy(jdbcOperations, dialect, multiRowInsertSql, batchInsertStrategy,
+				generatesIds, idColumn);
+	}
+
 	private static class DefaultInsertStrategy implements InsertStrategy {
 
 		private final NamedParameterJdbcOperations jdbcOperations;
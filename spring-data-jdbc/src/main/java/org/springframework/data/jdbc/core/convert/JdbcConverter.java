@@ -106,6 +106,25 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier);
 
+	/**
+	 * Read a {@link RowDocument} into the requested {@link TypeInformation aggregate type} and resolve references by
+	 * looking these up from the given {@link RelationResolver} instead of the {@link RelationResolver} configured with
+	 * this converter. Implementations not supporting a custom {@link RelationResolver} resolve references through their
+	 * configured {@link RelationResolver}.
+	 *
+	 * @param type target aggregate type.
+	 * @param source source {@link RowDocument}.
+	 * @param identifier identifier chain.
+	 * @param relationResolver the {@link RelationResolver} to use for the aggregate read from {@code source}.
+	 * @return the converted object.
+	 * @param <R> aggregate type.
+	 * @since 3.4
+	 */
+	default <R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier,
+			RelationResolver relationResolver) {
+		return readAndResolve(type, source, identifier);
+	}
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
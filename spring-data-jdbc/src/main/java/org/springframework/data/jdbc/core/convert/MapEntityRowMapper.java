@@ -40,6 +40,7 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	private final JdbcConverter converter;
 	private final Identifier identifier;
 	private final SqlIdentifier keyColumn;
+	private final ResultSetRowReader rowReader = new ResultSetRowReader();
 
 	MapEntityRowMapper(AggregatePath path, JdbcConverter converter, Identifier identifier, SqlIdentifier keyColumn) {
 
@@ -52,7 +53,7 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	@Override
 	public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
 
-		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(rs);
+		RowDocument document = rowReader.read(rs);
 
 		Object key = document.get(keyColumn.getReference());
 		Class<?> qualifierColumnType = path.getRequiredLeafProperty().getQualifierColumnType();
@@ -268,9 +268,15 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 		return JdbcValue.of(convertedValue, JDBCType.BINARY);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public <R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier) {
+		return readAndResolve(type, source, identifier, relationResolver);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier,
+			RelationResolver relationResolver) {
 
 		RelationalPersistentEntity<R> entity = (RelationalPersistentEntity<R>) getMappingContext()
 				.getRequiredPersistentEntity(type);
@@ -278,7 +284,7 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 		Identifier identifierToUse = ResolvingRelationalPropertyValueProvider.potentiallyAppendIdentifier(identifier,
 				entity, it -> source.get(it.getColumnName().getReference()));
 		ResolvingConversionContext context = new ResolvingConversionContext(getConversionContext(ObjectPath.ROOT), path,
-				identifierToUse);
+				identifierToUse, relationResolver);
 
 		return readAggregate(context, source, entity.getTypeInformation());
 	}
@@ -378,7 +384,7 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 								identifier.getActualType());
 					}
 
-					Iterable<Object> allByPath = relationResolver.findAllByPath(identifierToUse,
+					Iterable<Object> allByPath = context.relationResolver().findAllByPath(identifierToUse,
 							aggregatePath.getRequiredPersistentPropertyPath());
 
 					if (property.isCollectionLike()) {
@@ -470,9 +476,10 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 	 * @param delegate
 	 * @param aggregatePath
 	 * @param identifier
+	 * @param relationResolver
 	 */
 	private record ResolvingConversionContext(ConversionContext delegate, AggregatePath aggregatePath,
-											  Identifier identifier) implements ConversionContext {
+											  Identifier identifier, RelationResolver relationResolver) implements ConversionContext {
 
 		@Override
 		public <S> S convert(Object source, TypeInformation<? extends S> typeHint) {
@@ -493,12 +500,13 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 		@Override
 		public ResolvingConversionContext forProperty(RelationalPersistentProperty property) {
 			ConversionContext nested = delegate.forProperty(property);
-			return new ResolvingConversionContext(nested, aggregatePath.append(property), identifier);
+			return new ResolvingConversionContext(nested, aggregatePath.append(property), identifier, relationResolver);
 		}
 
 		@Override
 		public ResolvingConversionContext withPath(ObjectPath currentPath) {
-			return new ResolvingConversionContext(delegate.withPath(currentPath), aggregatePath, identifier);
+			return new ResolvingConversionContext(delegate.withPath(currentPath), aggregatePath, identifier,
+					relationResolver);
 		}
 
 		@Override
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.IdGeneration;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link BatchInsertStrategy} combining multiple rows into multi-row {@code INSERT INTO … VALUES (…), (…)}
+ * statements. Rows are split into chunks sized by {@link Dialect#getMaxRowsPerInsert()} and
+ * {@link Dialect#getMaxBindParameters()}. Generated ids are reported in the order of the given
+ * {@link SqlParameterSource parameter sources}. Batches that cannot be combined are executed using the fallback
+ * {@link BatchInsertStrategy}.
+ *
+ * @since 3.4
+ * @see SqlGenerator#getInsert(java.util.Set, int)
+ */
+class MultiRowBatchInsertStrategy implements BatchInsertStrategy {
+
+	private final NamedParameterJdbcOperations jdbcOperations;
+	private final Dialect dialect;
+	private final IntFunction<String> multiRowInsertSql;
+	private final BatchInsertStrategy fallback;
+	private final boolean generatesIds;
+	private final @Nullable SqlIdentifier idColumn;
+
+	/**
+	 * @param jdbcOperations must not be {@code null}.
+	 * @param dialect must not be {@code null}.
+	 * @param multiRowInsertSql function rendering a multi-row insert for the given number of rows.
+	 * @param fallback strategy used for batches that are not combined.
+	 * @param generatesIds whether ids are expected to be generated by the insert.
+	 * @param idColumn the identifier for the id, if ids are expected to be generated. May be {@code null}.
+	 */
+	MultiRowBatchInsertStrategy(NamedParameterJdbcOperations jdbcOperations, Dialect dialect,
+			IntFunction<String> multiRowInsertSql, BatchInsertStrategy fallback, boolean generatesIds,
+			@Nullable SqlIdentifier idColumn) {
+
+		this.jdbcOperations = jdbcOperations;
+		this.dialect = dialect;
+		this.multiRowInsertSql = multiRowInsertSql;
+		this.fallback = fallback;
+		this.generatesIds = generatesIds;
+		this.idColumn = idColumn;
+	}
+
+	@Override
+	public Object[] execute(String sql, SqlParameterSource[] sqlParameterSources) {
+
+		int rowsPerStatement = getRowsPerStatement(sqlParameterSources[0]);
+
+		if (sqlParameterSources.length < 2 || rowsPerStatement < 2) {
+			return fallback.execute(sql, sqlParameterSources);
+		}
+
+		Object[] ids = new Object[sqlParameterSources.length];
+
+		for (int offset = 0; offset < sqlParameterSources.length; offset += rowsPerStatement) {
+
+			int rows = Math.min(rowsPerStatement, sqlParameterSources.length - offset);
+
+			if (rows == 1) {
+				ids[offset] = fallback.execute(sql, new SqlParameterSource[] { sqlParameterSources[offset] })[0];
+				continue;
+			}
+
+			SqlParameterSource parameterSource = combine(sqlParameterSources, offset, rows);
+			String multiRowSql = multiRowInsertSql.apply(rows);
+
+			if (generatesIds) {
+				insertAndCollectIds(multiRowSql, parameterSource, ids, offset, rows);
+			} else {
+				jdbcOperations.update(multiRowSql, parameterSource);
+			}
+		}
+
+		return ids;
+	}
+
+	private int getRowsPerStatement(SqlParameterSource sqlParameterSource) {
+
+		String[] parameterNames = sqlParameterSource.getParameterNames();
+
+		if (parameterNames == null) {
+			return 1;
+		}
+
+		int parametersPerRow = Math.max(1, parameterNames.length);
+
+		return Math.min(dialect.getMaxRowsPerInsert(), dialect.getMaxBindParameters() / parametersPerRow);
+	}
+
+	private void insertAndCollectIds(String sql, SqlParameterSource parameterSource, Object[] ids, int offset,
+			int rows) {
+
+		GeneratedKeyHolder holder = new GeneratedKeyHolder();
+		IdGeneration idGeneration = dialect.getIdGeneration();
+
+		if (idGeneration.driverRequiresKeyColumnNames() && idColumn != null) {
+			jdbcOperations.update(sql, parameterSource, holder,
+					new String[] { idGeneration.getKeyColumnName(idColumn) });
+		} else {
+			jdbcOperations.update(sql, parameterSource, holder);
+		}
+
+		List<Map<String, Object>> keyList = holder.getKeyList();
+
+		// no generated keys, e.g. because the id is part of the back reference and not generated by the database
+		if (keyList.isEmpty()) {
+			return;
+		}
+
+		if (keyList.size() != rows) {
+			throw new IllegalStateException(
+					"Expected %d generated keys for multi-row insert but got %d".formatted(rows, keyList.size()));
+		}
+
+		for (int i = 0; i < rows; i++) {
+			ids[offset + i] = IdGeneratingBatchInsertStrategy.getId(keyList.get(i), idColumn);
+		}
+	}
+
+	private static SqlParameterSource combine(SqlParameterSource[] sqlParameterSources, int offset, int rows) {
+
+		MapSqlParameterSource combined = new MapSqlParameterSource();
+
+		for (int row = 0; row < rows; row++) {
+
+			SqlParameterSource source = sqlParameterSources[offset + row];
+			String[] parameterNames = source.getParameterNames();
+
+			if (parameterNames == null) {
+				continue;
+			}
+
+			for (String parameterName : parameterNames) {
+
+				String name = SqlGenerator.getMultiRowParameterName(parameterName, row);
+				combined.addValue(name, source.getValue(parameterName));
+
+				int sqlType = source.getSqlType(parameterName);
+				if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
+					combined.registerSqlType(name, sqlType);
+				}
+
+				String typeName = source.getTypeName(parameterName);
+				if (typeName != null) {
+					combined.registerTypeName(name, typeName);
+				}
+			}
+		}
+
+		return combined;
+	}
+}
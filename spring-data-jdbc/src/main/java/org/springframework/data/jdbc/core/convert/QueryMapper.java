@@ -32,6 +32,7 @@ import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.dialect.InListStrategy;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
@@ -59,6 +60,7 @@ public class QueryMapper {
 
 	private final JdbcConverter converter;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
+	private final InListStrategy inListStrategy;
 
 	/**
 	 * Creates a new {@link QueryMapper} with the given {@link JdbcConverter}.
@@ -66,11 +68,25 @@ public class QueryMapper {
 	 * @param converter must not be {@literal null}.
 	 */
 	public QueryMapper(JdbcConverter converter) {
+		this(converter, InListStrategy.EXPAND);
+	}
+
+	/**
+	 * Creates a new {@link QueryMapper} with the given {@link JdbcConverter} binding collection-valued {@code IN}
+	 * predicates according to the given {@link InListStrategy}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param inListStrategy must not be {@literal null}.
+	 * @since 3.4
+	 */
+	public QueryMapper(JdbcConverter converter, InListStrategy inListStrategy) {
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(inListStrategy, "InListStrategy must not be null");
 
 		this.converter = converter;
 		this.mappingContext = converter.getMappingContext();
+		this.inListStrategy = inListStrategy;
 	}
 
 	/**
@@ -505,12 +521,29 @@ public class QueryMapper {
 
 			Condition condition;
 
-			if (mappedValue instanceof Iterable) {
+			JdbcValue array = inListStrategy == InListStrategy.ARRAY && mappedValue instanceof Iterable<?> iterable
+					? InListBinding.toArray(converter, iterable)
+					: null;
 
-				List<Expression> expressions = new ArrayList<>(
+			if (array != null) {
+
+				Expression expression = bind(array.getValue(), JDBCType.ARRAY, parameterSource,
+						column.getName().getReference());
+
+				condition = Conditions.isEqual(columnExpression, SimpleFunction.create("ANY", List.of(expression)));
+
+				// Comparison.not() would render != ANY(…) which is not the negation of = ANY(…)
+				return comparator == Comparator.NOT_IN ? Conditions.not(Conditions.nest(condition)) : condition;
+
+			} else if (mappedValue instanceof Iterable) {
+
+				List<Object> values = new ArrayList<>(
 						mappedValue instanceof Collection ? ((Collection<?>) mappedValue).size() : 10);
+				((Iterable<?>) mappedValue).forEach(values::add);
+
+				List<Expression> expressions = new ArrayList<>(values.size());
 
-				for (Object o : (Iterable<?>) mappedValue) {
+				for (Object o : InListBinding.pad(inListStrategy, values)) {
 
 					expressions.add(bind(o, sqlType, parameterSource, column.getName().getReference()));
 				}
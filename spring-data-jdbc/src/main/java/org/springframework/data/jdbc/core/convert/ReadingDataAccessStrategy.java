@@ -17,6 +17,8 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -51,6 +53,20 @@ interface ReadingDataAccessStrategy {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Loads all entities of the given type to a {@link Stream}. The stream holds the underlying cursor open and maps
+	 * entities while it is consumed. It must be closed after use. The default implementation streams the result of
+	 * {@link #findAll(Class)}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	/**
 	 * Loads all entities that match one of the ids passed as an argument. It is not guaranteed that the number of ids
 	 * passed in matches the number of entities returned.
@@ -73,6 +89,21 @@ interface ReadingDataAccessStrategy {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Sort sort);
 
+	/**
+	 * Loads all entities of the given type, sorted, to a {@link Stream}. The stream holds the underlying cursor open and
+	 * maps entities while it is consumed. It must be closed after use. The default implementation streams the result of
+	 * {@link #findAll(Class, Sort)}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return StreamSupport.stream(findAll(domainType, sort).spliterator(), false);
+	}
+
 	/**
 	 * Loads all entities of the given type, paged and sorted.
 	 *
@@ -106,6 +137,20 @@ interface ReadingDataAccessStrategy {
 	 */
 	<T> Iterable<T> findAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream}. The stream holds the underlying
+	 * cursor open and maps entities while it is consumed. It must be closed after use. The default implementation streams
+	 * the result of {@link #findAll(Query, Class)}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@code null}.
+	 * @return a non-null stream with all the matching results.
+	 * @since 3.4
+	 */
+	default <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return StreamSupport.stream(findAll(query, domainType).spliterator(), false);
+	}
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Iterable}. Applies the {@link Pageable}
 	 * to the result.
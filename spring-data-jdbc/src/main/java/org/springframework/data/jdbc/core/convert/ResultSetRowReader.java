@@ -0,0 +1,310 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.ref.WeakReference;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Reads flat {@link ResultSet} rows into {@link RowDocument documents}. Column labels are resolved into a
+ * {@link ColumnLayout} that is shared by all rows. Each row only holds its values, keyed by column position, so that
+ * reading a row requires neither metadata lookups nor per-row key normalization.
+ * <p>
+ * Layouts are retained per column label signature so that result sets of the same query share their layout, also when
+ * read concurrently. Subsequent rows of the most recently read {@link ResultSet} reuse its layout without consulting
+ * the {@link ResultSetMetaData}.
+ *
+ * @since 3.4
+ */
+class ResultSetRowReader {
+
+	private static final Logger log = LoggerFactory.getLogger(ResultSetRowReader.class);
+
+	/**
+	 * Maximum number of distinct column label signatures retained, evicting the least recently used ones.
+	 */
+	private static final int LAYOUT_CACHE_LIMIT = 16;
+
+	private final ConcurrentLruCache<List<String>, ColumnLayout> layouts = new ConcurrentLruCache<>(LAYOUT_CACHE_LIMIT,
+			ColumnLayout::of);
+
+	private volatile @Nullable CurrentLayout current;
+
+	/**
+	 * Read the current {@link ResultSet} row into a {@link RowDocument}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @return the {@link RowDocument} for the current row.
+	 * @throws SQLException
+	 */
+	RowDocument read(ResultSet resultSet) throws SQLException {
+
+		ColumnLayout layout = getLayout(resultSet);
+		int[] columnIndexes = layout.columnIndexes;
+		Object[] values = new Object[columnIndexes.length];
+
+		for (int i = 0; i < columnIndexes.length; i++) {
+
+			Object rsv = JdbcUtils.getResultSetValue(resultSet, columnIndexes[i]);
+			values[i] = rsv instanceof Array a ? a.getArray() : rsv;
+		}
+
+		return RowDocument.wrap(new IndexedRow(layout, values));
+	}
+
+	private ColumnLayout getLayout(ResultSet resultSet) throws SQLException {
+
+		CurrentLayout current = this.current;
+
+		if (current != null && current.resultSet().get() == resultSet) {
+			return current.layout();
+		}
+
+		ResultSetMetaData md = resultSet.getMetaData();
+		int columnCount = md.getColumnCount();
+		String[] columnNames = new String[columnCount];
+
+		for (int i = 0; i < columnCount; i++) {
+			columnNames[i] = JdbcUtils.lookupColumnName(md, i + 1);
+		}
+
+		ColumnLayout layout = layouts.get(Arrays.asList(columnNames));
+		this.current = new CurrentLayout(new WeakReference<>(resultSet), layout);
+
+		return layout;
+	}
+
+	/**
+	 * Layout of the most recently read {@link ResultSet}.
+	 */
+	private record CurrentLayout(WeakReference<ResultSet> resultSet, ColumnLayout layout) {
+	}
+
+	/**
+	 * Column labels and their positions of a {@link ResultSet}. Duplicate labels resolve to their first column. Lookups
+	 * are case-insensitive and memoized per key. Layouts are immutable apart from the memoized lookups and can be shared
+	 * across threads.
+	 */
+	static final class ColumnLayout {
+
+		private final String[] columnNames;
+		private final int[] columnIndexes;
+		private final Map<String, Integer> positions;
+		private final Map<String, Integer> resolved = new ConcurrentHashMap<>();
+
+		private ColumnLayout(String[] columnNames, int[] columnIndexes, Map<String, Integer> positions) {
+
+			this.columnNames = columnNames;
+			this.columnIndexes = columnIndexes;
+			this.positions = positions;
+		}
+
+		static ColumnLayout of(List<String> labels) {
+
+			int columnCount = labels.size();
+
+			Map<String, Integer> positions = new LinkedCaseInsensitiveMap<>(columnCount);
+			String[] columnNames = new String[columnCount];
+			int[] columnIndexes = new int[columnCount];
+			int size = 0;
+
+			for (int i = 0; i < columnCount; i++) {
+
+				String columnName = labels.get(i);
+
+				if (positions.containsKey(columnName)) {
+					log.warn(RowDocumentResultSetExtractor.DUPLICATE_COLUMN_WARNING, columnName, i);
+					continue;
+				}
+
+				positions.put(columnName, size);
+				columnNames[size] = columnName;
+				columnIndexes[size] = i + 1;
+				size++;
+			}
+
+			return new ColumnLayout(Arrays.copyOf(columnNames, size), Arrays.copyOf(columnIndexes, size), positions);
+		}
+
+		/**
+		 * @param key the column name.
+		 * @return the position of the column or {@code -1} if the layout does not contain the column.
+		 */
+		int positionOf(@Nullable Object key) {
+
+			if (!(key instanceof String columnName)) {
+				return -1;
+			}
+
+			return resolved.computeIfAbsent(columnName, it -> {
+
+				Integer candidate = positions.get(it);
+				return candidate != null ? candidate : -1;
+			});
+		}
+
+		int size() {
+			return columnNames.length;
+		}
+	}
+
+	/**
+	 * {@link Map} view of a single row using a shared {@link ColumnLayout}. Entries not contained in the layout are kept
+	 * in a lazily created case-insensitive map.
+	 */
+	static final class IndexedRow extends AbstractMap<String, Object> {
+
+		private static final Object ABSENT = new Object();
+
+		private final ColumnLayout layout;
+		private final Object[] values;
+		private @Nullable Map<String, Object> additional;
+
+		IndexedRow(ColumnLayout layout, Object[] values) {
+
+			this.layout = layout;
+			this.values = values;
+		}
+
+		@Nullable
+		@Override
+		public Object get(Object key) {
+
+			int position = layout.positionOf(key);
+
+			if (position != -1) {
+				return valueAt(position);
+			}
+
+			return additional != null ? additional.get(key) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+
+			int position = layout.positionOf(key);
+
+			if (position != -1) {
+				return values[position] != ABSENT;
+			}
+
+			return additional != null && additional.containsKey(key);
+		}
+
+		@Nullable
+		@Override
+		public Object put(String key, @Nullable Object value) {
+
+			int position = layout.positionOf(key);
+
+			if (position != -1) {
+
+				Object previous = valueAt(position);
+				values[position] = value;
+				return previous;
+			}
+
+			if (additional == null) {
+				additional = new LinkedCaseInsensitiveMap<>();
+			}
+
+			return additional.put(key, value);
+		}
+
+		@Nullable
+		@Override
+		public Object remove(Object key) {
+
+			int position = layout.positionOf(key);
+
+			if (position != -1) {
+
+				Object previous = valueAt(position);
+				values[position] = ABSENT;
+				return previous;
+			}
+
+			return additional != null ? additional.remove(key) : null;
+		}
+
+		@Override
+		public void clear() {
+
+			Arrays.fill(values, ABSENT);
+			additional = null;
+		}
+
+		@Override
+		public int size() {
+
+			int size = additional != null ? additional.size() : 0;
+
+			for (Object value : values) {
+				if (value != ABSENT) {
+					size++;
+				}
+			}
+
+			return size;
+		}
+
+		/**
+		 * Returns a read-only snapshot of the entries in column order followed by additional entries.
+		 */
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+
+			Map<String, Object> entries = new LinkedCaseInsensitiveMap<>(layout.size());
+
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] != ABSENT) {
+					entries.put(layout.columnNames[i], values[i]);
+				}
+			}
+
+			if (additional != null) {
+				entries.putAll(additional);
+			}
+
+			return Collections.unmodifiableMap(entries).entrySet();
+		}
+
+		@Nullable
+		private Object valueAt(int position) {
+
+			Object value = values[position];
+			return value != ABSENT ? value : null;
+		}
+	}
+}
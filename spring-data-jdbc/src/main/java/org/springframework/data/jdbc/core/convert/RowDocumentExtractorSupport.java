@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,12 +24,15 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.domain.RowDocument;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Support class for {@code ResultSet}-driven extractor implementations extracting {@link RowDocument documents} from
@@ -244,7 +248,12 @@ abstract class RowDocumentExtractorSupport {
 				if (property.isEmbedded()) {
 
 					RelationalPersistentEntity<?> embeddedEntity = aggregateContext.getRequiredPersistentEntity(property);
-					readEntity(row, document, path, embeddedEntity);
+					RowDocument embedded = new RowDocument();
+					readEntity(row, embedded, path, embeddedEntity);
+
+					if (!isEmptyNullableEmbedded(property, embedded)) {
+						document.putAll(embedded);
+					}
 					continue;
 				}
 
@@ -258,6 +267,26 @@ abstract class RowDocumentExtractorSupport {
 			}
 		}
 
+		/**
+		 * Check whether the values of an embedded entity that is to be read as {@literal null} when empty contain only empty
+		 * collections and arrays. Such an embedded entity is read as {@literal null} when loading aggregates with one
+		 * statement per entity, so its values are left out of the document.
+		 */
+		private static boolean isEmptyNullableEmbedded(RelationalPersistentProperty property, RowDocument values) {
+
+			if (property.getRequiredAnnotation(Embedded.class).onEmpty() != OnEmpty.USE_NULL) {
+				return false;
+			}
+
+			for (Object value : values.values()) {
+				if (!(value instanceof Collection<?> || value.getClass().isArray()) || !ObjectUtils.isEmpty(value)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
 		/**
 		 * Read properties of embedded from the result set and store them under their column names
 		 */
@@ -19,6 +19,7 @@ import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -175,7 +176,78 @@ class RowDocumentResultSetExtractor {
 	 * @throws SQLException if thrown by the JDBC API.
 	 */
 	public Iterator<RowDocument> iterate(RelationalPersistentEntity<?> entity, ResultSet rs) throws SQLException {
-		return new RowDocumentIterator(entity, rs);
+		return new RowDocumentIterator(entity, rs, hasRow(rs), rs::next);
+	}
+
+	/**
+	 * Obtain a {@link Iterator} to retrieve {@link RowDocument documents} from a cursor of {@link ResultSet rows}. Each
+	 * element of {@code rows} is expected to be the same {@link ResultSet} advanced to its next row, as returned by
+	 * {@link org.springframework.jdbc.core.JdbcOperations#queryForStream} using a row mapper returning the
+	 * {@link ResultSet} itself. Documents are assembled lazily so that only the rows of the current aggregate are held in
+	 * memory.
+	 *
+	 * @param entity the entity to determine the document structure.
+	 * @param rows the cursor over the result rows.
+	 * @return an iterator to consume the rows as RowDocuments.
+	 * @since 3.4
+	 */
+	public Iterator<RowDocument> iterate(RelationalPersistentEntity<?> entity, Iterator<ResultSet> rows) {
+
+		if (!rows.hasNext()) {
+			return Collections.emptyIterator();
+		}
+
+		return new RowDocumentIterator(entity, rows.next(), true, () -> rows.hasNext() && rows.next() != null);
+	}
+
+	private static boolean hasRow(ResultSet resultSet) {
+
+		// If we are before the first row we need to advance to the first row.
+		try {
+			if (resultSet.isBeforeFirst()) {
+				return resultSet.next();
+			}
+		} catch (SQLException e) {
+			// seems that isBeforeFirst is not implemented
+		}
+
+		// if we are after the last row we are done and not pointing a valid row and also can't advance to one.
+		try {
+			if (resultSet.isAfterLast()) {
+				return false;
+			}
+		} catch (SQLException e) {
+			// seems that isAfterLast is not implemented
+		}
+
+		// if we arrived here we know almost nothing.
+		// maybe isBeforeFirst or isBeforeLast aren't implemented
+		// or the ResultSet is empty.
+
+		try {
+			resultSet.getObject(1);
+			// we can see actual data, so we are looking at a current row.
+			return true;
+		} catch (SQLException ignored) {}
+
+		try {
+			return resultSet.next();
+		} catch (SQLException e) {
+			// we aren't looking at a row, but we can't advance either.
+			// so it seems we are facing an empty ResultSet
+			return false;
+		}
+	}
+
+	/**
+	 * Strategy to move a {@link ResultSet} to its next row.
+	 */
+	private interface RowCursor {
+
+		/**
+		 * @return {@literal true} if the {@link ResultSet} points at a valid row after advancing.
+		 */
+		boolean advance() throws SQLException;
 	}
 
 	/**
@@ -189,13 +261,14 @@ class RowDocumentResultSetExtractor {
 		private final RelationalPersistentEntity<?> rootEntity;
 		private final Integer identifierIndex;
 		private final AggregateContext<ResultSet> aggregateContext;
+		private final RowCursor cursor;
 
 		/**
 		 * Answers the question if the internal {@link ResultSet} points at an actual row.
 		 */
 		private boolean hasNext;
 
-		RowDocumentIterator(RelationalPersistentEntity<?> entity, ResultSet resultSet) {
+		RowDocumentIterator(RelationalPersistentEntity<?> entity, ResultSet resultSet, boolean hasNext, RowCursor cursor) {
 
 			ResultSetAdapter adapter = ResultSetAdapter.INSTANCE;
 
@@ -208,46 +281,8 @@ class RowDocumentResultSetExtractor {
 
 			this.resultSet = resultSet;
 			this.identifierIndex = columns.get(idColumn);
-			this.hasNext = hasRow(resultSet);
-		}
-
-		private static boolean hasRow(ResultSet resultSet) {
-
-			// If we are before the first row we need to advance to the first row.
-			try {
-				if (resultSet.isBeforeFirst()) {
-					return resultSet.next();
-				}
-			} catch (SQLException e) {
-				// seems that isBeforeFirst is not implemented
-			}
-
-			// if we are after the last row we are done and not pointing a valid row and also can't advance to one.
-			try {
-				if (resultSet.isAfterLast()) {
-					return false;
-				}
-			} catch (SQLException e) {
-				// seems that isAfterLast is not implemented
-			}
-
-			// if we arrived here we know almost nothing.
-			// maybe isBeforeFirst or isBeforeLast aren't implemented
-			// or the ResultSet is empty.
-
-			try {
-				resultSet.getObject(1);
-				// we can see actual data, so we are looking at a current row.
-				return true;
-			} catch (SQLException ignored) {}
-
-			try {
-				return resultSet.next();
-			} catch (SQLException e) {
-				// we aren't looking at a row, but we can't advance either.
-				// so it seems we are facing an empty ResultSet
-				return false;
-			}
+			this.cursor = cursor;
+			this.hasNext = hasNext;
 		}
 
 		@Override
@@ -272,7 +307,7 @@ class RowDocumentResultSetExtractor {
 					}
 
 					reader.accept(resultSet);
-					hasNext = resultSet.next();
+					hasNext = cursor.advance();
 				} while (hasNext);
 			} catch (SQLException e) {
 				throw new DataRetrievalFailureException("Cannot advance ResultSet", e);
@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -46,6 +47,13 @@ class SingleQueryDataAccessStrategy implements ReadingDataAccessStrategy {
 		this.aggregateReader = new AggregateReader(dialect, converter, jdbcTemplate);
 	}
 
+	/**
+	 * Return whether aggregates can be loaded sorted, limited and with an offset.
+	 */
+	boolean supportsOrderingAndLimiting() {
+		return aggregateReader.supportsOrderingAndLimiting();
+	}
+
 	@Override
 	public <T> T findById(Object id, Class<T> domainType) {
 		return aggregateReader.findById(id, getPersistentEntity(domainType));
@@ -56,6 +64,11 @@ class SingleQueryDataAccessStrategy implements ReadingDataAccessStrategy {
 		return aggregateReader.findAll(getPersistentEntity(domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return aggregateReader.streamAll(getPersistentEntity(domainType));
+	}
+
 	@Override
 	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 		return aggregateReader.findAllById(ids, getPersistentEntity(domainType));
@@ -63,12 +76,18 @@ class SingleQueryDataAccessStrategy implements ReadingDataAccessStrategy {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Sort sort) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.findAll(Query.empty().sort(validate(sort, domainType)), getPersistentEntity(domainType));
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return aggregateReader.streamAll(Query.empty().sort(validate(sort, domainType)), getPersistentEntity(domainType));
 	}
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Pageable pageable) {
-		throw new UnsupportedOperationException();
+		validate(pageable.getSort(), domainType);
+		return aggregateReader.findAll(Query.empty().with(pageable), getPersistentEntity(domainType));
 	}
 
 	@Override
@@ -81,9 +100,27 @@ class SingleQueryDataAccessStrategy implements ReadingDataAccessStrategy {
 		return aggregateReader.findAll(query, getPersistentEntity(domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return aggregateReader.streamAll(query, getPersistentEntity(domainType));
+	}
+
 	@Override
 	public <T> List<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.findAll(query.with(pageable), getPersistentEntity(domainType));
+	}
+
+	/**
+	 * Verify that all properties of the {@link Sort} are properties of the aggregate, just as
+	 * {@link DefaultDataAccessStrategy#findAll(Class, Sort)} does.
+	 */
+	private Sort validate(Sort sort, Class<?> domainType) {
+
+		for (Sort.Order order : sort) {
+			mappingContext.getPersistentPropertyPath(order.getProperty(), domainType);
+		}
+
+		return sort;
 	}
 
 	@SuppressWarnings("unchecked")
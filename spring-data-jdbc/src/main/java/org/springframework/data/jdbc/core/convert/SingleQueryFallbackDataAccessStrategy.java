@@ -15,13 +15,28 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.Collections;
 import java.util.Optional;
-
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.observability.JdbcObservation;
+import org.springframework.data.jdbc.core.observability.JdbcObservation.LowCardinalityKeys;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -37,6 +52,7 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 	private final SqlGeneratorSource sqlGeneratorSource;
 	private final SingleQueryDataAccessStrategy singleSelectDelegate;
 	private final JdbcConverter converter;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
 	public SingleQueryFallbackDataAccessStrategy(SqlGeneratorSource sqlGeneratorSource, JdbcConverter converter,
 			NamedParameterJdbcOperations operations, DataAccessStrategy fallback) {
@@ -54,24 +70,89 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 				operations);
 	}
 
+	/**
+	 * Set the {@link ObservationRegistry} used to record {@link JdbcObservation#AGGREGATE_READ} observations reporting
+	 * whether Single Query Loading or the fallback strategy was used. Defaults to {@link ObservationRegistry#NOOP}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 3.4
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Aggregates read with statement settings are loaded through the fallback strategy. Single Query Loading reads
+	 * several rows per aggregate which a maximum number of rows would cut off.
+	 */
+	@Override
+	public DataAccessStrategy withStatementSettings(StatementSettings settings) {
+		return super.withStatementSettings(settings);
+	}
+
 	@Override
 	public <T> T findById(Object id, Class<T> domainType) {
 
 		if (isSingleSelectQuerySupported(domainType)) {
-			return singleSelectDelegate.findById(id, domainType);
+			return observe("findById", domainType, true, () -> singleSelectDelegate.findById(id, domainType));
 		}
 
-		return super.findById(id, domainType);
+		return observe("findById", domainType, false, () -> super.findById(id, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
 
 		if (isSingleSelectQuerySupported(domainType)) {
-			return singleSelectDelegate.findAll(domainType);
+			return observe("findAll", domainType, true, () -> singleSelectDelegate.findAll(domainType));
+		}
+
+		return observe("findAll", domainType, false, () -> super.findAll(domainType));
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		if (isSingleSelectQuerySupported(domainType)) {
+			return observeStream("streamAll", domainType, true, () -> singleSelectDelegate.streamAll(domainType));
+		}
+
+		return observeStream("streamAll", domainType, false, () -> super.streamAll(domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(sort, domainType)) {
+			return observe("findAll", domainType, true, () -> singleSelectDelegate.findAll(domainType, sort));
+		}
+
+		return observe("findAll", domainType, false, () -> super.findAll(domainType, sort));
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(sort, domainType)) {
+			return observeStream("streamAll", domainType, true, () -> singleSelectDelegate.streamAll(domainType, sort));
+		}
+
+		return observeStream("streamAll", domainType, false, () -> super.streamAll(domainType, sort));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(pageable, domainType)) {
+			return observe("findAll", domainType, true, () -> singleSelectDelegate.findAll(domainType, pageable));
 		}
 
-		return super.findAll(domainType);
+		return observe("findAll", domainType, false, () -> super.findAll(domainType, pageable));
 	}
 
 	@Override
@@ -82,34 +163,178 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 		}
 
 		if (isSingleSelectQuerySupported(domainType)) {
-			return singleSelectDelegate.findAllById(ids, domainType);
+			return observe("findAllById", domainType, true, () -> singleSelectDelegate.findAllById(ids, domainType));
 		}
 
-		return super.findAllById(ids, domainType);
+		return observe("findAllById", domainType, false, () -> super.findAllById(ids, domainType));
 	}
 
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
 
-		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query)) {
-			return singleSelectDelegate.findOne(query, domainType);
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)) {
+			return observe("findOne", domainType, true, () -> singleSelectDelegate.findOne(query, domainType));
 		}
 
-		return super.findOne(query, domainType);
+		return observe("findOne", domainType, false, () -> super.findOne(query, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType) {
 
-		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query)) {
-			return singleSelectDelegate.findAll(query, domainType);
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)) {
+			return observe("findAll", domainType, true, () -> singleSelectDelegate.findAll(query, domainType));
 		}
 
-		return super.findAll(query, domainType);
+		return observe("findAll", domainType, false, () -> super.findAll(query, domainType));
 	}
 
-	private static boolean isSingleSelectQuerySupported(Query query) {
-		return !query.isSorted() && !query.isLimited();
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)) {
+			return observeStream("streamAll", domainType, true, () -> singleSelectDelegate.streamAll(query, domainType));
+		}
+
+		return observeStream("streamAll", domainType, false, () -> super.streamAll(query, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)
+				&& isSingleSelectQuerySupported(pageable, domainType)) {
+			return observe("findAll", domainType, true, () -> singleSelectDelegate.findAll(query, domainType, pageable));
+		}
+
+		return observe("findAll", domainType, false, () -> super.findAll(query, domainType, pageable));
+	}
+
+	private <R> R observe(String operation, Class<?> domainType, boolean singleQuery, Supplier<R> read) {
+
+		if (observationRegistry.isNoop()) {
+			return read.get();
+		}
+
+		Observation observation = startReadObservation(operation, domainType, singleQuery);
+
+		try {
+
+			R result = read.get();
+			observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(JdbcObservation.OUTCOME_SUCCESS));
+			return result;
+		} catch (RuntimeException e) {
+
+			observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(JdbcObservation.OUTCOME_ERROR));
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	/**
+	 * Observe a {@link Stream} read. The observation covers the time until the returned {@link Stream} is consumed
+	 * completely, fails or is closed, whichever happens first. Like the underlying cursor, the observation stays open if
+	 * the stream is neither consumed completely nor closed.
+	 */
+	private <T> Stream<T> observeStream(String operation, Class<?> domainType, boolean singleQuery,
+			Supplier<Stream<T>> read) {
+
+		if (observationRegistry.isNoop()) {
+			return read.get();
+		}
+
+		Observation observation = startReadObservation(operation, domainType, singleQuery);
+		Stream<T> stream;
+
+		try {
+			stream = read.get();
+		} catch (RuntimeException e) {
+
+			stopWithError(observation, e);
+			throw e;
+		}
+
+		ObservedSpliterator<T> spliterator = new ObservedSpliterator<>(stream.spliterator(), observation);
+
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::stop).onClose(stream::close);
+	}
+
+	private static void stopWithError(Observation observation, RuntimeException e) {
+
+		observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(JdbcObservation.OUTCOME_ERROR));
+		observation.error(e);
+		observation.stop();
+	}
+
+	private Observation startReadObservation(String operation, Class<?> domainType, boolean singleQuery) {
+
+		String readPath = singleQuery ? JdbcObservation.READ_PATH_SINGLE_QUERY : JdbcObservation.READ_PATH_FALLBACK;
+
+		return JdbcObservation.AGGREGATE_READ.observation(observationRegistry) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.AGGREGATE_TYPE.withValue(domainType.getSimpleName())) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.OPERATION.withValue(operation)) //
+				.lowCardinalityKeyValue(LowCardinalityKeys.READ_PATH.withValue(readPath)) //
+				.start();
+	}
+
+	private boolean isSingleSelectQuerySupported(Query query, Class<?> entityType) {
+
+		if ((query.isLimited() || query.getOffset() > 0) && !singleSelectDelegate.supportsOrderingAndLimiting()) {
+			return false;
+		}
+
+		return isSingleSelectQuerySupported(query.getSort(), entityType);
+	}
+
+	private boolean isSingleSelectQuerySupported(Pageable pageable, Class<?> entityType) {
+
+		if (pageable.isPaged() && !singleSelectDelegate.supportsOrderingAndLimiting()) {
+			return false;
+		}
+
+		return isSingleSelectQuerySupported(pageable.getSort(), entityType);
+	}
+
+	private boolean isSingleSelectQuerySupported(Sort sort, Class<?> entityType) {
+
+		if (sort.isSorted() && !singleSelectDelegate.supportsOrderingAndLimiting()) {
+			return false;
+		}
+
+		for (Sort.Order order : sort) {
+
+			// Query rejects case-insensitive ordering
+			if (order.isIgnoreCase()) {
+				return false;
+			}
+
+			// ordering is applied to the table of the aggregate root only
+			if (order.getProperty().indexOf('.') != -1 && !isRootTableProperty(order.getProperty(), entityType)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isRootTableProperty(String dotPath, Class<?> entityType) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path;
+		try {
+			path = converter.getMappingContext().getPersistentPropertyPath(dotPath, entityType);
+		} catch (MappingException e) {
+			return false;
+		}
+
+		for (RelationalPersistentProperty property : path) {
+			if (property.isEntity() && !property.isEmbedded()) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	private boolean isSingleSelectQuerySupported(Class<?> entityType) {
@@ -124,25 +349,78 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : converter.getMappingContext()
 				.findPersistentPropertyPaths(entityType, __ -> true)) {
 			RelationalPersistentProperty property = path.getLeafProperty();
-			if (property.isEntity()) {
+			if (property.isEntity() && !property.isEmbedded()) {
 
-				// single references are currently not supported
-				if (!(property.isMap() || property.isCollectionLike())) {
+				// nested references, including references held by embedded entities, are currently not supported
+				if (path.getLength() > 1) {
 					return false;
 				}
+			}
+		}
+		return true;
 
-				// embedded entities are currently not supported
-				if (property.isEmbedded()) {
-					return false;
-				}
+	}
 
-				// nested references are currently not supported
-				if (path.getLength() > 1) {
-					return false;
+	/**
+	 * {@link Spliterator} stopping an {@link Observation} once the delegate is exhausted, fails or the stream is closed.
+	 * Failures while advancing are recorded as error of the {@link Observation}.
+	 */
+	private static class ObservedSpliterator<T> implements Spliterator<T> {
+
+		private final Spliterator<T> delegate;
+		private final Observation observation;
+		private final AtomicBoolean stopped = new AtomicBoolean();
+
+		ObservedSpliterator(Spliterator<T> delegate, Observation observation) {
+
+			this.delegate = delegate;
+			this.observation = observation;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			boolean advanced;
+			try {
+				advanced = delegate.tryAdvance(action);
+			} catch (RuntimeException e) {
+
+				if (stopped.compareAndSet(false, true)) {
+					stopWithError(observation, e);
 				}
+				throw e;
+			}
+
+			if (!advanced) {
+				stop();
 			}
+
+			return advanced;
+		}
+
+		@Override
+		@Nullable
+		public Spliterator<T> trySplit() {
+			return null;
 		}
-		return true;
 
+		@Override
+		public long estimateSize() {
+			return delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return delegate.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+		}
+
+		void stop() {
+
+			if (stopped.compareAndSet(false, true)) {
+
+				observation.lowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.withValue(JdbcObservation.OUTCOME_SUCCESS));
+				observation.stop();
+			}
+		}
 	}
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.InListStrategy;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -39,6 +41,7 @@ import org.springframework.data.util.Lazy;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Generates SQL statements to be used by {@link SimpleJdbcRepository}
@@ -71,6 +74,11 @@ class SqlGenerator {
 	 */
 	private static final int FIRST_NON_ROOT_LENTH = 2;
 
+	/**
+	 * Maximum number of statements cached per statement kind whose SQL depends on the shape of the invocation.
+	 */
+	private static final int SHAPE_CACHE_SIZE = 64;
+
 	private final RelationalPersistentEntity<?> entity;
 	private final RelationalMappingContext mappingContext;
 	private final RenderContext renderContext;
@@ -82,17 +90,31 @@ class SqlGenerator {
 	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSql);
 	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
 	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
+	private final Lazy<String> findAllInArraySql = Lazy.of(this::createFindAllInArraySql);
+	private final Lazy<String> findVersionsInListSql = Lazy.of(() -> createFindVersionsSql(false));
+	private final Lazy<String> findVersionsInArraySql = Lazy.of(() -> createFindVersionsSql(true));
 
 	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
 	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
 
 	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
 	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
+	private final Lazy<String> upsertSql = Lazy.of(this::createUpsertSql);
 
 	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteByIdSql);
 	private final Lazy<String> deleteByIdInSql = Lazy.of(this::createDeleteByIdInSql);
+	private final Lazy<String> deleteByIdInArraySql = Lazy.of(this::createDeleteByIdInArraySql);
 	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
 	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+
+	private final ConcurrentLruCache<FindAllShape, String> findAllSortedSql = new ConcurrentLruCache<>(SHAPE_CACHE_SIZE,
+			this::createFindAllSql);
+	private final ConcurrentLruCache<FindAllByPropertyShape, String> findAllByPropertySql = new ConcurrentLruCache<>(
+			SHAPE_CACHE_SIZE, this::createFindAllByPropertySql);
+	private final ConcurrentLruCache<FindAllByPropertyShape, String> findAllByPropertyInSql = new ConcurrentLruCache<>(
+			SHAPE_CACHE_SIZE, this::createFindAllByPropertyInSql);
+	private final ConcurrentLruCache<InsertShape, String> insertSql = new ConcurrentLruCache<>(SHAPE_CACHE_SIZE,
+			shape -> createInsertSql(shape.additionalColumns(), shape.rows()));
 	private final QueryMapper queryMapper;
 	private final Dialect dialect;
 
@@ -113,7 +135,7 @@ class SqlGenerator {
 		this.renderContext = new RenderContextFactory(dialect).createRenderContext();
 		this.sqlRenderer = SqlRenderer.create(renderContext);
 		this.columns = new Columns(entity, mappingContext, converter);
-		this.queryMapper = new QueryMapper(converter);
+		this.queryMapper = new QueryMapper(converter, dialect.getInListStrategy());
 		this.dialect = dialect;
 	}
 
@@ -210,6 +232,47 @@ class SqlGenerator {
 		return findAllInListSql.get();
 	}
 
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
+	 * Results are filtered by comparing the id column against an array using {@code = ANY(…)}.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	String getFindAllInArray() {
+		return findAllInArraySql.get();
+	}
+
+	/**
+	 * Create a {@code SELECT id, version FROM … WHERE id IN (:ids)} statement.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.4
+	 */
+	String getFindVersionsInList() {
+		return findVersionsInListSql.get();
+	}
+
+	/**
+	 * Create a {@code SELECT id, version FROM … WHERE id = ANY(:ids)} statement.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.4
+	 */
+	String getFindVersionsInArray() {
+		return findVersionsInArraySql.get();
+	}
+
+	/**
+	 * Returns the {@link InListStrategy} of the {@link Dialect} used to bind collection-valued {@code IN} predicates.
+	 *
+	 * @return the {@link InListStrategy}. Guaranteed to be not {@code null}.
+	 * @since 3.4
+	 */
+	InListStrategy getInListStrategy() {
+		return dialect.getInListStrategy();
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 *
@@ -226,7 +289,7 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+		return findAllSortedSql.get(new FindAllShape(sort, -1, -1));
 	}
 
 	/**
@@ -236,7 +299,10 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+
+		return findAllSortedSql.get(pageable.isPaged() //
+				? new FindAllShape(pageable.getSort(), pageable.getPageSize(), pageable.getOffset()) //
+				: new FindAllShape(pageable.getSort(), -1, -1));
 	}
 
 	/**
@@ -278,6 +344,13 @@ class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided");
 
+		return findAllByPropertySql
+				.get(new FindAllByPropertyShape(List.copyOf(parentIdentifier.toMap().keySet()), keyColumn, ordered));
+	}
+
+	private String createFindAllByPropertySql(FindAllByPropertyShape shape) {
+
+		AggregatePath.ColumnInfo keyColumn = shape.keyColumn();
 		Table table = getTable();
 
 		SelectBuilder.SelectWhere builder = selectBuilder( //
@@ -286,20 +359,65 @@ class SqlGenerator {
 						: Collections.singleton(keyColumn.name()) //
 		);
 
-		Condition condition = buildConditionForBackReference(parentIdentifier, table);
+		Condition condition = buildConditionForBackReference(shape.backReferenceColumns(), table);
 		SelectBuilder.SelectWhereAndOr withWhereClause = builder.where(condition);
 
-		Select select = ordered //
+		Select select = shape.ordered() //
 				? withWhereClause.orderBy(table.column(keyColumn.name()).as(keyColumn.alias())).build() //
 				: withWhereClause.build();
 
 		return render(select);
 	}
 
-	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
+	 * Results are limited to those rows referencing one of multiple parent entities using the
+	 * {@literal backReferenceColumn}, bound as {@link #IDS_SQL_PARAMETER}. The back reference column is selected in
+	 * addition so that each row can be assigned to the entity referencing it. This is used to select values for a complex
+	 * property ({@link Set}, {@link Map} ...) for multiple referencing entities at once.
+	 *
+	 * @param backReferenceColumn name of the column of the FK back to the referencing entity.
+	 * @param keyColumn if the property is of type {@link Map} this column contains the map key.
+	 * @param ordered whether the SQL statement should include an ORDER BY for the keyColumn. If this is {@code true}, the
+	 *          keyColumn must not be {@code null}.
+	 * @return a SQL String.
+	 * @since 3.4
+	 */
+	String getFindAllByPropertyIn(SqlIdentifier backReferenceColumn, @Nullable AggregatePath.ColumnInfo keyColumn,
+			boolean ordered) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided");
+
+		return findAllByPropertyInSql.get(new FindAllByPropertyShape(List.of(backReferenceColumn), keyColumn, ordered));
+	}
+
+	private String createFindAllByPropertyInSql(FindAllByPropertyShape shape) {
+
+		SqlIdentifier backReferenceColumn = shape.backReferenceColumns().get(0);
+		AggregatePath.ColumnInfo keyColumn = shape.keyColumn();
+		Table table = getTable();
+
+		List<SqlIdentifier> keyColumns = new ArrayList<>(2);
+		if (keyColumn != null) {
+			keyColumns.add(keyColumn.name());
+		}
+		keyColumns.add(backReferenceColumn);
+
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(keyColumns) //
+				.where(table.column(backReferenceColumn).in(getBindMarker(IDS_SQL_PARAMETER)));
+
+		Select select = shape.ordered() //
+				? withWhereClause.orderBy(table.column(keyColumn.name()).as(keyColumn.alias())).build() //
+				: withWhereClause.build();
+
+		return render(select);
+	}
+
+	private Condition buildConditionForBackReference(Collection<SqlIdentifier> backReferenceColumns, Table table) {
 
 		Condition condition = null;
-		for (SqlIdentifier backReferenceColumn : parentIdentifier.toMap().keySet()) {
+		for (SqlIdentifier backReferenceColumn : backReferenceColumns) {
 
 			Assert.isTrue(!SqlIdentifier.EMPTY.equals(backReferenceColumn),
 					"An empty SqlIdentifier can't be used in condition. Make sure that all composite primary keys are defined in the query");
@@ -357,7 +475,33 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return insertSql.get(new InsertShape(Set.copyOf(additionalColumns), 1));
+	}
+
+	/**
+	 * Create a multi-row {@code INSERT INTO … (…) VALUES (…), (…)} statement. Bind parameters of each row are suffixed
+	 * with the index of the row, i.e. the value of column {@code name} in the second row is bound to {@code :name_1}.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity.
+	 * @param rows number of rows to insert. Must be greater than zero.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.4
+	 */
+	String getInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Assert.isTrue(rows > 0, "Number of rows must be greater than zero");
+
+		return insertSql.get(new InsertShape(Set.copyOf(additionalColumns), rows));
+	}
+
+	/**
+	 * Return the name of the bind parameter used for the column identified by {@code parameterName} in row {@code row} of
+	 * a multi-row insert.
+	 *
+	 * @see #getInsert(Set, int)
+	 */
+	static String getMultiRowParameterName(String parameterName, int row) {
+		return parameterName + "_" + row;
 	}
 
 	/**
@@ -378,6 +522,49 @@ class SqlGenerator {
 		return updateWithVersionSql.get();
 	}
 
+	/**
+	 * Create a statement that inserts a row or updates the row with the same id if it exists already. The actual
+	 * statement depends on the {@link Dialect}, e.g. {@code MERGE INTO …} or {@code INSERT … ON CONFLICT …}.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the {@link Dialect} does not support upserts.
+	 * @since 3.4
+	 */
+	String getUpsert() {
+		return upsertSql.get();
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE …} statement for a single entity that is not the root of an aggregate. The
+	 * row to update is identified by the columns of the given {@link Identifier}, i.e. back references, qualifiers and
+	 * possibly the id.
+	 *
+	 * @param identifier the columns identifying the row to update. Must not be {@literal null} or empty.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.4
+	 */
+	String getUpdateByIdentifier(Identifier identifier) {
+
+		Table table = getTable();
+		Set<SqlIdentifier> identifierColumns = identifier.toMap().keySet();
+
+		List<AssignValue> assignments = columns.getUpdatableColumns() //
+				.stream() //
+				.filter(columnName -> !identifierColumns.contains(columnName)) //
+				.map(columnName -> Assignments.value( //
+						table.column(columnName), //
+						getBindMarker(columnName))) //
+				.collect(Collectors.toList());
+
+		Update update = Update.builder() //
+				.table(table) //
+				.set(assignments) //
+				.where(buildConditionForBackReference(identifier.toMap().keySet(), table)) //
+				.build();
+
+		return render(update);
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(*) FROM …} statement.
 	 *
@@ -405,6 +592,16 @@ class SqlGenerator {
 		return deleteByIdInSql.get();
 	}
 
+	/**
+	 * Create a {@code DELETE FROM … WHERE id = ANY(:ids)} statement.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.4
+	 */
+	String getDeleteByIdInArray() {
+		return deleteByIdInArraySql.get();
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = … and :___oldOptimisticLockingVersion = ...} statement.
 	 *
@@ -414,6 +611,27 @@ class SqlGenerator {
 		return deleteByIdAndVersionSql.get();
 	}
 
+	/**
+	 * Create a {@code DELETE FROM … WHERE …} statement for a single entity that is not the root of an aggregate. The row
+	 * to delete is identified by the columns of the given {@link Identifier}, i.e. back references, qualifiers and
+	 * possibly the id.
+	 *
+	 * @param identifier the columns identifying the row to delete. Must not be {@literal null} or empty.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.4
+	 */
+	String getDeleteByIdentifier(Identifier identifier) {
+
+		Table table = getTable();
+
+		Delete delete = Delete.builder() //
+				.from(table) //
+				.where(buildConditionForBackReference(identifier.toMap().keySet(), table)) //
+				.build();
+
+		return render(delete);
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :ids in (…)} statement.
 	 *
@@ -467,6 +685,20 @@ class SqlGenerator {
 				filterColumn -> filterColumn.in(getBindMarker(IDS_SQL_PARAMETER)));
 	}
 
+	/**
+	 * Create a {@code DELETE} query and filter by {@link PersistentPropertyPath} using {@code WHERE} with the
+	 * {@code = ANY(…)} operator comparing against an array of ids.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.4
+	 */
+	String createDeleteInArrayByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		return createDeleteByPathAndCriteria(mappingContext.getAggregatePath(path),
+				filterColumn -> isEqualToAny(filterColumn, IDS_SQL_PARAMETER));
+	}
+
 	private String createFindOneSql() {
 
 		Select select = selectBuilder().where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
@@ -506,6 +738,16 @@ class SqlGenerator {
 		return render(selectBuilder().build());
 	}
 
+	private String createFindAllSql(FindAllShape shape) {
+
+		SelectBuilder.SelectOrdered select = selectBuilder();
+		if (shape.limit() >= 0) {
+			select = applyLimitOffset(shape.limit(), shape.offset(), select);
+		}
+
+		return render(select.orderBy(extractOrderByFields(shape.sort())).build());
+	}
+
 	private SelectBuilder.SelectWhere selectBuilder() {
 		return selectBuilder(Collections.emptyList());
 	}
@@ -548,26 +790,22 @@ class SqlGenerator {
 		return (SelectBuilder.SelectWhere) baseSelect;
 	}
 
-	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort,
-			Pageable pageable) {
-
-		SelectBuilder.SelectOrdered sortable = this.selectBuilder(keyColumns);
-		sortable = applyPagination(pageable, sortable);
-		return sortable.orderBy(extractOrderByFields(sort));
-
-	}
-
 	private SelectBuilder.SelectOrdered applyPagination(Pageable pageable, SelectBuilder.SelectOrdered select) {
 
 		if (!pageable.isPaged()) {
 			return select;
 		}
 
+		return applyLimitOffset(pageable.getPageSize(), pageable.getOffset(), select);
+	}
+
+	private SelectBuilder.SelectOrdered applyLimitOffset(int limit, long offset, SelectBuilder.SelectOrdered select) {
+
 		Assert.isTrue(select instanceof SelectBuilder.SelectLimitOffset,
 				() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
 
 		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) select;
-		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(pageable.getPageSize(), pageable.getOffset());
+		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(limit, offset);
 
 		Assert.state(limitResult instanceof SelectBuilder.SelectOrdered, String.format(
 				"The result of applying the limit-clause must be of type SelectOrdered in order to apply the order-by-clause but is of type %s",
@@ -637,6 +875,31 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	private String createFindAllInArraySql() {
+
+		Select select = selectBuilder().where(isEqualToAny(getIdColumn(), IDS_SQL_PARAMETER)).build();
+
+		return render(select);
+	}
+
+	private String createFindVersionsSql(boolean array) {
+
+		Condition condition = array ? isEqualToAny(getIdColumn(), IDS_SQL_PARAMETER)
+				: getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER));
+
+		Select select = StatementBuilder //
+				.select(getIdColumn(), getVersionColumn()) //
+				.from(getTable()) //
+				.where(condition) //
+				.build();
+
+		return render(select);
+	}
+
+	private Condition isEqualToAny(Column column, SqlIdentifier parameter) {
+		return column.isEqualTo(SimpleFunction.create("ANY", List.of(getBindMarker(parameter))));
+	}
+
 	private String createExistsSql() {
 
 		Table table = getTable();
@@ -662,7 +925,7 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
+	private String createInsertSql(Set<SqlIdentifier> additionalColumns, int rows) {
 
 		Table table = getTable();
 
@@ -680,14 +943,36 @@ class SqlGenerator {
 			return render(insert.build());
 		}
 
-		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
-		for (SqlIdentifier cn : columnNamesForInsert) {
-			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
+		if (rows == 1) {
+
+			InsertBuilder.InsertValuesWithBuild insertWithValues = null;
+			for (SqlIdentifier cn : columnNamesForInsert) {
+				insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
+			}
+
+			return render(insertWithValues.build());
+		}
+
+		InsertBuilder.InsertValuesWithBuild insertWithValues = insert.values(getBindMarkers(columnNamesForInsert, 0));
+		for (int row = 1; row < rows; row++) {
+			insertWithValues = insertWithValues.andValues(getBindMarkers(columnNamesForInsert, row));
 		}
 
 		return render(insertWithValues.build());
 	}
 
+	private List<Expression> getBindMarkers(Collection<SqlIdentifier> columnNames, int row) {
+
+		List<Expression> bindMarkers = new ArrayList<>(columnNames.size());
+		for (SqlIdentifier cn : columnNames) {
+
+			String parameterName = BindParameterNameSanitizer.sanitize(renderReference(cn));
+			bindMarkers.add(SQL.bindMarker(":" + getMultiRowParameterName(parameterName, row)));
+		}
+
+		return bindMarkers;
+	}
+
 	private String createUpdateSql() {
 		return render(createBaseUpdate().build());
 	}
@@ -701,6 +986,28 @@ class SqlGenerator {
 		return render(update);
 	}
 
+	private String createUpsertSql() {
+
+		Table table = getTable();
+
+		Set<SqlIdentifier> columnNamesForUpsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForUpsert.add(entity.getIdColumn());
+		columnNamesForUpsert.addAll(columns.getInsertableColumns());
+
+		List<Column> upsertColumns = new ArrayList<>(columnNamesForUpsert.size());
+		List<Expression> values = new ArrayList<>(columnNamesForUpsert.size());
+		for (SqlIdentifier cn : columnNamesForUpsert) {
+
+			upsertColumns.add(table.column(cn));
+			values.add(getBindMarker(cn));
+		}
+
+		List<Column> updateColumns = columns.getUpdatableColumns().stream().map(table::column).toList();
+
+		return render(Upsert.builder().into(table).columns(upsertColumns).values(values).key(getIdColumn())
+				.update(updateColumns).build());
+	}
+
 	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate() {
 
 		Table table = getTable();
@@ -726,6 +1033,15 @@ class SqlGenerator {
 		return render(createBaseDeleteByIdIn(getTable()).build());
 	}
 
+	private String createDeleteByIdInArraySql() {
+
+		Delete delete = Delete.builder().from(getTable()) //
+				.where(isEqualToAny(getIdColumn(), IDS_SQL_PARAMETER)) //
+				.build();
+
+		return render(delete);
+	}
+
 	private String createDeleteByIdAndVersionSql() {
 
 		Delete delete = createBaseDeleteById(getTable()) //
@@ -799,6 +1115,10 @@ class SqlGenerator {
 		return this.sqlRenderer.render(delete);
 	}
 
+	private String render(Upsert upsert) {
+		return this.sqlRenderer.render(upsert);
+	}
+
 	private Table getTable() {
 		return sqlContext.getTable();
 	}
@@ -878,8 +1198,7 @@ class SqlGenerator {
 
 		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
 
-		Select select = applyQueryOnSelect(query, parameterSource, selectBuilder) //
-				.build();
+		Select select = applyLock(query, applyQueryOnSelect(query, parameterSource, selectBuilder));
 
 		return render(select);
 	}
@@ -905,7 +1224,7 @@ class SqlGenerator {
 		selectOrdered = applyPagination(pageable, selectOrdered);
 		selectOrdered = selectOrdered.orderBy(extractOrderByFields(pageable.getSort()));
 
-		Select select = selectOrdered.build();
+		Select select = applyLock(query, selectOrdered);
 		return render(select);
 	}
 
@@ -1037,6 +1356,20 @@ class SqlGenerator {
 		return (SelectBuilder.SelectOrdered) limitable;
 	}
 
+	private static Select applyLock(Query query, SelectBuilder.SelectOrdered selectOrdered) {
+
+		LockMode lockMode = query.getLockMode();
+
+		if (lockMode == null) {
+			return selectOrdered.build();
+		}
+
+		Duration lockWaitTimeout = query.getLockWaitTimeout();
+
+		return (lockWaitTimeout != null ? selectOrdered.lock(lockMode, lockWaitTimeout)
+				: selectOrdered.lock(lockMode, query.getLockWaitPolicy())).build();
+	}
+
 	SelectBuilder.SelectOrdered applyCriteria(@Nullable CriteriaDefinition criteria,
 			SelectBuilder.SelectWhere whereBuilder, MapSqlParameterSource parameterSource, Table table) {
 
@@ -1045,6 +1378,25 @@ class SqlGenerator {
 				: whereBuilder.where(queryMapper.getMappedObject(parameterSource, criteria, table, entity));
 	}
 
+	/**
+	 * Shape of a {@code SELECT} of all aggregate roots. A {@code limit} of {@literal -1} indicates an unpaged statement.
+	 */
+	private record FindAllShape(Sort sort, int limit, long offset) {
+	}
+
+	/**
+	 * Shape of a {@code SELECT} of entities referenced by a parent entity through {@code backReferenceColumns}.
+	 */
+	private record FindAllByPropertyShape(List<SqlIdentifier> backReferenceColumns,
+			@Nullable AggregatePath.ColumnInfo keyColumn, boolean ordered) {
+	}
+
+	/**
+	 * Shape of an {@code INSERT} of {@code rows} rows including {@code additionalColumns}.
+	 */
+	private record InsertShape(Set<SqlIdentifier> additionalColumns, int rows) {
+	}
+
 	/**
 	 * Value object representing a {@code JOIN} association.
 	 */
@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.SQLType;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -26,10 +27,12 @@ import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.dialect.InListStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -99,6 +102,25 @@ public class SqlParametersFactory {
 				RelationalPersistentProperty::isInsertOnly);
 	}
 
+	/**
+	 * Creates the parameters for a SQL update operation of an entity that is not the root of an aggregate.
+	 *
+	 * @param instance the entity to be updated. Must not be {@code null}.
+	 * @param domainType the type of the instance. Must not be {@code null}.
+	 * @param identifier the values identifying the row to update. Namely references back to a parent entity, key/index
+	 *          columns for entities that are stored in a {@link Map} or {@link List} and possibly the id.
+	 * @return the {@link SqlIdentifierParameterSource} for the update. Guaranteed to not be {@code null}.
+	 * @since 3.4
+	 */
+	<T> SqlIdentifierParameterSource forUpdate(T instance, Class<T> domainType, Identifier identifier) {
+
+		SqlIdentifierParameterSource parameterSource = forUpdate(instance, domainType);
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		return parameterSource;
+	}
+
 	/**
 	 * Creates the parameters for a SQL query by id.
 	 *
@@ -130,15 +152,40 @@ public class SqlParametersFactory {
 	 * @since 2.4
 	 */
 	<T> SqlIdentifierParameterSource forQueryByIds(Iterable<?> ids, Class<T> domainType) {
+		return forQueryByIds(ids, domainType, InListStrategy.EXPAND);
+	}
+
+	/**
+	 * Creates the parameters for a SQL query by ids binding the ids according to the given {@link InListStrategy}. Use
+	 * {@link #isBoundAsArray(SqlParameterSource)} to determine whether the statement must compare against an array.
+	 *
+	 * @param ids the entity ids. Must not be {@code null}.
+	 * @param domainType the type of the instance. Must not be {@code null}.
+	 * @param strategy the {@link InListStrategy} to apply. Must not be {@code null}.
+	 * @return the {@link SqlIdentifierParameterSource} for the query. Guaranteed to not be {@code null}.
+	 * @since 3.4
+	 */
+	<T> SqlIdentifierParameterSource forQueryByIds(Iterable<?> ids, Class<T> domainType, InListStrategy strategy) {
 
 		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
 
 		addConvertedPropertyValuesAsList(parameterSource, getRequiredPersistentEntity(domainType).getRequiredIdProperty(),
-				ids);
+				ids, strategy);
 
 		return parameterSource;
 	}
 
+	/**
+	 * Returns whether the ids in the given {@link SqlParameterSource} were bound as a single SQL array.
+	 *
+	 * @param parameterSource must not be {@code null}.
+	 * @return {@literal true} if the ids were bound as an array.
+	 * @since 3.4
+	 */
+	static boolean isBoundAsArray(SqlParameterSource parameterSource) {
+		return parameterSource.getSqlType(SqlGenerator.IDS_SQL_PARAMETER.getReference()) == Types.ARRAY;
+	}
+
 	/**
 	 * Creates the parameters for a SQL query of related entities.
 	 *
@@ -200,7 +247,7 @@ public class SqlParametersFactory {
 	}
 
 	private void addConvertedPropertyValuesAsList(SqlIdentifierParameterSource parameterSource,
-			RelationalPersistentProperty property, Iterable<?> values) {
+			RelationalPersistentProperty property, Iterable<?> values, InListStrategy strategy) {
 
 		List<Object> convertedIds = new ArrayList<>();
 		JdbcValue jdbcValue = null;
@@ -215,10 +262,20 @@ public class SqlParametersFactory {
 
 		Assert.state(jdbcValue != null, "JdbcValue must be not null at this point; Please report this as a bug");
 
+		if (strategy == InListStrategy.ARRAY) {
+
+			JdbcValue array = InListBinding.toArray(converter, convertedIds);
+			if (array != null) {
+
+				parameterSource.addValue(SqlGenerator.IDS_SQL_PARAMETER, array.getValue(), Types.ARRAY);
+				return;
+			}
+		}
+
 		SQLType jdbcType = jdbcValue.getJdbcType();
 		int typeNumber = jdbcType == null ? JdbcUtils.TYPE_UNKNOWN : jdbcType.getVendorTypeNumber();
 
-		parameterSource.addValue(SqlGenerator.IDS_SQL_PARAMETER, convertedIds, typeNumber);
+		parameterSource.addValue(SqlGenerator.IDS_SQL_PARAMETER, InListBinding.pad(strategy, convertedIds), typeNumber);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings applied to the JDBC {@link java.sql.Statement statements} used to run a query: fetch size, maximum number of
+ * rows and query timeout. Settings that are not declared fall back to the ones configured on the {@link JdbcTemplate}
+ * and eventually to the driver defaults. A timeout of a surrounding transaction takes precedence over the query timeout.
+ *
+ * @since 3.4
+ * @see JdbcTemplate#setFetchSize(int)
+ * @see JdbcTemplate#setMaxRows(int)
+ * @see JdbcTemplate#setQueryTimeout(int)
+ */
+public final class StatementSettings {
+
+	private static final StatementSettings NONE = new StatementSettings(-1, -1, null);
+
+	private final int fetchSize;
+	private final int maxRows;
+	private final @Nullable Duration queryTimeout;
+
+	private StatementSettings(int fetchSize, int maxRows, @Nullable Duration queryTimeout) {
+
+		this.fetchSize = fetchSize;
+		this.maxRows = maxRows;
+		this.queryTimeout = queryTimeout;
+	}
+
+	/**
+	 * Returns {@link StatementSettings} that do not declare any setting.
+	 *
+	 * @return empty {@link StatementSettings}.
+	 */
+	public static StatementSettings none() {
+		return NONE;
+	}
+
+	/**
+	 * Create new {@link StatementSettings} declaring the given fetch size.
+	 *
+	 * @param fetchSize the number of rows to fetch when more rows are needed, {@code -1} to not declare a fetch size.
+	 * @return new {@link StatementSettings}.
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	public StatementSettings withFetchSize(int fetchSize) {
+
+		Assert.isTrue(fetchSize >= -1, "Fetch size must be greater or equal to -1");
+
+		return new StatementSettings(fetchSize, this.maxRows, this.queryTimeout);
+	}
+
+	/**
+	 * Create new {@link StatementSettings} declaring the given maximum number of rows.
+	 *
+	 * @param maxRows the maximum number of rows to read, {@code -1} to not declare a limit.
+	 * @return new {@link StatementSettings}.
+	 * @see java.sql.Statement#setMaxRows(int)
+	 */
+	public StatementSettings withMaxRows(int maxRows) {
+
+		Assert.isTrue(maxRows >= -1, "Max rows must be greater or equal to -1");
+
+		return new StatementSettings(this.fetchSize, maxRows, this.queryTimeout);
+	}
+
+	/**
+	 * Create new {@link StatementSettings} declaring the given query timeout. The timeout gets applied in seconds,
+	 * rounding fractions up so that a sub-second timeout does not turn into no timeout.
+	 *
+	 * @param queryTimeout the query timeout, {@literal null} to not declare a timeout.
+	 * @return new {@link StatementSettings}.
+	 * @see java.sql.Statement#setQueryTimeout(int)
+	 */
+	public StatementSettings withQueryTimeout(@Nullable Duration queryTimeout) {
+
+		Assert.isTrue(queryTimeout == null || !queryTimeout.isNegative(), "Query timeout must not be negative");
+
+		return new StatementSettings(this.fetchSize, this.maxRows, queryTimeout);
+	}
+
+	/**
+	 * @return the fetch size or {@code -1} if not declared.
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
+	/**
+	 * @return the maximum number of rows or {@code -1} if not declared.
+	 */
+	public int getMaxRows() {
+		return this.maxRows;
+	}
+
+	/**
+	 * @return the query timeout or {@literal null} if not declared.
+	 */
+	@Nullable
+	public Duration getQueryTimeout() {
+		return this.queryTimeout;
+	}
+
+	/**
+	 * @return the query timeout in seconds rounded up or {@code -1} if not declared.
+	 */
+	int getQueryTimeoutSeconds() {
+
+		if (this.queryTimeout == null) {
+			return -1;
+		}
+
+		long seconds = this.queryTimeout.toSeconds() + (this.queryTimeout.toNanosPart() > 0 ? 1 : 0);
+		return (int) Math.min(seconds, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @return {@literal true} if no setting is declared.
+	 */
+	public boolean isEmpty() {
+		return this.fetchSize == -1 && this.maxRows == -1 && this.queryTimeout == null;
+	}
+
+	/**
+	 * Apply the declared settings to the given {@link Statement}. Settings that are not declared are left untouched.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @throws SQLException if applying a setting fails.
+	 */
+	public void applyTo(Statement statement) throws SQLException {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		if (this.fetchSize != -1) {
+			statement.setFetchSize(this.fetchSize);
+		}
+
+		if (this.maxRows != -1) {
+			statement.setMaxRows(this.maxRows);
+		}
+
+		if (this.queryTimeout != null) {
+			statement.setQueryTimeout(getQueryTimeoutSeconds());
+		}
+	}
+
+	/**
+	 * Return whether these settings can be applied to {@code operations} through
+	 * {@link #applyTo(NamedParameterJdbcOperations)}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @return {@literal true} if no setting is declared or {@code operations} is backed by a {@link JdbcTemplate}.
+	 */
+	public boolean isApplicableTo(NamedParameterJdbcOperations operations) {
+
+		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+
+		return isEmpty() || operations.getJdbcOperations() instanceof JdbcTemplate;
+	}
+
+	/**
+	 * Derive {@link NamedParameterJdbcOperations} that apply these settings to each statement. The derived operations
+	 * use a copy of the {@link JdbcTemplate} backing {@code operations}, sharing its {@link javax.sql.DataSource} and
+	 * thereby participating in the same transactions. Returns {@code operations} as-is if no setting is declared.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @return operations applying these settings.
+	 * @throws IllegalStateException if settings are declared and {@code operations} is not backed by a
+	 *           {@link JdbcTemplate}.
+	 * @see #isApplicableTo(NamedParameterJdbcOperations)
+	 */
+	public NamedParameterJdbcOperations applyTo(NamedParameterJdbcOperations operations) {
+
+		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+
+		if (isEmpty()) {
+			return operations;
+		}
+
+		JdbcOperations jdbcOperations = operations.getJdbcOperations();
+
+		Assert.state(jdbcOperations instanceof JdbcTemplate,
+				() -> String.format("Statement settings require a JdbcTemplate but found %s", jdbcOperations));
+
+		JdbcTemplate template = (JdbcTemplate) jdbcOperations;
+		JdbcTemplate copy = new JdbcTemplate();
+
+		copy.setDataSource(template.getDataSource());
+		copy.setExceptionTranslator(template.getExceptionTranslator());
+		copy.setIgnoreWarnings(template.isIgnoreWarnings());
+		copy.setSkipResultsProcessing(template.isSkipResultsProcessing());
+		copy.setSkipUndeclaredResults(template.isSkipUndeclaredResults());
+		copy.setResultsMapCaseInsensitive(template.isResultsMapCaseInsensitive());
+		copy.setFetchSize(this.fetchSize != -1 ? this.fetchSize : template.getFetchSize());
+		copy.setMaxRows(this.maxRows != -1 ? this.maxRows : template.getMaxRows());
+		copy.setQueryTimeout(this.queryTimeout != null ? getQueryTimeoutSeconds() : template.getQueryTimeout());
+
+		NamedParameterJdbcTemplate namedParameterTemplate = new NamedParameterJdbcTemplate(copy);
+
+		if (operations instanceof NamedParameterJdbcTemplate original) {
+			namedParameterTemplate.setCacheLimit(original.getCacheLimit());
+		}
+
+		return namedParameterTemplate;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof StatementSettings that)) {
+			return false;
+		}
+
+		return this.fetchSize == that.fetchSize && this.maxRows == that.maxRows
+				&& Objects.equals(this.queryTimeout, that.queryTimeout);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.fetchSize, this.maxRows, this.queryTimeout);
+	}
+
+	@Override
+	public String toString() {
+		return "StatementSettings{fetchSize=" + this.fetchSize + ", maxRows=" + this.maxRows + ", queryTimeout="
+				+ this.queryTimeout + '}';
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented observations recorded by Spring Data JDBC while executing aggregate changes and loading aggregates.
+ * Observations are only recorded if a non-noop {@link io.micrometer.observation.ObservationRegistry} is configured.
+ * Low cardinality keys are suitable to be used as metric tags and allow breaking down timers and counters per aggregate
+ * type.
+ *
+ * @since 3.4
+ */
+public enum JdbcObservation implements ObservationDocumentation {
+
+	/**
+	 * Execution of a complete save or delete of an aggregate (or a batch of aggregates) including all of its actions.
+	 */
+	AGGREGATE_CHANGE {
+
+		@Override
+		public String getName() {
+			return "spring.data.jdbc.aggregate.change";
+		}
+
+		@Override
+		public String getContextualName() {
+			return "aggregate change";
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return new KeyName[] { LowCardinalityKeys.AGGREGATE_TYPE, LowCardinalityKeys.CHANGE_KIND,
+					LowCardinalityKeys.OUTCOME };
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return new KeyName[] { HighCardinalityKeys.ACTION_COUNT };
+		}
+	},
+
+	/**
+	 * Execution of a single {@link org.springframework.data.relational.core.conversion.DbAction}, such as an insert, a
+	 * batch of updates, a delete or the acquisition of a lock.
+	 */
+	DB_ACTION {
+
+		@Override
+		public String getName() {
+			return "spring.data.jdbc.action";
+		}
+
+		@Override
+		public String getContextualName() {
+			return "db action";
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return new KeyName[] { LowCardinalityKeys.AGGREGATE_TYPE, LowCardinalityKeys.ENTITY_TYPE,
+					LowCardinalityKeys.ACTION, LowCardinalityKeys.OUTCOME };
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return new KeyName[] { HighCardinalityKeys.BATCH_SIZE };
+		}
+	},
+
+	/**
+	 * Loading of aggregates, recording whether Single Query Loading or the fallback strategy issuing one query per
+	 * relation was used.
+	 */
+	AGGREGATE_READ {
+
+		@Override
+		public String getName() {
+			return "spring.data.jdbc.read";
+		}
+
+		@Override
+		public String getContextualName() {
+			return "aggregate read";
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return new KeyName[] { LowCardinalityKeys.AGGREGATE_TYPE, LowCardinalityKeys.OPERATION,
+					LowCardinalityKeys.READ_PATH, LowCardinalityKeys.OUTCOME };
+		}
+	};
+
+	/**
+	 * Outcome of an observed operation.
+	 */
+	public static final String OUTCOME_SUCCESS = "success";
+
+	/**
+	 * Outcome of an operation that failed due to an optimistic locking conflict.
+	 */
+	public static final String OUTCOME_OPTIMISTIC_LOCK_FAILURE = "optimistic-lock-failure";
+
+	/**
+	 * Outcome of an operation that failed for any other reason.
+	 */
+	public static final String OUTCOME_ERROR = "error";
+
+	/**
+	 * Read path using Single Query Loading.
+	 */
+	public static final String READ_PATH_SINGLE_QUERY = "single-query";
+
+	/**
+	 * Read path using the fallback strategy.
+	 */
+	public static final String READ_PATH_FALLBACK = "fallback";
+
+	/**
+	 * Low cardinality keys.
+	 */
+	public enum LowCardinalityKeys implements KeyName {
+
+		/**
+		 * Simple name of the aggregate root type.
+		 */
+		AGGREGATE_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.aggregate.type";
+			}
+		},
+
+		/**
+		 * Simple name of the entity type an action operates on.
+		 */
+		ENTITY_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.entity.type";
+			}
+		},
+
+		/**
+		 * Kind of aggregate change, {@code save} or {@code delete}.
+		 */
+		CHANGE_KIND {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.change.kind";
+			}
+		},
+
+		/**
+		 * Simple name of the executed {@link org.springframework.data.relational.core.conversion.DbAction} type, e.g.
+		 * {@code InsertRoot}, {@code BatchInsert} or {@code AcquireLockRoot}.
+		 */
+		ACTION {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.action";
+			}
+		},
+
+		/**
+		 * Read operation, e.g. {@code findById} or {@code findAll}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.operation";
+			}
+		},
+
+		/**
+		 * Read path chosen to load aggregates, {@code single-query} or {@code fallback}.
+		 */
+		READ_PATH {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.read.path";
+			}
+		},
+
+		/**
+		 * Outcome of the operation, {@code success}, {@code optimistic-lock-failure} or {@code error}.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.outcome";
+			}
+		}
+	}
+
+	/**
+	 * High cardinality keys.
+	 */
+	public enum HighCardinalityKeys implements KeyName {
+
+		/**
+		 * Number of statements combined in a batch action. {@code 1} for non-batch actions.
+		 */
+		BATCH_SIZE {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.batch.size";
+			}
+		},
+
+		/**
+		 * Number of actions executed as part of an aggregate change.
+		 */
+		ACTION_COUNT {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.action.count";
+			}
+		}
+	}
+}
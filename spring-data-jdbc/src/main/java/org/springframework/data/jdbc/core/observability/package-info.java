@@ -0,0 +1,7 @@
+/**
+ * Micrometer Observation support for Spring Data JDBC.
+ */
+@NonNullApi
+package org.springframework.data.jdbc.core.observability;
+
+import org.springframework.lang.NonNullApi;
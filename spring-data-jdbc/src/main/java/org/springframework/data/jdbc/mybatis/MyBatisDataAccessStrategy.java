@@ -17,12 +17,17 @@ package org.springframework.data.jdbc.mybatis;
 
 import static java.util.Arrays.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -89,13 +94,17 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		SqlParametersFactory sqlParametersFactory = new SqlParametersFactory(context, converter);
 		InsertStrategyFactory insertStrategyFactory = new InsertStrategyFactory(operations, dialect);
 
-		DataAccessStrategy defaultDataAccessStrategy = new DataAccessStrategyFactory( //
+		DataAccessStrategyFactory factory = new DataAccessStrategyFactory( //
 				sqlGeneratorSource, //
 				converter, //
 				operations, //
 				sqlParametersFactory, //
 				insertStrategyFactory //
-		).create();
+		);
+
+		// relations must be resolved one by one so that findAllByPath statements defined in MyBatis are considered
+		factory.setBatchRelationLoadingEnabled(false);
+		DataAccessStrategy defaultDataAccessStrategy = factory.create();
 
 		// the DefaultDataAccessStrategy needs a reference to the returned DataAccessStrategy. This creates a dependency
 		// cycle. In order to create it, we need something that allows to defer closing the cycle until all the elements are
@@ -168,6 +177,20 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().update(statement, parameter) != 0;
 	}
 
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		sqlSession().update(namespace(domainType) + ".upsert",
+				new MyBatisContext(null, instance, domainType, Collections.emptyMap()));
+	}
+
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Identifier identifier) {
+
+		return sqlSession().update(namespace(domainType) + ".updateByIdentifier",
+				new MyBatisContext(identifier, instance, domainType)) != 0;
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
@@ -176,6 +199,14 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		sqlSession().delete(statement, parameter);
 	}
 
+	@Override
+	public void delete(Identifier identifier, Class<?> domainType) {
+
+		String statement = namespace(domainType) + ".deleteByIdentifier";
+		MyBatisContext parameter = new MyBatisContext(identifier, null, domainType);
+		sqlSession().delete(statement, parameter);
+	}
+
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
 		ids.forEach(id -> delete(id, domainType));
@@ -263,6 +294,14 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().selectList(statement, parameter);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		String statement = namespace(domainType) + ".findAll";
+		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
+		return stream(sqlSession().selectCursor(statement, parameter));
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 		return sqlSession().selectList(namespace(domainType) + ".findAllById",
@@ -296,6 +335,15 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+
+		Map<String, Object> additionalContext = new HashMap<>();
+		additionalContext.put("sort", sort);
+		return stream(sqlSession().selectCursor(namespace(domainType) + ".findAllSorted",
+				new MyBatisContext(null, null, domainType, additionalContext)));
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
 
@@ -315,6 +363,11 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> probeType) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> probeType, Pageable pageable) {
 		throw new UnsupportedOperationException("Not implemented");
@@ -338,6 +391,21 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().selectOne(statement, parameter);
 	}
 
+	/**
+	 * Expose a MyBatis {@link Cursor} as {@link Stream} closing the cursor when the stream is closed. Cursors require an
+	 * open {@link SqlSession} and therefore must be consumed within a transaction.
+	 */
+	private static <T> Stream<T> stream(Cursor<T> cursor) {
+
+		return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> {
+			try {
+				cursor.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
 	private String namespace(Class<?> domainType) {
 		return this.namespaceStrategy.getNamespace(domainType);
 	}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.repository.config;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -191,7 +193,11 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	public JdbcAggregateTemplate jdbcAggregateTemplate(ApplicationContext applicationContext,
 			JdbcMappingContext mappingContext, JdbcConverter converter, DataAccessStrategy dataAccessStrategy) {
 
-		return new JdbcAggregateTemplate(applicationContext, mappingContext, converter, dataAccessStrategy);
+		JdbcAggregateTemplate template = new JdbcAggregateTemplate(applicationContext, mappingContext, converter,
+				dataAccessStrategy);
+		template.setObservationRegistry(getObservationRegistry());
+
+		return template;
 	}
 
 	/**
@@ -209,6 +215,7 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 		DataAccessStrategyFactory factory = new DataAccessStrategyFactory(sqlGeneratorSource, jdbcConverter, operations,
 				new SqlParametersFactory(context, jdbcConverter),
 				new InsertStrategyFactory(operations, dialect));
+		factory.setObservationRegistry(getObservationRegistry());
 
 		return factory.create();
 	}
@@ -227,6 +234,22 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 		return DialectResolver.getDialect(operations.getJdbcOperations());
 	}
 
+	/**
+	 * Returns the {@link ObservationRegistry} used to observe aggregate operations. Uses the {@link ObservationRegistry}
+	 * bean if one is registered in the application context, otherwise observations are not recorded.
+	 *
+	 * @return the {@link ObservationRegistry} to use. Never {@literal null}.
+	 * @since 3.4
+	 */
+	protected ObservationRegistry getObservationRegistry() {
+
+		if (applicationContext == null) {
+			return ObservationRegistry.NOOP;
+		}
+
+		return applicationContext.getBeanProvider(ObservationRegistry.class).getIfUnique(() -> ObservationRegistry.NOOP);
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
@@ -23,6 +23,7 @@ import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.jdbc.core.convert.StatementSettings;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -64,7 +65,11 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
 
 		this.queryMethod = queryMethod;
-		this.operations = operations;
+
+		StatementSettings settings = queryMethod.getStatementSettings();
+
+		// operations not backed by a JdbcTemplate only apply settings to streams, see streamQuery(…)
+		this.operations = settings.isApplicableTo(operations) ? settings.applyTo(operations) : operations;
 	}
 
 	@Override
@@ -142,7 +147,16 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	}
 
 	private <T> JdbcQueryExecution<Stream<T>> streamQuery(RowMapper<T> rowMapper) {
-		return (query, parameters) -> operations.queryForStream(query, parameters, rowMapper);
+
+		StatementSettings settings = queryMethod.getStatementSettings();
+
+		if (settings.isApplicableTo(operations)) {
+			return (query, parameters) -> operations.queryForStream(query, parameters, rowMapper);
+		}
+
+		// operations not backed by a JdbcTemplate did not get the settings applied
+		return (query, parameters) -> operations.getJdbcOperations()
+				.queryForStream(new QueryHintsPreparedStatementCreator(query, parameters, settings), rowMapper);
 	}
 
 	private <T> JdbcQueryExecution<T> createSingleReadingQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
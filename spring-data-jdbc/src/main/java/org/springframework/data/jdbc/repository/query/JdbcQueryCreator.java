@@ -15,12 +15,18 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMapper;
@@ -32,7 +38,9 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetScrollSupport;
 import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
@@ -73,6 +81,8 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final boolean isSliceQuery;
 	private final ReturnedType returnedType;
 	private final Optional<Lock> lockMode;
+	private final @Nullable ScrollPosition scrollPosition;
+	private final Set<String> keysetProperties;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -90,6 +100,28 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
 			ReturnedType returnedType, Optional<Lock> lockMode) {
+		this(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType, lockMode, null);
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
+	 * {@link RelationalEntityMetadata} and {@link RelationalParameterAccessor} for a query that returns a
+	 * {@link org.springframework.data.domain.Window} starting at {@link ScrollPosition}.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param isSliceQuery flag denoting if the query returns a {@link org.springframework.data.domain.Slice}.
+	 * @param returnedType the {@link ReturnedType} to be returned by the query. Must not be {@literal null}.
+	 * @param scrollPosition the position to scroll from, {@literal null} if the query is not a scroll query.
+	 * @since 3.4
+	 */
+	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
+			ReturnedType returnedType, Optional<Lock> lockMode, @Nullable ScrollPosition scrollPosition) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
@@ -102,11 +134,16 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		this.accessor = accessor;
 
 		this.entityMetadata = entityMetadata;
-		this.queryMapper = new QueryMapper(converter);
+		this.queryMapper = new QueryMapper(converter, dialect.getInListStrategy());
 		this.renderContextFactory = new RenderContextFactory(dialect);
 		this.isSliceQuery = isSliceQuery;
 		this.returnedType = returnedType;
 		this.lockMode = lockMode;
+		this.scrollPosition = scrollPosition;
+		this.keysetProperties = scrollPosition instanceof KeysetScrollPosition keyset
+				? KeysetScrollSupport.getRequiredProperties(KeysetScrollSupport
+						.getSort(tree.getSort().and(accessor.getSort()), keyset, entityMetadata.getTableEntity()))
+				: Collections.emptySet();
 	}
 
 	/**
@@ -166,22 +203,43 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		Table table = Table.create(entityMetadata.getTableName());
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 
+		if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+			sort = KeysetScrollSupport.getSort(sort, keyset, entity);
+			Criteria keysetCriteria = KeysetScrollSupport.createCriteria(sort, keyset);
+
+			if (keysetCriteria != null) {
+				criteria = criteria == null ? keysetCriteria : Criteria.from(criteria, keysetCriteria);
+			}
+		}
+
+		Condition condition = criteria != null ? queryMapper.getMappedObject(parameterSource, criteria, table, entity)
+				: null;
+		Sort sortToUse = sort;
+
+		// parameters are bound right away, the select is only built and rendered when the query gets accessed
+		return new ParametrizedQuery(() -> render(condition, sortToUse, entity, table), parameterSource);
+	}
+
+	private String render(@Nullable Condition condition, Sort sort, RelationalPersistentEntity<?> entity, Table table) {
+
 		SelectBuilder.SelectLimitOffset limitOffsetBuilder = createSelectClause(entity, table);
 		SelectBuilder.SelectWhere whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
-		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(criteria, entity, table, parameterSource,
-				whereBuilder);
+		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(condition, whereBuilder);
 		selectOrderBuilder = applyOrderBy(sort, entity, table, selectOrderBuilder);
 
 		SelectBuilder.BuildSelect completedBuildSelect = selectOrderBuilder;
 		if (this.lockMode.isPresent()) {
-			completedBuildSelect = selectOrderBuilder.lock(this.lockMode.get().value());
+
+			Lock lock = this.lockMode.get();
+			completedBuildSelect = lock.waitTimeout() > 0
+					? selectOrderBuilder.lock(lock.value(), Duration.ofSeconds(lock.waitTimeout()))
+					: selectOrderBuilder.lock(lock.value(), lock.waitPolicy());
 		}
 
 		Select select = completedBuildSelect.build();
 
-		String sql = SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
-
-		return new ParametrizedQuery(sql, parameterSource);
+		return SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
 	}
 
 	SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
@@ -192,12 +250,8 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				: selectOrdered;
 	}
 
-	SelectBuilder.SelectOrdered applyCriteria(@Nullable Criteria criteria, RelationalPersistentEntity<?> entity,
-			Table table, MapSqlParameterSource parameterSource, SelectBuilder.SelectWhere whereBuilder) {
-
-		return criteria != null //
-				? whereBuilder.where(queryMapper.getMappedObject(parameterSource, criteria, table, entity)) //
-				: whereBuilder;
+	SelectBuilder.SelectOrdered applyCriteria(@Nullable Condition condition, SelectBuilder.SelectWhere whereBuilder) {
+		return condition != null ? whereBuilder.where(condition) : whereBuilder;
 	}
 
 	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
@@ -214,6 +268,18 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 					.offset(pageable.getOffset());
 		}
 
+		if (scrollPosition != null) {
+
+			int limit = getScrollLimit(tree, accessor);
+			if (limit > 0) {
+				limitOffsetBuilder = limitOffsetBuilder.limit(limit + 1);
+			}
+
+			if (scrollPosition instanceof OffsetScrollPosition offset && !offset.isInitial()) {
+				limitOffsetBuilder = limitOffsetBuilder.offset(offset.getOffset() + 1);
+			}
+		}
+
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
 	}
 
@@ -246,7 +312,10 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 			AggregatePath aggregatePath = context.getAggregatePath(path);
 
 			if (returnedType.needsCustomConstruction()) {
-				if (!returnedType.getInputProperties().contains(aggregatePath.getRequiredBaseProperty().getName())) {
+
+				// keyset scrolling requires the sort properties to determine the position of each element
+				String property = aggregatePath.getRequiredBaseProperty().getName();
+				if (!returnedType.getInputProperties().contains(property) && !keysetProperties.contains(property)) {
 					continue;
 				}
 			}
@@ -17,11 +17,13 @@ package org.springframework.data.jdbc.repository.query;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.jdbc.core.convert.StatementSettings;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -269,6 +271,41 @@ public class JdbcQueryMethod extends QueryMethod {
 		return doFindAnnotation(Lock.class);
 	}
 
+	/**
+	 * Returns the fetch size declared through {@link QueryHints#fetchSize()}.
+	 *
+	 * @return the fetch size or {@code -1} to use the driver default.
+	 * @since 3.4
+	 */
+	public int getFetchSize() {
+		return getStatementSettings().getFetchSize();
+	}
+
+	/**
+	 * Returns the {@link StatementSettings} declared through {@link QueryHints}.
+	 *
+	 * @return the declared {@link StatementSettings}, {@link StatementSettings#none()} if the method is not annotated.
+	 * @since 3.4
+	 */
+	public StatementSettings getStatementSettings() {
+
+		return lookupQueryHintsAnnotation() //
+				.map(hints -> StatementSettings.none() //
+						.withFetchSize(hints.fetchSize()) //
+						.withMaxRows(hints.maxRows()) //
+						.withQueryTimeout(hints.timeout() != -1 ? Duration.ofSeconds(hints.timeout()) : null)) //
+				.orElse(StatementSettings.none());
+	}
+
+	/**
+	 * Looks up the {@link QueryHints} annotation from the query method.
+	 *
+	 * @return the {@link Optional} wrapped {@link QueryHints} annotation.
+	 */
+	Optional<QueryHints> lookupQueryHintsAnnotation() {
+		return doFindAnnotation(QueryHints.class);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A extends Annotation> Optional<A> doFindAnnotation(Class<A> annotationType) {
 
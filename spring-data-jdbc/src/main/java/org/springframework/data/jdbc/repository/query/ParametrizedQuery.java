@@ -15,7 +15,10 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.util.function.Supplier;
+
 import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.data.util.Lazy;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
@@ -28,17 +31,44 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
  */
 class ParametrizedQuery {
 
-	private final String query;
+	private final Lazy<String> query;
 	private final SqlParameterSource parameterSource;
 
 	ParametrizedQuery(String query, SqlParameterSource parameterSource) {
+		this(Lazy.of(query), parameterSource);
+	}
+
+	/**
+	 * Creates a new {@link ParametrizedQuery} rendering the query on first access.
+	 *
+	 * @param query supplier rendering the query.
+	 * @param parameterSource parameters to bind.
+	 * @since 3.4
+	 */
+	ParametrizedQuery(Supplier<String> query, SqlParameterSource parameterSource) {
+		this(Lazy.of(query), parameterSource);
+	}
+
+	private ParametrizedQuery(Lazy<String> query, SqlParameterSource parameterSource) {
 
 		this.query = query;
 		this.parameterSource = parameterSource;
 	}
 
+	/**
+	 * Return a {@link ParametrizedQuery} using the given query with the parameters of this one. The given query must bind
+	 * the same parameters, which is the case for a query rendered for the same query shape.
+	 *
+	 * @param query the query to use.
+	 * @return a new {@link ParametrizedQuery}.
+	 * @since 3.4
+	 */
+	ParametrizedQuery withQuery(String query) {
+		return new ParametrizedQuery(query, parameterSource);
+	}
+
 	String getQuery() {
-		return query;
+		return query.get();
 	}
 
 	SqlParameterSource getParameterSource(Escaper escaper) {
@@ -47,6 +77,6 @@ class ParametrizedQuery {
 
 	@Override
 	public String toString() {
-		return this.query;
+		return getQuery();
 	}
 }
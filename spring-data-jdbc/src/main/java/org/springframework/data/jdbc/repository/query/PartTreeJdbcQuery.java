@@ -21,22 +21,32 @@ import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.KeysetScrollSupport;
+import org.springframework.data.relational.repository.query.QueryShape;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
+import org.springframework.data.relational.repository.query.RelationalQueryCreator;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -49,6 +59,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * An {@link AbstractJdbcQuery} implementation based on a {@link PartTree}.
@@ -61,12 +72,22 @@ import org.springframework.util.Assert;
  */
 public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
+	/**
+	 * Maximum number of rendered SQL statements retained per query method and statement kind, evicting the least recently
+	 * used ones.
+	 */
+	static final int COMPILED_QUERY_CACHE_LIMIT = 256;
+
 	private final RelationalMappingContext context;
 	private final Parameters<?, ?> parameters;
 	private final Dialect dialect;
 	private final JdbcConverter converter;
 	private final CachedRowMapperFactory cachedRowMapperFactory;
 	private final PartTree tree;
+	private final ConcurrentLruCache<QueryShape, AtomicReference<String>> compiledQueries = new ConcurrentLruCache<>(
+			COMPILED_QUERY_CACHE_LIMIT, shape -> new AtomicReference<>());
+	private final ConcurrentLruCache<QueryShape, AtomicReference<String>> compiledCountQueries = new ConcurrentLruCache<>(
+			COMPILED_QUERY_CACHE_LIMIT, shape -> new AtomicReference<>());
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -112,6 +133,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
 		JdbcQueryCreator.validate(this.tree, this.parameters, this.converter.getMappingContext());
+		queryMethod.lookupLockAnnotation().ifPresent(lock -> RelationalQueryCreator.validate(lock, dialect.lock()));
 
 		this.cachedRowMapperFactory = new CachedRowMapperFactory(tree, rowMapperFactory, converter,
 				queryMethod.getResultProcessor());
@@ -142,6 +164,24 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 				? () -> cachedRowMapperFactory.getRowMapper(processor)
 				: cachedRowMapperFactory;
 
+		if (getQueryMethod().isScrollQuery()) {
+
+			ScrollPosition scrollPosition = accessor.getScrollPosition();
+			Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+			RelationalPersistentEntity<?> entity = getQueryMethod().getEntityInformation().getTableEntity();
+			Sort sort = tree.getSort().and(getDynamicSort(accessor));
+
+			// positions are obtained from the entities, projections are applied to the resulting window
+			ScrollQueryExecution<Object> scrollExecution = new ScrollQueryExecution<>(
+					collectionQuery(cachedRowMapperFactory.getEntityRowMapper()), scrollPosition,
+					RelationalQueryCreator.getScrollLimit(tree, accessor), sort, entity);
+			Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
+					converter.getMappingContext(), converter.getEntityInstantiators());
+
+			return (query, parameter) -> resultProcessingConverter.convert(scrollExecution.execute(query, parameter));
+		}
+
 		JdbcQueryExecution<?> queryExecution = getJdbcQueryExecution(extractor, rowMapper);
 
 		if (getQueryMethod().isSliceQuery()) {
@@ -158,7 +198,9 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 						JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect,
 								entityMetadata, accessor, false, processor.getReturnedType(), getQueryMethod().lookupLockAnnotation());
 
-						ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted());
+						ParametrizedQuery countQuery = createQuery(compiledCountQueries,
+								QueryShape.of(accessor, Sort.unsorted(), Pageable.unpaged(), Limit.unlimited(), Object.class),
+								queryCreator, Sort.unsorted());
 						Object count = singleObjectQuery((rs, i) -> rs.getLong(1)).execute(countQuery.getQuery(),
 								countQuery.getParameterSource(dialect.getLikeEscaper()));
 
@@ -174,8 +216,39 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
-				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation());
-		return queryCreator.createQuery(getDynamicSort(accessor));
+				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation(),
+				getQueryMethod().isScrollQuery() ? accessor.getScrollPosition() : null);
+		Sort dynamicSort = getDynamicSort(accessor);
+
+		// keyset criteria and offsets of scroll queries depend on the actual scroll position
+		if (getQueryMethod().isScrollQuery()) {
+			return queryCreator.createQuery(dynamicSort);
+		}
+
+		return createQuery(compiledQueries, QueryShape.of(accessor, dynamicSort, accessor.getPageable(),
+				accessor.getLimit(), returnedType.getReturnedType()), queryCreator, dynamicSort);
+	}
+
+	/**
+	 * Create a {@link ParametrizedQuery} reusing the SQL rendered for the same {@link QueryShape}. This caches rendering
+	 * only: criteria creation, value conversion and parameter binding through {@link JdbcQueryCreator} still happen on
+	 * each invocation, because bind values and parameter names result from mapping the actual arguments. For known shapes
+	 * the {@code Select} is neither built nor rendered. The SQL of new shapes is rendered and retained for the
+	 * {@link #COMPILED_QUERY_CACHE_LIMIT most recently used} shapes.
+	 */
+	private static ParametrizedQuery createQuery(ConcurrentLruCache<QueryShape, AtomicReference<String>> compiledQueries,
+			QueryShape shape, JdbcQueryCreator queryCreator, Sort dynamicSort) {
+
+		ParametrizedQuery query = queryCreator.createQuery(dynamicSort);
+		AtomicReference<String> compiledQuery = compiledQueries.get(shape);
+
+		String sql = compiledQuery.get();
+		if (sql != null) {
+			return query.withQuery(sql);
+		}
+
+		compiledQuery.compareAndSet(null, query.getQuery());
+		return query;
 	}
 
 	private JdbcQueryExecution<?> getJdbcQueryExecution(@Nullable ResultSetExtractor<Boolean> extractor,
@@ -227,6 +300,53 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		}
 	}
 
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Window} for {@link OffsetScrollPosition offset} and
+	 * {@link KeysetScrollPosition keyset} scrolling. The query is expected to fetch one element more than {@code limit}
+	 * to determine whether there are further elements.
+	 *
+	 * @param <T>
+	 * @since 3.4
+	 */
+	static class ScrollQueryExecution<T> implements JdbcQueryExecution<Window<T>> {
+
+		private final JdbcQueryExecution<? extends Collection<T>> delegate;
+		private final ScrollPosition scrollPosition;
+		private final int limit;
+		private final Sort sort;
+		private final RelationalPersistentEntity<?> entity;
+
+		ScrollQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, ScrollPosition scrollPosition,
+				int limit, Sort sort, RelationalPersistentEntity<?> entity) {
+
+			this.delegate = delegate;
+			this.scrollPosition = scrollPosition;
+			this.limit = limit;
+			this.sort = sort;
+			this.entity = entity;
+		}
+
+		@Override
+		public Window<T> execute(String query, SqlParameterSource parameter) {
+
+			Collection<T> result = delegate.execute(query, parameter);
+			List<T> resultList = result instanceof List ? (List<T>) result : new ArrayList<>(result);
+
+			if (scrollPosition instanceof KeysetScrollPosition keyset) {
+				return KeysetScrollSupport.createWindow(resultList, limit, keyset,
+						KeysetScrollSupport.getSort(sort, keyset, entity), entity);
+			}
+
+			if (scrollPosition instanceof OffsetScrollPosition offset) {
+
+				boolean hasNext = limit > 0 && resultList.size() > limit;
+				return Window.from(hasNext ? resultList.subList(0, limit) : resultList, offset.positionFunction(), hasNext);
+			}
+
+			throw new UnsupportedOperationException("ScrollPosition " + scrollPosition + " not supported");
+		}
+	}
+
 	/**
 	 * {@link JdbcQueryExecution} returning a {@link org.springframework.data.domain.Page}.
 	 *
@@ -263,6 +383,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	class CachedRowMapperFactory implements Supplier<RowMapper<?>> {
 
 		private final Lazy<RowMapper<?>> rowMapper;
+		private final Lazy<RowMapper<Object>> entityRowMapper;
 		private final Function<ResultProcessor, RowMapper<?>> rowMapperFunction;
 
 		public CachedRowMapperFactory(PartTree tree, RowMapperFactory rowMapperFactory, RelationalConverter converter,
@@ -280,6 +401,8 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 			};
 
 			this.rowMapper = Lazy.of(() -> this.rowMapperFunction.apply(defaultResultProcessor));
+			this.entityRowMapper = Lazy
+					.of(() -> rowMapperFactory.create(defaultResultProcessor.getReturnedType().getDomainType()));
 		}
 
 		@Override
@@ -295,5 +418,13 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 			return rowMapperFunction.apply(resultProcessor);
 		}
 
+		/**
+		 * @return the {@link RowMapper} reading the domain type without applying projections.
+		 * @since 3.4
+		 */
+		public RowMapper<Object> getEntityRowMapper() {
+			return entityRowMapper.get();
+		}
+
 	}
 }
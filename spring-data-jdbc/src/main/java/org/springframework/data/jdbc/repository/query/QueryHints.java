@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to tune the JDBC {@link java.sql.Statement} used to execute a query method. Applies to derived queries as
+ * well as to queries declared through {@link Query}. Hints that are not declared fall back to the settings of the
+ * underlying {@link org.springframework.jdbc.core.JdbcTemplate}. Methods not returning a
+ * {@link java.util.stream.Stream} ignore the hints if the {@code NamedParameterJdbcOperations} are not backed by a
+ * {@link org.springframework.jdbc.core.JdbcTemplate}.
+ * <p>
+ * Methods returning {@link java.util.stream.Stream} consume the result while it is read from the database. Declaring
+ * a {@link #fetchSize()} lets the driver fetch rows in chunks instead of buffering the entire result. Some drivers
+ * (e.g. PostgreSQL) only honor the fetch size within a transaction.
+ *
+ * @since 3.4
+ * @see org.springframework.data.jdbc.core.convert.StatementSettings
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface QueryHints {
+
+	/**
+	 * Number of rows to fetch from the database when more rows are needed.
+	 *
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	int fetchSize() default -1;
+
+	/**
+	 * Maximum number of rows the query may return. Additional rows are silently dropped.
+	 *
+	 * @see java.sql.Statement#setMaxRows(int)
+	 */
+	int maxRows() default -1;
+
+	/**
+	 * Query timeout in seconds. A timeout of a surrounding transaction takes precedence.
+	 *
+	 * @see java.sql.Statement#setQueryTimeout(int)
+	 */
+	int timeout() default -1;
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.data.jdbc.core.convert.StatementSettings;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link PreparedStatementCreator} for a SQL statement with named parameters that applies the {@link QueryHints} of a
+ * query method, represented as {@link StatementSettings}, to the created {@link PreparedStatement}.
+ *
+ * @since 3.4
+ */
+class QueryHintsPreparedStatementCreator implements PreparedStatementCreator, ParameterDisposer, SqlProvider {
+
+	private final PreparedStatementCreator delegate;
+	private final String sql;
+	private final StatementSettings settings;
+
+	QueryHintsPreparedStatementCreator(String sql, SqlParameterSource parameterSource, StatementSettings settings) {
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+		Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+
+		this.delegate = new PreparedStatementCreatorFactory(sqlToUse, declaredParameters)
+				.newPreparedStatementCreator(values);
+		this.sql = sqlToUse;
+		this.settings = settings;
+	}
+
+	@Override
+	public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+
+		PreparedStatement statement = this.delegate.createPreparedStatement(con);
+		this.settings.applyTo(statement);
+
+		return statement;
+	}
+
+	@Override
+	public void cleanupParameters() {
+
+		if (this.delegate instanceof ParameterDisposer disposer) {
+			disposer.cleanupParameters();
+		}
+	}
+
+	@Override
+	@Nullable
+	public String getSql() {
+		return this.sql;
+	}
+}
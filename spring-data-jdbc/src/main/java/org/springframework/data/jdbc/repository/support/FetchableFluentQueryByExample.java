@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +33,7 @@ import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.repository.query.RelationalExampleMapper;
 import org.springframework.util.Assert;
@@ -47,19 +49,23 @@ class FetchableFluentQueryByExample<S, R> extends FluentQuerySupport<S, R> {
 
 	private final RelationalExampleMapper exampleMapper;
 	private final JdbcAggregateOperations entityOperations;
+	private final RelationalMappingContext mappingContext;
 
 	FetchableFluentQueryByExample(Example<S> example, Class<R> resultType, RelationalExampleMapper exampleMapper,
-			JdbcAggregateOperations entityOperations) {
-		this(example, Sort.unsorted(), 0, resultType, Collections.emptyList(), exampleMapper, entityOperations);
+			JdbcAggregateOperations entityOperations, RelationalMappingContext mappingContext) {
+		this(example, Sort.unsorted(), 0, resultType, Collections.emptyList(), exampleMapper, entityOperations,
+				mappingContext);
 	}
 
 	FetchableFluentQueryByExample(Example<S> example, Sort sort, int limit, Class<R> resultType,
-			List<String> fieldsToInclude, RelationalExampleMapper exampleMapper, JdbcAggregateOperations entityOperations) {
+			List<String> fieldsToInclude, RelationalExampleMapper exampleMapper, JdbcAggregateOperations entityOperations,
+			RelationalMappingContext mappingContext) {
 
 		super(example, sort, limit, resultType, fieldsToInclude);
 
 		this.exampleMapper = exampleMapper;
 		this.entityOperations = entityOperations;
+		this.mappingContext = mappingContext;
 	}
 
 	@Override
@@ -81,6 +87,16 @@ class FetchableFluentQueryByExample<S, R> extends FluentQuerySupport<S, R> {
 		return findAll(createQuery().sort(getSort()));
 	}
 
+	private List<S> findAllEntities(Query query) {
+
+		Iterable<S> raw = this.entityOperations.findAll(query, getExampleType());
+
+		List<S> result = new ArrayList<>(raw instanceof Collection<?> collection ? collection.size() : 16);
+		raw.forEach(result::add);
+
+		return result;
+	}
+
 	private List<R> findAll(Query query) {
 
 		Function<Object, R> conversionFunction = this.getConversionFunction();
@@ -115,6 +131,20 @@ class FetchableFluentQueryByExample<S, R> extends FluentQuerySupport<S, R> {
 			return ScrollDelegate.scroll(query, this::findAll, osp);
 		}
 
+		if (scrollPosition instanceof KeysetScrollPosition ksp) {
+
+			Query query = createQuery().sort(getSort());
+
+			if (getLimit() > 0) {
+				query = query.limit(getLimit());
+			}
+
+			Window<S> window = ScrollDelegate.scroll(query, this::findAllEntities, ksp,
+					mappingContext.getRequiredPersistentEntity(getExampleType()));
+
+			return window.map(getConversionFunction()::apply);
+		}
+
 		return super.scroll(scrollPosition);
 	}
 
@@ -167,6 +197,6 @@ class FetchableFluentQueryByExample<S, R> extends FluentQuerySupport<S, R> {
 			List<String> fieldsToInclude) {
 
 		return new FetchableFluentQueryByExample<>(example, sort, limit, resultType, fieldsToInclude, this.exampleMapper,
-				this.entityOperations);
+				this.entityOperations, this.mappingContext);
 	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.repository.support;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.Optional;
 
 import org.springframework.beans.factory.BeanFactory;
@@ -61,6 +63,7 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private EntityCallbacks entityCallbacks;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -120,6 +123,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			template.setEntityCallbacks(entityCallbacks);
 		}
 
+		template.setObservationRegistry(observationRegistry);
+
 		RelationalPersistentEntity<?> persistentEntity = context
 				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
 
@@ -148,6 +153,20 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Configure the {@link ObservationRegistry} used by repositories to observe aggregate changes. Observations are not
+	 * recorded by default.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 3.4
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
 	/**
 	 * @param beanFactory the {@link BeanFactory} used for looking up {@link org.springframework.jdbc.core.RowMapper} and
 	 *          {@link org.springframework.jdbc.core.ResultSetExtractor} beans.
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.repository.support;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.io.Serializable;
 
 import org.springframework.beans.factory.BeanFactory;
@@ -61,6 +63,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -90,6 +93,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
 		jdbcRepositoryFactory.setBeanFactory(beanFactory);
+		jdbcRepositoryFactory.setObservationRegistry(observationRegistry);
 
 		return jdbcRepositoryFactory;
 	}
@@ -166,6 +170,15 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 			this.operations = beanFactory.getBean(NamedParameterJdbcOperations.class);
 		}
 
+		if (beanFactory != null) {
+
+			ObservationRegistry registry = beanFactory.getBeanProvider(ObservationRegistry.class).getIfUnique();
+
+			if (registry != null) {
+				this.observationRegistry = registry;
+			}
+		}
+
 		if (this.dataAccessStrategy == null) {
 
 			Assert.state(beanFactory != null, "If no DataAccessStrategy is set a BeanFactory must be available");
@@ -182,6 +195,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 
 						DataAccessStrategyFactory factory = new DataAccessStrategyFactory(sqlGeneratorSource, this.converter,
 								this.operations, sqlParametersFactory, insertStrategyFactory);
+						factory.setObservationRegistry(this.observationRegistry);
 
 						return factory.create();
 					});
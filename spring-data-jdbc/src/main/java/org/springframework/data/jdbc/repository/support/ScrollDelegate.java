@@ -19,9 +19,12 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.KeysetScrollSupport;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.util.Assert;
 
@@ -60,6 +63,40 @@ public class ScrollDelegate {
 		throw new UnsupportedOperationException("ScrollPosition " + scrollPosition + " not supported");
 	}
 
+	/**
+	 * Run the {@link Query} and return a scroll {@link Window}. {@link KeysetScrollPosition} is translated into a filter
+	 * on the sort properties of {@code query} so that the database can seek to the start of the window instead of
+	 * skipping rows.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param queryFunction function to run the resulting {@link Query}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @param entity the queried entity. Must not be {@literal null}.
+	 * @return the scroll {@link Window}.
+	 * @since 3.4
+	 */
+	public static <T> Window<T> scroll(Query query, Function<Query, List<T>> queryFunction,
+			ScrollPosition scrollPosition, RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+		if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+			Query keysetQuery = KeysetScrollSupport.createQuery(query, keyset, entity);
+
+			int limit = keysetQuery.getLimit();
+			if (limit > 0 && limit != Integer.MAX_VALUE) {
+				keysetQuery = keysetQuery.limit(limit + 1);
+			}
+
+			List<T> result = queryFunction.apply(keysetQuery);
+
+			return KeysetScrollSupport.createWindow(result, limit, keyset, keysetQuery.getSort(), entity);
+		}
+
+		return scroll(query, queryFunction, scrollPosition);
+	}
+
 	private static <T> Window<T> createWindow(List<T> result, int limit,
 			IntFunction<? extends ScrollPosition> positionFunction) {
 		return Window.from(getFirst(limit, result), positionFunction, hasMoreElements(result, limit));
@@ -25,6 +25,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.repository.query.RelationalExampleMapper;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -50,6 +51,7 @@ public class SimpleJdbcRepository<T, ID>
 	private final JdbcAggregateOperations entityOperations;
 	private final PersistentEntity<T, ?> entity;
 	private final RelationalExampleMapper exampleMapper;
+	private final RelationalMappingContext mappingContext;
 
 	public SimpleJdbcRepository(JdbcAggregateOperations entityOperations, PersistentEntity<T, ?> entity,
 			JdbcConverter converter) {
@@ -60,6 +62,7 @@ public class SimpleJdbcRepository<T, ID>
 		this.entityOperations = entityOperations;
 		this.entity = entity;
 		this.exampleMapper = new RelationalExampleMapper(converter.getMappingContext());
+		this.mappingContext = converter.getMappingContext();
 	}
 
 	@Transactional
@@ -196,7 +199,7 @@ public class SimpleJdbcRepository<T, ID>
 		Assert.notNull(queryFunction, "Query function must not be null");
 
 		FluentQuery.FetchableFluentQuery<S> fluentQuery = new FetchableFluentQueryByExample<>(example,
-				example.getProbeType(), this.exampleMapper, this.entityOperations);
+				example.getProbeType(), this.exampleMapper, this.entityOperations, this.mappingContext);
 
 		return queryFunction.apply(fluentQuery);
 	}
@@ -27,6 +27,7 @@ import java.util.*;
 import java.util.ArrayList;
 import java.util.function.Function;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,7 @@ import org.springframework.data.domain.Persistable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.StatementSettings;
 import org.springframework.data.jdbc.testing.EnabledOnFeature;
 import org.springframework.data.jdbc.testing.IntegrationTest;
 import org.springframework.data.jdbc.testing.TestClass;
@@ -238,6 +240,56 @@ abstract class AbstractJdbcAggregateTemplateIntegrationTests {
 		assertThat(reloadedById).extracting(e -> e.id, e -> e.content.size()).containsExactly(tuple(two.id, 2));
 	}
 
+	@Test
+	void streamAllByQuery() {
+
+		template.save(SimpleListParent.of("one", "one_1"));
+		SimpleListParent two = template.save(SimpleListParent.of("two", "two_1", "two_2"));
+		template.save(SimpleListParent.of("three", "three_1", "three_2", "three_3"));
+
+		Query query = Query.query(Criteria.where("id").is(two.id));
+
+		try (Stream<SimpleListParent> reloaded = template.streamAll(query, SimpleListParent.class)) {
+			assertThat(reloaded).extracting(e -> e.id, e -> e.content.size()).containsExactly(tuple(two.id, 2));
+		}
+	}
+
+	@Test
+	void streamAllAssemblesEachAggregate() {
+
+		SimpleListParent one = template.save(SimpleListParent.of("one", "one_1"));
+		SimpleListParent two = template.save(SimpleListParent.of("two", "two_1", "two_2"));
+		SimpleListParent three = template.save(SimpleListParent.of("three", "three_1", "three_2", "three_3"));
+
+		try (Stream<SimpleListParent> reloaded = template.streamAll(SimpleListParent.class)) {
+			assertThat(reloaded).extracting(e -> e.id, e -> e.content.size()).containsExactlyInAnyOrder(tuple(one.id, 1),
+					tuple(two.id, 2), tuple(three.id, 3));
+		}
+	}
+
+	@Test
+	void streamAllOfEmptyTable() {
+
+		try (Stream<SimpleListParent> reloaded = template.streamAll(SimpleListParent.class)) {
+			assertThat(reloaded).isEmpty();
+		}
+	}
+
+	@Test
+	void findAllAssignsReferencedEntitiesToTheirAggregate() {
+
+		SimpleListParent one = template.save(SimpleListParent.of("one", "one_1"));
+		SimpleListParent empty = template.save(SimpleListParent.of("empty"));
+		SimpleListParent three = template.save(SimpleListParent.of("three", "three_1", "three_2", "three_3"));
+
+		Iterable<SimpleListParent> reloaded = template.findAllById(List.of(one.id, empty.id, three.id),
+				SimpleListParent.class);
+
+		assertThat(reloaded).extracting(e -> e.id, e -> e.content.stream().map(it -> it.content).toList())
+				.containsExactlyInAnyOrder(tuple(one.id, List.of("one_1")), tuple(empty.id, List.of()),
+						tuple(three.id, List.of("three_1", "three_2", "three_3")));
+	}
+
 	@Test // GH-1601
 	void findOneByQuery() {
 
@@ -323,6 +375,18 @@ abstract class AbstractJdbcAggregateTemplateIntegrationTests {
 				.containsExactly("Frozen", "Lava", "Star");
 	}
 
+	@Test
+	void streamManyEntitiesWithReferencedEntitySorted() {
+
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+		template.save(createLegoSet("Frozen"));
+
+		try (Stream<LegoSet> reloadedLegoSets = template.streamAll(LegoSet.class, Sort.by("name"))) {
+			assertThat(reloadedLegoSets).extracting("name").containsExactly("Frozen", "Lava", "Star");
+		}
+	}
+
 	@Test // DATAJDBC-101
 	void saveAndLoadManyEntitiesWithReferencedEntitySortedAndPaged() {
 
@@ -477,6 +541,40 @@ abstract class AbstractJdbcAggregateTemplateIntegrationTests {
 		AggregateWithImmutableVersion.clearConstructorInvocationData();
 	}
 
+	@Test
+	void updateAllByAggregateRootsWithStaleVersionFails() {
+
+		List<AggregateWithImmutableVersion> saved = new ArrayList<>();
+		template.insertAll(List.of(new AggregateWithImmutableVersion(null, null),
+				new AggregateWithImmutableVersion(null, null))).forEach(saved::add);
+
+		AggregateWithImmutableVersion stale = saved.get(1);
+		template.save(stale);
+
+		assertThatThrownBy(() -> template.updateAll(List.of(saved.get(0), stale)))
+				.isInstanceOf(OptimisticLockingFailureException.class);
+
+		AggregateWithImmutableVersion.clearConstructorInvocationData();
+	}
+
+	@Test
+	void updateAllAggregateRootsWithReferences() {
+
+		LegoSet legoSet1 = createLegoSet("Star Destroyer");
+		LegoSet legoSet2 = createLegoSet("Millennium Falcon");
+		template.saveAll(List.of(legoSet1, legoSet2));
+
+		legoSet1.name = "Super Star Destroyer";
+		legoSet1.manual.content = "new content";
+		legoSet2.name = "Slave I";
+
+		template.saveAll(List.of(legoSet1, legoSet2));
+
+		assertThat(template.findAll(LegoSet.class)).extracting(l -> l.name)
+				.containsExactlyInAnyOrder("Super Star Destroyer", "Slave I");
+		assertThat(template.findById(legoSet1.id, LegoSet.class).manual.content).isEqualTo("new content");
+	}
+
 	@Test // DATAJDBC-112
 	@EnabledOnFeature(SUPPORTS_GENERATED_IDS_IN_REFERENCED_ENTITIES)
 	void updateReferencedEntityFromNull() {
@@ -649,6 +747,25 @@ abstract class AbstractJdbcAggregateTemplateIntegrationTests {
 		assertThat(reloaded.content).extracting(e -> e.content).containsExactly("content");
 	}
 
+	@Test
+	void updateWithPreviousStateWritesOnlyDifferences() {
+
+		SimpleListParent saved = template.save(SimpleListParent.of("name", "one", "two", "three"));
+
+		SimpleListParent previous = template.findById(saved.id, SimpleListParent.class);
+		SimpleListParent changed = template.findById(saved.id, SimpleListParent.class);
+		changed.content.get(1).content = "2";
+		changed.content.remove(2);
+		ElementNoId added = new ElementNoId();
+		added.content = "added";
+		changed.content.add(added);
+
+		template.update(changed, previous);
+
+		SimpleListParent reloaded = template.findById(saved.id, SimpleListParent.class);
+		assertThat(reloaded.content).extracting(e -> e.content).containsExactly("one", "2", "added");
+	}
+
 	@Test // GH-498 DATAJDBC-273
 	void saveAndLoadAnEntityWithListOfElementsInConstructor() {
 
@@ -943,6 +1060,17 @@ abstract class AbstractJdbcAggregateTemplateIntegrationTests {
 		assertThat(count("NO_ID_LIST_CHAIN0")).describedAs("Chain0 elements got deleted").isEqualTo(0);
 	}
 
+	@Test
+	void saveAndLoadManyLongChainsOfMapsWithoutIds() {
+
+		NoIdMapChain4 first = template.save(createNoIdMapTree());
+		NoIdMapChain4 second = template.save(createNoIdMapTree());
+
+		Iterable<NoIdMapChain4> reloaded = template.findAll(NoIdMapChain4.class);
+
+		assertThat(reloaded).containsExactlyInAnyOrder(first, second);
+	}
+
 	@Test
 	// DATAJDBC-223
 	void saveAndLoadLongChainOfMapsWithoutIds() {
@@ -1338,6 +1466,46 @@ abstract class AbstractJdbcAggregateTemplateIntegrationTests {
 		assertThat(reloaded).isEqualTo(saved);
 	}
 
+	@Test
+	void upsertInsertsAndUpdatesAggregate() {
+
+		First inserted = template.upsert(new First(1L, "first", new Sec(2L, "second", Set.of(new Third("third")))));
+
+		assertThat(template.findById(1L, First.class)).isEqualTo(inserted);
+
+		First updated = template.upsert(new First(1L, "first-updated",
+				new Sec(2L, "second-updated", Set.of(new Third("third-0"), new Third("third-1")))));
+
+		assertThat(template.count(First.class)).isEqualTo(1);
+		assertThat(template.findById(1L, First.class)).isEqualTo(updated);
+	}
+
+	@Test
+	void upsertAllInsertsAndUpdatesAggregates() {
+
+		template.insert(new First(1L, "first", new Sec(2L, "second", Set.of(new Third("third")))));
+
+		template.upsertAll(List.of(new First(1L, "first-updated", new Sec(2L, "second", Set.of())),
+				new First(3L, "third", new Sec(4L, "fourth", Set.of(new Third("fifth"))))));
+
+		assertThat(template.findAll(First.class)).extracting(First::name).containsExactlyInAnyOrder("first-updated",
+				"third");
+		assertThat(template.findById(1L, First.class).sec().thirds()).isEmpty();
+	}
+
+	@Test
+	void statementSettingsLimitAggregateRootsButNotTheirRelations() {
+
+		template.insert(new First(1L, "first", new Sec(2L, "second", Set.of(new Third("a"), new Third("b")))));
+		template.insert(new First(3L, "third", new Sec(4L, "fourth", Set.of(new Third("c"), new Third("d")))));
+
+		JdbcAggregateTemplate limited = ((JdbcAggregateTemplate) template)
+				.withStatementSettings(StatementSettings.none().withMaxRows(1).withFetchSize(10));
+
+		assertThat(limited.findAll(First.class)).hasSize(1).allSatisfy(first -> assertThat(first.sec().thirds()).hasSize(2));
+		assertThat(template.findAll(First.class)).hasSize(2);
+	}
+
 	@Test // GH-1802
 	void singleEntitySetChain() {
 
@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
@@ -190,6 +192,51 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(root.id).isNull();
 	}
 
+	@Test
+	void batchUpdateRootOperation() {
+
+		DummyEntity root2 = new DummyEntity();
+		root.id = 1L;
+		root2.id = 2L;
+		when(accessStrategy.updateAll(List.of(root, root2), DummyEntity.class)).thenReturn(new boolean[] { true, true });
+
+		executionContext.executeBatchUpdateRoot(new DbAction.BatchUpdateRoot<>(
+				List.of(new DbAction.UpdateRoot<>(root, null), new DbAction.UpdateRoot<>(root2, null))));
+
+		assertThat(executionContext.populateIdsIfNecessary()).containsExactly(root, root2);
+	}
+
+	@Test
+	void batchUpdateRootOperation_failsWhenRowNotUpdated() {
+
+		DummyEntity root2 = new DummyEntity();
+		root.id = 1L;
+		root2.id = 2L;
+		when(accessStrategy.updateAll(List.of(root, root2), DummyEntity.class)).thenReturn(new boolean[] { true, false });
+
+		DbAction.BatchUpdateRoot<DummyEntity> batchUpdate = new DbAction.BatchUpdateRoot<>(
+				List.of(new DbAction.UpdateRoot<>(root, null), new DbAction.UpdateRoot<>(root2, null)));
+
+		assertThatExceptionOfType(IncorrectUpdateSemanticsDataAccessException.class)
+				.isThrownBy(() -> executionContext.executeBatchUpdateRoot(batchUpdate)).withMessageContaining("Id [2]");
+	}
+
+	@Test
+	void batchUpdateRootOperation_failsWithOptimisticLockingWhenVersionedRowNotUpdated() {
+
+		DummyEntity root2 = new DummyEntity();
+		root.id = 1L;
+		root2.id = 2L;
+		when(accessStrategy.updateAllWithVersion(List.of(root, root2), DummyEntity.class, List.of(1, 3)))
+				.thenReturn(new boolean[] { false, true });
+
+		DbAction.BatchUpdateRoot<DummyEntity> batchUpdate = new DbAction.BatchUpdateRoot<>(
+				List.of(new DbAction.UpdateRoot<>(root, 1), new DbAction.UpdateRoot<>(root2, 3)));
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> executionContext.executeBatchUpdateRoot(batchUpdate));
+	}
+
 	@Test // GH-1201
 	void updates_whenReferencesWithImmutableIdAreInserted() {
 
@@ -20,6 +20,10 @@ import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,15 +31,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.cache.LocalAggregateCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.observability.JdbcObservation;
+import org.springframework.data.jdbc.core.observability.JdbcObservation.HighCardinalityKeys;
+import org.springframework.data.jdbc.core.observability.JdbcObservation.LowCardinalityKeys;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
@@ -47,7 +56,9 @@ import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -254,6 +265,94 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(aggregateChange.getPreviousVersion()).isEqualTo(1L);
 	}
 
+	@Test
+	void saveRecordsObservations() {
+
+		List<Observation.Context> observations = new ArrayList<>();
+		template.setObservationRegistry(observationRegistry(observations));
+
+		SampleEntity first = new SampleEntity(null, "Alfred");
+		SampleEntity second = new SampleEntity(23L, "Alfred E.");
+		SampleEntity third = new SampleEntity(23L, "Neumann");
+
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(second, third);
+
+		template.save(first);
+
+		assertThat(observations).extracting(Observation.Context::getName).containsExactly(
+				JdbcObservation.DB_ACTION.getName(), JdbcObservation.AGGREGATE_CHANGE.getName());
+
+		Observation.Context action = observations.get(0);
+		assertThat(action.getLowCardinalityKeyValue(LowCardinalityKeys.AGGREGATE_TYPE.asString()).getValue())
+				.isEqualTo("SampleEntity");
+		assertThat(action.getLowCardinalityKeyValue(LowCardinalityKeys.ACTION.asString()).getValue())
+				.isEqualTo("InsertRoot");
+		assertThat(action.getLowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.asString()).getValue())
+				.isEqualTo(JdbcObservation.OUTCOME_SUCCESS);
+		assertThat(action.getHighCardinalityKeyValue(HighCardinalityKeys.BATCH_SIZE.asString()).getValue()).isEqualTo("1");
+
+		Observation.Context change = observations.get(1);
+		assertThat(change.getLowCardinalityKeyValue(LowCardinalityKeys.CHANGE_KIND.asString()).getValue())
+				.isEqualTo("save");
+		assertThat(change.getLowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.asString()).getValue())
+				.isEqualTo(JdbcObservation.OUTCOME_SUCCESS);
+	}
+
+	@Test
+	void actionObservationsAreChildrenOfAggregateChangeObservation() {
+
+		List<Observation.Context> observations = new ArrayList<>();
+		ObservationRegistry registry = observationRegistry(observations);
+		template.setObservationRegistry(registry);
+
+		List<Observation> currentObservations = new ArrayList<>();
+		when(dataAccessStrategy.insert(any(), any(Class.class), any(), any())).thenAnswer(invocation -> {
+
+			currentObservations.add(registry.getCurrentObservation());
+			return null;
+		});
+
+		SampleEntity first = new SampleEntity(null, "Alfred");
+		SampleEntity second = new SampleEntity(23L, "Alfred E.");
+
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(second, second);
+
+		template.save(first);
+
+		assertThat(observations).hasSize(2);
+		Observation.Context action = observations.get(0);
+		Observation.Context change = observations.get(1);
+
+		assertThat(action.getParentObservation()).isNotNull();
+		assertThat(action.getParentObservation().getContextView()).isSameAs(change);
+		assertThat(change.getParentObservation()).isNull();
+
+		assertThat(currentObservations).hasSize(1);
+		assertThat(currentObservations.get(0).getContextView()).isSameAs(action);
+	}
+
+	@Test
+	void observesOptimisticLockingFailure() {
+
+		List<Observation.Context> observations = new ArrayList<>();
+		template.setObservationRegistry(observationRegistry(observations));
+
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(false);
+		EntityWithVersion entity = new EntityWithVersion(1L);
+		entity.setVersion(1L);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenReturn(entity, entity);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() -> template.save(entity));
+
+		assertThat(observations).hasSize(2).allSatisfy(it -> {
+			assertThat(it.getLowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.asString()).getValue())
+					.isEqualTo(JdbcObservation.OUTCOME_OPTIMISTIC_LOCK_FAILURE);
+			assertThat(it.getError()).isInstanceOf(OptimisticLockingFailureException.class);
+		});
+		assertThat(observations.get(0).getLowCardinalityKeyValue(LowCardinalityKeys.ACTION.asString()).getValue())
+				.isEqualTo("UpdateRoot");
+	}
+
 	@Test // DATAJDBC-393
 	void callbackOnDelete() {
 
@@ -337,6 +436,131 @@ public class JdbcAggregateTemplateUnitTests {
 		template.deleteAllById(emptyList(), SampleEntity.class);
 	}
 
+	@Test
+	void upsertDelegatesToDataAccessStrategy() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(alfred);
+
+		assertThat(template.upsert(alfred)).isSameAs(alfred);
+
+		verify(dataAccessStrategy).upsert(alfred, SampleEntity.class);
+		verify(dataAccessStrategy, never()).update(any(), any());
+		verify(dataAccessStrategy, never()).insert(any(), any(), any(), any());
+	}
+
+	@Test
+	void upsertRejectsVersionedAggregates() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template.upsert(new EntityWithVersion(23L)));
+		verifyNoInteractions(dataAccessStrategy);
+	}
+
+	@Test
+	void upsertRejectsAggregateWithoutId() {
+
+		SampleEntity alfred = new SampleEntity(null, "Alfred");
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(alfred);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template.upsert(alfred));
+		verifyNoInteractions(dataAccessStrategy);
+	}
+
+	@Test
+	void findByIdServesCachedAggregate() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(alfred);
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(alfred);
+
+		template.setAggregateCache(new LocalAggregateCache(10));
+
+		assertThat(template.findById(23L, SampleEntity.class)).isSameAs(alfred);
+		assertThat(template.findById(23L, SampleEntity.class)).isSameAs(alfred);
+
+		verify(dataAccessStrategy, times(1)).findById(23L, SampleEntity.class);
+		verify(callbacks, times(2)).callback(AfterConvertCallback.class, alfred);
+	}
+
+	@Test
+	void findByIdBypassesCacheWithinTransaction() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(alfred);
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(alfred);
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+		cache.put(SampleEntity.class, 42L, new SampleEntity(42L, "Neumann"));
+		template.setAggregateCache(cache);
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+
+			assertThat(template.findById(23L, SampleEntity.class)).isSameAs(alfred);
+			template.findById(42L, SampleEntity.class);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		assertThat(cache.get(SampleEntity.class, 23L)).isNull();
+		verify(dataAccessStrategy).findById(42L, SampleEntity.class);
+	}
+
+	@Test
+	void findByIdCachesAggregateUnderConvertedId() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		when(dataAccessStrategy.findById(23, SampleEntity.class)).thenReturn(alfred);
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(alfred);
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+		template.setAggregateCache(cache);
+
+		template.findById(23, SampleEntity.class);
+
+		assertThat(cache.get(SampleEntity.class, 23L)).isSameAs(alfred);
+
+		template.deleteById(23, SampleEntity.class);
+
+		assertThat(cache.get(SampleEntity.class, 23L)).isNull();
+	}
+
+	@Test
+	void saveEvictsCachedAggregate() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+		cache.put(SampleEntity.class, 23L, new SampleEntity(23L, "Alfred"));
+		template.setAggregateCache(cache);
+
+		SampleEntity neumann = new SampleEntity(23L, "Neumann");
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenReturn(neumann);
+		when(dataAccessStrategy.update(neumann, SampleEntity.class)).thenReturn(true);
+
+		template.save(neumann);
+
+		assertThat(cache.get(SampleEntity.class, 23L)).isNull();
+	}
+
+	@Test
+	void deleteEvictsCachedAggregates() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+		cache.put(SampleEntity.class, 23L, new SampleEntity(23L, "Alfred"));
+		cache.put(SampleEntity.class, 42L, new SampleEntity(42L, "Neumann"));
+		cache.put(EntityWithVersion.class, 23L, new EntityWithVersion(23L));
+		template.setAggregateCache(cache);
+
+		template.deleteById(23L, SampleEntity.class);
+
+		assertThat(cache.get(SampleEntity.class, 23L)).isNull();
+		assertThat(cache.get(SampleEntity.class, 42L)).isNotNull();
+
+		template.deleteAll(SampleEntity.class);
+
+		assertThat(cache.get(SampleEntity.class, 42L)).isNull();
+		assertThat(cache.get(EntityWithVersion.class, 23L)).isNotNull();
+	}
+
 	@Test // GH-1502
 	void saveThrowsExceptionWhenIdIsNotSet() {
 
@@ -369,6 +593,25 @@ public class JdbcAggregateTemplateUnitTests {
 				.withMessage("Required identifier property not found for class %s".formatted(NoIdEntity.class.getName()));
 	}
 
+	private static ObservationRegistry observationRegistry(List<Observation.Context> observations) {
+
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public void onStop(Observation.Context context) {
+				observations.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+
+		return registry;
+	}
+
 	private static class SampleEntity {
 
 		@Column("id1")
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LocalAggregateCache}.
+ */
+class LocalAggregateCacheUnitTests {
+
+	@Test
+	void returnsCachedAggregate() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+		cache.put(String.class, 1L, "one");
+
+		assertThat(cache.get(String.class, 1L)).isEqualTo("one");
+		assertThat(cache.get(String.class, 2L)).isNull();
+		assertThat(cache.get(Object.class, 1L)).isNull();
+	}
+
+	@Test
+	void loadsAndCachesMissingAggregate() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+
+		assertThat(cache.get(String.class, 1L, () -> "one")).isEqualTo("one");
+		assertThat(cache.get(String.class, 1L, () -> "other")).isEqualTo("one");
+		assertThat(cache.get(String.class, 2L, () -> null)).isNull();
+		assertThat(cache.size()).isOne();
+	}
+
+	@Test
+	void doesNotCacheAggregateEvictedWhileLoading() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+
+		assertThat(cache.get(String.class, 1L, () -> {
+			cache.evict(String.class, 1L);
+			return "stale";
+		})).isEqualTo("stale");
+
+		assertThat(cache.get(String.class, 1L)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void doesNotCacheAnythingWhenLoadingFails() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+
+		assertThatIllegalStateException().isThrownBy(() -> cache.get(String.class, 1L, () -> {
+			throw new IllegalStateException();
+		}));
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedAggregateWhenExceedingMaximumSize() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(2);
+		cache.put(String.class, 1L, "one");
+		cache.put(String.class, 2L, "two");
+
+		cache.get(String.class, 1L);
+		cache.put(String.class, 3L, "three");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(String.class, 1L)).isEqualTo("one");
+		assertThat(cache.get(String.class, 2L)).isNull();
+		assertThat(cache.get(String.class, 3L)).isEqualTo("three");
+	}
+
+	@Test
+	void expiresAggregatesAfterTimeToLive() {
+
+		MutableClock clock = new MutableClock();
+		LocalAggregateCache cache = new LocalAggregateCache(10, Duration.ofMinutes(1), clock);
+		cache.put(String.class, 1L, "one");
+
+		clock.advance(Duration.ofSeconds(59));
+		assertThat(cache.get(String.class, 1L)).isEqualTo("one");
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(cache.get(String.class, 1L)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void evictsByIdAndType() {
+
+		LocalAggregateCache cache = new LocalAggregateCache(10);
+		cache.put(String.class, 1L, "one");
+		cache.put(String.class, 2L, "two");
+		cache.put(Integer.class, 1L, 1);
+
+		cache.evict(String.class, 1L);
+		assertThat(cache.get(String.class, 1L)).isNull();
+		assertThat(cache.get(String.class, 2L)).isEqualTo("two");
+
+		cache.evictAll(String.class);
+		assertThat(cache.get(String.class, 2L)).isNull();
+		assertThat(cache.get(Integer.class, 1L)).isEqualTo(1);
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void rejectsInvalidConfiguration() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new LocalAggregateCache(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> new LocalAggregateCache(10, Duration.ZERO));
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+	}
+}
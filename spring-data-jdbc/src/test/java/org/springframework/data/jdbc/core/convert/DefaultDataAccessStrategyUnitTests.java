@@ -16,20 +16,31 @@
 package org.springframework.data.jdbc.core.convert;
 
 import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.RowDocument;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -72,7 +83,7 @@ class DefaultDataAccessStrategyUnitTests {
 
 		when(sqlParametersFactory.forInsert(any(), any(), any(), any())).thenReturn(new SqlIdentifierParameterSource());
 		when(insertStrategyFactory.insertStrategy(any(), any())).thenReturn(mock(InsertStrategy.class));
-		when(insertStrategyFactory.batchInsertStrategy(any(), any())).thenReturn(mock(BatchInsertStrategy.class));
+		when(insertStrategyFactory.batchInsertStrategy(any(), any(), any())).thenReturn(mock(BatchInsertStrategy.class));
 	}
 
 	@Test // GH-1159
@@ -89,7 +100,8 @@ class DefaultDataAccessStrategyUnitTests {
 		accessStrategy.insert(singletonList(InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID), Identifier.empty())),
 				DummyEntity.class, IdValueSource.PROVIDED);
 
-		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.PROVIDED, SqlIdentifier.quoted("ID"));
+		verify(insertStrategyFactory).batchInsertStrategy(eq(IdValueSource.PROVIDED), eq(SqlIdentifier.quoted("ID")),
+				any());
 	}
 
 	@Test // GH-1159
@@ -108,7 +120,89 @@ class DefaultDataAccessStrategyUnitTests {
 				singletonList(InsertSubject.describedBy(new DummyEntityWithoutIdAnnotation(ORIGINAL_ID), Identifier.empty())),
 				DummyEntityWithoutIdAnnotation.class, IdValueSource.GENERATED);
 
-		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.GENERATED, null);
+		verify(insertStrategyFactory).batchInsertStrategy(eq(IdValueSource.GENERATED), isNull(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void loadsRelationsOfMultipleAggregatesWithSingleQuery() {
+
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(List.of(RowDocument.of("id", 1L), RowDocument.of("id", 2L), RowDocument.of("id", 3L)));
+
+		Iterable<ParentEntity> parents = accessStrategy.findAll(ParentEntity.class);
+
+		assertThat(parents).extracting(it -> it.id).containsExactly(1L, 2L, 3L);
+		verify(namedJdbcOperations).query(contains("IN (:ids)"), nullable(SqlParameterSource.class),
+				any(RowCallbackHandler.class));
+		verify(namedJdbcOperations, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void updateAllConsidersRowsUpdatedWhenDriverReportsNoInfo() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> updateParameters());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, 1 });
+
+		boolean[] updated = accessStrategy.updateAll(List.of(new EntityWithName(1L, "one"), new EntityWithName(2L, "two")),
+				EntityWithName.class);
+
+		assertThat(updated).containsExactly(true, true);
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void updateAllDoesNotConsiderFailedRowsUpdated() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> updateParameters());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.EXECUTE_FAILED, 0, 1 });
+
+		boolean[] updated = accessStrategy.updateAll(
+				List.of(new EntityWithName(1L, "one"), new EntityWithName(2L, "two"), new EntityWithName(3L, "three")),
+				EntityWithName.class);
+
+		assertThat(updated).containsExactly(false, false, true);
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void updateAllWithVersionChecksCurrentVersionsWithSingleQueryWhenDriverReportsNoInfo() throws SQLException {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> updateParameters());
+		when(sqlParametersFactory.forQueryByIds(any(), any(), any())).thenReturn(new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1 });
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getObject(1)).thenReturn(1L, 2L);
+		when(resultSet.getLong(2)).thenReturn(3L, 4L);
+		doAnswer(invocation -> {
+
+			RowCallbackHandler handler = invocation.getArgument(2);
+			handler.processRow(resultSet);
+			handler.processRow(resultSet);
+			return null;
+		}).when(namedJdbcOperations).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(
+				List.of(new VersionedEntity(1L, 3L), new VersionedEntity(2L, 5L), new VersionedEntity(3L, 7L)),
+				VersionedEntity.class, List.of(2L, 4L, 6L));
+
+		assertThat(updated).containsExactly(true, false, true);
+		verify(sqlParametersFactory).forQueryByIds(eq(List.of(1L, 2L)), eq(VersionedEntity.class), any());
+		verify(namedJdbcOperations).query(contains("IN (:ids)"), any(SqlParameterSource.class),
+				any(RowCallbackHandler.class));
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	private static SqlIdentifierParameterSource updateParameters() {
+
+		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource();
+		parameters.addValue(SqlIdentifier.quoted("ID"), 1L);
+		parameters.addValue(SqlIdentifier.quoted("NAME"), "name");
+		return parameters;
 	}
 
 	private static class DummyEntity {
@@ -120,6 +214,22 @@ class DefaultDataAccessStrategyUnitTests {
 		}
 	}
 
+	private record EntityWithName(@Id Long id, String name) {
+	}
+
+	private record VersionedEntity(@Id Long id, @Version Long version) {
+	}
+
+	private static class ParentEntity {
+
+		@Id Long id;
+		List<ChildEntity> children;
+	}
+
+	private static class ChildEntity {
+		String name;
+	}
+
 	private static class DummyEntityWithoutIdAnnotation {
 
 		private final Long id;
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Unit tests for {@link MultiRowBatchInsertStrategy}.
+ */
+class MultiRowBatchInsertStrategyUnitTests {
+
+	NamedParameterJdbcOperations jdbcOperations = mock(NamedParameterJdbcOperations.class);
+	BatchInsertStrategy fallback = mock(BatchInsertStrategy.class);
+	String sql = "single row sql";
+
+	@Test
+	void combinesRowsIntoChunksSizedByDialectLimits() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, dialect(2, 1000),
+				rows -> "rows:" + rows, fallback, false, null);
+
+		SqlParameterSource[] sources = parameterSources(5);
+		when(fallback.execute(any(), any())).thenReturn(new Object[1]);
+
+		strategy.execute(sql, sources);
+
+		ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(jdbcOperations, times(2)).update(eq("rows:2"), captor.capture());
+		verify(fallback).execute(sql, new SqlParameterSource[] { sources[4] });
+
+		SqlParameterSource second = captor.getAllValues().get(1);
+		assertThat(second.getValue("name_0")).isEqualTo("name-2");
+		assertThat(second.getValue("name_1")).isEqualTo("name-3");
+		assertThat(second.getSqlType("name_1")).isEqualTo(Types.VARCHAR);
+	}
+
+	@Test
+	void limitsRowsByBindParameters() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, dialect(1000, 6),
+				rows -> "rows:" + rows, fallback, false, null);
+
+		strategy.execute(sql, parameterSources(6));
+
+		verify(jdbcOperations, times(2)).update(eq("rows:3"), any(SqlParameterSource.class));
+		verifyNoInteractions(fallback);
+	}
+
+	@Test
+	void delegatesSingleRowToFallback() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, dialect(1000, 1000),
+				rows -> "rows:" + rows, fallback, false, null);
+		SqlParameterSource[] sources = parameterSources(1);
+
+		strategy.execute(sql, sources);
+
+		verify(fallback).execute(sql, sources);
+		verifyNoInteractions(jdbcOperations);
+	}
+
+	@Test
+	void returnsGeneratedIdsInRowOrder() {
+
+		SqlIdentifier idColumn = SqlIdentifier.quoted("ID");
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, dialect(1000, 1000),
+				rows -> "rows:" + rows, fallback, true, idColumn);
+
+		when(jdbcOperations.update(any(), any(SqlParameterSource.class), any(KeyHolder.class))).thenAnswer(invocation -> {
+
+			KeyHolder keyHolder = invocation.getArgument(2);
+			keyHolder.getKeyList().add(Map.of("ID", 10L, "NAME", "name-0"));
+			keyHolder.getKeyList().add(Map.of("ID", 11L, "NAME", "name-1"));
+			keyHolder.getKeyList().add(Map.of("ID", 12L, "NAME", "name-2"));
+			return 3;
+		});
+
+		Object[] ids = strategy.execute(sql, parameterSources(3));
+
+		assertThat(ids).containsExactly(10L, 11L, 12L);
+	}
+
+	@Test
+	void rejectsIncompleteGeneratedKeys() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, dialect(1000, 1000),
+				rows -> "rows:" + rows, fallback, true, null);
+
+		when(jdbcOperations.update(any(), any(SqlParameterSource.class), any(KeyHolder.class))).thenAnswer(invocation -> {
+
+			KeyHolder keyHolder = invocation.getArgument(2);
+			keyHolder.getKeyList().add(Map.of("ID", 12L));
+			return 3;
+		});
+
+		assertThatIllegalStateException().isThrownBy(() -> strategy.execute(sql, parameterSources(3)));
+	}
+
+	@Test
+	void returnsNullIdsIfNoKeysWereGenerated() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, dialect(1000, 1000),
+				rows -> "rows:" + rows, fallback, true, null);
+
+		Object[] ids = strategy.execute(sql, parameterSources(3));
+
+		assertThat(ids).containsExactly(null, null, null);
+	}
+
+	private static SqlParameterSource[] parameterSources(int count) {
+
+		List<SqlParameterSource> sources = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+
+			SqlIdentifierParameterSource source = new SqlIdentifierParameterSource();
+			source.addValue(SqlIdentifier.unquoted("name"), "name-" + i, Types.VARCHAR);
+			source.addValue(SqlIdentifier.unquoted("age"), i);
+			sources.add(source);
+		}
+
+		return sources.toArray(new SqlParameterSource[0]);
+	}
+
+	private static H2Dialect dialect(int maxRowsPerInsert, int maxBindParameters) {
+
+		return new H2Dialect() {
+
+			@Override
+			public int getMaxRowsPerInsert() {
+				return maxRowsPerInsert;
+			}
+
+			@Override
+			public int getMaxBindParameters() {
+				return maxBindParameters;
+			}
+		};
+	}
+}
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.domain.Sort.Order.*;
 
+import java.sql.Array;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,13 +33,16 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.InListStrategy;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.data.relational.domain.SqlSort;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
@@ -333,6 +338,68 @@ public class QueryMapperUnitTests {
 		assertThat(bindings).hasToString("person.\"NAME\" NOT IN (?[:name], ?[:name1], ?[:name2])");
 	}
 
+	@Test
+	void shouldPadInListToPowerOfTwo() {
+
+		mapper = new QueryMapper(converter, InListStrategy.PAD);
+
+		Criteria criteria = Criteria.where("name").in("a", "b", "c");
+
+		Condition condition = map(criteria);
+
+		assertThat(condition).hasToString("person.\"NAME\" IN (?[:name], ?[:name1], ?[:name2], ?[:name3])");
+		assertThat(parameterSource.getValue("name3")).isEqualTo("c");
+	}
+
+	@Test
+	void shouldMapInListToArrayComparison() {
+
+		JdbcTypeFactory typeFactory = mock(JdbcTypeFactory.class);
+		Array array = mock(Array.class);
+		when(typeFactory.createArray(any())).thenReturn(array);
+		JdbcConverter converter = new MappingJdbcConverter(context, mock(RelationResolver.class),
+				new JdbcCustomConversions(), typeFactory);
+		mapper = new QueryMapper(converter, InListStrategy.ARRAY);
+
+		Condition in = map(Criteria.where("name").in("a", "b", "c"));
+		Condition notIn = map(Criteria.where("alternative").notIn("a", "b"));
+
+		assertThat(in).hasToString("person.\"NAME\" = ANY(?[:name])");
+		assertThat(notIn).hasToString("NOT (person.\"another_name\" = ANY(?[:another_name]))");
+		assertThat(parameterSource.getValue("name")).isSameAs(array);
+		assertThat(parameterSource.getSqlType("name")).isEqualTo(Types.ARRAY);
+		verify(typeFactory).createArray(new Object[] { "a", "b", "c" });
+	}
+
+	@Test
+	void shouldRenderNegatedArrayComparison() {
+
+		JdbcTypeFactory typeFactory = mock(JdbcTypeFactory.class);
+		when(typeFactory.createArray(any())).thenReturn(mock(Array.class));
+		JdbcConverter converter = new MappingJdbcConverter(context, mock(RelationResolver.class),
+				new JdbcCustomConversions(), typeFactory);
+		mapper = new QueryMapper(converter, InListStrategy.ARRAY);
+
+		Table table = Table.create("person");
+		Condition notIn = map(Criteria.where("alternative").notIn("a", "b"));
+
+		String sql = SqlRenderer.toString(StatementBuilder.select(table.asterisk()).from(table).where(notIn).build());
+
+		assertThat(sql).isEqualTo("SELECT person.* FROM person WHERE NOT (person.another_name = ANY(:another_name))");
+	}
+
+	@Test
+	void shouldPadInListIfArraysAreNotSupported() {
+
+		mapper = new QueryMapper(converter, InListStrategy.ARRAY);
+
+		Criteria criteria = Criteria.where("name").in("a", "b", "c");
+
+		Condition condition = map(criteria);
+
+		assertThat(condition).hasToString("person.\"NAME\" IN (?[:name], ?[:name1], ?[:name2], ?[:name3])");
+	}
+
 	@Test // DATAJDBC-318
 	public void shouldMapIsGt() {
 
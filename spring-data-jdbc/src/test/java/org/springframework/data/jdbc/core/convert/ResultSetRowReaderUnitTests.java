@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.domain.RowDocument;
+
+/**
+ * Unit tests for {@link ResultSetRowReader}.
+ */
+class ResultSetRowReaderUnitTests {
+
+	ResultSetRowReader reader = new ResultSetRowReader();
+
+	@Test
+	void readsRowsCaseInsensitively() throws SQLException {
+
+		ResultSet resultSet = ResultSetTestUtil.mockResultSet(asList("ID", "NAME"), //
+				1L, "Alfred", //
+				2L, "Bertram");
+
+		resultSet.next();
+		RowDocument first = reader.read(resultSet);
+		resultSet.next();
+		RowDocument second = reader.read(resultSet);
+
+		assertThat(first.get("id")).isEqualTo(1L);
+		assertThat(first.get("Name")).isEqualTo("Alfred");
+		assertThat(first.containsKey("unknown")).isFalse();
+		assertThat(second).containsEntry("ID", 2L).containsEntry("NAME", "Bertram").hasSize(2);
+	}
+
+	@Test
+	void resolvesColumnLayoutOncePerResultSet() throws SQLException {
+
+		ResultSet resultSet = ResultSetTestUtil.mockResultSet(asList("ID", "NAME"), //
+				1L, "Alfred", //
+				2L, "Bertram");
+
+		while (resultSet.next()) {
+			reader.read(resultSet);
+		}
+
+		verify(resultSet, times(1)).getMetaData();
+	}
+
+	@Test
+	void resolvesColumnLayoutForEachResultSet() throws SQLException {
+
+		ResultSet first = ResultSetTestUtil.mockResultSet(asList("ID", "NAME"), 1L, "Alfred");
+		ResultSet second = ResultSetTestUtil.mockResultSet(asList("ID", "CITY"), 2L, "Bonn");
+
+		first.next();
+		reader.read(first);
+		second.next();
+		RowDocument document = reader.read(second);
+
+		assertThat(document).containsEntry("city", "Bonn").doesNotContainKey("name");
+	}
+
+	@Test
+	void readsInterleavedResultSets() throws SQLException {
+
+		ResultSet names = ResultSetTestUtil.mockResultSet(asList("ID", "NAME"), 1L, "Alfred", 2L, "Bertram");
+		ResultSet cities = ResultSetTestUtil.mockResultSet(asList("ID", "CITY"), 3L, "Bonn", 4L, "Berlin");
+		ResultSet otherNames = ResultSetTestUtil.mockResultSet(asList("ID", "NAME"), 5L, "Carl");
+
+		names.next();
+		cities.next();
+		otherNames.next();
+
+		assertThat(reader.read(names)).containsEntry("name", "Alfred").hasSize(2);
+		assertThat(reader.read(cities)).containsEntry("city", "Bonn").hasSize(2);
+		assertThat(reader.read(otherNames)).containsEntry("name", "Carl").hasSize(2);
+
+		names.next();
+		cities.next();
+
+		assertThat(reader.read(names)).containsEntry("id", 2L).containsEntry("name", "Bertram");
+		assertThat(reader.read(cities)).containsEntry("id", 4L).containsEntry("city", "Berlin");
+	}
+
+	@Test
+	void supportsAdditionalAndRemovedEntries() throws SQLException {
+
+		ResultSet resultSet = ResultSetTestUtil.mockResultSet(asList("ID", "NAME"), 1L, "Alfred");
+		resultSet.next();
+
+		RowDocument document = reader.read(resultSet);
+		document.put("Key", "value");
+		document.remove("name");
+
+		assertThat(document).containsEntry("key", "value").containsEntry("id", 1L).doesNotContainKey("NAME").hasSize(2);
+		assertThat(document).isEqualTo(new RowDocument().append("id", 1L).append("key", "value"));
+	}
+}
@@ -21,6 +21,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +40,7 @@ import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.lang.Nullable;
 
 /**
  * Unit tests for the {@link RowDocumentResultSetExtractor}.
@@ -106,6 +108,73 @@ public class RowDocumentResultSetExtractorUnitTests {
 		});
 	}
 
+	@Test
+	void iteratesDocumentsFromRowCursor() {
+
+		new ResultSetTester(WithSets.class, context).resultSet(rsc -> {
+			rsc.withPaths("id1").withKey("first").withPath("first.dummyName") //
+					.withRow(1, 1, "Dummy Alfred") //
+					.withRow(1, 2, "Dummy Berta") //
+					.withRow(2, 1, "Dummy Carl");
+		}).run(resultSet -> {
+
+			Iterator<RowDocument> documents = documentExtractor
+					.iterate(context.getRequiredPersistentEntity(WithSets.class), rowCursor(resultSet));
+
+			assertThat(documents.next()).containsEntry("id1", 1).containsEntry("first",
+					Arrays.asList(RowDocument.of("dummy_name", "Dummy Alfred"), RowDocument.of("dummy_name", "Dummy Berta")));
+			assertThat(documents.next()).containsEntry("id1", 2).containsEntry("first",
+					List.of(RowDocument.of("dummy_name", "Dummy Carl")));
+			assertThat(documents.hasNext()).isFalse();
+		});
+	}
+
+	@Test
+	void emptyRowCursorYieldsNoDocuments() {
+
+		new ResultSetTester(WithSets.class, context).resultSet(rsc -> {
+			rsc.withPaths("id1", "name");
+		}).run(resultSet -> {
+
+			Iterator<RowDocument> documents = documentExtractor
+					.iterate(context.getRequiredPersistentEntity(WithSets.class), rowCursor(resultSet));
+
+			assertThat(documents.hasNext()).isFalse();
+		});
+	}
+
+	/**
+	 * Cursor advancing the {@link ResultSet} like {@link org.springframework.jdbc.core.JdbcTemplate#queryForStream}.
+	 */
+	private static Iterator<ResultSet> rowCursor(ResultSet resultSet) {
+
+		return new Iterator<>() {
+
+			@Nullable ResultSet next;
+
+			@Override
+			public boolean hasNext() {
+
+				try {
+					if (next == null && resultSet.next()) {
+						next = resultSet;
+					}
+				} catch (SQLException e) {
+					throw new RuntimeException(e);
+				}
+				return next != null;
+			}
+
+			@Override
+			public ResultSet next() {
+
+				ResultSet current = next;
+				next = null;
+				return current;
+			}
+		};
+	}
+
 	@Nested
 	class EmbeddedReference {
 		@Test // GH-1446
@@ -131,6 +200,42 @@ public class RowDocumentResultSetExtractorUnitTests {
 				assertThat(document).hasSize(1).containsEntry("id1", 1);
 			});
 		}
+
+		@Test
+		void nullableEmbeddedWithEmptyArrayIsLeftOut() {
+
+			testerFor(WithNullableEmbeddedArray.class).resultSet(rsc -> {
+				rsc.withPaths("id1", "embedded.values") //
+						.withRow(1, new String[0]);
+			}).run(document -> {
+
+				assertThat(document).hasSize(1).containsEntry("id1", 1);
+			});
+		}
+
+		@Test
+		void nullableEmbeddedWithNonEmptyArrayGetsExtracted() {
+
+			testerFor(WithNullableEmbeddedArray.class).resultSet(rsc -> {
+				rsc.withPaths("id1", "embedded.values") //
+						.withRow(1, new String[] { "one" });
+			}).run(document -> {
+
+				assertThat(document).containsEntry("id1", 1).containsEntry("values", new String[] { "one" });
+			});
+		}
+
+		@Test
+		void emptyEmbeddedWithEmptyArrayGetsExtracted() {
+
+			testerFor(WithEmptyEmbeddedArray.class).resultSet(rsc -> {
+				rsc.withPaths("id1", "embedded.values") //
+						.withRow(1, new String[0]);
+			}).run(document -> {
+
+				assertThat(document).containsEntry("id1", 1).containsEntry("values", new String[0]);
+			});
+		}
 	}
 
 	@Nested
@@ -348,6 +453,23 @@ public class RowDocumentResultSetExtractorUnitTests {
 		@Embedded.Empty DummyEntity embeddedNonNull;
 	}
 
+	private static class WithNullableEmbeddedArray {
+
+		@Id long id1;
+		@Embedded.Nullable Strings embedded;
+	}
+
+	private static class WithEmptyEmbeddedArray {
+
+		@Id long id1;
+		@Embedded.Empty Strings embedded;
+	}
+
+	private static class Strings {
+
+		List<String> values;
+	}
+
 	private static class WithOneToOne {
 
 		@Id long id1;
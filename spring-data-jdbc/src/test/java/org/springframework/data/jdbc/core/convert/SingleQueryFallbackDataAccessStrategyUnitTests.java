@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.core.observability.JdbcObservation;
+import org.springframework.data.jdbc.core.observability.JdbcObservation.LowCardinalityKeys;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for the read observations of {@link SingleQueryFallbackDataAccessStrategy}.
+ */
+class SingleQueryFallbackDataAccessStrategyUnitTests {
+
+	NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+	RelationalMappingContext context = new JdbcMappingContext();
+	List<Observation.Context> observations = new ArrayList<>();
+
+	DataAccessStrategy accessStrategy;
+
+	@BeforeEach
+	void before() {
+
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public void onStop(Observation.Context context) {
+				observations.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+
+		JdbcConverter converter = new MappingJdbcConverter(context, new DelegatingDataAccessStrategy(),
+				new JdbcCustomConversions(), new DefaultJdbcTypeFactory(mock(JdbcOperations.class)));
+		DataAccessStrategyFactory factory = new DataAccessStrategyFactory(
+				new SqlGeneratorSource(context, converter, HsqlDbDialect.INSTANCE), converter, operations,
+				new SqlParametersFactory(context, converter), new InsertStrategyFactory(operations, HsqlDbDialect.INSTANCE));
+		factory.setObservationRegistry(registry);
+
+		accessStrategy = factory.create();
+	}
+
+	@Test
+	void observesReadsWithoutSingleQueryLoading() {
+
+		accessStrategy.findAll(DummyEntity.class);
+
+		assertThat(observations).hasSize(1);
+		assertThat(observations.get(0).getName()).isEqualTo(JdbcObservation.AGGREGATE_READ.getName());
+		assertThat(observations.get(0).getLowCardinalityKeyValue(LowCardinalityKeys.READ_PATH.asString()).getValue())
+				.isEqualTo(JdbcObservation.READ_PATH_FALLBACK);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void stopsStreamObservationOnceConsumed() {
+
+		when(operations.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.of(new DummyEntity(1L), new DummyEntity(2L)));
+
+		Stream<DummyEntity> stream = accessStrategy.streamAll(DummyEntity.class);
+
+		assertThat(observations).isEmpty();
+		assertThat(stream).hasSize(2);
+		assertThat(observations).hasSize(1);
+		assertThat(observations.get(0).getLowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.asString()).getValue())
+				.isEqualTo(JdbcObservation.OUTCOME_SUCCESS);
+
+		stream.close();
+
+		assertThat(observations).hasSize(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void recordsErrorWhileConsumingStream() {
+
+		DataRetrievalFailureException failure = new DataRetrievalFailureException("cursor failed");
+		when(operations.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.of(1L, 2L).map(id -> {
+					throw failure;
+				}));
+
+		try (Stream<DummyEntity> stream = accessStrategy.streamAll(DummyEntity.class)) {
+			assertThatExceptionOfType(DataRetrievalFailureException.class).isThrownBy(stream::toList);
+		}
+
+		assertThat(observations).hasSize(1);
+		assertThat(observations.get(0).getError()).isSameAs(failure);
+		assertThat(observations.get(0).getLowCardinalityKeyValue(LowCardinalityKeys.OUTCOME.asString()).getValue())
+				.isEqualTo(JdbcObservation.OUTCOME_ERROR);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void stopsStreamObservationWhenClosedEarly() {
+
+		when(operations.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.of(new DummyEntity(1L), new DummyEntity(2L)));
+
+		try (Stream<DummyEntity> stream = accessStrategy.streamAll(DummyEntity.class)) {
+			assertThat(stream.findFirst()).isPresent();
+		}
+
+		assertThat(observations).hasSize(1);
+	}
+
+	record DummyEntity(@Id Long id) {
+	}
+}
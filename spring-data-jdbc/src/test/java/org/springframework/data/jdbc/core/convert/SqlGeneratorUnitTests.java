@@ -21,6 +21,7 @@ import static org.assertj.core.api.SoftAssertions.*;
 import static org.springframework.data.relational.core.mapping.ForeignKeyNaming.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -51,6 +52,7 @@ import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.Aliased;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -164,6 +166,21 @@ class SqlGeneratorUnitTests {
 		assertThat(sql).isEqualTo("DELETE FROM referenced_entity WHERE referenced_entity.dummy_entity IN (:ids)");
 	}
 
+	@Test
+	void cascadingDeleteInArrayByPathFirstLevel() {
+
+		String sql = sqlGenerator.createDeleteInArrayByPath(getPath("ref", DummyEntity.class));
+
+		assertThat(sql).isEqualTo("DELETE FROM referenced_entity WHERE referenced_entity.dummy_entity = ANY(:ids)");
+	}
+
+	@Test
+	void deleteByIdInArray() {
+
+		assertThat(sqlGenerator.getDeleteByIdInArray())
+				.isEqualTo("DELETE FROM dummy_entity WHERE dummy_entity.id1 = ANY(:ids)");
+	}
+
 	@Test // DATAJDBC-112
 	void cascadingDeleteByPathSecondLevel() {
 
@@ -428,6 +445,33 @@ class SqlGeneratorUnitTests {
 				+ "ORDER BY key-column");
 	}
 
+	@Test
+	void findAllByPropertyInWithKeyOrdered() {
+
+		String sql = sqlGenerator.getFindAllByPropertyIn(unquoted("backref"),
+				new AggregatePath.ColumnInfo(unquoted("key-column"), unquoted("key-column")), true);
+
+		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
+				+ "dummy_entity.x_other AS x_other, " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, "
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something, " //
+				+ "dummy_entity.key-column AS key-column, dummy_entity.backref AS backref " //
+				+ "FROM dummy_entity " //
+				+ "LEFT OUTER JOIN referenced_entity ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity ref_further ON ref_further.referenced_entity = ref.x_l1id " //
+				+ "WHERE dummy_entity.backref IN (:ids) " //
+				+ "ORDER BY key-column");
+	}
+
+	@Test
+	void findAllByPropertyInWithoutKey() {
+
+		String sql = sqlGenerator.getFindAllByPropertyIn(unquoted("backref"), null, false);
+
+		assertThat(sql).contains("dummy_entity.backref AS backref", "WHERE dummy_entity.backref IN (:ids)")
+				.doesNotContain("ORDER BY");
+	}
+
 	@Test // GH-1073
 	public void findAllByPropertyAvoidsDuplicateColumns() {
 
@@ -458,6 +502,27 @@ class SqlGeneratorUnitTests {
 						"An empty SqlIdentifier can't be used in condition. Make sure that all composite primary keys are defined in the query");
 	}
 
+	@Test
+	void reusesStatementsOfSameShape() {
+
+		assertThat(sqlGenerator.getFindAll(Sort.by("name"))).isSameAs(sqlGenerator.getFindAll(Sort.by("name")))
+				.isNotEqualTo(sqlGenerator.getFindAll(Sort.by("other")));
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(2, 20))).isSameAs(sqlGenerator.getFindAll(PageRequest.of(2, 20)))
+				.isNotEqualTo(sqlGenerator.getFindAll(PageRequest.of(3, 20)));
+		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, null, false)).isSameAs(sqlGenerator
+				.getFindAllByProperty(Identifier.of(unquoted("backref"), "other-value", String.class), null, false));
+		assertThat(sqlGenerator.getInsert(Set.of(unquoted("backref")))).isSameAs(
+				sqlGenerator.getInsert(new HashSet<>(Set.of(unquoted("backref"))))).isNotEqualTo(sqlGenerator.getInsert(emptySet()));
+	}
+
+	@Test
+	void distinguishesUnpagedFromSortedStatements() {
+
+		assertThat(sqlGenerator.getFindAll(Pageable.unpaged())).isEqualTo(sqlGenerator.getFindAll(Sort.unsorted()));
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(0, 10, Sort.by("name"))))
+				.isNotEqualTo(sqlGenerator.getFindAll(Sort.by("name")));
+	}
+
 	@Test // DATAJDBC-219
 	void updateWithVersion() {
 
@@ -473,6 +538,16 @@ class SqlGeneratorUnitTests {
 				"\"X_VERSION\" = :___oldOptimisticLockingVersion");
 	}
 
+	@Test
+	void findVersions() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getFindVersionsInList()).isEqualTo(
+				"SELECT \"VERSIONED_ENTITY\".\"id1\", \"VERSIONED_ENTITY\".\"X_VERSION\" FROM \"VERSIONED_ENTITY\" WHERE \"VERSIONED_ENTITY\".\"id1\" IN (:ids)");
+		assertThat(sqlGenerator.getFindVersionsInArray()).endsWith("WHERE \"VERSIONED_ENTITY\".\"id1\" = ANY(:ids)");
+	}
+
 	@Test // DATAJDBC-264
 	void getInsertForEmptyColumnListPostgres() {
 
@@ -504,6 +579,17 @@ class SqlGeneratorUnitTests {
 				+ "(\"test\"\"_@123\") " + "VALUES (:test_123)");
 	}
 
+	@Test
+	void getMultiRowInsert() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithQuotedColumnName.class, AnsiDialect.INSTANCE);
+
+		String insert = sqlGenerator.getInsert(emptySet(), 3);
+
+		assertThat(insert).isEqualTo("INSERT INTO \"ENTITY_WITH_QUOTED_COLUMN_NAME\" " //
+				+ "(\"test\"\"_@123\") " + "VALUES (:test_123_0), (:test_123_1), (:test_123_2)");
+	}
+
 	@Test // DATAJDBC-266
 	void joinForOneToOneWithoutIdIncludesTheBackReferenceOfTheOuterJoin() {
 
@@ -528,6 +614,29 @@ class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	void updateByIdentifier() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Element.class, AnsiDialect.INSTANCE);
+		Identifier identifier = Identifier.of(unquoted("DUMMY_ENTITY"), 23L, Long.class) //
+				.withPart(quoted("X_ID"), 42L, Long.class);
+
+		assertThat(sqlGenerator.getUpdateByIdentifier(identifier)).isEqualTo("UPDATE \"ELEMENT\" " //
+				+ "SET \"X_CONTENT\" = :x_content " //
+				+ "WHERE \"ELEMENT\".DUMMY_ENTITY = :DUMMY_ENTITY AND \"ELEMENT\".\"X_ID\" = :X_ID");
+	}
+
+	@Test
+	void deleteByIdentifier() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Element.class, AnsiDialect.INSTANCE);
+		Identifier identifier = Identifier.of(unquoted("DUMMY_ENTITY"), 23L, Long.class) //
+				.withPart(quoted("X_ID"), 42L, Long.class);
+
+		assertThat(sqlGenerator.getDeleteByIdentifier(identifier)).isEqualTo("DELETE FROM \"ELEMENT\" " //
+				+ "WHERE \"ELEMENT\".DUMMY_ENTITY = :DUMMY_ENTITY AND \"ELEMENT\".\"X_ID\" = :X_ID");
+	}
+
 	@Test // DATAJDBC-324
 	void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
@@ -540,6 +649,22 @@ class SqlGeneratorUnitTests {
 		);
 	}
 
+	@Test
+	void upsertUsesDialectSpecificStatement() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, PostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpsert()).isEqualToIgnoringCase( //
+				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_ID\", \"X_NAME\") VALUES (:X_ID, :X_NAME) " //
+						+ "ON CONFLICT (\"X_ID\") DO UPDATE SET \"X_NAME\" = EXCLUDED.\"X_NAME\"");
+	}
+
+	@Test
+	void upsertFailsForDialectWithoutUpsertSupport() {
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(sqlGenerator::getUpsert);
+	}
+
 	@Test // DATAJDBC-334
 	void getUpdateForQuotedColumnName() {
 
@@ -797,6 +922,18 @@ class SqlGeneratorUnitTests {
 				.containsOnly(entry("x_name", probe.name));
 	}
 
+	@Test
+	void selectByQueryAppliesLock() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+		Query query = Query.query(Criteria.where("name").is("Diego")).lock(LockMode.PESSIMISTIC_WRITE,
+				LockWaitPolicy.SKIP_LOCKED);
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+
+		assertThat(generatedSQL).endsWith("FOR UPDATE OF \"dummy_entity\" SKIP LOCKED");
+	}
+
 	@Test // GH-1329
 	void selectWithOutAnyCriteriaTest() {
 
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategyUnitTests.*;
 
+import java.sql.Array;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
+import org.springframework.data.relational.core.dialect.InListStrategy;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -164,6 +166,42 @@ class SqlParametersFactoryTest {
 		assertThat(sqlParameterSource.getValue("val&ue")).isNull();
 	}
 
+	@Test
+	void padsIdsForQueryByIds() {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forQueryByIds(List.of(1L, 2L, 3L),
+				DummyEntity.class, InListStrategy.PAD);
+
+		assertThat(parameterSource.getValue("ids")).isEqualTo(List.of(1L, 2L, 3L, 3L));
+		assertThat(SqlParametersFactory.isBoundAsArray(parameterSource)).isFalse();
+	}
+
+	@Test
+	void bindsIdsAsArrayForQueryByIds() {
+
+		JdbcTypeFactory typeFactory = mock(JdbcTypeFactory.class);
+		Array array = mock(Array.class);
+		when(typeFactory.createArray(any())).thenReturn(array);
+		SqlParametersFactory sqlParametersFactory = new SqlParametersFactory(context,
+				new MappingJdbcConverter(context, relationResolver, new JdbcCustomConversions(), typeFactory));
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forQueryByIds(List.of(1L, 2L, 3L),
+				DummyEntity.class, InListStrategy.ARRAY);
+
+		assertThat(parameterSource.getValue("ids")).isSameAs(array);
+		assertThat(SqlParametersFactory.isBoundAsArray(parameterSource)).isTrue();
+		verify(typeFactory).createArray(new Object[] { 1L, 2L, 3L });
+	}
+
+	@Test
+	void padsIdsIfArraysAreNotSupported() {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forQueryByIds(List.of(1L, 2L, 3L),
+				DummyEntity.class, InListStrategy.ARRAY);
+
+		assertThat(parameterSource.getValue("ids")).isEqualTo(List.of(1L, 2L, 3L, 3L));
+		assertThat(SqlParametersFactory.isBoundAsArray(parameterSource)).isFalse();
+	}
 	@WritingConverter
 	enum IdValueToStringConverter implements Converter<IdValue, String> {
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Unit tests for {@link StatementSettings}.
+ */
+class StatementSettingsUnitTests {
+
+	DataSource dataSource = mock(DataSource.class);
+
+	@Test
+	void noneIsEmpty() {
+
+		assertThat(StatementSettings.none().isEmpty()).isTrue();
+		assertThat(StatementSettings.none().withFetchSize(10).isEmpty()).isFalse();
+		assertThat(StatementSettings.none().withFetchSize(10)).isEqualTo(StatementSettings.none().withFetchSize(10));
+	}
+
+	@Test
+	void emptySettingsReturnOperationsAsIs() {
+
+		NamedParameterJdbcOperations operations = new NamedParameterJdbcTemplate(dataSource);
+
+		assertThat(StatementSettings.none().applyTo(operations)).isSameAs(operations);
+	}
+
+	@Test
+	void appliesDeclaredSettingsToCopyOfJdbcTemplate() {
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.setFetchSize(5);
+		jdbcTemplate.setMaxRows(50);
+		jdbcTemplate.setQueryTimeout(3);
+		jdbcTemplate.setIgnoreWarnings(false);
+
+		StatementSettings settings = StatementSettings.none().withMaxRows(10).withQueryTimeout(Duration.ofSeconds(7));
+
+		NamedParameterJdbcOperations operations = settings.applyTo(new NamedParameterJdbcTemplate(jdbcTemplate));
+
+		assertThat(operations.getJdbcOperations()).isNotSameAs(jdbcTemplate).isInstanceOfSatisfying(JdbcTemplate.class,
+				it -> {
+					assertThat(it.getDataSource()).isSameAs(dataSource);
+					assertThat(it.getFetchSize()).isEqualTo(5);
+					assertThat(it.getMaxRows()).isEqualTo(10);
+					assertThat(it.getQueryTimeout()).isEqualTo(7);
+					assertThat(it.isIgnoreWarnings()).isFalse();
+				});
+		assertThat(jdbcTemplate.getMaxRows()).isEqualTo(50);
+	}
+
+	@Test
+	void keepsParsedSqlCacheLimit() {
+
+		NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(dataSource);
+		template.setCacheLimit(42);
+
+		NamedParameterJdbcOperations operations = StatementSettings.none().withFetchSize(10).applyTo(template);
+
+		assertThat(operations).isInstanceOfSatisfying(NamedParameterJdbcTemplate.class,
+				it -> assertThat(it.getCacheLimit()).isEqualTo(42));
+	}
+
+	@Test
+	void roundsSubSecondQueryTimeoutUp() {
+
+		assertThat(StatementSettings.none().withQueryTimeout(Duration.ofMillis(1)).getQueryTimeoutSeconds()).isOne();
+		assertThat(StatementSettings.none().withQueryTimeout(Duration.ofMillis(2500)).getQueryTimeoutSeconds())
+				.isEqualTo(3);
+		assertThat(StatementSettings.none().withQueryTimeout(Duration.ofSeconds(2)).getQueryTimeoutSeconds())
+				.isEqualTo(2);
+		assertThat(StatementSettings.none().getQueryTimeoutSeconds()).isEqualTo(-1);
+	}
+
+	@Test
+	void appliesDeclaredSettingsToStatement() throws SQLException {
+
+		Statement statement = mock(Statement.class);
+
+		StatementSettings.none().withFetchSize(10).withQueryTimeout(Duration.ofMillis(500)).applyTo(statement);
+
+		verify(statement).setFetchSize(10);
+		verify(statement).setQueryTimeout(1);
+		verifyNoMoreInteractions(statement);
+	}
+
+	@Test
+	void rejectsOperationsNotBackedByJdbcTemplate() {
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.getJdbcOperations()).thenReturn(mock(JdbcOperations.class));
+
+		assertThat(StatementSettings.none().isApplicableTo(operations)).isTrue();
+		assertThat(StatementSettings.none().withFetchSize(10).isApplicableTo(operations)).isFalse();
+		assertThatIllegalStateException()
+				.isThrownBy(() -> StatementSettings.none().withFetchSize(10).applyTo(operations));
+	}
+}
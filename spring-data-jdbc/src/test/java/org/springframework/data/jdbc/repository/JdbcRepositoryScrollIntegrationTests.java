@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactory;
+import org.springframework.data.jdbc.testing.IntegrationTest;
+import org.springframework.data.jdbc.testing.TestConfiguration;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Integration tests for offset and keyset scrolling of JDBC repositories.
+ */
+@IntegrationTest
+class JdbcRepositoryScrollIntegrationTests {
+
+	@Configuration
+	@Import(TestConfiguration.class)
+	static class Config {
+
+		@Bean
+		ScrollEntityRepository scrollEntityRepository(JdbcRepositoryFactory factory) {
+			return factory.getRepository(ScrollEntityRepository.class);
+		}
+	}
+
+	@Autowired ScrollEntityRepository repository;
+
+	@BeforeEach
+	void before() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void findByKeysetScrollPosition() {
+
+		repository.saveAll(List.of(new ScrollEntity("one", true), new ScrollEntity("two", true),
+				new ScrollEntity("three", true), new ScrollEntity("four", false)));
+
+		Example<ScrollEntity> example = Example.of(new ScrollEntity(null, true),
+				ExampleMatcher.matching().withIgnorePaths("name", "id"));
+
+		Window<ScrollEntity> first = repository.findBy(example, q -> q.limit(2).sortBy(Sort.by("name")))
+				.scroll(ScrollPosition.keyset());
+		assertThat(first.map(ScrollEntity::getName)).containsExactly("one", "three");
+		assertThat(first.hasNext()).isTrue();
+
+		Window<ScrollEntity> second = repository.findBy(example, q -> q.limit(2).sortBy(Sort.by("name")))
+				.scroll(first.positionAt(1));
+		assertThat(second.map(ScrollEntity::getName)).containsExactly("two");
+		assertThat(second.hasNext()).isFalse();
+
+		Window<ScrollEntity> previous = repository.findBy(example, q -> q.limit(1).sortBy(Sort.by("name")))
+				.scroll(((KeysetScrollPosition) second.positionAt(0)).backward());
+		assertThat(previous.map(ScrollEntity::getName)).containsExactly("three");
+
+		WindowIterator<ScrollEntity> iterator = WindowIterator.of(
+				scrollPosition -> repository.findBy(example, q -> q.limit(2).sortBy(Sort.by("name")).scroll(scrollPosition)))
+				.startingAt(ScrollPosition.keyset());
+
+		List<String> result = Streamable.of(() -> iterator).stream().map(ScrollEntity::getName).toList();
+
+		assertThat(result).containsExactly("one", "three", "two");
+	}
+
+	@Test
+	void derivedQueryByKeysetScrollPosition() {
+
+		repository.saveAll(List.of(new ScrollEntity("a1"), new ScrollEntity("a2"), new ScrollEntity("a3"),
+				new ScrollEntity("a4"), new ScrollEntity("a5"), new ScrollEntity("b")));
+
+		WindowIterator<ScrollEntity> iterator = WindowIterator
+				.of(scrollPosition -> repository.findFirst2ByNameStartingWithOrderByNameDesc("a", scrollPosition))
+				.startingAt(ScrollPosition.keyset());
+
+		List<String> result = Streamable.of(() -> iterator).stream().map(ScrollEntity::getName).toList();
+
+		assertThat(result).containsExactly("a5", "a4", "a3", "a2", "a1");
+	}
+
+	@Test
+	void derivedProjectionQueryByKeysetScrollPositionOverNullableSortProperty() {
+
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+		ScrollEntity a1 = new ScrollEntity("a1");
+		a1.pointInTime = now;
+		ScrollEntity a3 = new ScrollEntity("a3");
+		a3.pointInTime = now.plusSeconds(1);
+		repository.saveAll(List.of(a1, new ScrollEntity("a2"), a3, new ScrollEntity("b")));
+
+		Window<NameOnly> first = repository.findFirst2ByNameStartingWithOrderByPointInTime("a", ScrollPosition.keyset());
+		assertThat(first.map(NameOnly::getName)).containsExactly("a2", "a1");
+		assertThat(first.hasNext()).isTrue();
+
+		Window<NameOnly> second = repository.findFirst2ByNameStartingWithOrderByPointInTime("a", first.positionAt(1));
+		assertThat(second.map(NameOnly::getName)).containsExactly("a3");
+		assertThat(second.hasNext()).isFalse();
+	}
+
+	@Test
+	void derivedQueryByOffsetScrollPosition() {
+
+		repository.saveAll(
+				List.of(new ScrollEntity("a1"), new ScrollEntity("a2"), new ScrollEntity("a3"), new ScrollEntity("b")));
+
+		Window<ScrollEntity> first = repository.findFirst2ByNameStartingWithOrderByNameDesc("a", ScrollPosition.offset());
+		assertThat(first.map(ScrollEntity::getName)).containsExactly("a3", "a2");
+		assertThat(first.hasNext()).isTrue();
+
+		Window<ScrollEntity> second = repository.findFirst2ByNameStartingWithOrderByNameDesc("a", first.positionAt(1));
+		assertThat(second.map(ScrollEntity::getName)).containsExactly("a1");
+		assertThat(second.hasNext()).isFalse();
+	}
+
+	interface ScrollEntityRepository
+			extends ListCrudRepository<ScrollEntity, Long>, QueryByExampleExecutor<ScrollEntity> {
+
+		Window<ScrollEntity> findFirst2ByNameStartingWithOrderByNameDesc(String name, ScrollPosition position);
+
+		Window<NameOnly> findFirst2ByNameStartingWithOrderByPointInTime(String name, ScrollPosition position);
+	}
+
+	interface NameOnly {
+		String getName();
+	}
+
+	static class ScrollEntity {
+
+		@Id Long id;
+		String name;
+		Instant pointInTime;
+		boolean flag;
+
+		@PersistenceCreator
+		ScrollEntity() {}
+
+		ScrollEntity(String name) {
+			this(name, false);
+		}
+
+		ScrollEntity(String name, boolean flag) {
+			this.name = name;
+			this.flag = flag;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.SoftAssertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.sql.Array;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -31,6 +32,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcTypeFactory;
 import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -38,10 +41,13 @@ import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.relational.core.dialect.Escaper;
 import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -139,6 +145,52 @@ public class PartTreeJdbcQueryUnitTests {
 		});
 	}
 
+	@Test
+	void createQueryWithLockWaitPolicy() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirstByLastName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Krupitza" }),
+				returnedType);
+
+		assertThat(query.getQuery().toUpperCase()).endsWith("FOR UPDATE SKIP LOCKED");
+	}
+
+	@Test
+	void createQueryWithLockWaitTimeout() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirstByAge", Integer.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { 42 }),
+				returnedType);
+
+		assertThat(query.getQuery().toUpperCase()).endsWith("FOR UPDATE WAIT 5");
+	}
+
+	@Test
+	void rejectsLockWaitPolicyNotSupportedByDialect() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirstByLastName", String.class);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new PartTreeJdbcQuery(mappingContext, queryMethod, HsqlDbDialect.INSTANCE, converter,
+						mock(NamedParameterJdbcOperations.class), mock(RowMapper.class)))
+				.withMessageContaining("SKIP_LOCKED");
+	}
+
+	@Test
+	void rejectsLockWaitTimeoutNotSupportedByDialect() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirstByAge", Integer.class);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new PartTreeJdbcQuery(mappingContext, queryMethod, PostgresDialect.INSTANCE, converter,
+						mock(NamedParameterJdbcOperations.class), mock(RowMapper.class)))
+				.withMessageContaining("timeout");
+	}
+
 	@Test // DATAJDBC-318
 	public void shouldFailForQueryByList() throws Exception {
 
@@ -221,6 +273,42 @@ public class PartTreeJdbcQueryUnitTests {
 		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
 	}
 
+	@Test
+	void reusesCompiledQueryForSameShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }), returnedType);
+		ParametrizedQuery isNull = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }), returnedType);
+
+		assertThat(second.getQuery()).isSameAs(first.getQuery());
+		assertThat(second.getParameterSource(Escaper.DEFAULT).getValue("first_name")).isEqualTo("Jane");
+		assertThat(isNull.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+	}
+
+	@Test
+	void compilesQueryPerCollectionSize() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery two = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(25, 30) }),
+				returnedType);
+		ParametrizedQuery three = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(25, 30, 35) }),
+				returnedType);
+		ParametrizedQuery otherTwo = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(40, 45) }),
+				returnedType);
+
+		assertThat(two.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"AGE\" IN (:age, :age1)");
+		assertThat(three.getQuery())
+				.isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"AGE\" IN (:age, :age1, :age2, :age3)");
+		assertThat(three.getParameterSource(Escaper.DEFAULT).getValue("age3")).isEqualTo(35);
+		assertThat(otherTwo.getQuery()).isSameAs(two.getQuery());
+		assertThat(otherTwo.getParameterSource(Escaper.DEFAULT).getValue("age1")).isEqualTo(45);
+	}
+
 	@Test // DATAJDBC-318
 	public void createsQueryWithLimitForExistsProjection() throws Exception {
 
@@ -523,6 +611,32 @@ public class PartTreeJdbcQueryUnitTests {
 		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"AGE\" IN (:age)");
 	}
 
+	@Test
+	void doesNotShareCompiledQueryBetweenArrayAndScalarInListBinding() throws Exception {
+
+		JdbcTypeFactory typeFactory = mock(JdbcTypeFactory.class);
+		when(typeFactory.createArray(any())).thenReturn(mock(Array.class));
+		converter = new MappingJdbcConverter(mappingContext, mock(RelationResolver.class), new JdbcCustomConversions(),
+				typeFactory);
+
+		Method method = SettingRepository.class.getMethod("findAllByValueIn", Collection.class);
+		JdbcQueryMethod queryMethod = new JdbcQueryMethod(method, new DefaultRepositoryMetadata(SettingRepository.class),
+				new SpelAwareProxyProjectionFactory(), new PropertiesBasedNamedQueries(new Properties()), mappingContext);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		// elements of different types cannot be bound as array and fall back to individual bind markers
+		ParametrizedQuery array = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(1, 2) }),
+				returnedType);
+		ParametrizedQuery mixed = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(1, 2L) }),
+				returnedType);
+		ParametrizedQuery arrayAgain = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(3, 4) }),
+				returnedType);
+
+		assertThat(array.getQuery()).endsWith("WHERE \"setting\".\"VALUE\" = ANY(:value)");
+		assertThat(mixed.getQuery()).endsWith("WHERE \"setting\".\"VALUE\" IN (:value, :value1)");
+		assertThat(arrayAgain.getQuery()).isEqualTo(array.getQuery());
+	}
+
 	@Test // DATAJDBC-318
 	public void createsQueryToFindAllEntitiesByIntegerAttributeNotIn() throws Exception {
 		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeNotIn", Collection.class);
@@ -692,6 +806,12 @@ public class PartTreeJdbcQueryUnitTests {
 		@Lock(LockMode.PESSIMISTIC_READ)
 		List<User> findAllByFirstNameAndAge(String firstName, Integer age);
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.SKIP_LOCKED)
+		User findFirstByLastName(String lastName);
+
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitTimeout = 5)
+		User findFirstByAge(Integer age);
+
 		List<User> findAllByFirstName(String firstName);
 
 		List<User> findAllByHated(Hobby hobby);
@@ -803,4 +923,15 @@ public class PartTreeJdbcQueryUnitTests {
 	static class Hobby {
 		@Id String name;
 	}
+
+	interface SettingRepository extends Repository<Setting, Long> {
+
+		List<Setting> findAllByValueIn(Collection<Object> values);
+	}
+
+	@Table("setting")
+	static class Setting {
+		@Id Long id;
+		Object value;
+	}
 }
@@ -180,6 +180,21 @@ public class QueryAnnotationHsqlIntegrationTests {
 
 	}
 
+	@Test
+	public void executeCustomQueryWithReturnTypeIsStreamAndFetchSize() {
+
+		repository.save(dummyEntity("a"));
+		repository.save(dummyEntity("b"));
+		repository.save(dummyEntity("c"));
+
+		try (Stream<DummyEntity> entities = repository.findAllWithReturnTypeIsStreamAndFetchSize()) {
+
+			assertThat(entities) //
+					.extracting(e -> e.name) //
+					.containsExactlyInAnyOrder("a", "b", "c");
+		}
+	}
+
 	@Test // DATAJDBC-175
 	public void executeCustomQueryWithReturnTypeIsNumber() {
 
@@ -284,6 +299,10 @@ public class QueryAnnotationHsqlIntegrationTests {
 		List<DummyEntity> findByNameContainingCapitalLetter();
 
 		// DATAJDBC-164
+		@Query("SELECT * FROM DUMMY_ENTITY")
+		@QueryHints(fetchSize = 2)
+		Stream<DummyEntity> findAllWithReturnTypeIsStreamAndFetchSize();
+
 		@Query("SELECT * FROM DUMMY_ENTITY WHERE name  < :upper and name > :lower")
 		List<DummyEntity> findByNamedRangeWithNamedParameter(@Param("lower") String lower, @Param("upper") String upper);
 
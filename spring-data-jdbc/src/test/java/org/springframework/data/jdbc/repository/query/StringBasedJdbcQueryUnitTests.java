@@ -19,8 +19,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.sql.Connection;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -29,6 +32,8 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javax.sql.DataSource;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,6 +63,9 @@ import org.springframework.data.repository.query.ExtensionAwareQueryMethodEvalua
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.spel.spi.EvaluationContextExtension;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -240,6 +248,55 @@ class StringBasedJdbcQueryUnitTests {
 		verify(operations).queryForStream(eq("some sql statement"), any(SqlParameterSource.class), any(RowMapper.class));
 	}
 
+	@Test
+	void streamQueryAppliesFetchSizeHint() throws SQLException {
+
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		when(operations.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		JdbcQueryMethod queryMethod = createMethod("findAllWithStreamReturnTypeAndFetchSize");
+		StringBasedJdbcQuery query = createQuery(queryMethod);
+
+		query.execute(new Object[] {});
+
+		ArgumentCaptor<PreparedStatementCreator> captor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcOperations).queryForStream(captor.capture(), any(RowMapper.class));
+		verify(operations, never()).queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement("some sql statement")).thenReturn(statement);
+
+		captor.getValue().createPreparedStatement(connection);
+
+		verify(statement).setFetchSize(100);
+	}
+
+	@Test
+	void streamQueryAppliesQueryHints() throws SQLException {
+
+		DataSource dataSource = mock(DataSource.class);
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.prepareStatement("some sql statement")).thenReturn(statement);
+		when(statement.executeQuery()).thenReturn(mock(ResultSet.class));
+		when(operations.getJdbcOperations()).thenReturn(new JdbcTemplate(dataSource));
+
+		JdbcQueryMethod queryMethod = createMethod("findAllWithStreamReturnTypeAndQueryHints");
+		StringBasedJdbcQuery query = createQuery(queryMethod);
+
+		try (Stream<?> result = (Stream<?>) query.execute(new Object[] {})) {
+			assertThat(result).isEmpty();
+		}
+
+		verify(operations, never()).queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(statement).setFetchSize(100);
+		verify(statement).setMaxRows(1000);
+		verify(statement).setQueryTimeout(5);
+	}
+
 	@Test // GH-578
 	void streamQueryFallsBackToCollectionQueryWhenCustomResultSetExtractorIsSpecified() {
 
@@ -465,6 +522,14 @@ class StringBasedJdbcQueryUnitTests {
 		@Query(value = "some sql statement", resultSetExtractorClass = CustomResultSetExtractor.class)
 		Stream<Object> findAllWithStreamReturnTypeAndResultSetExtractor();
 
+		@Query(value = "some sql statement")
+		@QueryHints(fetchSize = 100)
+		Stream<Object> findAllWithStreamReturnTypeAndFetchSize();
+
+		@Query(value = "some sql statement")
+		@QueryHints(fetchSize = 100, maxRows = 1000, timeout = 5)
+		Stream<Object> findAllWithStreamReturnTypeAndQueryHints();
+
 		@Query(value = "some sql statement", rowMapperClass = CustomRowMapper.class,
 				resultSetExtractorClass = CustomResultSetExtractor.class)
 		Stream<Object> findAllCustomRowMapperResultSetExtractor();
@@ -0,0 +1,9 @@
+DROP TABLE SCROLL_ENTITY;
+
+CREATE TABLE SCROLL_ENTITY
+(
+    ID            BIGINT GENERATED BY DEFAULT AS IDENTITY ( START WITH 1 ) PRIMARY KEY,
+    NAME          VARCHAR(100),
+    POINT_IN_TIME TIMESTAMP,
+    FLAG          BOOLEAN
+);
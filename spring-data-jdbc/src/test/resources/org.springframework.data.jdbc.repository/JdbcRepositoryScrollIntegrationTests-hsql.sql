@@ -0,0 +1,7 @@
+CREATE TABLE SCROLL_ENTITY
+(
+    ID            BIGINT GENERATED BY DEFAULT AS IDENTITY ( START WITH 1 ) PRIMARY KEY,
+    NAME          VARCHAR(100),
+    POINT_IN_TIME TIMESTAMP,
+    FLAG          BOOLEAN
+);
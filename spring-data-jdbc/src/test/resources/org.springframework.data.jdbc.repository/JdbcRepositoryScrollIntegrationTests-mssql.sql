@@ -0,0 +1,9 @@
+DROP TABLE IF EXISTS SCROLL_ENTITY;
+
+CREATE TABLE SCROLL_ENTITY
+(
+    ID            BIGINT IDENTITY PRIMARY KEY,
+    NAME          VARCHAR(100),
+    POINT_IN_TIME DATETIME2,
+    FLAG          BIT
+);
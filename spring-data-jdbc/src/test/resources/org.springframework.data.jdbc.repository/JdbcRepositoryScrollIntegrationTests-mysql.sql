@@ -0,0 +1,7 @@
+CREATE TABLE SCROLL_ENTITY
+(
+    ID            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    NAME          VARCHAR(100),
+    POINT_IN_TIME TIMESTAMP(3) DEFAULT NULL,
+    FLAG          BIT(1)
+);
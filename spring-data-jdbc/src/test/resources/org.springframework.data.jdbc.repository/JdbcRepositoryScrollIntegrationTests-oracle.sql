@@ -0,0 +1,9 @@
+DROP TABLE SCROLL_ENTITY CASCADE CONSTRAINTS PURGE;
+
+CREATE TABLE SCROLL_ENTITY
+(
+    ID            NUMBER GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
+    NAME          VARCHAR2(100),
+    POINT_IN_TIME TIMESTAMP,
+    FLAG          NUMBER(1,0)
+);
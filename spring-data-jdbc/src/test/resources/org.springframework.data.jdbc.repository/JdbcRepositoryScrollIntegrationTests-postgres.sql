@@ -0,0 +1,9 @@
+DROP TABLE SCROLL_ENTITY;
+
+CREATE TABLE SCROLL_ENTITY
+(
+    ID            SERIAL PRIMARY KEY,
+    NAME          VARCHAR(100),
+    POINT_IN_TIME TIMESTAMP,
+    FLAG          BOOLEAN
+);
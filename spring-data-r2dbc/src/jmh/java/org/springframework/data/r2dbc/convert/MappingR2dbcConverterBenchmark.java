@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.convert;
+
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.BenchmarkSettings;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+/**
+ * Benchmarks for {@link MappingR2dbcConverter#read(Class, io.r2dbc.spi.Row, io.r2dbc.spi.RowMetadata)} using in-memory
+ * rows that stand in for driver rows. Rows contain the mapped columns and a configurable number of additional columns
+ * to measure the cost of wide results.
+ */
+@Microbenchmark
+public class MappingR2dbcConverterBenchmark extends BenchmarkSettings {
+
+	@Benchmark
+	public Object readWithMetadata(StateHolder state) {
+		return state.converter.read(Person.class, state.row, state.metadata);
+	}
+
+	@Benchmark
+	public Object readWithoutMetadata(StateHolder state) {
+		return state.converter.read(Person.class, state.row);
+	}
+
+	@State(Scope.Benchmark)
+	public static class StateHolder {
+
+		@Param({ "0", "80" }) int additionalColumns;
+
+		MappingR2dbcConverter converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+
+		MockRow row;
+
+		MockRowMetadata metadata;
+
+		@Setup
+		public void setup() {
+
+			MockRow.Builder rowBuilder = MockRow.builder();
+			MockRowMetadata.Builder metadataBuilder = MockRowMetadata.builder();
+
+			column(rowBuilder, metadataBuilder, "id", R2dbcType.BIGINT, 42L);
+			column(rowBuilder, metadataBuilder, "first_name", R2dbcType.VARCHAR, "Walter");
+			column(rowBuilder, metadataBuilder, "last_name", R2dbcType.VARCHAR, "White");
+			column(rowBuilder, metadataBuilder, "age", R2dbcType.INTEGER, 50);
+			column(rowBuilder, metadataBuilder, "created", R2dbcType.TIMESTAMP, LocalDateTime.of(2024, 1, 1, 12, 0));
+
+			for (int i = 0; i < additionalColumns; i++) {
+				column(rowBuilder, metadataBuilder, "column_" + i, R2dbcType.VARCHAR, "value-" + i);
+			}
+
+			metadata = metadataBuilder.build();
+			row = rowBuilder.metadata(metadata).build();
+		}
+
+		private static void column(MockRow.Builder rowBuilder, MockRowMetadata.Builder metadataBuilder, String name,
+				R2dbcType type, Object value) {
+
+			rowBuilder.identified(name, Object.class, value);
+			metadataBuilder.columnMetadata(MockColumnMetadata.builder().name(name).type(type).build());
+		}
+	}
+
+	record Person(@Id Long id, String firstName, String lastName, int age, LocalDateTime created) {
+	}
+}
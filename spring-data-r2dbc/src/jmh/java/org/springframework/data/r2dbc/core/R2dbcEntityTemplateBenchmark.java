@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.springframework.data.relational.core.query.Criteria.*;
+import static org.springframework.data.relational.core.query.Query.*;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import jmh.mbr.junit5.Microbenchmark;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.BenchmarkSettings;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Benchmarks for {@link R2dbcEntityTemplate} selecting and inserting entities against an in-memory H2 database.
+ */
+@Microbenchmark
+public class R2dbcEntityTemplateBenchmark extends BenchmarkSettings {
+
+	@Benchmark
+	public Object selectAll(StateHolder state) {
+		return state.template.select(Person.class).all().collectList().block();
+	}
+
+	@Benchmark
+	public Object selectOne(StateHolder state) {
+		return state.template.selectOne(query(where("id").is(1L)), Person.class).block();
+	}
+
+	@Benchmark
+	public Object insert(StateHolder state) {
+		return state.template.insert(new Person(null, "Jesse", "Pinkman", 25)).block();
+	}
+
+	@State(Scope.Benchmark)
+	public static class StateHolder {
+
+		static final int ROWS = 100;
+
+		H2ConnectionFactory connectionFactory;
+
+		R2dbcEntityTemplate template;
+
+		DatabaseClient client;
+
+		@Setup
+		public void setup() {
+
+			connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder() //
+					.inMemory("benchmark-" + UUID.randomUUID()) //
+					.username("sa") //
+					.password("") //
+					.option("DB_CLOSE_DELAY=-1").build());
+
+			template = new R2dbcEntityTemplate(connectionFactory);
+			client = template.getDatabaseClient();
+
+			client.sql("CREATE TABLE person (id BIGINT AUTO_INCREMENT PRIMARY KEY, first_name VARCHAR(100), "
+					+ "last_name VARCHAR(100), age INTEGER)").then().block();
+
+			Flux.range(0, ROWS).concatMap(i -> template.insert(new Person(null, "Walter-" + i, "White", 50)))
+					.blockLast();
+		}
+
+		/**
+		 * Remove rows created by {@link R2dbcEntityTemplateBenchmark#insert(StateHolder)} to keep the data set stable across iterations.
+		 */
+		@TearDown(Level.Iteration)
+		public void removeInsertedRows() {
+			client.sql("DELETE FROM person WHERE id > " + ROWS).then().block();
+		}
+
+		@TearDown
+		public void tearDown() {
+			client.sql("SHUTDOWN").then().onErrorComplete().block();
+		}
+	}
+
+	record Person(@Id Long id, String firstName, String lastName, int age) {
+	}
+}
@@ -28,7 +28,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import org.springframework.core.convert.ConversionService;
@@ -51,6 +53,7 @@ import org.springframework.r2dbc.core.Parameter;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Converter for R2DBC.
@@ -60,6 +63,13 @@ import org.springframework.util.CollectionUtils;
  */
 public class MappingR2dbcConverter extends MappingRelationalConverter implements R2dbcConverter {
 
+	private static final int READ_PLAN_CACHE_SIZE = 256;
+
+	private final ConcurrentLruCache<ReadPlanKey, RowReadPlan> readPlans = new ConcurrentLruCache<>(
+			READ_PLAN_CACHE_SIZE,
+			key -> RowReadPlan.create(getMappingContext().getPersistentEntity(key.type()), key.columnNames()));
+	private final Map<Class<?>, RowReadPlan> recentReadPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link MappingR2dbcConverter} given {@link MappingContext}.
 	 *
@@ -114,35 +124,46 @@ public class MappingR2dbcConverter extends MappingRelationalConverter implements
 	public RowDocument toRowDocument(Class<?> type, Readable row,
 			@Nullable Iterable<? extends ReadableMetadata> metadata) {
 
+		if (metadata != null) {
+			return getReadPlan(type, metadata).read(row);
+		}
+
 		RowDocument document = new RowDocument();
 		RelationalPersistentEntity<?> persistentEntity = getMappingContext().getPersistentEntity(type);
 
 		if (persistentEntity != null) {
-			captureRowValues(row, metadata, document, persistentEntity);
+			captureRowValues(row, document, persistentEntity);
 		}
 
-		if (metadata != null) {
-			for (ReadableMetadata m : metadata) {
+		return document;
+	}
 
-				if (document.containsKey(m.getName())) {
-					continue;
-				}
+	/**
+	 * Obtain the {@link RowReadPlan} for {@code type} and the columns of {@code metadata}. The most recently used plan per
+	 * type is checked first as rows of a result share their metadata.
+	 */
+	private RowReadPlan getReadPlan(Class<?> type, Iterable<? extends ReadableMetadata> metadata) {
 
-				document.put(m.getName(), row.get(m.getName()));
-			}
+		RowReadPlan plan = recentReadPlans.get(type);
+
+		if (plan != null && plan.matches(metadata)) {
+			return plan;
 		}
 
-		return document;
+		plan = readPlans.get(new ReadPlanKey(type, RowReadPlan.getColumnNames(metadata)));
+		recentReadPlans.put(type, plan);
+
+		return plan;
 	}
 
-	private static void captureRowValues(Readable row, @Nullable Iterable<? extends ReadableMetadata> metadata,
-			RowDocument document, RelationalPersistentEntity<?> persistentEntity) {
+	private static void captureRowValues(Readable row, RowDocument document,
+			RelationalPersistentEntity<?> persistentEntity) {
 
 		for (RelationalPersistentProperty property : persistentEntity) {
 
 			String identifier = property.getColumnName().getReference();
 
-			if (property.isEntity() || (metadata != null && !RowMetadataUtils.containsColumn(metadata, identifier))) {
+			if (property.isEntity()) {
 				continue;
 			}
 
@@ -512,4 +533,7 @@ public class MappingR2dbcConverter extends MappingRelationalConverter implements
 		return source.getClass().isArray() ? CollectionUtils.arrayToList(source) : Collections.singleton(source);
 	}
 
+
+	private record ReadPlanKey(Class<?> type, List<String> columnNames) {
+	}
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.convert;
+
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.ReadableMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Precomputed plan to read a {@link Readable row} into a {@link RowDocument} for a given entity and row metadata
+ * shape. Matching persistent properties against the columns of the metadata happens once when creating the plan so that
+ * reading a row is a plain copy of the planned columns.
+ *
+ * @since 3.4
+ */
+final class RowReadPlan {
+
+	private final List<String> columnNames;
+	private final String[] keys;
+	private final @Nullable Class<?>[] readTypes;
+
+	private RowReadPlan(List<String> columnNames, String[] keys, @Nullable Class<?>[] readTypes) {
+
+		this.columnNames = columnNames;
+		this.keys = keys;
+		this.readTypes = readTypes;
+	}
+
+	/**
+	 * Create a {@link RowReadPlan} for the given entity and columns. Properties of the entity are read first, followed by
+	 * columns that are not mapped to a property.
+	 *
+	 * @param entity the entity to read, can be {@literal null} to read all columns.
+	 * @param columnNames the column names as reported by the row metadata.
+	 * @return the {@link RowReadPlan}.
+	 */
+	static RowReadPlan create(@Nullable RelationalPersistentEntity<?> entity, List<String> columnNames) {
+
+		Set<String> mapped = Collections.newSetFromMap(new LinkedCaseInsensitiveMap<>(columnNames.size()));
+		List<String> keys = new ArrayList<>(columnNames.size());
+		List<Class<?>> readTypes = new ArrayList<>(columnNames.size());
+
+		if (entity != null) {
+
+			for (RelationalPersistentProperty property : entity) {
+
+				String identifier = property.getColumnName().getReference();
+
+				if (property.isEntity() || !containsColumn(columnNames, identifier)) {
+					continue;
+				}
+
+				Class<?> propertyType = property.getType();
+				Class<?> readType = propertyType.equals(Clob.class) || propertyType.equals(Blob.class) ? propertyType : null;
+
+				mapped.add(identifier);
+				keys.add(identifier);
+				readTypes.add(readType);
+			}
+		}
+
+		for (String columnName : columnNames) {
+
+			if (!mapped.add(columnName)) {
+				continue;
+			}
+
+			keys.add(columnName);
+			readTypes.add(null);
+		}
+
+		return new RowReadPlan(columnNames, keys.toArray(new String[0]), readTypes.toArray(new Class<?>[0]));
+	}
+
+	/**
+	 * Check whether this plan was created for metadata with the same columns.
+	 *
+	 * @param metadata the row metadata.
+	 * @return {@literal true} if the column names match in order.
+	 */
+	boolean matches(Iterable<? extends ReadableMetadata> metadata) {
+
+		Iterator<? extends ReadableMetadata> iterator = metadata.iterator();
+
+		for (String columnName : columnNames) {
+			if (!iterator.hasNext() || !columnName.equals(iterator.next().getName())) {
+				return false;
+			}
+		}
+
+		return !iterator.hasNext();
+	}
+
+	/**
+	 * Read the {@link Readable row} into a new {@link RowDocument}.
+	 *
+	 * @param row the row to read.
+	 * @return the {@link RowDocument}.
+	 */
+	RowDocument read(Readable row) {
+
+		RowDocument document = new RowDocument(keys.length);
+
+		for (int i = 0; i < keys.length; i++) {
+
+			Class<?> readType = readTypes[i];
+			document.put(keys[i], readType != null ? row.get(keys[i], readType) : row.get(keys[i]));
+		}
+
+		return document;
+	}
+
+	/**
+	 * Return the column names of {@code metadata} in column order.
+	 *
+	 * @param metadata the row metadata.
+	 * @return the column names.
+	 */
+	static List<String> getColumnNames(Iterable<? extends ReadableMetadata> metadata) {
+
+		List<String> columnNames = new ArrayList<>();
+
+		for (ReadableMetadata columnMetadata : metadata) {
+			columnNames.add(columnMetadata.getName());
+		}
+
+		return columnNames;
+	}
+
+	private static boolean containsColumn(List<String> columnNames, String name) {
+
+		for (String columnName : columnNames) {
+			if (name.equalsIgnoreCase(columnName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
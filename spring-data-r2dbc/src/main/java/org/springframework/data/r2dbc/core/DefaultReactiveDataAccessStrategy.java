@@ -282,6 +282,39 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 		return this.expander.expand(query, this.dialect.getBindMarkersFactory(), new MapBindParameterSource(namedBindings));
 	}
 
+	/**
+	 * Return the number of parsed SQL statements served from the cache used by
+	 * {@link #processNamedParameters(String, NamedParameterProvider)}.
+	 *
+	 * @return the number of cache hits.
+	 * @since 3.4
+	 */
+	public long getNamedParameterCacheHitCount() {
+		return this.expander.getCacheHitCount();
+	}
+
+	/**
+	 * Return the number of SQL statements parsed by {@link #processNamedParameters(String, NamedParameterProvider)}
+	 * because they were not cached.
+	 *
+	 * @return the number of cache misses.
+	 * @since 3.4
+	 */
+	public long getNamedParameterCacheMissCount() {
+		return this.expander.getCacheMissCount();
+	}
+
+	/**
+	 * Return the number of parsed SQL statements removed from the cache used by
+	 * {@link #processNamedParameters(String, NamedParameterProvider)}.
+	 *
+	 * @return the number of cache evictions.
+	 * @since 3.4
+	 */
+	public long getNamedParameterCacheEvictionCount() {
+		return this.expander.getCacheEvictionCount();
+	}
+
 	@Override
 	public SqlIdentifier getTableName(Class<?> type) {
 		return getRequiredPersistentEntity(type).getQualifiedTableName();
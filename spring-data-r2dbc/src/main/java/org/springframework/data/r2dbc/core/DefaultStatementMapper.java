@@ -126,7 +126,12 @@ class DefaultStatementMapper implements StatementMapper {
 		}
 
 		if (selectSpec.getLock() != null) {
-			selectBuilder.lock(selectSpec.getLock());
+
+			if (selectSpec.getLockWaitTimeout() != null) {
+				selectBuilder.lock(selectSpec.getLock(), selectSpec.getLockWaitTimeout());
+			} else {
+				selectBuilder.lock(selectSpec.getLock(), selectSpec.getLockWaitPolicy());
+			}
 		}
 
 		Select select = selectBuilder.build();
@@ -183,6 +188,59 @@ class DefaultStatementMapper implements StatementMapper {
 		return new DefaultPreparedOperation<>(withBuild.build(), this.renderContext, bindings);
 	}
 
+	@Override
+	public PreparedOperation<Upsert> getMappedObject(UpsertSpec upsertSpec) {
+		return getMappedObject(upsertSpec, null);
+	}
+
+	private PreparedOperation<Upsert> getMappedObject(UpsertSpec upsertSpec,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		if (!this.renderContext.getUpsertRenderContext().isSupported()) {
+			throw new UnsupportedOperationException(
+					String.format("Upsert is not supported by %s", this.dialect.getClass().getName()));
+		}
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		Table table = Table.create(toSql(upsertSpec.getTable()));
+
+		BoundAssignments boundAssignments = this.updateMapper.getMappedObject(bindMarkers, upsertSpec.getAssignments(),
+				table, entity);
+
+		List<Column> columns = new ArrayList<>();
+		List<Expression> values = new ArrayList<>();
+
+		for (Assignment assignment : boundAssignments.getAssignments()) {
+
+			if (assignment instanceof AssignValue assignValue) {
+
+				columns.add(assignValue.getColumn());
+				values.add(assignValue.getValue());
+			}
+		}
+
+		UpsertBuilder.UpsertUpdate upsertBuilder = StatementBuilder.upsert(table).columns(columns).values(values)
+				.key(selectColumns(columns, upsertSpec.getKeyColumns()));
+
+		List<SqlIdentifier> updateColumns = upsertSpec.getUpdateColumns();
+		Upsert upsert = updateColumns != null ? upsertBuilder.update(selectColumns(columns, updateColumns)).build()
+				: upsertBuilder.build();
+
+		return new DefaultPreparedOperation<>(upsert, this.renderContext, boundAssignments.getBindings());
+	}
+
+	private static List<Column> selectColumns(List<Column> columns, List<SqlIdentifier> names) {
+
+		List<Column> selected = new ArrayList<>(names.size());
+
+		for (SqlIdentifier name : names) {
+			columns.stream().filter(column -> column.getName().getReference().equals(name.getReference())).findFirst()
+					.ifPresent(selected::add);
+		}
+
+		return selected;
+	}
+
 	@Override
 	public PreparedOperation<Update> getMappedObject(UpdateSpec updateSpec) {
 		return getMappedObject(updateSpec, null);
@@ -311,6 +369,10 @@ class DefaultStatementMapper implements StatementMapper {
 				return sqlRenderer.render((Delete) this.source);
 			}
 
+			if (this.source instanceof Upsert) {
+				return sqlRenderer.render((Upsert) this.source);
+			}
+
 			throw new IllegalStateException("Cannot render " + this.getSource());
 		}
 
@@ -354,6 +416,11 @@ class DefaultStatementMapper implements StatementMapper {
 			return DefaultStatementMapper.this.getMappedObject(deleteSpec, this.entity);
 		}
 
+		@Override
+		public PreparedOperation<?> getMappedObject(UpsertSpec upsertSpec) {
+			return DefaultStatementMapper.this.getMappedObject(upsertSpec, this.entity);
+		}
+
 		@Override
 		public RenderContext getRenderContext() {
 			return DefaultStatementMapper.this.getRenderContext();
@@ -15,15 +15,15 @@
  */
 package org.springframework.data.r2dbc.core;
 
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * SQL translation support allowing the use of named parameters rather than native placeholders.
@@ -52,15 +52,15 @@ class NamedParameterExpander {
 	private final Log logger = LogFactory.getLog(getClass());
 
 	/**
-	 * Cache of original SQL String to ParsedSql representation.
+	 * Cache of original SQL String to ParsedSql representation. Replaced when the cache limit changes.
 	 */
-	@SuppressWarnings("serial") private final Map<String, ParsedSql> parsedSqlCache = new LinkedHashMap<String, ParsedSql>(
-			DEFAULT_CACHE_LIMIT, 0.75f, true) {
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<String, ParsedSql> eldest) {
-			return size() > getCacheLimit();
-		}
-	};
+	private volatile ConcurrentLruCache<String, ParsedSql> parsedSqlCache = createCache(DEFAULT_CACHE_LIMIT);
+
+	private final LongAdder cacheRequests = new LongAdder();
+
+	private final LongAdder cacheMisses = new LongAdder();
+
+	private final LongAdder cacheEvictions = new LongAdder();
 
 	/**
 	 * Create a new enabled instance of {@link NamedParameterExpander}.
@@ -71,7 +71,14 @@ class NamedParameterExpander {
 	 * Specify the maximum number of entries for the SQL cache. Default is 256.
 	 */
 	public void setCacheLimit(int cacheLimit) {
+
 		this.cacheLimit = cacheLimit;
+
+		if (cacheLimit > 0) {
+
+			this.cacheEvictions.add(this.parsedSqlCache.size());
+			this.parsedSqlCache = createCache(cacheLimit);
+		}
 	}
 
 	/**
@@ -81,10 +88,40 @@ class NamedParameterExpander {
 		return this.cacheLimit;
 	}
 
+	/**
+	 * Return the number of parsed SQL statements served from the SQL cache.
+	 *
+	 * @since 3.4
+	 */
+	public long getCacheHitCount() {
+		return Math.max(0, this.cacheRequests.sum() - this.cacheMisses.sum());
+	}
+
+	/**
+	 * Return the number of SQL statements that were parsed because they were not present in the SQL cache.
+	 *
+	 * @since 3.4
+	 */
+	public long getCacheMissCount() {
+		return this.cacheMisses.sum();
+	}
+
+	/**
+	 * Return the number of parsed SQL statements removed from the SQL cache to stay within the
+	 * {@link #getCacheLimit() cache limit} or because the cache limit was changed. Evictions are counted when a parsed
+	 * statement is added to a full cache.
+	 *
+	 * @since 3.4
+	 */
+	public long getCacheEvictionCount() {
+		return this.cacheEvictions.sum();
+	}
+
 	/**
 	 * Obtain a parsed representation of the given SQL statement.
 	 * <p>
-	 * The default implementation uses an LRU cache with an upper limit of 256 entries.
+	 * The default implementation uses a concurrent LRU cache with an upper limit of 256 entries. Lookups do not acquire a
+	 * shared lock.
 	 *
 	 * @param sql the original SQL statement
 	 * @return a representation of the parsed SQL statement
@@ -95,16 +132,23 @@ class NamedParameterExpander {
 			return NamedParameterUtils.parseSqlStatement(sql);
 		}
 
-		synchronized (this.parsedSqlCache) {
+		this.cacheRequests.increment();
 
-			ParsedSql parsedSql = this.parsedSqlCache.get(sql);
-			if (parsedSql == null) {
+		return this.parsedSqlCache.get(sql);
+	}
+
+	private ConcurrentLruCache<String, ParsedSql> createCache(int cacheLimit) {
+
+		return new ConcurrentLruCache<>(cacheLimit, sql -> {
+
+			this.cacheMisses.increment();
 
-				parsedSql = NamedParameterUtils.parseSqlStatement(sql);
-				this.parsedSqlCache.put(sql, parsedSql);
+			if (this.parsedSqlCache.size() >= cacheLimit) {
+				this.cacheEvictions.increment();
 			}
-			return parsedSql;
-		}
+
+			return NamedParameterUtils.parseSqlStatement(sql);
+		});
 	}
 
 	/**
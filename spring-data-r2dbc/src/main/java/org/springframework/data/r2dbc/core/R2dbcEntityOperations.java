@@ -20,6 +20,7 @@ import io.r2dbc.spi.RowMetadata;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -266,6 +267,18 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> insert(T entity) throws DataAccessException;
 
+	/**
+	 * Insert the given entities and emit the inserted entities in the order of {@code entities}. Consecutive entities
+	 * that render to the same {@code INSERT} statement are sent as a single batched {@link io.r2dbc.spi.Statement} using
+	 * a binding per entity, saving a round trip per entity. Generated identifiers are populated for each entity.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @return the inserted entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.4
+	 */
+	<T> Flux<T> insertAll(Collection<? extends T> entities) throws DataAccessException;
+
 	/**
 	 * Update the given entity and emit the entity if the update was applied.
 	 *
@@ -276,6 +289,33 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> update(T entity) throws DataAccessException;
 
+	/**
+	 * Insert the given entity or update the row with the same identifier if it exists already, using a single
+	 * dialect-specific statement ({@code MERGE}, {@code INSERT … ON CONFLICT} or {@code INSERT … ON DUPLICATE KEY
+	 * UPDATE}) instead of deciding between insert and update upfront. The entity must carry its identifier.
+	 *
+	 * @param entity the entity to upsert, must not be {@literal null}.
+	 * @return the upserted entity.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @throws IllegalArgumentException if the entity has no identifier value or is versioned.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 * @since 3.4
+	 */
+	<T> Mono<T> upsert(T entity) throws DataAccessException;
+
+	/**
+	 * Upsert the given entities and emit the upserted entities in the order of {@code entities}. Consecutive entities
+	 * that render to the same statement are sent as a single batched {@link io.r2dbc.spi.Statement} using a binding per
+	 * entity.
+	 *
+	 * @param entities the entities to upsert, must not be {@literal null}.
+	 * @return the upserted entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @see #upsert(Object)
+	 * @since 3.4
+	 */
+	<T> Flux<T> upsertAll(Collection<? extends T> entities) throws DataAccessException;
+
 	/**
 	 * Delete the given entity and emit the entity if the delete was applied.
 	 *
@@ -16,17 +16,25 @@
 package org.springframework.data.r2dbc.core;
 
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -36,6 +44,8 @@ import org.reactivestreams.Publisher;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
@@ -45,6 +55,7 @@ import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.callback.EntityCallback;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.EntityProjection;
@@ -68,9 +79,12 @@ import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.data.util.Lazy;
+import org.springframework.data.util.Pair;
 import org.springframework.data.util.Predicates;
 import org.springframework.data.util.ProxyUtils;
 import org.springframework.lang.Nullable;
@@ -78,7 +92,9 @@ import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.r2dbc.core.Parameter;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.r2dbc.core.binding.BindTarget;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Implementation of {@link R2dbcEntityOperations}. It simplifies the use of Reactive R2DBC usage through entities and
@@ -98,6 +114,11 @@ import org.springframework.util.Assert;
  */
 public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAware, ApplicationContextAware {
 
+	/**
+	 * Maximum number of bindings added to a single batched {@link Statement}.
+	 */
+	static final int MAX_BATCH_SIZE = 256;
+
 	private final DatabaseClient databaseClient;
 
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
@@ -110,6 +131,10 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
+	private Lazy<Boolean> afterConvertCallbacksPresent = Lazy.of(true);
+
+	private final boolean afterConvertOverridden = overridesAfterConvert(getClass());
+
 	/**
 	 * Create a new {@link R2dbcEntityTemplate} given {@link ConnectionFactory}.
 	 *
@@ -196,6 +221,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(ReactiveEntityCallbacks.create(applicationContext));
+			this.afterConvertCallbacksPresent = Lazy.of(() -> containsAfterConvertCallback(applicationContext));
 		}
 
 		projectionFactory.setBeanFactory(applicationContext);
@@ -217,6 +243,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null");
 		this.entityCallbacks = entityCallbacks;
+		this.afterConvertCallbacksPresent = Lazy.of(true);
 	}
 
 	// -------------------------------------------------------------------------
@@ -323,6 +350,10 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		P result = resultHandler.apply(fetchSpec);
 
+		if (!requiresAfterConvert()) {
+			return result;
+		}
+
 		if (result instanceof Mono) {
 			return (P) ((Mono<?>) result).flatMap(it -> maybeCallAfterConvert(it, tableName));
 		}
@@ -356,6 +387,14 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
 		}
 
+		LockMode lockMode = query.getLockMode();
+		if (lockMode != null) {
+
+			Duration lockWaitTimeout = query.getLockWaitTimeout();
+			selectSpec = lockWaitTimeout != null ? selectSpec.lock(lockMode, lockWaitTimeout)
+					: selectSpec.lock(lockMode, query.getLockWaitPolicy());
+		}
+
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
 
 		return getRowsFetchSpec(databaseClient.sql(operation), entityType, returnType);
@@ -472,6 +511,43 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	<T> Mono<T> doInsert(T entity, SqlIdentifier tableName) {
 
+		return prepareInsert(entity, tableName) //
+				.flatMap(this::doInsert) //
+				.flatMap(saved -> maybeCallAfterSave(saved.entity(), saved.outboundRow(), tableName));
+	}
+
+	@Override
+	public <T> Flux<T> insertAll(Collection<? extends T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		if (entities.isEmpty()) {
+			return Flux.empty();
+		}
+
+		return doInsertAll(entities, entity -> getRequiredEntity(entity).getQualifiedTableName());
+	}
+
+	<T> Flux<T> doInsertAll(Collection<? extends T> entities, SqlIdentifier tableName) {
+		return doInsertAll(entities, entity -> tableName);
+	}
+
+	/**
+	 * Insert the given entities resolving the table to insert into for each entity. Consecutive entities of the same type
+	 * targeting the same table are inserted as a batch of at most {@link #MAX_BATCH_SIZE} entities.
+	 */
+	private <T> Flux<T> doInsertAll(Collection<? extends T> entities, Function<Object, SqlIdentifier> tableNameFunction) {
+
+		return Flux.fromIterable(entities) //
+				.concatMap(entity -> prepareInsert(entity, tableNameFunction.apply(entity))) //
+				.bufferUntilChanged(insert -> Pair.of(insert.entity().getClass(), insert.operation().toQuery())) //
+				.concatMap(inserts -> Flux.fromIterable(inserts).buffer(MAX_BATCH_SIZE)) //
+				.concatMap(this::doInsertBatch) //
+				.concatMap(saved -> maybeCallAfterSave(saved.entity(), saved.outboundRow(), saved.tableName()));
+	}
+
+	private <T> Mono<PreparedWrite<T>> prepareInsert(T entity, SqlIdentifier tableName) {
+
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
 		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
@@ -483,7 +559,8 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			potentiallyRemoveId(persistentEntity, outboundRow);
 
 			return maybeCallBeforeSave(initializedEntity, outboundRow, tableName) //
-					.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow));
+					.map(entityToSave -> new PreparedWrite<>(entityToSave, tableName, outboundRow,
+							createInsertOperation(tableName, outboundRow)));
 		});
 	}
 
@@ -515,7 +592,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return false;
 	}
 
-	private <T> Mono<T> doInsert(T entity, SqlIdentifier tableName, OutboundRow outboundRow) {
+	private PreparedOperation<?> createInsertOperation(SqlIdentifier tableName, OutboundRow outboundRow) {
 
 		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
 		StatementMapper.InsertSpec insert = mapper.createInsert(tableName);
@@ -527,21 +604,84 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			}
 		}
 
-		PreparedOperation<?> operation = mapper.getMappedObject(insert);
+		return mapper.getMappedObject(insert);
+	}
+
+	private <T> Mono<PreparedWrite<T>> doInsert(PreparedWrite<T> insert) {
 
+		T entity = insert.entity();
 		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(entity.getClass());
 
-		return this.databaseClient.sql(operation) //
-				.filter(statement -> {
+		return this.databaseClient.sql(insert.operation()) //
+				.filter(statement -> returnGeneratedValues(statement, identifierColumns))
+				.map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
+				.all() //
+				.last(entity).map(insert::withEntity);
+	}
 
-					if (identifierColumns.isEmpty()) {
-						return statement.returnGeneratedValues();
-					}
+	/**
+	 * Insert a group of entities sharing the same {@code INSERT} statement by adding a binding for each entity to a single
+	 * {@link Statement}. The statement is run through {@link DatabaseClient} so that its statement filters and execute
+	 * function apply. Each binding yields its own {@link Result} so generated identifiers are populated in the order of
+	 * the given entities. {@link DatabaseClient} consumes {@link Result}s concurrently, therefore each {@link Result} is
+	 * assigned to its entity on arrival and the entities are emitted in their original order once the statement completes.
+	 */
+	private <T> Flux<PreparedWrite<T>> doInsertBatch(List<PreparedWrite<T>> inserts) {
 
-					return statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
-				}).map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
-				.all() //
-				.last(entity).flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
+		if (inserts.size() == 1) {
+			return doInsert(inserts.get(0)).flux();
+		}
+
+		List<SqlIdentifier> identifierColumns = dataAccessStrategy
+				.getIdentifierColumns(inserts.get(0).entity().getClass());
+
+		return Flux.defer(() -> {
+
+			AtomicInteger resultIndex = new AtomicInteger();
+			AtomicReferenceArray<PreparedWrite<T>> saved = new AtomicReferenceArray<>(inserts.size());
+
+			return this.databaseClient.sql(inserts.get(0).operation()) //
+					.filter((statement, next) -> next
+							.execute(returnGeneratedValues(addBindings(statement, inserts), identifierColumns))) //
+					.flatMap(result -> {
+
+						int index = resultIndex.getAndIncrement();
+						PreparedWrite<T> insert = inserts.get(index);
+						T entity = insert.entity();
+
+						return Flux.from(result.map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity))) //
+								.last(entity) //
+								.doOnNext(populated -> saved.set(index, insert.withEntity(populated)));
+					}) //
+					.thenMany(Flux.range(0, inserts.size()) //
+							.map(index -> saved.get(index) != null ? saved.get(index) : inserts.get(index)));
+		});
+	}
+
+	/**
+	 * Add a binding for each but the first of the given writes to {@link Statement}. The first write is expected to be
+	 * bound already.
+	 */
+	private static Statement addBindings(Statement statement, List<? extends PreparedWrite<?>> writes) {
+
+		StatementBindTarget bindTarget = new StatementBindTarget(statement);
+
+		for (int i = 1; i < writes.size(); i++) {
+
+			statement.add();
+			writes.get(i).operation().bindTo(bindTarget);
+		}
+
+		return statement;
+	}
+
+	private Statement returnGeneratedValues(Statement statement, List<SqlIdentifier> identifierColumns) {
+
+		if (identifierColumns.isEmpty()) {
+			return statement.returnGeneratedValues();
+		}
+
+		return statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -643,6 +783,93 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 				}).then(maybeCallAfterSave(entity, outboundRow, tableName));
 	}
 
+	@Override
+	public <T> Mono<T> upsert(T entity) throws DataAccessException {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return prepareUpsert(entity, getRequiredEntity(entity).getQualifiedTableName()) //
+				.flatMap(upsert -> this.databaseClient.sql(upsert.operation()).fetch().rowsUpdated().thenReturn(upsert)) //
+				.flatMap(saved -> maybeCallAfterSave(saved.entity(), saved.outboundRow(), saved.tableName()));
+	}
+
+	@Override
+	public <T> Flux<T> upsertAll(Collection<? extends T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		if (entities.isEmpty()) {
+			return Flux.empty();
+		}
+
+		return Flux.fromIterable(entities) //
+				.concatMap(entity -> prepareUpsert(entity, getRequiredEntity(entity).getQualifiedTableName())) //
+				.bufferUntilChanged(upsert -> Pair.of(upsert.entity().getClass(), upsert.operation().toQuery())) //
+				.concatMap(upserts -> Flux.fromIterable(upserts).buffer(MAX_BATCH_SIZE)) //
+				.concatMap(this::doUpsertBatch) //
+				.concatMap(saved -> maybeCallAfterSave(saved.entity(), saved.outboundRow(), saved.tableName()));
+	}
+
+	private <T> Mono<PreparedWrite<T>> prepareUpsert(T entity, SqlIdentifier tableName) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
+		Assert.isTrue(persistentEntity.hasIdProperty(),
+				() -> String.format("Entity %s must declare an identifier to be upserted", persistentEntity.getName()));
+		Assert.isTrue(!persistentEntity.hasVersionProperty(), () -> String
+				.format("Versioned entity %s cannot be upserted; Use insert or update instead", persistentEntity.getName()));
+
+		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
+
+			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(onBeforeConvert);
+			SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
+
+			Assert.isTrue(outboundRow.containsKey(idColumn) && outboundRow.get(idColumn).hasValue(),
+					() -> String.format("Entity %s must have an identifier value to be upserted", onBeforeConvert));
+
+			return maybeCallBeforeSave(onBeforeConvert, outboundRow, tableName) //
+					.map(entityToSave -> new PreparedWrite<>(entityToSave, tableName, outboundRow,
+							createUpsertOperation(tableName, outboundRow, persistentEntity)));
+		});
+	}
+
+	private PreparedOperation<?> createUpsertOperation(SqlIdentifier tableName, OutboundRow outboundRow,
+			RelationalPersistentEntity<?> persistentEntity) {
+
+		SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
+		List<SqlIdentifier> updateColumns = new ArrayList<>(outboundRow.keySet());
+		updateColumns.remove(idColumn);
+
+		persistentEntity.forEach(p -> {
+			if (p.isInsertOnly()) {
+				updateColumns.remove(p.getColumnName());
+			}
+		});
+
+		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+		StatementMapper.UpsertSpec upsert = mapper.createUpsert(tableName).withKey(idColumn).withUpdate(updateColumns);
+
+		for (SqlIdentifier column : outboundRow.keySet()) {
+			upsert = upsert.withColumn(column, outboundRow.get(column));
+		}
+
+		return mapper.getMappedObject(upsert);
+	}
+
+	/**
+	 * Upsert a group of entities sharing the same statement by adding a binding for each entity to a single
+	 * {@link Statement}. The statement is run through the {@link DatabaseClient} to apply its filters and execute
+	 * function.
+	 */
+	private <T> Flux<PreparedWrite<T>> doUpsertBatch(List<PreparedWrite<T>> upserts) {
+
+		return this.databaseClient.sql(upserts.get(0).operation()) //
+				.filter((statement, next) -> next.execute(addBindings(statement, upserts))) //
+				.fetch() //
+				.rowsUpdated() //
+				.thenMany(Flux.fromIterable(upserts));
+	}
+
 	private <T> String formatOptimisticLockingExceptionMessage(T entity, RelationalPersistentEntity<T> persistentEntity) {
 
 		return String.format("Failed to update table [%s]; Version does not match for row with Id [%s]",
@@ -733,6 +960,40 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return Mono.just(object);
 	}
 
+	/**
+	 * Returns whether results need to pass through {@link #maybeCallAfterConvert(Object, SqlIdentifier)}. Selects stream
+	 * rows without a per-row callback hop when neither {@link AfterConvertCallback callbacks} are registered nor
+	 * {@link #maybeCallAfterConvert(Object, SqlIdentifier)} is overridden.
+	 */
+	private boolean requiresAfterConvert() {
+		return afterConvertOverridden || (entityCallbacks != null && afterConvertCallbacksPresent.get());
+	}
+
+	private static boolean overridesAfterConvert(Class<?> type) {
+
+		Method method = ReflectionUtils.findMethod(type, "maybeCallAfterConvert", Object.class, SqlIdentifier.class);
+		return method != null && method.getDeclaringClass() != R2dbcEntityTemplate.class;
+	}
+
+	/**
+	 * Check whether {@code beanFactory} contains an {@link EntityCallback} that is or may be an
+	 * {@link AfterConvertCallback}. Callbacks whose type cannot be determined are considered to be present.
+	 */
+	private static boolean containsAfterConvertCallback(ListableBeanFactory beanFactory) {
+
+		for (String beanName : BeanFactoryUtils.beanNamesForTypeIncludingAncestors(beanFactory, EntityCallback.class)) {
+
+			Class<?> type = beanFactory.getType(beanName);
+
+			if (type == null || AfterConvertCallback.class.isAssignableFrom(type)
+					|| type.isAssignableFrom(AfterConvertCallback.class)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	private <T> Query getByIdQuery(T entity, RelationalPersistentEntity<?> persistentEntity) {
 
 		if (!persistentEntity.hasIdProperty()) {
@@ -897,17 +1158,62 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		@Override
 		public Mono<T> one() {
-			return delegate.one().flatMap(it -> maybeCallAfterConvert(it, tableName));
+
+			Mono<T> one = delegate.one();
+			return requiresAfterConvert() ? one.flatMap(it -> maybeCallAfterConvert(it, tableName)) : one;
 		}
 
 		@Override
 		public Mono<T> first() {
-			return delegate.first().flatMap(it -> maybeCallAfterConvert(it, tableName));
+
+			Mono<T> first = delegate.first();
+			return requiresAfterConvert() ? first.flatMap(it -> maybeCallAfterConvert(it, tableName)) : first;
 		}
 
 		@Override
 		public Flux<T> all() {
-			return delegate.all().concatMap(it -> maybeCallAfterConvert(it, tableName));
+
+			Flux<T> all = delegate.all();
+			return requiresAfterConvert() ? all.concatMap(it -> maybeCallAfterConvert(it, tableName)) : all;
+		}
+	}
+
+	/**
+	 * Entity prepared for insertion or upsert along with its table, {@link OutboundRow} and the statement to run.
+	 *
+	 * @param <T>
+	 */
+	private record PreparedWrite<T>(T entity, SqlIdentifier tableName, OutboundRow outboundRow,
+			PreparedOperation<?> operation) {
+
+		PreparedWrite<T> withEntity(T entity) {
+			return new PreparedWrite<>(entity, tableName, outboundRow, operation);
+		}
+	}
+
+	/**
+	 * {@link BindTarget} adapter binding values to a R2DBC {@link Statement}.
+	 */
+	private record StatementBindTarget(Statement statement) implements BindTarget {
+
+		@Override
+		public void bind(String identifier, Object value) {
+			statement.bind(identifier, value);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+			statement.bind(index, value);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			statement.bindNull(identifier, type);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			statement.bindNull(index, type);
 		}
 	}
 
@@ -15,8 +15,11 @@
  */
 package org.springframework.data.r2dbc.core;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
@@ -95,6 +98,17 @@ public interface ReactiveInsertOperation {
 		 * @see Mono
 		 */
 		Mono<T> using(T object);
+
+		/**
+		 * Insert a collection of objects using batched statements.
+		 *
+		 * @param objects collection of {@link Object objects} to insert; must not be {@literal null}.
+		 * @return the write result for this operation.
+		 * @throws IllegalArgumentException if {@link Collection objects} is {@literal null}.
+		 * @see R2dbcEntityOperations#insertAll(Collection)
+		 * @since 3.4
+		 */
+		Flux<T> all(Collection<? extends T> objects);
 	}
 
 	/**
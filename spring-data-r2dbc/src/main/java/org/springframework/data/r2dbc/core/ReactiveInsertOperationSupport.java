@@ -15,8 +15,11 @@
  */
 package org.springframework.data.r2dbc.core;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -72,6 +75,14 @@ class ReactiveInsertOperationSupport implements ReactiveInsertOperation {
 			return template.doInsert(object, getTableName());
 		}
 
+		@Override
+		public Flux<T> all(Collection<? extends T> objects) {
+
+			Assert.notNull(objects, "Objects to insert must not be null");
+
+			return template.doInsertAll(objects, getTableName());
+		}
+
 		private SqlIdentifier getTableName() {
 			return tableName != null ? tableName : template.getTableName(domainType);
 		}
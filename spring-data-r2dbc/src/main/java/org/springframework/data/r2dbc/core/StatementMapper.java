@@ -15,6 +15,7 @@
  */
 package org.springframework.data.r2dbc.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,6 +35,7 @@ import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.render.RenderContext;
@@ -115,6 +117,18 @@ public interface StatementMapper {
 	 */
 	PreparedOperation<?> getMappedObject(DeleteSpec deleteSpec);
 
+	/**
+	 * Map a upsert specification to a {@link PreparedOperation}.
+	 *
+	 * @param upsertSpec the upsert operation definition, must not be {@literal null}.
+	 * @return the {@link PreparedOperation} for {@link UpsertSpec}.
+	 * @throws UnsupportedOperationException if the mapper or the underlying dialect does not support upserts.
+	 * @since 3.4
+	 */
+	default PreparedOperation<?> getMappedObject(UpsertSpec upsertSpec) {
+		throw new UnsupportedOperationException("Upsert is not supported by " + getClass().getName());
+	}
+
 	/**
 	 * Extension to {@link StatementMapper} that is associated with a type.
 	 *
@@ -185,6 +199,17 @@ public interface StatementMapper {
 		return UpdateSpec.create(table, update);
 	}
 
+	/**
+	 * Create an upsert specification for {@code table}.
+	 *
+	 * @param table
+	 * @return the {@link UpsertSpec}.
+	 * @since 3.4
+	 */
+	default UpsertSpec createUpsert(SqlIdentifier table) {
+		return UpsertSpec.create(table);
+	}
+
 	/**
 	 * Create a {@code DELETE} specification for {@code table}.
 	 *
@@ -230,9 +255,21 @@ public interface StatementMapper {
 		private final int limit;
 		private final boolean distinct;
 		private final LockMode lockMode;
+		private final LockWaitPolicy lockWaitPolicy;
+		private final @Nullable Duration lockWaitTimeout;
 
 		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
 				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct, LockMode lockMode) {
+			this(table, projectedFields, selectList, criteria, sort, limit, offset, distinct, lockMode, LockWaitPolicy.WAIT,
+					null);
+		}
+
+		/**
+		 * @since 3.4
+		 */
+		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
+				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct,
+				@Nullable LockMode lockMode, LockWaitPolicy lockWaitPolicy, @Nullable Duration lockWaitTimeout) {
 			this.table = table;
 			this.projectedFields = projectedFields;
 			this.selectList = selectList;
@@ -242,6 +279,8 @@ public interface StatementMapper {
 			this.limit = limit;
 			this.distinct = distinct;
 			this.lockMode = lockMode;
+			this.lockWaitPolicy = lockWaitPolicy;
+			this.lockWaitTimeout = lockWaitTimeout;
 		}
 
 		/**
@@ -266,7 +305,7 @@ public interface StatementMapper {
 			List<String> projectedFields = Collections.emptyList();
 			List<Expression> selectList = Collections.emptyList();
 			return new SelectSpec(Table.create(table), projectedFields, selectList, Criteria.empty(), Sort.unsorted(), -1, -1,
-					false, null);
+					false, null, LockWaitPolicy.WAIT, null);
 		}
 
 		public SelectSpec doWithTable(BiFunction<Table, SelectSpec, SelectSpec> function) {
@@ -308,7 +347,7 @@ public interface StatementMapper {
 			selectList.addAll(Arrays.asList(expressions));
 
 			return new SelectSpec(this.table, projectedFields, selectList, this.criteria, this.sort, this.limit, this.offset,
-					this.distinct, this.lockMode);
+					this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -324,7 +363,7 @@ public interface StatementMapper {
 			selectList.addAll(projectedFields);
 
 			return new SelectSpec(this.table, this.projectedFields, selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -335,7 +374,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec withCriteria(CriteriaDefinition criteria) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -348,11 +387,11 @@ public interface StatementMapper {
 
 			if (sort.isSorted()) {
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, sort, this.limit,
-						this.offset, this.distinct, this.lockMode);
+						this.offset, this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -368,11 +407,12 @@ public interface StatementMapper {
 				Sort sort = page.getSort();
 
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria,
-						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode);
+						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode,
+						this.lockWaitPolicy, this.lockWaitTimeout);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -383,7 +423,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec offset(long offset) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					offset, this.distinct, this.lockMode);
+					offset, this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -394,7 +434,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec limit(int limit) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -404,7 +444,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec distinct() {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, true, this.lockMode);
+					this.offset, true, this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 		}
 
 		/**
@@ -414,8 +454,34 @@ public interface StatementMapper {
 		 * @return the {@link SelectSpec}.
 		 */
 		public SelectSpec lock(LockMode lockMode) {
+			return lock(lockMode, LockWaitPolicy.WAIT);
+		}
+
+		/**
+		 * Associate a lock mode and a {@link LockWaitPolicy} with the select and create a new {@link SelectSpec}.
+		 *
+		 * @param lockMode the {@link LockMode} we want to use.
+		 * @param lockWaitPolicy how to treat rows locked by other transactions.
+		 * @return the {@link SelectSpec}.
+		 * @since 3.4
+		 */
+		public SelectSpec lock(LockMode lockMode, LockWaitPolicy lockWaitPolicy) {
+			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
+					this.offset, this.distinct, lockMode, lockWaitPolicy, null);
+		}
+
+		/**
+		 * Associate a lock mode with the select waiting at most {@code lockWaitTimeout} for rows locked by other
+		 * transactions and create a new {@link SelectSpec}.
+		 *
+		 * @param lockMode the {@link LockMode} we want to use.
+		 * @param lockWaitTimeout maximum time to wait for conflicting locks, must be positive.
+		 * @return the {@link SelectSpec}.
+		 * @since 3.4
+		 */
+		public SelectSpec lock(LockMode lockMode, Duration lockWaitTimeout) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, lockMode);
+					this.offset, this.distinct, lockMode, LockWaitPolicy.WAIT, lockWaitTimeout);
 		}
 
 		/**
@@ -428,6 +494,27 @@ public interface StatementMapper {
 			return this.lockMode;
 		}
 
+		/**
+		 * The {@link LockWaitPolicy} to apply if a {@link #getLock() lock mode} is defined.
+		 *
+		 * @return the {@link LockWaitPolicy}, defaults to {@link LockWaitPolicy#WAIT}.
+		 * @since 3.4
+		 */
+		public LockWaitPolicy getLockWaitPolicy() {
+			return this.lockWaitPolicy;
+		}
+
+		/**
+		 * The maximum time to wait for conflicting locks if a {@link #getLock() lock mode} is defined.
+		 *
+		 * @return the lock wait timeout, {@literal null} to wait indefinitely.
+		 * @since 3.4
+		 */
+		@Nullable
+		public Duration getLockWaitTimeout() {
+			return this.lockWaitTimeout;
+		}
+
 		public Table getTable() {
 			return this.table;
 		}
@@ -530,6 +617,91 @@ public interface StatementMapper {
 		}
 	}
 
+	/**
+	 * Upsert specification inserting a row or updating it if a row with the same key exists already.
+	 *
+	 * @since 3.4
+	 */
+	class UpsertSpec {
+
+		private final SqlIdentifier table;
+		private final Map<SqlIdentifier, Parameter> assignments;
+		private final List<SqlIdentifier> keyColumns;
+		private final @Nullable List<SqlIdentifier> updateColumns;
+
+		protected UpsertSpec(SqlIdentifier table, Map<SqlIdentifier, Parameter> assignments,
+				List<SqlIdentifier> keyColumns, @Nullable List<SqlIdentifier> updateColumns) {
+			this.table = table;
+			this.assignments = assignments;
+			this.keyColumns = keyColumns;
+			this.updateColumns = updateColumns;
+		}
+
+		/**
+		 * Create an upsert specification for {@code table}.
+		 *
+		 * @param table
+		 * @return the {@link UpsertSpec}.
+		 */
+		public static UpsertSpec create(SqlIdentifier table) {
+			return new UpsertSpec(table, Collections.emptyMap(), Collections.emptyList(), null);
+		}
+
+		/**
+		 * Associate a column with a {@link Parameter} and create a new {@link UpsertSpec}.
+		 *
+		 * @param column
+		 * @param value
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withColumn(SqlIdentifier column, Parameter value) {
+
+			Map<SqlIdentifier, Parameter> values = new LinkedHashMap<>(this.assignments);
+			values.put(column, value);
+
+			return new UpsertSpec(this.table, values, this.keyColumns, this.updateColumns);
+		}
+
+		/**
+		 * Declare the key columns identifying an existing row and create a new {@link UpsertSpec}. Key columns must be
+		 * associated with a value through {@link #withColumn(SqlIdentifier, Parameter)}.
+		 *
+		 * @param keyColumns
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withKey(SqlIdentifier... keyColumns) {
+			return new UpsertSpec(this.table, this.assignments, Arrays.asList(keyColumns), this.updateColumns);
+		}
+
+		/**
+		 * Restrict the columns updated for an existing row and create a new {@link UpsertSpec}. Without restriction, all
+		 * columns that are not key columns get updated.
+		 *
+		 * @param updateColumns
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withUpdate(Collection<SqlIdentifier> updateColumns) {
+			return new UpsertSpec(this.table, this.assignments, this.keyColumns, new ArrayList<>(updateColumns));
+		}
+
+		public SqlIdentifier getTable() {
+			return this.table;
+		}
+
+		public Map<SqlIdentifier, Parameter> getAssignments() {
+			return Collections.unmodifiableMap(this.assignments);
+		}
+
+		public List<SqlIdentifier> getKeyColumns() {
+			return Collections.unmodifiableList(this.keyColumns);
+		}
+
+		@Nullable
+		public List<SqlIdentifier> getUpdateColumns() {
+			return this.updateColumns != null ? Collections.unmodifiableList(this.updateColumns) : null;
+		}
+	}
+
 	/**
 	 * {@code UPDATE} specification.
 	 */
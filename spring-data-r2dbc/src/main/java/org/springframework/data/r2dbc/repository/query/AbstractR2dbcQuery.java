@@ -17,7 +17,10 @@ package org.springframework.data.r2dbc.repository.query;
 
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
@@ -89,13 +92,18 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 			fetchSpec = entityOperations.getDatabaseClient().sql(operation).fetch();
 		} else if (isExistsQuery()) {
 			fetchSpec = entityOperations.getDatabaseClient().sql(operation).map(row -> true);
+		} else if (method.isScrollQuery()) {
+
+			// positions are obtained from the entities, projections are applied to the resulting window
+			fetchSpec = entityOperations.query(operation, processor.getReturnedType().getDomainType());
 		} else {
 			fetchSpec = entityOperations.query(operation, processor.getReturnedType()
 							.getDomainType(),
 					resolveResultType(processor));
 		}
 
-		R2dbcQueryExecution execution = new ResultProcessingExecution(getExecutionToWrap(processor.getReturnedType()),
+		R2dbcQueryExecution execution = new ResultProcessingExecution(
+				getExecutionToWrap(processor.getReturnedType(), parameterAccessor),
 				new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
 
 		return execution.execute((RowsFetchSpec) fetchSpec);
@@ -112,7 +120,8 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		return returnedType.getReturnedType();
 	}
 
-	private R2dbcQueryExecution getExecutionToWrap(ReturnedType returnedType) {
+	private R2dbcQueryExecution getExecutionToWrap(ReturnedType returnedType,
+			RelationalParameterAccessor parameterAccessor) {
 
 		if (isModifyingQuery()) {
 
@@ -148,6 +157,10 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 			return (fetchSpec) -> fetchSpec.first().defaultIfEmpty(false);
 		}
 
+		if (method.isScrollQuery()) {
+			return (fetchSpec) -> fetchSpec.all().collectList().map(content -> createWindow(content, parameterAccessor));
+		}
+
 		if (method.isCollectionQuery()) {
 			return RowsFetchSpec::all;
 		}
@@ -179,6 +192,20 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 	 */
 	protected abstract boolean isExistsQuery();
 
+	/**
+	 * Creates a {@link Window} from the result of a query method returning a {@link Window}. Subclasses supporting
+	 * scroll queries must override this method.
+	 *
+	 * @param content the query result.
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link Window} to return.
+	 * @since 3.4
+	 */
+	protected <T> Window<T> createWindow(List<T> content, RelationalParameterAccessor accessor) {
+		throw new UnsupportedOperationException(
+				String.format("Query method %s does not support scrolling", method.getName()));
+	}
+
 	/**
 	 * Creates a {@link BindableQuery} instance using the given {@link ParameterAccessor}
 	 *
@@ -20,19 +20,32 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.KeysetScrollSupport;
+import org.springframework.data.relational.repository.query.QueryShape;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParameters;
+import org.springframework.data.relational.repository.query.RelationalQueryCreator;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindTarget;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * An {@link AbstractR2dbcQuery} implementation based on a {@link PartTree}.
@@ -44,10 +57,17 @@ import org.springframework.r2dbc.core.PreparedOperation;
  */
 public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 
+	/**
+	 * Maximum number of rendered SQL statements retained per query method, evicting the least recently used ones.
+	 */
+	static final int COMPILED_QUERY_CACHE_LIMIT = 256;
+
 	private final ResultProcessor processor;
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
 	private final RelationalParameters parameters;
 	private final PartTree tree;
+	private final ConcurrentLruCache<QueryShape, AtomicReference<String>> compiledQueries = new ConcurrentLruCache<>(
+			COMPILED_QUERY_CACHE_LIMIT, shape -> new AtomicReference<>());
 
 	/**
 	 * Creates new instance of this class with the given {@link R2dbcQueryMethod}, {@link DatabaseClient},
@@ -70,6 +90,7 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 			this.tree = new PartTree(method.getName(), processor.getReturnedType()
 					.getDomainType());
 			R2dbcQueryCreator.validate(this.tree, this.parameters);
+			method.getLock().ifPresent(lock -> RelationalQueryCreator.validate(lock, dataAccessStrategy.getDialect().lock()));
 		} catch (RuntimeException e) {
 			throw new IllegalArgumentException(
 					String.format("Failed to create query for method %s; %s", method, e.getMessage()), e);
@@ -105,15 +126,95 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 
 			RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 			R2dbcQueryCreator queryCreator = new R2dbcQueryCreator(tree, dataAccessStrategy, entityMetadata, accessor,
-					projectedProperties, this.getQueryMethod().getLock());
-			return queryCreator.createQuery(getDynamicSort(accessor));
+					projectedProperties, this.getQueryMethod().getLock(),
+					getQueryMethod().isScrollQuery() ? accessor.getScrollPosition() : null);
+			Sort dynamicSort = getDynamicSort(accessor);
+			PreparedOperation<?> operation = queryCreator.createQuery(dynamicSort);
+
+			// keyset criteria and offsets of scroll queries depend on the actual scroll position
+			if (getQueryMethod().isScrollQuery()) {
+				return operation;
+			}
+
+			return new CompiledPreparedOperation<>(operation,
+					QueryShape.of(accessor, dynamicSort, accessor.getPageable(), Limit.unlimited(), projectedProperties));
 		});
 	}
 
+	@Override
+	protected <T> Window<T> createWindow(List<T> content, RelationalParameterAccessor accessor) {
+
+		ScrollPosition scrollPosition = accessor.getScrollPosition();
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+		int limit = RelationalQueryCreator.getScrollLimit(tree, accessor);
+
+		if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+			RelationalPersistentEntity<?> entity = getQueryMethod().getEntityInformation().getTableEntity();
+			Sort sort = KeysetScrollSupport.getSort(tree.getSort().and(getDynamicSort(accessor)), keyset, entity);
+
+			return KeysetScrollSupport.createWindow(content, limit, keyset, sort, entity);
+		}
+
+		if (scrollPosition instanceof OffsetScrollPosition offset) {
+
+			boolean hasNext = limit > 0 && content.size() > limit;
+			return Window.from(hasNext ? content.subList(0, limit) : content, offset.positionFunction(), hasNext);
+		}
+
+		return super.createWindow(content, accessor);
+	}
+
 	private Sort getDynamicSort(RelationalParameterAccessor accessor) {
 		return parameters.potentiallySortsDynamically() ? accessor.getSort() : Sort.unsorted();
 	}
 
+	/**
+	 * {@link PreparedOperation} reusing the SQL compiled for the same {@link QueryShape}. Bindings are taken from the
+	 * mapped operation as bind markers are allocated in the same order for queries of the same shape. The mapped
+	 * statement itself is still built per invocation as its bindings are collected while mapping the criteria; only
+	 * rendering is skipped for known shapes.
+	 *
+	 * @param <T>
+	 */
+	class CompiledPreparedOperation<T> implements PreparedOperation<T> {
+
+		private final PreparedOperation<T> delegate;
+		private final QueryShape shape;
+
+		CompiledPreparedOperation(PreparedOperation<T> delegate, QueryShape shape) {
+			this.delegate = delegate;
+			this.shape = shape;
+		}
+
+		@Override
+		public T getSource() {
+			return delegate.getSource();
+		}
+
+		@Override
+		public String toQuery() {
+
+			AtomicReference<String> compiledQuery = compiledQueries.get(shape);
+
+			String sql = compiledQuery.get();
+			if (sql != null) {
+				return sql;
+			}
+
+			String query = delegate.toQuery();
+			compiledQuery.compareAndSet(null, query);
+
+			return query;
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+			delegate.bindTo(target);
+		}
+	}
+
 	@Override
 	public String toString() {
 		String sb = getClass().getSimpleName()
@@ -15,19 +15,27 @@
  */
 package org.springframework.data.r2dbc.repository.query;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.core.StatementMapper;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetScrollSupport;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
@@ -62,6 +70,7 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 	private final List<String> projectedProperties;
 	private final Class<?> entityToRead;
 	private final Optional<Lock> lock;
+	private final @Nullable ScrollPosition scrollPosition;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link ReactiveDataAccessStrategy},
@@ -72,10 +81,31 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
 	 * @param accessor parameter metadata provider, must not be {@literal null}.
 	 * @param projectedProperties properties to project, must not be {@literal null}.
+	 * @param lock the {@link Lock} to apply to the query, must not be {@literal null}.
 	 */
 	public R2dbcQueryCreator(PartTree tree, ReactiveDataAccessStrategy dataAccessStrategy,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor,
 			List<String> projectedProperties, Optional<Lock> lock) {
+		this(tree, dataAccessStrategy, entityMetadata, accessor, projectedProperties, lock, null);
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link ReactiveDataAccessStrategy},
+	 * {@link RelationalEntityMetadata} and {@link RelationalParameterAccessor} for a query returning a
+	 * {@link org.springframework.data.domain.Window} starting at {@link ScrollPosition}.
+	 *
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param dataAccessStrategy data access strategy, must not be {@literal null}.
+	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param projectedProperties properties to project, must not be {@literal null}.
+	 * @param lock the {@link Lock} to apply to the query, must not be {@literal null}.
+	 * @param scrollPosition the position to scroll from, {@literal null} if the query is not a scroll query.
+	 * @since 3.4
+	 */
+	public R2dbcQueryCreator(PartTree tree, ReactiveDataAccessStrategy dataAccessStrategy,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor,
+			List<String> projectedProperties, Optional<Lock> lock, @Nullable ScrollPosition scrollPosition) {
 		super(tree, accessor);
 
 		this.tree = tree;
@@ -86,6 +116,7 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		this.projectedProperties = projectedProperties;
 		this.entityToRead = entityMetadata.getTableEntity().getType();
 		this.lock = lock;
+		this.scrollPosition = scrollPosition;
 	}
 
 	/**
@@ -117,8 +148,21 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 
 	private PreparedOperation<?> select(@Nullable Criteria criteria, Sort sort, StatementMapper statementMapper) {
 
+		Collection<String> keysetProperties = Collections.emptySet();
+
+		if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+			sort = KeysetScrollSupport.getSort(sort, keyset, entityMetadata.getTableEntity());
+			keysetProperties = KeysetScrollSupport.getRequiredProperties(sort);
+			Criteria keysetCriteria = KeysetScrollSupport.createCriteria(sort, keyset);
+
+			if (keysetCriteria != null) {
+				criteria = criteria == null ? keysetCriteria : Criteria.from(criteria, keysetCriteria);
+			}
+		}
+
 		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(entityMetadata.getTableName())
-				.withProjection(getSelectProjection());
+				.withProjection(getSelectProjection(keysetProperties));
 
 		if (tree.isExistsProjection()) {
 			selectSpec = selectSpec.limit(1);
@@ -131,6 +175,18 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 			selectSpec = selectSpec.limit(pageable.getPageSize()).offset(pageable.getOffset());
 		}
 
+		if (scrollPosition != null) {
+
+			int limit = getScrollLimit(tree, accessor);
+			if (limit > 0) {
+				selectSpec = selectSpec.limit(limit + 1);
+			}
+
+			if (scrollPosition instanceof OffsetScrollPosition offset && !offset.isInitial()) {
+				selectSpec = selectSpec.offset(offset.getOffset() + 1);
+			}
+		}
+
 		if (criteria != null) {
 			selectSpec = selectSpec.withCriteria(criteria);
 		}
@@ -144,13 +200,16 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		}
 
 		if (this.lock.isPresent()) {
-			selectSpec = selectSpec.lock(this.lock.get().value());
+
+			Lock lock = this.lock.get();
+			selectSpec = lock.waitTimeout() > 0 ? selectSpec.lock(lock.value(), Duration.ofSeconds(lock.waitTimeout()))
+					: selectSpec.lock(lock.value(), lock.waitPolicy());
 		}
 
 		return statementMapper.getMappedObject(selectSpec);
 	}
 
-	private Expression[] getSelectProjection() {
+	private Expression[] getSelectProjection(Collection<String> keysetProperties) {
 
 		List<Expression> expressions;
 
@@ -158,9 +217,13 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		if (!projectedProperties.isEmpty()) {
 
 			RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
-			expressions = new ArrayList<>(projectedProperties.size());
 
-			for (String projectedProperty : projectedProperties) {
+			// keyset scrolling requires the sort properties to determine the position of each element
+			Set<String> properties = new LinkedHashSet<>(projectedProperties);
+			properties.addAll(keysetProperties);
+			expressions = new ArrayList<>(properties.size());
+
+			for (String projectedProperty : properties) {
 
 				RelationalPersistentProperty property = entity.getPersistentProperty(projectedProperty);
 				Column column = table.column(property != null //
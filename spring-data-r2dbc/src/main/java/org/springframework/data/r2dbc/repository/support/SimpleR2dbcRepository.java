@@ -24,21 +24,26 @@ import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import org.reactivestreams.Publisher;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Window;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.core.ReactiveSelectOperation;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetScrollSupport;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.repository.query.RelationalEntityInformation;
 import org.springframework.data.relational.repository.query.RelationalExampleMapper;
@@ -131,7 +136,12 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Objects to save must not be null");
 
-		return Flux.fromIterable(objectsToSave).concatMap(this::save);
+		// insert consecutive new entities as batch while retaining the order of objectsToSave
+		return Flux.fromIterable(objectsToSave) //
+				.bufferUntilChanged(this.entity::isNew) //
+				.concatMap(objects -> this.entity.isNew(objects.get(0)) //
+						? this.entityOperations.insertAll(objects) //
+						: Flux.fromIterable(objects).concatMap(this.entityOperations::update));
 	}
 
 	@Override
@@ -140,6 +150,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Object publisher must not be null");
 
+		// save each element as it arrives; buffering into batches would hold back elements of slow or unbounded publishers
 		return Flux.from(objectsToSave).concatMap(this::save);
 	}
 
@@ -369,6 +380,8 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 	 */
 	class ReactiveFluentQueryByExample<S, T> extends ReactiveFluentQuerySupport<Example<S>, T> {
 
+		private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
 		ReactiveFluentQueryByExample(Example<S> example, Class<T> resultType) {
 			this(example, Sort.unsorted(), 0, resultType, Collections.emptyList());
 		}
@@ -427,6 +440,23 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 						});
 			}
 
+			if (scrollPosition instanceof KeysetScrollPosition ksp) {
+
+				int limit = getLimit();
+				RelationalPersistentEntity<?> persistentEntity = entityOperations.getConverter().getMappingContext()
+						.getRequiredPersistentEntity(getPredicate().getProbeType());
+				Query keysetQuery = KeysetScrollSupport.createQuery(createBaseQuery(), ksp, persistentEntity);
+				Function<Object, T> conversionFunction = getConversionFunction();
+
+				// positions are created from the entities, projections might not expose the keyset properties
+				return entityOperations.select(limit > 0 ? keysetQuery.limit(limit + 1) : keysetQuery,
+						getPredicate().getProbeType()) //
+						.collectList() //
+						.map(content -> KeysetScrollSupport
+								.createWindow(content, limit, ksp, keysetQuery.getSort(), persistentEntity)
+								.map(conversionFunction::apply));
+			}
+
 			return super.scroll(scrollPosition);
 		}
 
@@ -454,8 +484,11 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 			return createQuery(UnaryOperator.identity());
 		}
 
-		@SuppressWarnings("unchecked")
 		private ReactiveSelectOperation.TerminatingSelect<T> createQuery(UnaryOperator<Query> queryCustomizer) {
+			return createQuery(createBaseQuery(), queryCustomizer);
+		}
+
+		private Query createBaseQuery() {
 
 			Query query = exampleMapper.getMappedExample(getPredicate());
 
@@ -467,7 +500,30 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 				query = query.columns(getFieldsToInclude().toArray(new String[0]));
 			}
 
-			query = queryCustomizer.apply(query);
+			return query;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Function<Object, T> getConversionFunction() {
+
+			Class<T> resultType = getResultType();
+
+			if (resultType.isAssignableFrom(getPredicate().getProbeType())) {
+				return (Function<Object, T>) Function.identity();
+			}
+
+			if (resultType.isInterface()) {
+				return o -> projectionFactory.createProjection(resultType, o);
+			}
+
+			return o -> DefaultConversionService.getSharedInstance().convert(o, resultType);
+		}
+
+		@SuppressWarnings("unchecked")
+		private ReactiveSelectOperation.TerminatingSelect<T> createQuery(Query baseQuery,
+				UnaryOperator<Query> queryCustomizer) {
+
+			Query query = queryCustomizer.apply(baseQuery);
 
 			ReactiveSelectOperation.ReactiveSelect<S> select = entityOperations.select(getPredicate().getProbeType());
 
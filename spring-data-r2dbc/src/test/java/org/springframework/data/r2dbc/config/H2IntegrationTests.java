@@ -15,10 +15,14 @@
  */
 package org.springframework.data.r2dbc.config;
 
+import static org.assertj.core.api.Assertions.*;
+
 import io.r2dbc.spi.ConnectionFactory;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +32,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.data.r2dbc.testing.H2TestSupport;
@@ -51,6 +56,7 @@ class H2IntegrationTests {
 
 	@Autowired DatabaseClient databaseClient;
 	@Autowired H2Repository repository;
+	@Autowired R2dbcEntityTemplate template;
 
 	@BeforeEach
 	void before() {
@@ -85,6 +91,28 @@ class H2IntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void shouldUpsertWithEntityTemplate() {
+
+		LegoSet legoSet = new LegoSet();
+		legoSet.id = 42055;
+		legoSet.name = "SCHAUFELRADBAGGER";
+		legoSet.manual = 12;
+
+		template.upsert(legoSet).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		legoSet.name = "BUCKET WHEEL EXCAVATOR";
+
+		LegoSet other = new LegoSet();
+		other.id = 42056;
+		other.name = "PORSCHE 911";
+
+		template.upsertAll(List.of(legoSet, other)).as(StepVerifier::create).expectNextCount(2).verifyComplete();
+
+		assertThat(jdbc.queryForList("SELECT name FROM legoset ORDER BY id", String.class))
+				.containsExactly("BUCKET WHEEL EXCAVATOR", "PORSCHE 911");
+	}
+
 	@Configuration
 	@EnableR2dbcRepositories(considerNestedRepositories = true,
 			includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = H2Repository.class),
@@ -248,6 +248,34 @@ public class MappingR2dbcConverterUnitTests {
 		assertThat(result.person).isNull();
 	}
 
+	@Test
+	void shouldReadRowsOfDifferentMetadataShapes() {
+
+		MockRow fullRow = MockRow.builder().identified("id", Object.class, "1").identified("firstname", Object.class, "Walter")
+				.identified("lastname", Object.class, "White").build();
+		MockRowMetadata fullMetadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("FIRSTNAME").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("lastname").type(R2dbcType.VARCHAR).build()).build();
+
+		MockRow partialRow = MockRow.builder().identified("id", Object.class, "2").identified("nickname", Object.class, "Heisenberg")
+				.build();
+		MockRowMetadata partialMetadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("nickname").type(R2dbcType.VARCHAR).build()).build();
+
+		Person full = converter.read(Person.class, fullRow, fullMetadata);
+		Person partial = converter.read(Person.class, partialRow, partialMetadata);
+		Person fullAgain = converter.read(Person.class, fullRow, fullMetadata);
+
+		assertThat(full.firstname).isEqualTo("Walter");
+		assertThat(partial.id).isEqualTo("2");
+		assertThat(partial.firstname).isNull();
+		assertThat(fullAgain.lastname).isEqualTo("White");
+		assertThat(converter.toRowDocument(Person.class, partialRow, partialMetadata.getColumnMetadatas()))
+				.containsEntry("id", "2").containsEntry("nickname", "Heisenberg").hasSize(2);
+	}
+
 	@Test // GH-711
 	void writeShouldObtainIdFromIdentifierAccessor() {
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link NamedParameterExpander}.
+ */
+@SuppressWarnings("deprecation")
+class NamedParameterExpanderUnitTests {
+
+	NamedParameterExpander expander = new NamedParameterExpander();
+
+	@Test
+	void reportsCacheHitsAndMisses() {
+
+		expander.getParameterNames("SELECT * FROM person WHERE name = :name");
+		expander.getParameterNames("SELECT * FROM person WHERE name = :name");
+		expander.getParameterNames("SELECT * FROM person WHERE id = :id");
+
+		assertThat(expander.getCacheMissCount()).isEqualTo(2);
+		assertThat(expander.getCacheHitCount()).isEqualTo(1);
+		assertThat(expander.getCacheEvictionCount()).isZero();
+	}
+
+	@Test
+	void evictsEntriesExceedingCacheLimit() {
+
+		expander.setCacheLimit(2);
+
+		expander.getParameterNames("SELECT * FROM person WHERE a = :a");
+		expander.getParameterNames("SELECT * FROM person WHERE b = :b");
+		expander.getParameterNames("SELECT * FROM person WHERE c = :c");
+
+		assertThat(expander.getCacheMissCount()).isEqualTo(3);
+		assertThat(expander.getCacheEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void countsEntriesDroppedByCacheLimitChangeAsEvictions() {
+
+		expander.getParameterNames("SELECT * FROM person WHERE a = :a");
+		expander.getParameterNames("SELECT * FROM person WHERE b = :b");
+
+		expander.setCacheLimit(10);
+
+		assertThat(expander.getCacheEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void bypassesCacheWhenDisabled() {
+
+		expander.setCacheLimit(0);
+
+		assertThat(expander.getParameterNames("SELECT * FROM person WHERE name = :name")).containsExactly("name");
+		assertThat(expander.getCacheMissCount()).isZero();
+		assertThat(expander.getCacheHitCount()).isZero();
+	}
+
+	@Test
+	void parsesConcurrently() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Future<List<String>>> futures = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+
+				String sql = "SELECT * FROM person WHERE name = :name" + (i % 10);
+				futures.add(executor.submit(() -> expander.getParameterNames(sql)));
+			}
+
+			for (int i = 0; i < futures.size(); i++) {
+				assertThat(futures.get(i).get()).containsExactly("name" + (i % 10));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(expander.getCacheHitCount() + expander.getCacheMissCount()).isEqualTo(1000);
+		assertThat(expander.getCacheMissCount()).isGreaterThanOrEqualTo(10);
+	}
+}
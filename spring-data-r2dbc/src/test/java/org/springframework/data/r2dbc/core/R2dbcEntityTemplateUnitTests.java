@@ -34,10 +34,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
@@ -64,6 +66,8 @@ import org.springframework.data.relational.core.mapping.InsertOnlyProperty;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.domain.RowDocument;
 import org.springframework.lang.Nullable;
@@ -240,6 +244,22 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
 	}
 
+	@Test
+	void shouldSelectWithLock() {
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+		entityTemplate.select(Query.query(Criteria.where("name").is("Walter")).lock(LockMode.PESSIMISTIC_WRITE,
+				LockWaitPolicy.SKIP_LOCKED), Person.class) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+		assertThat(statement.getSql()).isEqualTo(
+				"SELECT person.* FROM person WHERE person.THE_NAME = $1 FOR UPDATE OF person SKIP LOCKED");
+	}
+
 	@Test // gh-215
 	void selectShouldInvokeCallback() {
 
@@ -266,6 +286,58 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(callback.getValues()).hasSize(1);
 	}
 
+	@Test
+	void selectShouldInvokeCallbackRegisteredInApplicationContext() {
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), personResult());
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(ValueCapturingAfterConvertCallback.class);
+		context.refresh();
+
+		entityTemplate.setApplicationContext(context);
+
+		entityTemplate.select(Query.empty(), Person.class) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.id).isEqualTo("after-convert")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void selectShouldInvokeOverriddenAfterConvertWithoutCallbacks() {
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), personResult());
+
+		R2dbcEntityTemplate template = new R2dbcEntityTemplate(client, PostgresDialect.INSTANCE,
+				entityTemplate.getConverter()) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected <T> Mono<T> maybeCallAfterConvert(T object, SqlIdentifier table) {
+				return Mono.just((T) ((Person) object).withId("overridden"));
+			}
+		};
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		template.setApplicationContext(context);
+
+		template.select(Query.empty(), Person.class) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> assertThat(actual.id).isEqualTo("overridden")) //
+				.verifyComplete();
+	}
+
+	private static MockResult personResult() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build())
+				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").type(R2dbcType.VARCHAR).build()).build();
+
+		return MockResult.builder().row(MockRow.builder().identified("id", Object.class, "Walter")
+				.identified("THE_NAME", Object.class, "some-name").metadata(metadata).build()).build();
+	}
+
 	@Test // gh-220
 	void shouldSelectOne() {
 
@@ -397,6 +469,121 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("bar"));
 	}
 
+	@Test
+	void shouldInsertAllUsingSingleBatchedStatement() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"),
+				List.of(generatedId(metadata, 1), generatedId(metadata, 2), generatedId(metadata, 3)));
+
+		entityTemplate
+				.insertAll(List.of(new PersonWithPrimitiveId(0, "foo"), new PersonWithPrimitiveId(0, "bar"),
+						new PersonWithPrimitiveId(0, "baz"))) //
+				.as(StepVerifier::create) //
+				.expectNext(new PersonWithPrimitiveId(1, "foo"), new PersonWithPrimitiveId(2, "bar"),
+						new PersonWithPrimitiveId(3, "baz")) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.filteredOn(sql -> sql.startsWith("INSERT"))
+				.containsExactly("INSERT INTO person_with_primitive_id (name) VALUES ($1)");
+	}
+
+	@Test
+	void shouldInsertAllInBatchesOfMaxBatchSize() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		List<PersonWithPrimitiveId> people = IntStream.rangeClosed(0, R2dbcEntityTemplate.MAX_BATCH_SIZE)
+				.mapToObj(i -> new PersonWithPrimitiveId(0, "name-" + i)).toList();
+
+		entityTemplate.insertAll(people) //
+				.as(StepVerifier::create) //
+				.expectNextSequence(people) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.filteredOn(sql -> sql.startsWith("INSERT")).containsExactly(
+						"INSERT INTO person_with_primitive_id (name) VALUES ($1)",
+						"INSERT INTO person_with_primitive_id (name) VALUES ($1)");
+	}
+
+	@Test
+	void shouldInsertAllGroupingByStatement() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate
+				.insertAll(List.of(new PersonWithPrimitiveId(0, "foo"), new PersonWithPrimitiveId(0, null),
+						new PersonWithPrimitiveId(0, "baz"))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.filteredOn(sql -> sql.startsWith("INSERT")).containsExactly(
+				"INSERT INTO person_with_primitive_id (name) VALUES ($1)",
+				"INSERT INTO person_with_primitive_id VALUES (DEFAULT)",
+				"INSERT INTO person_with_primitive_id (name) VALUES ($1)");
+	}
+
+	@Test
+	void shouldInsertAllIntoTableOfEachEntity() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.insertAll(List.<Object> of(new PersonWithPrimitiveId(0, "foo"), new Person("42", "Walter", null))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.filteredOn(sql -> sql.startsWith("INSERT")).containsExactly(
+						"INSERT INTO person_with_primitive_id (name) VALUES ($1)",
+						"INSERT INTO person (id, THE_NAME) VALUES ($1, $2)");
+	}
+
+	@Test
+	void shouldInsertAllThroughExecuteFunction() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), List.of(generatedId(metadata, 1), generatedId(metadata, 2)));
+
+		List<String> executed = new ArrayList<>();
+		DatabaseClient client = DatabaseClient.builder().connectionFactory(recorder)
+				.bindMarkers(PostgresDialect.INSTANCE.getBindMarkersFactory()).executeFunction(statement -> {
+					executed.add(statement.toString());
+					return statement.execute();
+				}).build();
+		R2dbcEntityTemplate template = new R2dbcEntityTemplate(client, PostgresDialect.INSTANCE,
+				entityTemplate.getConverter());
+
+		template.insertAll(List.of(new PersonWithPrimitiveId(0, "foo"), new PersonWithPrimitiveId(0, "bar"))) //
+				.as(StepVerifier::create) //
+				.expectNext(new PersonWithPrimitiveId(1, "foo"), new PersonWithPrimitiveId(2, "bar")) //
+				.verifyComplete();
+
+		assertThat(executed).hasSize(1);
+	}
+
+	private static MockResult generatedId(MockRowMetadata metadata, int id) {
+		return MockResult.builder().row(MockRow.builder().identified("id", Object.class, id).metadata(metadata).build())
+				.build();
+	}
+
 	@Test // gh-557, gh-402
 	void shouldSkipDefaultIdValueOnVersionedInsert() {
 
@@ -597,6 +784,77 @@ public class R2dbcEntityTemplateUnitTests {
 				Parameter.from(23L));
 	}
 
+	@Test
+	void upsertShouldRenderDialectSpecificStatement() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.upsert(new WithInsertOnly(23L, "Alfred", "insert this")).as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("INSERT"));
+
+		assertThat(statement.getSql()).isEqualTo(
+				"INSERT INTO with_insert_only (id, name, insert_only) VALUES ($1, $2, $3) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+		assertThat(statement.getBindings()).hasSize(3).containsEntry(0, Parameter.from(23L)).containsEntry(1,
+				Parameter.from("Alfred"));
+	}
+
+	@Test
+	void upsertAllShouldBatchEntities() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.upsertAll(List.of(new WithInsertOnly(1L, "Alfred", null), new WithInsertOnly(2L, "Bruce", null)))
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.filteredOn(sql -> sql.startsWith("INSERT")).hasSize(1);
+	}
+
+	@Test
+	void upsertAllShouldRunThroughExecuteFunction() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		List<String> executed = new ArrayList<>();
+		DatabaseClient client = DatabaseClient.builder().connectionFactory(recorder)
+				.bindMarkers(PostgresDialect.INSTANCE.getBindMarkersFactory()).executeFunction(statement -> {
+					executed.add(statement.toString());
+					return statement.execute();
+				}).build();
+		R2dbcEntityTemplate template = new R2dbcEntityTemplate(client, PostgresDialect.INSTANCE,
+				entityTemplate.getConverter());
+
+		template.upsertAll(List.of(new WithInsertOnly(1L, "Alfred", null), new WithInsertOnly(2L, "Bruce", null)))
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(executed).hasSize(1);
+		assertThat(recorder.getCreatedStatement(s -> s.startsWith("INSERT")).getBindings()).containsEntry(0,
+				Parameter.from(2L));
+	}
+
+	@Test
+	void upsertShouldRejectVersionedEntity() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> entityTemplate.upsert(new VersionedPerson("id", 1, "bar")));
+	}
+
 	@Test // GH-1696
 	void shouldConsiderParameterConverter() {
 
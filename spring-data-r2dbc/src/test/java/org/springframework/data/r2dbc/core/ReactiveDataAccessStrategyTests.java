@@ -45,6 +45,21 @@ public class ReactiveDataAccessStrategyTests {
 	ReactiveDataAccessStrategy strategy = new DefaultReactiveDataAccessStrategy(MySqlDialect.INSTANCE,
 			Arrays.asList(UuidToStringConverter.INSTANCE, StringToUuidConverter.INSTANCE));
 
+	@Test
+	void shouldReportNamedParameterCacheStatistics() {
+
+		DefaultReactiveDataAccessStrategy strategy = new DefaultReactiveDataAccessStrategy(MySqlDialect.INSTANCE);
+
+		String sql = "SELECT * FROM person WHERE name = :name";
+
+		strategy.processNamedParameters(sql, (index, name) -> Parameter.from("Walter"));
+		strategy.processNamedParameters(sql, (index, name) -> Parameter.from("Jesse"));
+
+		assertThat(strategy.getNamedParameterCacheMissCount()).isEqualTo(1);
+		assertThat(strategy.getNamedParameterCacheHitCount()).isEqualTo(3);
+		assertThat(strategy.getNamedParameterCacheEvictionCount()).isZero();
+	}
+
 	@Test // gh-305
 	public void shouldConvertParameter() {
 
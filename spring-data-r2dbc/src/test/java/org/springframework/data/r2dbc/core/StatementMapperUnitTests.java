@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +29,7 @@ import org.springframework.data.r2dbc.dialect.PostgresDialect;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.binding.BindTarget;
 
@@ -104,4 +107,31 @@ class StatementMapperUnitTests {
 
 		assertThat(preparedOperation.toQuery()).isEqualTo("SELECT table.* FROM table FOR UPDATE OF table");
 	}
+
+	@Test
+	void shouldMapSelectWithLockWaitPolicy() {
+
+		StatementMapper.SelectSpec selectSpec = StatementMapper.SelectSpec.create("table").withProjection("*")
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED).withPage(PageRequest.of(0, 10));
+
+		PreparedOperation<?> preparedOperation = mapper.getMappedObject(selectSpec);
+
+		assertThat(preparedOperation.toQuery())
+				.isEqualTo("SELECT table.* FROM table LIMIT 10 FOR UPDATE OF table SKIP LOCKED");
+	}
+
+	@Test
+	void shouldRetainLockWaitTimeout() {
+
+		StatementMapper.SelectSpec selectSpec = StatementMapper.SelectSpec.create("table").withProjection("*")
+				.lock(LockMode.PESSIMISTIC_WRITE, Duration.ofSeconds(5)).withPage(PageRequest.of(0, 10));
+
+		assertThat(selectSpec.getLock()).isEqualTo(LockMode.PESSIMISTIC_WRITE);
+		assertThat(selectSpec.getLockWaitPolicy()).isEqualTo(LockWaitPolicy.WAIT);
+		assertThat(selectSpec.getLockWaitTimeout()).isEqualTo(Duration.ofSeconds(5));
+
+		// Postgres has no WAIT n
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> mapper.getMappedObject(selectSpec).toQuery());
+	}
 }
@@ -40,6 +40,8 @@ import org.springframework.data.annotation.PersistenceCreator;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
 import org.springframework.data.r2dbc.testing.R2dbcIntegrationTestSupport;
 import org.springframework.data.relational.core.mapping.Table;
@@ -163,6 +165,70 @@ public abstract class AbstractR2dbcRepositoryIntegrationTests extends R2dbcInteg
 				.verifyComplete();
 	}
 
+	@Test
+	void shouldScrollByKeyset() {
+
+		repository.saveAll(Arrays.asList(new LegoSet(null, "A1", 1), new LegoSet(null, "A2", 2),
+				new LegoSet(null, "A3", 3), new LegoSet(null, "B", 4))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(4) //
+				.verifyComplete();
+
+		Window<LegoSet> first = repository.findFirst2ByNameStartingWithOrderByName("A", ScrollPosition.keyset()).block();
+
+		assertThat(first).extracting(LegoSet::getName).containsExactly("A1", "A2");
+		assertThat(first.hasNext()).isTrue();
+
+		repository.findFirst2ByNameStartingWithOrderByName("A", first.positionAt(1)) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(window -> {
+
+					assertThat(window).extracting(LegoSet::getName).containsExactly("A3");
+					assertThat(window.hasNext()).isFalse();
+				}).verifyComplete();
+	}
+
+	@Test
+	void shouldScrollProjectionByKeysetOverNullableSortProperty() {
+
+		repository.saveAll(Arrays.asList(new LegoSet(null, "A1", 1), new LegoSet(null, "A2", null),
+				new LegoSet(null, "A3", 3), new LegoSet(null, "B", 4))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(4) //
+				.verifyComplete();
+
+		Window<Named> first = repository.findFirst2ByNameStartingWithOrderByManual("A", ScrollPosition.keyset()).block();
+
+		assertThat(first).extracting(Named::getName).containsExactly("A2", "A1");
+		assertThat(first.hasNext()).isTrue();
+
+		repository.findFirst2ByNameStartingWithOrderByManual("A", first.positionAt(1)) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(window -> {
+
+					assertThat(window).extracting(Named::getName).containsExactly("A3");
+					assertThat(window.hasNext()).isFalse();
+				}).verifyComplete();
+	}
+
+	@Test
+	void shouldScrollByOffset() {
+
+		repository.saveAll(Arrays.asList(new LegoSet(null, "A1", 1), new LegoSet(null, "A2", 2),
+				new LegoSet(null, "A3", 3), new LegoSet(null, "B", 4))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(4) //
+				.verifyComplete();
+
+		repository.findFirst2ByNameStartingWithOrderByName("A", ScrollPosition.offset(1)) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(window -> {
+
+					assertThat(window).extracting(LegoSet::getName).containsExactly("A3");
+					assertThat(window.hasNext()).isFalse();
+				}).verifyComplete();
+	}
+
 	@Test // GH-475, GH-607
 	void shouldFindApplyingInterfaceProjection() {
 
@@ -445,6 +511,10 @@ public abstract class AbstractR2dbcRepositoryIntegrationTests extends R2dbcInteg
 
 		Flux<LegoSet> findByNameContains(String name, Limit limit);
 
+		Mono<Window<LegoSet>> findFirst2ByNameStartingWithOrderByName(String name, ScrollPosition position);
+
+		Mono<Window<Named>> findFirst2ByNameStartingWithOrderByManual(String name, ScrollPosition position);
+
 		Flux<LegoSet> findFirst10By();
 
 		Flux<LegoSet> findAllByOrderByManual(Pageable pageable);
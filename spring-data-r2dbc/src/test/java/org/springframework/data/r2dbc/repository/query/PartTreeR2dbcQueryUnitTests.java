@@ -15,6 +15,7 @@
  */
 package org.springframework.data.r2dbc.repository.query;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import io.r2dbc.spi.ConnectionFactory;
@@ -27,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
@@ -53,6 +55,7 @@ import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.domain.SqlSort;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
@@ -137,6 +140,40 @@ class PartTreeR2dbcQueryUnitTests {
 				.where(TABLE + ".first_name IS NULL");
 	}
 
+	@Test
+	void reusesCompiledQueryForSameShape() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> first = createQuery(queryMethod, r2dbcQuery, "John");
+		PreparedOperation<?> second = createQuery(queryMethod, r2dbcQuery, "Jane");
+		PreparedOperation<?> isNull = createQuery(queryMethod, r2dbcQuery, new Object[] { null });
+
+		assertThat(second.toQuery()).isSameAs(first.toQuery());
+		assertThat(isNull.toQuery()).endsWith(TABLE + ".first_name IS NULL");
+
+		BindTarget bindTarget = mock(BindTarget.class);
+		second.bindTo(bindTarget);
+
+		verify(bindTarget).bind(0, "Jane");
+	}
+
+	@Test
+	void compilesQueryPerCollectionSize() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> two = createQuery(queryMethod, r2dbcQuery, List.of(25, 30));
+		PreparedOperation<?> three = createQuery(queryMethod, r2dbcQuery, List.of(25, 30, 35));
+		PreparedOperation<?> otherTwo = createQuery(queryMethod, r2dbcQuery, List.of(40, 45));
+
+		assertThat(two.toQuery()).endsWith(TABLE + ".age IN ($1, $2)");
+		assertThat(three.toQuery()).endsWith(TABLE + ".age IN ($1, $2, $3)");
+		assertThat(otherTwo.toQuery()).isSameAs(two.toQuery());
+	}
+
 	@Test // GH-282
 	void createsQueryWithLimitForExistsProjection() throws Exception {
 
@@ -752,6 +789,27 @@ class PartTreeR2dbcQueryUnitTests {
 				.where("users.first_name = $1 AND (users.age = $2) FOR SHARE OF users");
 	}
 
+	@Test
+	void createQueryWithLockWaitPolicy() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findFirstByLastName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> query = createQuery(queryMethod, r2dbcQuery, "Krupitza");
+
+		assertThat(query.toQuery()).endsWith("FOR UPDATE OF users NOWAIT");
+	}
+
+	@Test
+	void rejectsLockWaitTimeoutNotSupportedByDialect() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findFirstByAge", Integer.class);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy))
+				.withMessageContaining("Lock wait timeouts are not supported");
+	}
+
 	@Test // GH-1285
 	void bindsParametersFromPublisher() throws Exception {
 
@@ -915,6 +973,12 @@ class PartTreeR2dbcQueryUnitTests {
 		@Lock(LockMode.PESSIMISTIC_READ)
 		Flux<User> findAllByFirstNameAndAge(String firstName, Integer age);
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.NOWAIT)
+		Mono<User> findFirstByLastName(String lastName);
+
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitTimeout = 5)
+		Mono<User> findFirstByAge(Integer age);
+
 		Flux<User> findAllByFirstName(String firstName);
 
 		Flux<User> findAllByLastNameAndFirstName(String lastName, String firstName);
@@ -41,9 +41,11 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.testing.R2dbcIntegrationTestSupport;
@@ -252,6 +254,30 @@ public abstract class AbstractSimpleR2dbcRepositoryIntegrationTests extends R2db
 		assertThat(count).isEqualTo(4);
 	}
 
+	@Test
+	void shouldSaveNewAndExistingObjectsUsingIterable() {
+
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('SCHAUFELRADBAGGER', 12)");
+		Integer id = jdbc.queryForObject("SELECT id FROM legoset", Integer.class);
+
+		LegoSet legoSet1 = new LegoSet(0, "FORSCHUNGSSCHIFF", 13);
+		LegoSet legoSet2 = new LegoSet(0, "RALLYEAUTO", 14);
+		LegoSet existing = new LegoSet(id, "SCHAUFELRADBAGGER", 15);
+		LegoSet legoSet3 = new LegoSet(0, "VOLTRON", 16);
+
+		List<LegoSet> saved = repository.saveAll(Arrays.asList(legoSet1, legoSet2, existing, legoSet3)) //
+				.collectList() //
+				.block();
+
+		assertThat(saved).extracting(LegoSet::getManual).containsExactly(13, 14, 15, 16);
+		assertThat(saved).extracting(LegoSet::getId).doesNotContain(0).doesNotHaveDuplicates();
+
+		for (LegoSet legoSet : saved) {
+			assertThat(jdbc.queryForObject("SELECT manual FROM legoset WHERE id = ?", Integer.class, legoSet.getId()))
+					.isEqualTo(legoSet.getManual());
+		}
+	}
+
 	@Test
 	void shouldSaveObjectsUsingPublisher() {
 
@@ -865,6 +891,72 @@ public abstract class AbstractSimpleR2dbcRepositoryIntegrationTests extends R2db
 				}).verifyComplete();
 	}
 
+	@Test
+	void findByKeysetScrollPosition() {
+
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('SCHAUFELRADBAGGER', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('VOLTRON', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('RALLYEAUTO', 14)");
+
+		LegoSet probe = new LegoSet();
+		probe.setManual(13);
+		Example<LegoSet> example = Example.of(probe, matching().withIgnorePaths("id"));
+
+		Window<LegoSet> first = repository
+				.findBy(example, q -> q.sortBy(Sort.by("name")).limit(2).scroll(ScrollPosition.keyset())).block();
+
+		assertThat(first.map(it -> it.name)).containsExactly("FORSCHUNGSSCHIFF", "SCHAUFELRADBAGGER");
+		assertThat(first.hasNext()).isTrue();
+
+		repository.findBy(example, q -> q.sortBy(Sort.by("name")).limit(2).scroll(first.positionAt(1))) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(window -> {
+
+					assertThat(window.map(it -> it.name)).containsExactly("VOLTRON");
+					assertThat(window.hasNext()).isFalse();
+				}).verifyComplete();
+
+		repository
+				.findBy(example,
+						q -> q.sortBy(Sort.by("name")).limit(1)
+								.scroll(((KeysetScrollPosition) first.positionAt(1)).backward())) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(window -> {
+
+					assertThat(window.map(it -> it.name)).containsExactly("FORSCHUNGSSCHIFF");
+				}).verifyComplete();
+	}
+
+	@Test
+	void findByKeysetScrollPositionWithProjection() {
+
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('SCHAUFELRADBAGGER', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('VOLTRON', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('RALLYEAUTO', 14)");
+
+		LegoSet probe = new LegoSet();
+		probe.setManual(13);
+		Example<LegoSet> example = Example.of(probe, matching().withIgnorePaths("id"));
+
+		Window<LegoSetProjection> first = repository.findBy(example, q -> q.as(LegoSetProjection.class)
+				.sortBy(Sort.by("manual")).limit(2).scroll(ScrollPosition.keyset())).block();
+
+		assertThat(first.map(LegoSetProjection::getName)).containsExactly("FORSCHUNGSSCHIFF", "SCHAUFELRADBAGGER");
+		assertThat(first.hasNext()).isTrue();
+
+		repository
+				.findBy(example,
+						q -> q.as(LegoSetProjection.class).sortBy(Sort.by("manual")).limit(2).scroll(first.positionAt(1))) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(window -> {
+
+					assertThat(window.map(LegoSetProjection::getName)).containsExactly("VOLTRON");
+					assertThat(window.hasNext()).isFalse();
+				}).verifyComplete();
+	}
+
 	@Test // GH-663
 	void findByShouldApplySortAll() {
 
@@ -28,9 +28,13 @@ import org.springframework.data.relational.BenchmarkSettings;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Table;
 
 /**
- * Benchmark for {@link SingleQuerySqlGenerator}.
+ * Benchmark for {@link SingleQuerySqlGenerator} and {@link CachingSqlGenerator}.
  *
  * @author Mark Paluch
  */
@@ -42,6 +46,16 @@ public class SingleQuerySqlGeneratorBenchmark extends BenchmarkSettings {
 		return new SingleQuerySqlGenerator(state.context, state.aliasFactory, PostgresDialect.INSTANCE).findAll(state.persistentEntity, null);
 	}
 
+	@Benchmark
+	public String findById(StateHolder state) {
+		return state.sqlGenerator.findAll(state.persistentEntity, state.byId());
+	}
+
+	@Benchmark
+	public String findByIdCached(StateHolder state) {
+		return state.cachingSqlGenerator.findAll(state.persistentEntity, state.byId());
+	}
+
 	@State(Scope.Benchmark)
 	public static class StateHolder {
 
@@ -51,9 +65,23 @@ public class SingleQuerySqlGeneratorBenchmark extends BenchmarkSettings {
 
 		AliasFactory aliasFactory = new AliasFactory();
 
+		SqlGenerator sqlGenerator;
+
+		SqlGenerator cachingSqlGenerator;
+
+		Table table;
+
 		@Setup
 		public void setup() {
+
 			persistentEntity = context.getRequiredPersistentEntity(SingleReferenceAggregate.class);
+			sqlGenerator = new SingleQuerySqlGenerator(context, aliasFactory, PostgresDialect.INSTANCE);
+			cachingSqlGenerator = new CachingSqlGenerator(sqlGenerator);
+			table = Table.create(persistentEntity.getQualifiedTableName());
+		}
+
+		Condition byId() {
+			return Conditions.isEqual(table.column("id"), SQL.bindMarker(":id"));
 		}
 	}
 
@@ -174,6 +174,100 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an upsert statement for the aggregate root, inserting the root or updating it if a row with the same id
+	 * exists already. The id of the root must be provided.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.4
+	 */
+	class UpsertRoot<T> implements WithRoot<T> {
+
+		private T entity;
+
+		public UpsertRoot(T entity) {
+			this.entity = entity;
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		@Override
+		public void setEntity(T entity) {
+			this.entity = entity;
+		}
+
+		@Override
+		public IdValueSource getIdValueSource() {
+			return IdValueSource.PROVIDED;
+		}
+
+		@Override
+		public String toString() {
+			return "DbAction.UpsertRoot(entity=" + this.getEntity() + ")";
+		}
+	}
+
+	/**
+	 * Represents an update statement for a single entity that is not the root of an aggregate. The row to update is
+	 * identified by the reference to its parent, its qualifier (if any) and its id (if any).
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.4
+	 */
+	final class Update<T> implements WithDependingOn<T> {
+
+		private final T entity;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		private final WithEntity<?> dependingOn;
+		private final IdValueSource idValueSource;
+
+		final Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers;
+
+		public Update(T entity, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+				WithEntity<?> dependingOn, Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers,
+				IdValueSource idValueSource) {
+
+			this.entity = entity;
+			this.propertyPath = propertyPath;
+			this.dependingOn = dependingOn;
+			this.qualifiers = Map.copyOf(qualifiers);
+			this.idValueSource = idValueSource;
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return WithDependingOn.super.getEntityType();
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public DbAction.WithEntity<?> getDependingOn() {
+			return this.dependingOn;
+		}
+
+		public Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> getQualifiers() {
+			return this.qualifiers;
+		}
+
+		public IdValueSource getIdValueSource() {
+			return idValueSource;
+		}
+
+		@Override
+		public String toString() {
+			return "DbAction.Update(entity=" + entity + ", propertyPath=" + propertyPath + ", qualifiers=" + qualifiers
+					+ ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for all entities that that a reachable via a give path from the aggregate root.
 	 *
@@ -203,6 +297,73 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a delete statement for a single entity that is not the root of an aggregate. In contrast to
+	 * {@link Delete} only the row identified by the reference to its parent, its qualifier (if any) and its id (if any)
+	 * gets deleted.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.4
+	 */
+	final class DeleteSingle<T> implements WithDependingOn<T> {
+
+		private final T entity;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		private final WithEntity<?> dependingOn;
+		private final IdValueSource idValueSource;
+
+		final Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers;
+
+		/**
+		 * @param entity the previous state of the entity to delete. Must not be {@literal null}.
+		 * @param propertyPath the path from the aggregate root to the entity. Must not be {@literal null}.
+		 * @param dependingOn the action of the parent entity. Must not be {@literal null}.
+		 * @param qualifiers the qualifiers (map keys or list indexes) of the entity. Must not be {@literal null}.
+		 * @param idValueSource the {@link IdValueSource} of the entity. Must not be {@literal null}.
+		 */
+		public DeleteSingle(T entity, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+				WithEntity<?> dependingOn, Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers,
+				IdValueSource idValueSource) {
+
+			this.entity = entity;
+			this.propertyPath = propertyPath;
+			this.dependingOn = dependingOn;
+			this.qualifiers = Map.copyOf(qualifiers);
+			this.idValueSource = idValueSource;
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return WithDependingOn.super.getEntityType();
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public DbAction.WithEntity<?> getDependingOn() {
+			return this.dependingOn;
+		}
+
+		public Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> getQualifiers() {
+			return this.qualifiers;
+		}
+
+		public IdValueSource getIdValueSource() {
+			return idValueSource;
+		}
+
+		@Override
+		public String toString() {
+			return "DbAction.DeleteSingle(entity=" + entity + ", propertyPath=" + propertyPath + ", qualifiers="
+					+ qualifiers + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root when only the ID is known.
 	 * <p>
@@ -418,6 +579,40 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch update statement for multiple entities that are aggregate roots. The batch value indicates
+	 * whether the updates are checked against the {@link UpdateRoot#getPreviousVersion() previous version}.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.4
+	 */
+	final class BatchUpdateRoot<T> extends BatchWithValue<T, UpdateRoot<T>, Boolean> {
+
+		public BatchUpdateRoot(List<UpdateRoot<T>> actions) {
+			super(actions, action -> action.getPreviousVersion() != null);
+		}
+
+		/**
+		 * @return {@literal true} if the updates of this batch use optimistic locking.
+		 */
+		public boolean isVersioned() {
+			return getBatchValue();
+		}
+	}
+
+	/**
+	 * Represents a batch upsert statement for multiple entities that are aggregate roots.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.4
+	 */
+	final class BatchUpsertRoot<T> extends BatchWithValue<T, UpsertRoot<T>, Class<T>> {
+
+		public BatchUpsertRoot(List<UpsertRoot<T>> actions) {
+			super(actions, UpsertRoot::getEntityType);
+		}
+	}
+
 	/**
 	 * Represents a batch delete statement for multiple entities that are reachable via a given path from the aggregate
 	 * root.
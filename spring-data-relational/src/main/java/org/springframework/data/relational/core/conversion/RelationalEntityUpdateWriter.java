@@ -17,10 +17,12 @@ package org.springframework.data.relational.core.conversion;
 
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into a {@link RootAggregateChange}. Does not perform any isNew
- * check.
+ * check. If a previous state of the aggregate is provided, referenced entities are compared against it and only the
+ * differences get written, instead of deleting and reinserting all referenced entities.
  *
  * @author Thomas Lang
  * @author Jens Schauder
@@ -30,13 +32,28 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 public class RelationalEntityUpdateWriter<T> implements EntityWriter<T, RootAggregateChange<T>> {
 
 	private final RelationalMappingContext context;
+	@Nullable private final T previousState;
 
 	public RelationalEntityUpdateWriter(RelationalMappingContext context) {
+		this(context, null);
+	}
+
+	/**
+	 * Creates a new {@link RelationalEntityUpdateWriter} comparing the aggregate to write with its previous state.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param previousState the state of the aggregate as currently stored in the database. Must not share mutable
+	 *          instances with the aggregate to write. May be {@literal null}.
+	 * @since 3.4
+	 */
+	public RelationalEntityUpdateWriter(RelationalMappingContext context, @Nullable T previousState) {
+
 		this.context = context;
+		this.previousState = previousState;
 	}
 
 	@Override
 	public void write(T root, RootAggregateChange<T> aggregateChange) {
-		new WritingContext<>(context, root, aggregateChange).update();
+		new WritingContext<>(context, root, previousState, aggregateChange).update();
 	}
 }
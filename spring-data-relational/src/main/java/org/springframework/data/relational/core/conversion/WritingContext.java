@@ -20,9 +20,11 @@ import static java.util.Arrays.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -30,6 +32,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Holds context information for the current save operation.
@@ -44,6 +47,7 @@ class WritingContext<T> {
 
 	private final RelationalMappingContext context;
 	private final T root;
+	@Nullable private final T previousState;
 	private final Class<T> entityType;
 	private final List<PersistentPropertyPath<RelationalPersistentProperty>> paths;
 	private final Map<PathNode, DbAction<?>> previousActions = new HashMap<>();
@@ -53,14 +57,36 @@ class WritingContext<T> {
 	private final RootAggregateChange<T> aggregateChange;
 
 	WritingContext(RelationalMappingContext context, T root, RootAggregateChange<T> aggregateChange) {
+		this(context, root, null, aggregateChange);
+	}
+
+	/**
+	 * @param previousState the state of the aggregate as currently stored in the database. If present, {@link #update()}
+	 *          compares referenced entities against it instead of deleting and reinserting them. May be {@literal null}.
+	 * @since 3.4
+	 */
+	WritingContext(RelationalMappingContext context, T root, @Nullable T previousState,
+			RootAggregateChange<T> aggregateChange) {
+
+		RelationalPersistentEntity<?> persistentEntity = context
+				.getRequiredPersistentEntity(aggregateChange.getEntityType());
+
+		if (previousState != null) {
+
+			Object id = persistentEntity.getIdentifierAccessor(root).getIdentifier();
+			Object previousId = persistentEntity.getIdentifierAccessor(previousState).getIdentifier();
+
+			Assert.isTrue(ObjectUtils.nullSafeEquals(id, previousId), () -> String
+					.format("The previous state must have the same id as the aggregate; was %s but expected %s", previousId, id));
+		}
 
 		this.context = context;
 		this.root = root;
+		this.previousState = previousState;
 		this.entityType = aggregateChange.getEntityType();
 		this.previousVersion = aggregateChange.getPreviousVersion();
 		this.aggregateChange = aggregateChange;
-		this.rootIdValueSource = IdValueSource.forInstance(root,
-				context.getRequiredPersistentEntity(aggregateChange.getEntityType()));
+		this.rootIdValueSource = IdValueSource.forInstance(root, persistentEntity);
 		this.paths = context.findPersistentPropertyPaths(entityType, (p) -> p.isEntity() && !p.isEmbedded()) //
 				.filter(ppp -> context.getAggregatePath(ppp).isWritable()).toList();
 	}
@@ -85,6 +111,24 @@ class WritingContext<T> {
 	void update() {
 
 		setRootAction(new DbAction.UpdateRoot<>(root, previousVersion));
+
+		if (previousState != null) {
+
+			updateReferenced().forEach(aggregateChange::addAction);
+			return;
+		}
+
+		deleteReferenced().forEach(aggregateChange::addAction);
+		insertReferenced().forEach(aggregateChange::addAction);
+	}
+
+	/**
+	 * Upserts the root and replaces all referenced entities, as the current state of referenced entities in the database
+	 * is unknown.
+	 */
+	void upsert() {
+
+		setRootAction(new DbAction.UpsertRoot<>(root));
 		deleteReferenced().forEach(aggregateChange::addAction);
 		insertReferenced().forEach(aggregateChange::addAction);
 	}
@@ -118,37 +162,39 @@ class WritingContext<T> {
 		return actions;
 	}
 
-	@SuppressWarnings("unchecked")
 	private List<? extends DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
-		RelationalPersistentEntity<?> persistentEntity = context
-				.getRequiredPersistentEntity(path.getLeafProperty());
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(path.getLeafProperty());
 		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
-		from(path).forEach(node -> {
+		from(path).forEach(node -> inserts.add(insert(persistentEntity, node)));
+		return inserts;
+	}
 
-			DbAction.WithEntity<?> parentAction = getAction(node.getParent());
-			Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
-			Object instance;
-			if (node.getPath().getLeafProperty().isQualified()) {
+	@SuppressWarnings("unchecked")
+	private DbAction.Insert<Object> insert(RelationalPersistentEntity<?> persistentEntity, PathNode node) {
 
-				Pair<Object, Object> value = (Pair) node.getValue();
-				qualifiers.put(node.getPath(), value.getFirst());
+		DbAction.WithEntity<?> parentAction = getAction(node.getParent());
+		Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
+		Object instance;
+		if (node.getPath().getLeafProperty().isQualified()) {
 
-				RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+			Pair<Object, Object> value = (Pair) node.getValue();
+			qualifiers.put(node.getPath(), value.getFirst());
 
-				if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
-					qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
-				}
-				instance = value.getSecond();
-			} else {
-				instance = node.getValue();
+			RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+
+			if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
+				qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
 			}
-			IdValueSource idValueSource = IdValueSource.forInstance(instance, persistentEntity);
-			DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, path, parentAction, qualifiers, idValueSource);
-			inserts.add(insert);
-			previousActions.put(node, insert);
-		});
-		return inserts;
+			instance = value.getSecond();
+		} else {
+			instance = node.getValue();
+		}
+		IdValueSource idValueSource = IdValueSource.forInstance(instance, persistentEntity);
+		DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, node.getPath(), parentAction, qualifiers,
+				idValueSource);
+		previousActions.put(node, insert);
+		return insert;
 	}
 
 	private List<DbAction<?>> deleteReferenced() {
@@ -159,8 +205,211 @@ class WritingContext<T> {
 		return deletes;
 	}
 
+	/**
+	 * Creates the actions required to bring the referenced entities from the {@link #previousState} to the state of the
+	 * {@link #root}. Paths that allow matching individual entities (see {@link #keyFor(PathNode)}) get targeted
+	 * {@link DbAction.DeleteSingle}, {@link DbAction.Update} and {@link DbAction.Insert} actions for the changed entities
+	 * only. All other paths get deleted and reinserted as a whole.
+	 */
+	private List<DbAction<?>> updateReferenced() {
+
+		List<DbAction<?>> deletes = new ArrayList<>();
+		List<DbAction<?>> updates = new ArrayList<>();
+		List<DbAction<?>> inserts = new ArrayList<>();
+
+		paths.forEach(path -> {
+
+			if (!differenceSupported(path) || !updateDifferences(path, deletes, updates, inserts)) {
+
+				deletes.add(0, deleteReferenced(path));
+				inserts.addAll(insertAll(path));
+			}
+		});
+
+		List<DbAction<?>> actions = new ArrayList<>(deletes);
+		actions.addAll(updates);
+		actions.addAll(inserts);
+
+		return actions;
+	}
+
 	/// Operations on a single path
 
+	/**
+	 * Only leaf entities directly referenced by the root (possibly through embeddables) are compared individually.
+	 * Collections of entities without an id and without a qualifier can't be matched against their previous state.
+	 */
+	private boolean differenceSupported(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		if (!isDirectlyReferencedByRootIgnoringEmbeddables(path)) {
+			return false;
+		}
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> other : paths) {
+			if (!other.equals(path) && path.isBasePathOf(other)) {
+				return false;
+			}
+		}
+
+		RelationalPersistentProperty leafProperty = path.getLeafProperty();
+
+		return leafProperty.isQualified() || !leafProperty.isCollectionLike()
+				|| context.getRequiredPersistentEntity(leafProperty).hasIdProperty();
+	}
+
+	/**
+	 * Compares the entities reachable via {@code path} from the {@link #root} with those reachable from the
+	 * {@link #previousState} and adds actions for the differences.
+	 *
+	 * @return {@literal false} if the entities could not be matched and no actions got added.
+	 */
+	private boolean updateDifferences(PersistentPropertyPath<RelationalPersistentProperty> path,
+			List<DbAction<?>> deletes, List<DbAction<?>> updates, List<DbAction<?>> inserts) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(path.getLeafProperty());
+		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
+
+		Map<Object, PathNode> previousNodes = new LinkedHashMap<>();
+		for (PathNode previousNode : createNodes(path, null, getValue(previousState, path))) {
+
+			Object key = keyFor(previousNode);
+			if (key == null) {
+				return false;
+			}
+			previousNodes.put(key, previousNode);
+		}
+
+		List<PathNode> currentNodes = createNodes(path, null, getValue(root, path));
+
+		// ids generated for immutable entities get propagated by replacing the complete collection, which would drop all
+		// entities without an action.
+		if (idProperty != null && idProperty.isImmutable()) {
+			for (PathNode currentNode : currentNodes) {
+				if (IdValueSource.forInstance(currentNode.getActualValue(), persistentEntity) == IdValueSource.GENERATED) {
+					return false;
+				}
+			}
+		}
+
+		List<DbAction<?>> pathDeletes = new ArrayList<>();
+		List<DbAction<?>> pathUpdates = new ArrayList<>();
+		List<DbAction<?>> pathInserts = new ArrayList<>();
+
+		for (PathNode currentNode : currentNodes) {
+
+			Object key = keyFor(currentNode);
+			PathNode previousNode = key == null ? null : previousNodes.remove(key);
+
+			if (previousNode == null) {
+				pathInserts.add(insert(persistentEntity, currentNode));
+			} else if (idProperty != null && !ObjectUtils.nullSafeEquals(getId(persistentEntity, previousNode),
+					getId(persistentEntity, currentNode))) {
+
+				pathDeletes.add(deleteSingle(persistentEntity, previousNode));
+				pathInserts.add(insert(persistentEntity, currentNode));
+			} else if (hasChanged(persistentEntity, previousNode.getActualValue(), currentNode.getActualValue())) {
+				pathUpdates.add(update(persistentEntity, currentNode));
+			}
+		}
+
+		previousNodes.values().forEach(previousNode -> pathDeletes.add(deleteSingle(persistentEntity, previousNode)));
+
+		deletes.addAll(0, pathDeletes);
+		updates.addAll(pathUpdates);
+		inserts.addAll(pathInserts);
+
+		return true;
+	}
+
+	private DbAction.Update<Object> update(RelationalPersistentEntity<?> persistentEntity, PathNode node) {
+
+		Object instance = node.getActualValue();
+
+		return new DbAction.Update<>(instance, node.getPath(), getRequiredAction(node.getParent()), qualifiers(node),
+				IdValueSource.forInstance(instance, persistentEntity));
+	}
+
+	private DbAction.DeleteSingle<Object> deleteSingle(RelationalPersistentEntity<?> persistentEntity, PathNode node) {
+
+		Object instance = node.getActualValue();
+
+		return new DbAction.DeleteSingle<>(instance, node.getPath(), getRequiredAction(node.getParent()),
+				qualifiers(node), IdValueSource.forInstance(instance, persistentEntity));
+	}
+
+	private static Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers(PathNode node) {
+
+		return node.getPath().getLeafProperty().isQualified() //
+				? Map.of(node.getPath(), ((Pair<?, ?>) node.getValue()).getFirst()) //
+				: Map.of();
+	}
+
+	/**
+	 * Returns the key identifying the entity represented by {@code node} within its parent: the map key or list index for
+	 * qualified properties, the id for entities with an id property and the path itself for single references without
+	 * id.
+	 *
+	 * @return {@literal null} if the entity can't be identified, i.e. it has an id property but no id value.
+	 */
+	@Nullable
+	private Object keyFor(PathNode node) {
+
+		RelationalPersistentProperty leafProperty = node.getPath().getLeafProperty();
+
+		if (leafProperty.isQualified()) {
+			return ((Pair<?, ?>) node.getValue()).getFirst();
+		}
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(leafProperty);
+		if (persistentEntity.hasIdProperty()) {
+			return IdValueSource.forInstance(node.getActualValue(), persistentEntity) == IdValueSource.PROVIDED
+					? getId(persistentEntity, node)
+					: null;
+		}
+
+		return node.getPath();
+	}
+
+	@Nullable
+	private static Object getId(RelationalPersistentEntity<?> persistentEntity, PathNode node) {
+		return persistentEntity.getIdentifierAccessor(node.getActualValue()).getIdentifier();
+	}
+
+	/**
+	 * Compares all updatable, non-id properties of two instances of the same entity, descending into embedded entities.
+	 * Note that identical instances are considered unchanged.
+	 */
+	private boolean hasChanged(RelationalPersistentEntity<?> persistentEntity, Object previous, Object current) {
+
+		if (previous == current) {
+			return false;
+		}
+
+		PersistentPropertyAccessor<?> previousAccessor = persistentEntity.getPropertyAccessor(previous);
+		PersistentPropertyAccessor<?> currentAccessor = persistentEntity.getPropertyAccessor(current);
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+
+			if (property.isIdProperty() || !property.isWritable() || property.isInsertOnly()) {
+				continue;
+			}
+
+			Object previousValue = previousAccessor.getProperty(property);
+			Object currentValue = currentAccessor.getProperty(property);
+
+			if (property.isEmbedded() && previousValue != null && currentValue != null) {
+
+				if (hasChanged(context.getRequiredPersistentEntity(property), previousValue, currentValue)) {
+					return true;
+				}
+			} else if (!ObjectUtils.nullSafeEquals(previousValue, currentValue)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	private DbAction.Delete<?> deleteReferenced(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		Object id = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(root).getIdentifier();
@@ -175,6 +424,15 @@ class WritingContext<T> {
 		previousActions.put(null, dbAction);
 	}
 
+	private DbAction.WithEntity<?> getRequiredAction(@Nullable PathNode parent) {
+
+		DbAction.WithEntity<?> action = getAction(parent);
+
+		Assert.state(action != null, "No action found for the parent of the entity");
+
+		return action;
+	}
+
 	@Nullable
 	private DbAction.WithEntity<?> getAction(@Nullable PathNode parent) {
 
@@ -200,7 +458,7 @@ class WritingContext<T> {
 
 		if (isDirectlyReferencedByRootIgnoringEmbeddables(path)) {
 
-			Object value = getFromRootValue(path);
+			Object value = getValue(root, path);
 			nodes.addAll(createNodes(path, null, value));
 
 		} else {
@@ -241,13 +499,14 @@ class WritingContext<T> {
 	}
 
 	@Nullable
-	private Object getFromRootValue(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
+	private Object getValue(@Nullable Object aggregateRoot,
+			@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		if (path == null) {
-			return root;
+			return aggregateRoot;
 		}
 
-		Object parent = getFromRootValue(path.getParentPath());
+		Object parent = getValue(aggregateRoot, path.getParentPath());
 		if (parent == null) {
 			return null;
 		}
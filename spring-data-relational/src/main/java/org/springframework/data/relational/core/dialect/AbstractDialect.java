@@ -15,12 +15,14 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.time.Duration;
 import java.util.OptionalLong;
 import java.util.function.Function;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 
@@ -182,10 +184,50 @@ public abstract class AbstractDialect implements Dialect {
 				return "";
 			}
 
-			return clause.getLock(new LockOptions(lockMode, select.getFrom()));
+			LockWaitPolicy waitPolicy = select.getLockWaitPolicy();
+			Duration waitTimeout = select.getLockWaitTimeout();
+
+			if (!clause.supports(waitPolicy)) {
+				throw new UnsupportedOperationException(
+						String.format("Lock wait policy %s is not supported by this dialect", waitPolicy));
+			}
+
+			if (waitTimeout != null && !clause.supportsWaitTimeout()) {
+				throw new UnsupportedOperationException("Lock wait timeouts are not supported by this dialect");
+			}
+
+			return clause.getLock(new LockOptions(lockMode, waitPolicy, waitTimeout, select.getFrom()));
 		}
 	}
 
+	/**
+	 * Append the {@code NOWAIT}, {@code SKIP LOCKED} or {@code WAIT n} option for the {@link LockWaitPolicy} and wait
+	 * timeout of the given {@link LockOptions} to {@code lock}.
+	 *
+	 * @param lock the rendered lock clause.
+	 * @param lockOptions the lock options to apply.
+	 * @return the lock clause including its wait policy.
+	 * @since 3.4
+	 */
+	static String withWaitPolicy(String lock, LockOptions lockOptions) {
+
+		Duration waitTimeout = lockOptions.getWaitTimeout();
+
+		return switch (lockOptions.getWaitPolicy()) {
+			case WAIT -> waitTimeout == null ? lock : lock + " WAIT " + getWaitSeconds(waitTimeout);
+			case NOWAIT -> lock + " NOWAIT";
+			case SKIP_LOCKED -> lock + " SKIP LOCKED";
+		};
+	}
+
+	/**
+	 * Returns the given lock wait timeout in seconds, rounded up so that sub-second timeouts do not turn into
+	 * {@code NOWAIT}.
+	 */
+	private static long getWaitSeconds(Duration waitTimeout) {
+		return waitTimeout.getNano() > 0 ? waitTimeout.getSeconds() + 1 : waitTimeout.getSeconds();
+	}
+
 	/**
 	 * Prepends a non-empty rendering result with a leading whitespace,
 	 */
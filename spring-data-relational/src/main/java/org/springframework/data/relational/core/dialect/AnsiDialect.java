@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * An SQL dialect for the ANSI SQL standard.
@@ -61,13 +62,23 @@ public class AnsiDialect extends AbstractDialect {
 
 		@Override
 		public String getLock(LockOptions lockOptions) {
-			return "FOR UPDATE";
+			return withWaitPolicy("FOR UPDATE", lockOptions);
 		}
 
 		@Override
 		public Position getClausePosition() {
 			return Position.AFTER_ORDER_BY;
 		}
+
+		@Override
+		public boolean supports(LockWaitPolicy waitPolicy) {
+			return true;
+		}
+
+		@Override
+		public boolean supportsWaitTimeout() {
+			return true;
+		}
 	};
 
 	private final ArrayColumns ARRAY_COLUMNS = ObjectArrayColumns.INSTANCE;
@@ -91,4 +102,9 @@ public class AnsiDialect extends AbstractDialect {
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IdentifierProcessing.ANSI;
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE;
+	}
 }
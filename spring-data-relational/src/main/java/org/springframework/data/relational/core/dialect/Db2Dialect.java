@@ -20,6 +20,7 @@ import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * An SQL dialect for DB2.
@@ -83,13 +84,22 @@ public class Db2Dialect extends AbstractDialect {
 
 			@Override
 			public String getLock(LockOptions lockOptions) {
-				return "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS";
+
+				return lockOptions.getWaitPolicy() == LockWaitPolicy.SKIP_LOCKED
+						? "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS SKIP LOCKED DATA"
+						: "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS";
 			}
 
 			@Override
 			public Position getClausePosition() {
 				return Position.AFTER_ORDER_BY;
 			}
+
+			// DB2 has no NOWAIT and controls lock timeouts through the CURRENT LOCK TIMEOUT register
+			@Override
+			public boolean supports(LockWaitPolicy waitPolicy) {
+				return waitPolicy != LockWaitPolicy.NOWAIT;
+			}
 		};
 	}
 
@@ -102,4 +112,14 @@ public class Db2Dialect extends AbstractDialect {
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE;
+	}
+
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
 }
@@ -124,6 +124,17 @@ public interface Dialect {
 		return InsertRenderContexts.DEFAULT;
 	}
 
+	/**
+	 * Return the {@link UpsertRenderContext} used to render {@link org.springframework.data.relational.core.sql.Upsert}
+	 * statements. Dialects that do not support upserts (the default) return {@link UpsertRenderContexts#UNSUPPORTED}.
+	 *
+	 * @return the {@link UpsertRenderContext} for this dialect.
+	 * @since 3.4
+	 */
+	default UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.UNSUPPORTED;
+	}
+
 	/**
 	 * Return the {@link OrderByNullPrecedence} used by this dialect.
 	 *
@@ -147,4 +158,37 @@ public interface Dialect {
 	default boolean supportsSingleQueryLoading() {
 		return true;
 	};
+
+	/**
+	 * Return the maximum number of rows that can be inserted using a single multi-row
+	 * {@code INSERT INTO … VALUES (…), (…)} statement. Dialects returning {@literal 1} (the default) do not support
+	 * multi-row inserts.
+	 *
+	 * @return the maximum number of rows per {@code INSERT} statement.
+	 * @since 3.4
+	 */
+	default int getMaxRowsPerInsert() {
+		return 1;
+	}
+
+	/**
+	 * Return the maximum number of bind parameters that a single statement may contain. Used to size multi-row inserts.
+	 *
+	 * @return the maximum number of bind parameters per statement.
+	 * @since 3.4
+	 */
+	default int getMaxBindParameters() {
+		return 2000;
+	}
+
+	/**
+	 * Return the {@link InListStrategy} used to bind collection-valued {@code IN} predicates. Defaults to
+	 * {@link InListStrategy#PAD}.
+	 *
+	 * @return the {@link InListStrategy} to use.
+	 * @since 3.4
+	 */
+	default InListStrategy getInListStrategy() {
+		return InListStrategy.PAD;
+	}
 }
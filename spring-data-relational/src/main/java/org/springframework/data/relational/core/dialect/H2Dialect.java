@@ -40,8 +40,20 @@ public class H2Dialect extends AbstractDialect {
 	 */
 	public static final H2Dialect INSTANCE = new H2Dialect();
 
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+		@Override
+		public boolean supportedForMultiRowInserts() {
+			return true;
+		}
+	};
+
 	protected H2Dialect() {}
 
+	@Override
+	public IdGeneration getIdGeneration() {
+		return ID_GENERATION;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -113,4 +125,24 @@ public class H2Dialect extends AbstractDialect {
 	public boolean supportsSingleQueryLoading() {
 		return false;
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE_KEY;
+	}
+
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 10000;
+	}
+
+	@Override
+	public InListStrategy getInListStrategy() {
+		return InListStrategy.ARRAY;
+	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import org.springframework.data.relational.core.sql.LockOptions;
+
 /**
  * A {@link Dialect} for HsqlDb.
  *
@@ -34,7 +36,7 @@ public class HsqlDbDialect extends AbstractDialect {
 
 	@Override
 	public LockClause lock() {
-		return AnsiDialect.LOCK_CLAUSE;
+		return LOCK_CLAUSE;
 	}
 
 	@Override
@@ -42,6 +44,20 @@ public class HsqlDbDialect extends AbstractDialect {
 		return false;
 	}
 
+	// HSQLDB supports neither NOWAIT, SKIP LOCKED nor WAIT n
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		@Override
+		public String getLock(LockOptions lockOptions) {
+			return AnsiDialect.LOCK_CLAUSE.getLock(lockOptions);
+		}
+
+		@Override
+		public Position getClausePosition() {
+			return AnsiDialect.LOCK_CLAUSE.getClausePosition();
+		}
+	};
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -64,4 +80,19 @@ public class HsqlDbDialect extends AbstractDialect {
 			return Position.AFTER_ORDER_BY;
 		}
 	};
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE;
+	}
+
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 10000;
+	}
 }
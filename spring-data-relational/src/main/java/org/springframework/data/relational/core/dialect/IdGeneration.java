@@ -71,4 +71,20 @@ public interface IdGeneration {
 	default boolean supportedForBatchOperations() {
 		return true;
 	}
+
+	/**
+	 * Does the driver return generated keys for all rows of a multi-row {@code INSERT INTO … VALUES (…), (…)}
+	 * statement, in the order of the rows.
+	 * <p>
+	 * This is {@literal false} by default, in which case inserts expecting generated ids are not combined into multi-row
+	 * statements. Databases that return generated keys through {@code RETURNING} (such as Postgres) do not guarantee the
+	 * order of the returned rows and must not report support.
+	 *
+	 * @return {@literal true} if the JDBC driver reports generated keys of multi-row inserts in row order.
+	 * @see PreparedStatement#getGeneratedKeys()
+	 * @since 3.4
+	 */
+	default boolean supportedForMultiRowInserts() {
+		return false;
+	}
 }
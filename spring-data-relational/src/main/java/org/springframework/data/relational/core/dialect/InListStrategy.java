@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Strategy describing how collection-valued {@code IN} predicates are bound. Expanding each element into its own bind
+ * marker yields a distinct SQL statement per collection size which defeats statement caching on both the client and
+ * the server. {@link #PAD} and {@link #ARRAY} limit the number of distinct statements.
+ *
+ * @since 3.4
+ * @see Dialect#getInListStrategy()
+ */
+public enum InListStrategy {
+
+	/**
+	 * Render one bind marker per collection element.
+	 */
+	EXPAND,
+
+	/**
+	 * Pad the collection to the next power of two by repeating its last element so that collections of similar size
+	 * share the same SQL statement. Sizes beyond {@link #MAX_PADDED_SIZE} are not padded further.
+	 */
+	PAD,
+
+	/**
+	 * Bind the collection as a single SQL array using {@code column = ANY(:values)}. Falls back to {@link #PAD} if the
+	 * values cannot be bound as an array.
+	 */
+	ARRAY;
+
+	/**
+	 * Upper bound for padded collection sizes, matching the most restrictive {@code IN} list limit of common databases.
+	 */
+	public static final int MAX_PADDED_SIZE = 1000;
+
+	/**
+	 * Return the size a collection of {@code size} elements is padded to.
+	 *
+	 * @param size the number of elements, must not be negative.
+	 * @return the padded size, never smaller than {@code size}.
+	 */
+	public static int getPaddedSize(int size) {
+
+		Assert.isTrue(size >= 0, "Size must not be negative");
+
+		if (size <= 1) {
+			return size;
+		}
+
+		int padded = Integer.highestOneBit(size - 1) << 1;
+		return padded > MAX_PADDED_SIZE ? Math.max(size, MAX_PADDED_SIZE) : padded;
+	}
+
+	/**
+	 * Pad {@code values} to {@link #getPaddedSize(int)} by repeating the last element. Repeated elements do not change
+	 * the outcome of {@code IN} or {@code NOT IN} predicates.
+	 *
+	 * @param values the values to pad, must not be {@literal null}.
+	 * @return the padded values or {@code values} itself if no padding is required.
+	 */
+	public static <T> List<T> pad(List<T> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		int paddedSize = getPaddedSize(values.size());
+
+		if (paddedSize == values.size()) {
+			return values;
+		}
+
+		List<T> padded = new ArrayList<>(paddedSize);
+		padded.addAll(values);
+
+		T last = values.get(values.size() - 1);
+		while (padded.size() < paddedSize) {
+			padded.add(last);
+		}
+
+		return padded;
+	}
+}
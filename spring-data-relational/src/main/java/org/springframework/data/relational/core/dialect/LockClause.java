@@ -16,6 +16,7 @@
 package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * A clause representing Dialect-specific {@code LOCK}.
@@ -38,6 +39,29 @@ public interface LockClause {
 	 */
 	Position getClausePosition();
 
+	/**
+	 * Returns whether this clause can render the given {@link LockWaitPolicy}. Rendering an unsupported policy fails with
+	 * {@link UnsupportedOperationException} instead of silently waiting for conflicting locks.
+	 *
+	 * @param waitPolicy the wait policy to check.
+	 * @return {@literal true} if the wait policy can be rendered. Supports only {@link LockWaitPolicy#WAIT} by default.
+	 * @since 3.4
+	 */
+	default boolean supports(LockWaitPolicy waitPolicy) {
+		return waitPolicy == LockWaitPolicy.WAIT;
+	}
+
+	/**
+	 * Returns whether this clause can render a {@link LockOptions#getWaitTimeout() lock wait timeout}
+	 * ({@code WAIT n}).
+	 *
+	 * @return {@literal true} if lock wait timeouts can be rendered. {@literal false} by default.
+	 * @since 3.4
+	 */
+	default boolean supportsWaitTimeout() {
+		return false;
+	}
+
 	/**
 	 * Enumeration of where to render the clause within the SQL statement.
 	 */
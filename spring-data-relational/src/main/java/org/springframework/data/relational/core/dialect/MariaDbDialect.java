@@ -20,6 +20,8 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * A SQL dialect for MariaDb.
@@ -33,6 +35,46 @@ public class MariaDbDialect extends MySqlDialect {
 		super(identifierProcessing);
 	}
 
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		@Override
+		public String getLock(LockOptions lockOptions) {
+
+			return switch (lockOptions.getLockMode()) {
+				case PESSIMISTIC_WRITE -> withWaitPolicy("FOR UPDATE", lockOptions);
+				case PESSIMISTIC_READ -> withWaitPolicy("LOCK IN SHARE MODE", lockOptions);
+			};
+		}
+
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_ORDER_BY;
+		}
+
+		@Override
+		public boolean supports(LockWaitPolicy waitPolicy) {
+			return true;
+		}
+
+		@Override
+		public boolean supportsWaitTimeout() {
+			return true;
+		}
+	};
+
+	@Override
+	public LockClause lock() {
+		return LOCK_CLAUSE;
+	}
+
+	/**
+	 * MariaDB does not support row aliases and refers to the inserted values through {@code VALUES(…)}.
+	 */
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.ON_DUPLICATE_KEY_VALUES;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return Arrays.asList(
@@ -20,6 +20,7 @@ import java.util.Collection;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
 import org.springframework.util.Assert;
@@ -98,10 +99,12 @@ public class MySqlDialect extends AbstractDialect {
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE";
+					return withWaitPolicy("FOR UPDATE", lockOptions);
 
 				case PESSIMISTIC_READ:
-					return "LOCK IN SHARE MODE";
+					// LOCK IN SHARE MODE does not accept NOWAIT or SKIP LOCKED
+					return lockOptions.getWaitPolicy() == LockWaitPolicy.WAIT ? "LOCK IN SHARE MODE"
+							: withWaitPolicy("FOR SHARE", lockOptions);
 
 				default:
 					return "";
@@ -112,6 +115,11 @@ public class MySqlDialect extends AbstractDialect {
 		public Position getClausePosition() {
 			return Position.AFTER_ORDER_BY;
 		}
+
+		@Override
+		public boolean supports(LockWaitPolicy waitPolicy) {
+			return true;
+		}
 	};
 
 	@Override
@@ -141,4 +149,19 @@ public class MySqlDialect extends AbstractDialect {
 	public OrderByNullPrecedence orderByNullHandling() {
 		return OrderByNullPrecedence.NONE;
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.ON_DUPLICATE_KEY;
+	}
+
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 65535;
+	}
 }
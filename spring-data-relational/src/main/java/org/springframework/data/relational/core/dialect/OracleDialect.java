@@ -55,6 +55,15 @@ public class OracleDialect extends AnsiDialect {
 		return ID_GENERATION;
 	}
 
+	/**
+	 * Oracle does not support {@code MERGE} with a {@code VALUES} source and selects the values from {@code DUAL}
+	 * instead.
+	 */
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE_FROM_DUAL;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return asList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE, NumberToBooleanConverter.INSTANCE, BooleanToIntegerConverter.INSTANCE);
@@ -30,6 +30,7 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.SimpleFunction;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -133,10 +134,10 @@ public class PostgresDialect extends AbstractDialect {
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE OF " + tableName;
+					return withWaitPolicy("FOR UPDATE OF " + tableName, lockOptions);
 
 				case PESSIMISTIC_READ:
-					return "FOR SHARE OF " + tableName;
+					return withWaitPolicy("FOR SHARE OF " + tableName, lockOptions);
 
 				default:
 					return "";
@@ -147,6 +148,11 @@ public class PostgresDialect extends AbstractDialect {
 		public Position getClausePosition() {
 			return Position.AFTER_ORDER_BY;
 		}
+
+		@Override
+		public boolean supports(LockWaitPolicy waitPolicy) {
+			return true;
+		}
 	}
 
 	@Override
@@ -163,4 +169,24 @@ public class PostgresDialect extends AbstractDialect {
 	public SimpleFunction getExistsFunction() {
 		return Functions.least(Functions.count(SQL.literalOf(1)), SQL.literalOf(1));
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.ON_CONFLICT;
+	}
+
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 32767;
+	}
+
+	@Override
+	public InListStrategy getInListStrategy() {
+		return InListStrategy.ARRAY;
+	}
 }
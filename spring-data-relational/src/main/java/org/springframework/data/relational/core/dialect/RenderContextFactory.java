@@ -81,6 +81,7 @@ public class RenderContextFactory {
 		private final Dialect renderingDialect;
 		private final SelectRenderContext selectRenderContext;
 		private final InsertRenderContext insertRenderContext;
+		private final UpsertRenderContext upsertRenderContext;
 
 		DialectRenderContext(RenderNamingStrategy renderNamingStrategy, Dialect renderingDialect,
 				SelectRenderContext selectRenderContext) {
@@ -95,6 +96,7 @@ public class RenderContextFactory {
 			this.renderingDialect = renderingDialect;
 			this.selectRenderContext = selectRenderContext;
 			this.insertRenderContext = renderingDialect.getInsertRenderContext();
+			this.upsertRenderContext = renderingDialect.getUpsertRenderContext();
 		}
 
 		@Override
@@ -116,5 +118,10 @@ public class RenderContextFactory {
 		public InsertRenderContext getInsertRenderContext() {
 			return insertRenderContext;
 		}
+
+		@Override
+		public UpsertRenderContext getUpsertRenderContext() {
+			return upsertRenderContext;
+		}
 	}
 }
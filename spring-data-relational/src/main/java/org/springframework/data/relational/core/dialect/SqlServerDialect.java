@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 import org.springframework.data.util.Lazy;
 
@@ -82,9 +83,20 @@ public class SqlServerDialect extends AbstractDialect {
 		@Override
 		public String getLock(LockOptions lockOptions) {
 			
+			LockWaitPolicy waitPolicy = lockOptions.getWaitPolicy();
+
 			return switch (lockOptions.getLockMode()) {
-				case PESSIMISTIC_WRITE -> "WITH (UPDLOCK, ROWLOCK)";
-				case PESSIMISTIC_READ -> "WITH (HOLDLOCK, ROWLOCK)";
+				case PESSIMISTIC_WRITE -> switch (waitPolicy) {
+					case WAIT -> "WITH (UPDLOCK, ROWLOCK)";
+					case NOWAIT -> "WITH (UPDLOCK, ROWLOCK, NOWAIT)";
+					case SKIP_LOCKED -> "WITH (UPDLOCK, ROWLOCK, READPAST)";
+				};
+				// READPAST is not allowed together with HOLDLOCK (SERIALIZABLE)
+				case PESSIMISTIC_READ -> switch (waitPolicy) {
+					case WAIT -> "WITH (HOLDLOCK, ROWLOCK)";
+					case NOWAIT -> "WITH (HOLDLOCK, ROWLOCK, NOWAIT)";
+					case SKIP_LOCKED -> "WITH (REPEATABLEREAD, ROWLOCK, READPAST)";
+				};
 			};
 		}
 
@@ -92,6 +104,11 @@ public class SqlServerDialect extends AbstractDialect {
 		public Position getClausePosition() {
 			return Position.AFTER_FROM_TABLE;
 		}
+
+		@Override
+		public boolean supports(LockWaitPolicy waitPolicy) {
+			return true;
+		}
 	};
 
 	private final Lazy<SelectRenderContext> selectRenderContext = Lazy
@@ -127,8 +144,18 @@ public class SqlServerDialect extends AbstractDialect {
 		return InsertRenderContexts.MS_SQL_SERVER;
 	}
 
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE_SQL_SERVER;
+	}
+
 	@Override
 	public OrderByNullPrecedence orderByNullHandling() {
 		return OrderByNullPrecedence.NONE;
 	}
+
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
 }
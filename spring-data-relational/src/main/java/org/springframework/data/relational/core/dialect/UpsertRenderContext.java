@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.List;
+
+import org.springframework.data.relational.core.sql.Upsert;
+import org.springframework.data.relational.core.sql.render.RenderContext;
+
+/**
+ * This interface encapsulates the details about how to render an {@link Upsert} SQL statement. Upserts have no
+ * standard SQL syntax that is supported across databases and are therefore rendered as a whole by the dialect from
+ * their already rendered parts.
+ *
+ * @see RenderContext
+ * @see UpsertRenderContexts
+ * @since 3.4
+ */
+public interface UpsertRenderContext {
+
+	/**
+	 * @return {@literal true} if the dialect supports upserts. {@link #render} is expected to fail if upserts are not
+	 *         supported.
+	 */
+	default boolean isSupported() {
+		return true;
+	}
+
+	/**
+	 * Render an upsert statement.
+	 *
+	 * @param table the rendered table to upsert into.
+	 * @param columns the rendered names of the columns to upsert.
+	 * @param values the rendered values to upsert, one per column.
+	 * @param keyColumns the rendered names of the columns identifying an existing row. A subset of {@code columns}.
+	 * @param updateColumns the rendered names of the columns to update if the row exists already. A subset of
+	 *          {@code columns}, empty if existing rows should be left unchanged.
+	 * @return the upsert statement.
+	 * @throws UnsupportedOperationException if the dialect does not support upserts.
+	 */
+	String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+			List<String> updateColumns);
+}
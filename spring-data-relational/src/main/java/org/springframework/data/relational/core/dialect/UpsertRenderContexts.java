@@ -0,0 +1,224 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Dialect specific {@link UpsertRenderContext} implementations.
+ *
+ * @since 3.4
+ */
+public enum UpsertRenderContexts implements UpsertRenderContext {
+
+	/**
+	 * Upserts are not supported.
+	 */
+	UNSUPPORTED {
+
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+			throw new UnsupportedOperationException("Upserts are not supported by the current dialect");
+		}
+	},
+
+	/**
+	 * SQL standard {@code MERGE INTO … USING (VALUES (…)) … WHEN MATCHED THEN UPDATE … WHEN NOT MATCHED THEN INSERT …}.
+	 */
+	MERGE {
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+			return merge(table, columns, values, keyColumns, updateColumns);
+		}
+	},
+
+	/**
+	 * SQL Server flavor of {@link #MERGE} that requires statement termination.
+	 */
+	MERGE_SQL_SERVER {
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+			return merge(table, columns, values, keyColumns, updateColumns) + ";";
+		}
+	},
+
+	/**
+	 * H2 {@code MERGE INTO … KEY (…) VALUES (…)}. Falls back to {@link #MERGE} if not all non-key columns are to be
+	 * updated.
+	 */
+	MERGE_KEY {
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+
+			List<String> nonKeyColumns = new ArrayList<>(columns);
+			nonKeyColumns.removeAll(keyColumns);
+
+			if (!nonKeyColumns.equals(updateColumns)) {
+				return merge(table, columns, values, keyColumns, updateColumns);
+			}
+
+			return "MERGE INTO " + table + " (" + String.join(", ", columns) + ") KEY (" + String.join(", ", keyColumns)
+					+ ") VALUES (" + String.join(", ", values) + ")";
+		}
+	},
+
+	/**
+	 * Oracle {@code MERGE INTO … USING (SELECT … FROM DUAL) … WHEN MATCHED THEN UPDATE … WHEN NOT MATCHED THEN INSERT …}.
+	 * Oracle does not accept a {@code VALUES} source and table aliases introduced by {@code AS}.
+	 */
+	MERGE_FROM_DUAL {
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+
+			StringJoiner select = new StringJoiner(", ", "(SELECT ", " FROM DUAL)");
+			for (int i = 0; i < columns.size(); i++) {
+				select.add(values.get(i) + " AS " + columns.get(i));
+			}
+
+			return merge(table + " " + TARGET_ALIAS, select + " " + SOURCE_ALIAS, columns, keyColumns, updateColumns);
+		}
+	},
+
+	/**
+	 * Postgres {@code INSERT … ON CONFLICT (…) DO UPDATE SET …}.
+	 */
+	ON_CONFLICT {
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+
+			String insert = insert(table, columns, values) + " ON CONFLICT (" + String.join(", ", keyColumns) + ")";
+
+			if (updateColumns.isEmpty()) {
+				return insert + " DO NOTHING";
+			}
+
+			return insert + " DO UPDATE SET " + assignments(updateColumns, column -> "EXCLUDED." + column);
+		}
+	},
+
+	/**
+	 * MySQL {@code INSERT … AS new ON DUPLICATE KEY UPDATE … = new.…} referring to the inserted values through a row
+	 * alias, which requires MySQL 8.0.19 or newer. Note that the update applies to conflicts on any unique key of the
+	 * table, not only on the declared key columns.
+	 */
+	ON_DUPLICATE_KEY {
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+			return onDuplicateKey(insert(table, columns, values) + " AS " + ROW_ALIAS, keyColumns, updateColumns,
+					column -> ROW_ALIAS + "." + column);
+		}
+	},
+
+	/**
+	 * MariaDB {@code INSERT … ON DUPLICATE KEY UPDATE … = VALUES(…)}. MariaDB does not support row aliases for
+	 * {@code INSERT}. Note that the update applies to conflicts on any unique key of the table, not only on the declared
+	 * key columns.
+	 */
+	ON_DUPLICATE_KEY_VALUES {
+
+		@Override
+		public String render(String table, List<String> columns, List<String> values, List<String> keyColumns,
+				List<String> updateColumns) {
+			return onDuplicateKey(insert(table, columns, values), keyColumns, updateColumns,
+					column -> "VALUES(" + column + ")");
+		}
+	};
+
+	private static final String TARGET_ALIAS = "tgt";
+	private static final String SOURCE_ALIAS = "src";
+	private static final String ROW_ALIAS = "new";
+
+	private static String insert(String table, List<String> columns, List<String> values) {
+		return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + String.join(", ", values) + ")";
+	}
+
+	private static String onDuplicateKey(String insert, List<String> keyColumns, List<String> updateColumns,
+			Function<String, String> valueFunction) {
+
+		if (updateColumns.isEmpty()) {
+
+			// no-op assignment as there is no DO NOTHING variant
+			String key = keyColumns.get(0);
+			return insert + " ON DUPLICATE KEY UPDATE " + key + " = " + key;
+		}
+
+		return insert + " ON DUPLICATE KEY UPDATE " + assignments(updateColumns, valueFunction);
+	}
+
+	private static String merge(String table, List<String> columns, List<String> values, List<String> keyColumns,
+			List<String> updateColumns) {
+
+		String source = "(VALUES (" + String.join(", ", values) + ")) AS " + SOURCE_ALIAS + " ("
+				+ String.join(", ", columns) + ")";
+
+		return merge(table + " AS " + TARGET_ALIAS, source, columns, keyColumns, updateColumns);
+	}
+
+	private static String merge(String target, String source, List<String> columns, List<String> keyColumns,
+			List<String> updateColumns) {
+
+		StringJoiner on = new StringJoiner(" AND ", "(", ")");
+		for (String keyColumn : keyColumns) {
+			on.add(TARGET_ALIAS + "." + keyColumn + " = " + SOURCE_ALIAS + "." + keyColumn);
+		}
+
+		StringJoiner sourceColumns = new StringJoiner(", ");
+		for (String column : columns) {
+			sourceColumns.add(SOURCE_ALIAS + "." + column);
+		}
+
+		StringBuilder merge = new StringBuilder("MERGE INTO ").append(target).append(" USING ").append(source)
+				.append(" ON ").append(on);
+
+		if (!updateColumns.isEmpty()) {
+			merge.append(" WHEN MATCHED THEN UPDATE SET ")
+					.append(assignments(updateColumns, column -> SOURCE_ALIAS + "." + column));
+		}
+
+		return merge.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns)).append(") VALUES (")
+				.append(sourceColumns).append(")").toString();
+	}
+
+	private static String assignments(List<String> columns, Function<String, String> valueFunction) {
+
+		StringJoiner assignments = new StringJoiner(", ");
+		for (String column : columns) {
+			assignments.add(column + " = " + valueFunction.apply(column));
+		}
+		return assignments.toString();
+	}
+}
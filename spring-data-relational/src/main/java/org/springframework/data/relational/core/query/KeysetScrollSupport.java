@@ -0,0 +1,380 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Support class to run keyset-based (seek) scroll queries using {@link KeysetScrollPosition}.
+ * <p>
+ * A keyset query continues after (or before, when scrolling backward) the last seen row by filtering on the values of
+ * the sort properties instead of skipping rows using an offset. Therefore, the cost of fetching a window doesn't depend
+ * on how far the scroll has progressed. The sort is extended by the identifier of the entity to guarantee a stable
+ * order. For a sort on {@code a, b} the filter renders as:
+ *
+ * <pre class="code">
+ * WHERE a >= :a AND (a > :a OR (a = :a AND b > :b))
+ * </pre>
+ *
+ * The expanded form is used instead of row value comparisons ({@code (a, b) > (:a, :b)}) because it works across all
+ * databases and supports mixed sort directions. The leading {@code a >= :a} predicate is redundant but allows the
+ * database to use an index on the sort columns to seek to the start of the window.
+ * <p>
+ * Sort properties may contain {@literal null} values. Keys that are {@literal null} render {@code IS NULL} and
+ * {@code IS NOT NULL} predicates. {@literal null} values are ordered according to the {@link Sort.NullHandling} of
+ * each order. Orders using {@link Sort.NullHandling#NATIVE} are considered to sort {@literal null} values lower than
+ * any other value, that is first in ascending and last in descending order. {@link #getSort} makes that null handling
+ * explicit, so that databases ordering {@literal null} values differently return consistent windows. The identifier and
+ * properties of primitive type cannot be {@literal null} and keep {@link Sort.NullHandling#NATIVE} so that the
+ * database can use an index to satisfy the order. The keyset filter considers {@link Sort.NullHandling#NATIVE} orders
+ * of such a sort to not contain {@literal null} values.
+ *
+ * @since 3.4
+ */
+public abstract class KeysetScrollSupport {
+
+	private KeysetScrollSupport() {}
+
+	/**
+	 * Create a {@link Query} to fetch the window starting at {@link KeysetScrollPosition}. The resulting query uses the
+	 * sort of {@code query} extended by the identifier, reversed when scrolling backward, and applies the keyset filter in
+	 * addition to the criteria of {@code query}. Columns and limit are retained, the offset is dropped. If {@code query}
+	 * selects a subset of columns, the sort properties are selected as well.
+	 *
+	 * @param query the query to scroll, must not be {@literal null}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @param entity the entity to query, must not be {@literal null}.
+	 * @return the keyset query.
+	 */
+	public static Query createQuery(Query query, KeysetScrollPosition scrollPosition,
+			RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+
+		Sort sort = getSort(query.getSort(), scrollPosition, entity);
+		Criteria keysetCriteria = createCriteria(sort, scrollPosition);
+
+		CriteriaDefinition criteria = query.getCriteria().filter(it -> !it.isEmpty()).orElse(null);
+		if (keysetCriteria != null) {
+			criteria = criteria == null ? keysetCriteria
+					: Criteria.empty().and(List.of(criteria, keysetCriteria));
+		}
+
+		List<SqlIdentifier> columns = new ArrayList<>(query.getColumns());
+		if (!columns.isEmpty()) {
+			for (String property : getRequiredProperties(sort)) {
+
+				SqlIdentifier column = SqlIdentifier.unquoted(property);
+				if (!columns.contains(column)) {
+					columns.add(column);
+				}
+			}
+		}
+
+		Query keysetQuery = criteria == null ? Query.empty() : Query.query(criteria);
+		keysetQuery = keysetQuery.columns(columns.toArray(new SqlIdentifier[0])).sort(sort);
+
+		return query.isLimited() ? keysetQuery.limit(query.getLimit()) : keysetQuery;
+	}
+
+	/**
+	 * Return the {@link Sort} to use for a keyset query. The identifier is appended as tie-breaker if not already part of
+	 * the sort and {@link Sort.NullHandling#NATIVE} is replaced by explicit null handling for properties that can be
+	 * {@literal null}. When scrolling backward, the sort is reversed.
+	 *
+	 * @param sort the requested sort, must not be {@literal null}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @param entity the entity to query, must not be {@literal null}.
+	 * @return the {@link Sort} to use for the query.
+	 */
+	public static Sort getSort(Sort sort, KeysetScrollPosition scrollPosition, RelationalPersistentEntity<?> entity) {
+
+		Sort sortToUse = sort;
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty != null && sort.getOrderFor(idProperty.getName()) == null) {
+			sortToUse = sort.and(Sort.by(idProperty.getName()));
+		}
+
+		List<Sort.Order> orders = new ArrayList<>();
+
+		for (Sort.Order order : sortToUse) {
+
+			boolean nullable = isNullable(order.getProperty(), entity);
+			if (!nullable) {
+				order = order.with(Sort.NullHandling.NATIVE);
+			}
+
+			boolean nullsFirst = isNullsFirst(order);
+
+			if (scrollPosition.scrollsBackward()) {
+				order = order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC);
+				nullsFirst = !nullsFirst;
+			}
+
+			orders.add(nullable ? order.with(nullsFirst ? Sort.NullHandling.NULLS_FIRST : Sort.NullHandling.NULLS_LAST)
+					: order);
+		}
+
+		return Sort.by(orders);
+	}
+
+	/**
+	 * Return the names of the properties whose values are required to create the positions of a {@link Window}, that is
+	 * the top-level properties of the keyset {@link Sort}. Queries selecting a subset of columns must select these as
+	 * well.
+	 *
+	 * @param sort the sort as obtained from {@link #getSort(Sort, KeysetScrollPosition, RelationalPersistentEntity)}.
+	 * @return the property names in sort order.
+	 */
+	public static Set<String> getRequiredProperties(Sort sort) {
+
+		Set<String> properties = new LinkedHashSet<>();
+
+		for (Sort.Order order : sort) {
+
+			String property = order.getProperty();
+			int separator = property.indexOf('.');
+			properties.add(separator == -1 ? property : property.substring(0, separator));
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Create the keyset filter {@link Criteria} for the given query {@link Sort}.
+	 *
+	 * @param sort the sort as obtained from {@link #getSort(Sort, KeysetScrollPosition, RelationalPersistentEntity)}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @return the keyset {@link Criteria} or {@literal null} if the scroll position is initial.
+	 */
+	@Nullable
+	public static Criteria createCriteria(Sort sort, KeysetScrollPosition scrollPosition) {
+
+		Map<String, Object> keys = scrollPosition.getKeys();
+
+		if (scrollPosition.isInitial() || keys.isEmpty()) {
+			return null;
+		}
+
+		List<Sort.Order> orders = sort.toList();
+		Criteria alternatives = null;
+
+		for (int i = 0; i < orders.size(); i++) {
+
+			Criteria alternative = null;
+
+			for (int j = 0; j < i; j++) {
+
+				String property = orders.get(j).getProperty();
+				Object value = getRequiredKey(keys, property);
+				Criteria.CriteriaStep step = alternative == null ? Criteria.where(property) : alternative.and(property);
+				alternative = value == null ? step.isNull() : step.is(value);
+			}
+
+			alternative = follows(alternative, orders.get(i), getRequiredKey(keys, orders.get(i).getProperty()));
+
+			if (alternative != null) {
+				alternatives = alternatives == null ? alternative : alternatives.or(alternative);
+			}
+		}
+
+		Sort.Order leading = orders.get(0);
+
+		if (alternatives == null) {
+
+			// the position is the last row as no row sorts after a null value in every sort property
+			return Criteria.where(leading.getProperty()).isNull().and(leading.getProperty()).isNotNull();
+		}
+
+		Criteria bound = orders.size() > 1 ? bound(leading, getRequiredKey(keys, leading.getProperty())) : null;
+
+		if (bound != null) {
+			return bound.and(alternatives);
+		}
+
+		return isDisjunction(alternatives) ? Criteria.empty().and(alternatives) : alternatives;
+	}
+
+	/**
+	 * Create a {@link Window} from the result of a query created by
+	 * {@link #createQuery(Query, KeysetScrollPosition, RelationalPersistentEntity)}. The query is expected to fetch one
+	 * more element than {@code limit} to determine whether there are more elements.
+	 *
+	 * @param result the query result, must not be {@literal null}.
+	 * @param limit the number of elements to fetch, {@code 0} or less for unlimited.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @param sort the sort used for the query.
+	 * @param entity the queried entity, must not be {@literal null}.
+	 * @return the result {@link Window}.
+	 */
+	public static <T> Window<T> createWindow(List<T> result, int limit, KeysetScrollPosition scrollPosition, Sort sort,
+			RelationalPersistentEntity<?> entity) {
+
+		boolean hasMoreElements = limit > 0 && result.size() > limit;
+		List<T> window = hasMoreElements ? new ArrayList<>(result.subList(0, limit)) : new ArrayList<>(result);
+
+		if (scrollPosition.scrollsBackward()) {
+			Collections.reverse(window);
+		}
+
+		IntFunction<ScrollPosition> positionFunction = index -> ScrollPosition
+				.of(getKeys(window.get(index), sort, entity), scrollPosition.getDirection());
+
+		return Window.from(window, positionFunction, hasMoreElements);
+	}
+
+	private static Map<String, Object> getKeys(Object object, Sort sort, RelationalPersistentEntity<?> entity) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (Sort.Order order : sort) {
+			keys.put(order.getProperty(), getValue(object, order.getProperty(), entity));
+		}
+
+		return keys;
+	}
+
+	@Nullable
+	private static Object getValue(Object object, String property, RelationalPersistentEntity<?> entity) {
+
+		RelationalPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+
+		if (persistentProperty != null && entity.getType().isInstance(object)) {
+
+			PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(object);
+			return accessor.getProperty(persistentProperty);
+		}
+
+		return new DirectFieldAccessFallbackBeanWrapper(object).getPropertyValue(property);
+	}
+
+	/**
+	 * Append the predicate for rows sorting after {@code value} in {@code order} to {@code criteria}.
+	 *
+	 * @return the combined {@link Criteria} or {@literal null} if no row can sort after {@code value}.
+	 */
+	@Nullable
+	private static Criteria follows(@Nullable Criteria criteria, Sort.Order order, @Nullable Object value) {
+
+		String property = order.getProperty();
+		Criteria.CriteriaStep step = criteria == null ? Criteria.where(property) : criteria.and(property);
+
+		if (value == null) {
+			return isNullsFirst(order) ? step.isNotNull() : null;
+		}
+
+		if (isNullsFirst(order) || isNonNullable(order)) {
+			return compare(order, step, value, false);
+		}
+
+		Criteria orNull = compare(order, Criteria.where(property), value, false).or(property).isNull();
+		return criteria == null ? orNull : criteria.and(orNull);
+	}
+
+	/**
+	 * Create the redundant bound on the leading sort property allowing an index seek. Bounds that would require a
+	 * disjunction are omitted as they cannot be used for a seek.
+	 */
+	@Nullable
+	private static Criteria bound(Sort.Order order, @Nullable Object value) {
+
+		Criteria.CriteriaStep step = Criteria.where(order.getProperty());
+
+		if (isNullsFirst(order) || isNonNullable(order)) {
+			return value == null ? null : compare(order, step, value, true);
+		}
+
+		return value == null ? step.isNull() : null;
+	}
+
+	private static boolean isNullable(String property, RelationalPersistentEntity<?> entity) {
+
+		RelationalPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+
+		return persistentProperty == null
+				|| (!persistentProperty.isIdProperty() && !persistentProperty.getType().isPrimitive());
+	}
+
+	/**
+	 * Orders of a sort obtained from {@link #getSort} keep {@link Sort.NullHandling#NATIVE} only for properties that
+	 * cannot be {@literal null}.
+	 */
+	private static boolean isNonNullable(Sort.Order order) {
+		return order.getNullHandling() == Sort.NullHandling.NATIVE;
+	}
+
+	private static boolean isNullsFirst(Sort.Order order) {
+
+		return switch (order.getNullHandling()) {
+			case NULLS_FIRST -> true;
+			case NULLS_LAST -> false;
+			case NATIVE -> order.isAscending();
+		};
+	}
+
+	private static boolean isDisjunction(Criteria criteria) {
+
+		for (Criteria current = criteria; current != null; current = current.getPrevious()) {
+			if (current.getCombinator() == CriteriaDefinition.Combinator.OR) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static Criteria compare(Sort.Order order, Criteria.CriteriaStep step, Object value, boolean inclusive) {
+
+		if (order.isAscending()) {
+			return inclusive ? step.greaterThanOrEquals(value) : step.greaterThan(value);
+		}
+
+		return inclusive ? step.lessThanOrEquals(value) : step.lessThan(value);
+	}
+
+	@Nullable
+	private static Object getRequiredKey(Map<String, Object> keys, String property) {
+
+		if (!keys.containsKey(property)) {
+			throw new IllegalStateException(
+					String.format("KeysetScrollPosition does not contain a value for sort property '%s'", property));
+		}
+
+		return keys.get(property);
+	}
+}
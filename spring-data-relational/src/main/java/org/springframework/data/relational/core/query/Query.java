@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.query;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -25,13 +26,15 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
- * Query object representing {@link Criteria}, columns, {@link Sort}, and limit/offset for a SQL query. {@link Query} is
- * created with a fluent API creating immutable objects.
+ * Query object representing {@link Criteria}, columns, {@link Sort}, limit/offset, and an optional lock for a SQL
+ * query. {@link Query} is created with a fluent API creating immutable objects.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -50,6 +53,10 @@ public class Query {
 	private final int limit;
 	private final long offset;
 
+	private final @Nullable LockMode lockMode;
+	private final LockWaitPolicy lockWaitPolicy;
+	private final @Nullable Duration lockWaitTimeout;
+
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
 	 *
@@ -66,16 +73,20 @@ public class Query {
 	 * @param criteria must not be {@literal null}.
 	 */
 	private Query(@Nullable CriteriaDefinition criteria) {
-		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT);
+		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT, null, LockWaitPolicy.WAIT, null);
 	}
 
-	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset) {
+	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset,
+			@Nullable LockMode lockMode, LockWaitPolicy lockWaitPolicy, @Nullable Duration lockWaitTimeout) {
 
 		this.criteria = criteria;
 		this.columns = columns;
 		this.sort = sort;
 		this.limit = limit;
 		this.offset = offset;
+		this.lockMode = lockMode;
+		this.lockWaitPolicy = lockWaitPolicy;
+		this.lockWaitTimeout = lockWaitTimeout;
 	}
 
 	/**
@@ -139,7 +150,8 @@ public class Query {
 
 		List<SqlIdentifier> newColumns = new ArrayList<>(this.columns);
 		newColumns.addAll(columns);
-		return new Query(this.criteria, newColumns, this.sort, this.limit, offset);
+		return new Query(this.criteria, newColumns, this.sort, this.limit, offset, this.lockMode, this.lockWaitPolicy,
+				this.lockWaitTimeout);
 	}
 
 	/**
@@ -149,7 +161,8 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code offset} applied.
 	 */
 	public Query offset(long offset) {
-		return new Query(this.criteria, this.columns, this.sort, this.limit, offset);
+		return new Query(this.criteria, this.columns, this.sort, this.limit, offset, this.lockMode, this.lockWaitPolicy,
+				this.lockWaitTimeout);
 	}
 
 	/**
@@ -159,7 +172,8 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code limit} applied.
 	 */
 	public Query limit(int limit) {
-		return new Query(this.criteria, this.columns, this.sort, limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort, limit, this.offset, this.lockMode, this.lockWaitPolicy,
+				this.lockWaitTimeout);
 	}
 
 	/**
@@ -178,7 +192,7 @@ public class Query {
 		assertNoCaseSort(pageable.getSort());
 
 		return new Query(this.criteria, this.columns, this.sort.and(pageable.getSort()), pageable.getPageSize(),
-				pageable.getOffset());
+				pageable.getOffset(), this.lockMode, this.lockWaitPolicy, this.lockWaitTimeout);
 	}
 
 	/**
@@ -197,7 +211,54 @@ public class Query {
 
 		assertNoCaseSort(sort);
 
-		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset, this.lockMode,
+				this.lockWaitPolicy, this.lockWaitTimeout);
+	}
+
+	/**
+	 * Lock the rows read by the {@link Query} using the given {@link LockMode}, waiting for conflicting locks.
+	 *
+	 * @param lockMode the lock mode to apply, must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with {@link LockMode} applied.
+	 * @since 3.4
+	 */
+	public Query lock(LockMode lockMode) {
+		return lock(lockMode, LockWaitPolicy.WAIT);
+	}
+
+	/**
+	 * Lock the rows read by the {@link Query} using the given {@link LockMode} and {@link LockWaitPolicy}.
+	 *
+	 * @param lockMode the lock mode to apply, must not be {@literal null}.
+	 * @param waitPolicy how to treat rows locked by other transactions, must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with the lock applied.
+	 * @since 3.4
+	 */
+	public Query lock(LockMode lockMode, LockWaitPolicy waitPolicy) {
+
+		Assert.notNull(lockMode, "LockMode must not be null");
+		Assert.notNull(waitPolicy, "LockWaitPolicy must not be null");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, lockMode, waitPolicy, null);
+	}
+
+	/**
+	 * Lock the rows read by the {@link Query} using the given {@link LockMode}, waiting at most {@code waitTimeout} for
+	 * conflicting locks.
+	 *
+	 * @param lockMode the lock mode to apply, must not be {@literal null}.
+	 * @param waitTimeout maximum time to wait for conflicting locks, must be positive.
+	 * @return a new {@link Query} object containing the former settings with the lock applied.
+	 * @since 3.4
+	 */
+	public Query lock(LockMode lockMode, Duration waitTimeout) {
+
+		Assert.notNull(lockMode, "LockMode must not be null");
+		Assert.notNull(waitTimeout, "Lock wait timeout must not be null");
+		Assert.isTrue(!waitTimeout.isNegative() && !waitTimeout.isZero(), "Lock wait timeout must be positive");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, lockMode, LockWaitPolicy.WAIT,
+				waitTimeout);
 	}
 
 	/**
@@ -261,6 +322,38 @@ public class Query {
 		return getLimit() != NO_LIMIT;
 	}
 
+	/**
+	 * Return the {@link LockMode} to lock the rows read by this query with.
+	 *
+	 * @return the {@link LockMode}, {@literal null} if the query does not lock.
+	 * @since 3.4
+	 */
+	@Nullable
+	public LockMode getLockMode() {
+		return this.lockMode;
+	}
+
+	/**
+	 * Return the {@link LockWaitPolicy} to apply if this query {@link #getLockMode() locks} rows.
+	 *
+	 * @return the {@link LockWaitPolicy}, defaults to {@link LockWaitPolicy#WAIT}.
+	 * @since 3.4
+	 */
+	public LockWaitPolicy getLockWaitPolicy() {
+		return this.lockWaitPolicy;
+	}
+
+	/**
+	 * Return the maximum time to wait for conflicting locks if this query {@link #getLockMode() locks} rows.
+	 *
+	 * @return the lock wait timeout, {@literal null} to wait indefinitely.
+	 * @since 3.4
+	 */
+	@Nullable
+	public Duration getLockWaitTimeout() {
+		return this.lockWaitTimeout;
+	}
+
 	private static void assertNoCaseSort(Sort sort) {
 
 		for (Sort.Order order : sort) {
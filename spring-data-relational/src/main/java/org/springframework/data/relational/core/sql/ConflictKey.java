@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.List;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Key columns of an {@link Upsert}. A row is considered to exist already if its key columns match the values to
+ * upsert. Key columns are typically the primary key or the columns of a unique constraint.
+ *
+ * @since 3.4
+ */
+public class ConflictKey extends AbstractSegment {
+
+	private final List<Column> columns;
+
+	ConflictKey(List<Column> columns) {
+
+		super(columns.toArray(new Column[0]));
+
+		this.columns = columns;
+	}
+
+	@Override
+	public String toString() {
+		return "KEY (" + StringUtils.collectionToDelimitedString(columns, ", ") + ")";
+	}
+}
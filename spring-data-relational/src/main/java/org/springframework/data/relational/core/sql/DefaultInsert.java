@@ -35,9 +35,13 @@ class DefaultInsert implements Insert {
 	private final Values values;
 
 	DefaultInsert(@Nullable Table into, List<Column> columns, List<Expression> values) {
+		this(into, columns, values, 1);
+	}
+
+	DefaultInsert(@Nullable Table into, List<Column> columns, List<Expression> values, int rows) {
 		this.into = new Into(into);
 		this.columns = new ArrayList<>(columns);
-		this.values = new Values(new ArrayList<>(values));
+		this.values = new Values(new ArrayList<>(values), rows);
 	}
 
 	@Override
@@ -35,6 +35,9 @@ class DefaultInsertBuilder
 	private @Nullable Table into;
 	private List<Column> columns = new ArrayList<>();
 	private List<Expression> values = new ArrayList<>();
+	private int rows = 1;
+	private int rowStart = 0;
+	private int rowSize = 0;
 
 	@Override
 	public InsertIntoColumnsAndValuesWithBuild into(Table table) {
@@ -101,8 +104,33 @@ class DefaultInsertBuilder
 		return this;
 	}
 
+	@Override
+	public InsertValuesWithBuild andValues(Collection<? extends Expression> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		assertRowComplete();
+
+		this.rowSize = this.values.size() - this.rowStart;
+		this.rowStart = this.values.size();
+		this.rows++;
+
+		return values(values);
+	}
+
 	@Override
 	public Insert build() {
-		return new DefaultInsert(this.into, this.columns, this.values);
+
+		assertRowComplete();
+
+		return new DefaultInsert(this.into, this.columns, this.values, this.rows);
+	}
+
+	private void assertRowComplete() {
+
+		if (this.rows > 1) {
+			Assert.state(this.values.size() - this.rowStart == this.rowSize,
+					"All rows must consist of the same number of values");
+		}
 	}
 }
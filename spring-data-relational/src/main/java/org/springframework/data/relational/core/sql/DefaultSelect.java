@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -42,9 +43,12 @@ class DefaultSelect implements Select {
 	private final @Nullable Where where;
 	private final List<OrderByField> orderBy;
 	private final @Nullable LockMode lockMode;
+	private final LockWaitPolicy lockWaitPolicy;
+	private final @Nullable Duration lockWaitTimeout;
 
 	DefaultSelect(boolean distinct, List<Expression> selectList, List<TableLike> from, long limit, long offset,
-			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode) {
+			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode,
+			LockWaitPolicy lockWaitPolicy, @Nullable Duration lockWaitTimeout) {
 
 		this.distinct = distinct;
 		this.selectList = new SelectList(new ArrayList<>(selectList));
@@ -55,6 +59,8 @@ class DefaultSelect implements Select {
 		this.orderBy = Collections.unmodifiableList(new ArrayList<>(orderBy));
 		this.where = where != null ? new Where(where) : null;
 		this.lockMode = lockMode;
+		this.lockWaitPolicy = lockWaitPolicy;
+		this.lockWaitTimeout = lockWaitTimeout;
 	}
 
 	@Override
@@ -88,6 +94,17 @@ class DefaultSelect implements Select {
 		return lockMode;
 	}
 
+	@Override
+	public LockWaitPolicy getLockWaitPolicy() {
+		return lockWaitPolicy;
+	}
+
+	@Nullable
+	@Override
+	public Duration getLockWaitTimeout() {
+		return lockWaitTimeout;
+	}
+
 	@Override
 	public void visit(Visitor visitor) {
 
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -25,6 +26,7 @@ import org.springframework.data.relational.core.sql.SelectBuilder.SelectAndFrom;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectWhereAndOr;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Default {@link SelectBuilder} implementation.
@@ -45,6 +47,8 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	private @Nullable Condition where;
 	private final List<OrderByField> orderBy = new ArrayList<>();
 	private @Nullable LockMode lockMode;
+	private LockWaitPolicy lockWaitPolicy = LockWaitPolicy.WAIT;
+	private @Nullable Duration lockWaitTimeout;
 
 	@Override
 	public SelectBuilder top(int count) {
@@ -194,8 +198,27 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 
 	@Override
 	public SelectLock lock(LockMode lockMode) {
+		return lock(lockMode, LockWaitPolicy.WAIT);
+	}
+
+	@Override
+	public SelectLock lock(LockMode lockMode, LockWaitPolicy waitPolicy) {
+
+		this.lockMode = lockMode;
+		this.lockWaitPolicy = waitPolicy;
+		this.lockWaitTimeout = null;
+		return this;
+	}
+
+	@Override
+	public SelectLock lock(LockMode lockMode, Duration waitTimeout) {
+
+		Assert.notNull(waitTimeout, "Lock wait timeout must not be null");
+		Assert.isTrue(!waitTimeout.isNegative() && !waitTimeout.isZero(), "Lock wait timeout must be positive");
 
 		this.lockMode = lockMode;
+		this.lockWaitPolicy = LockWaitPolicy.WAIT;
+		this.lockWaitTimeout = waitTimeout;
 		return this;
 	}
 
@@ -203,7 +226,7 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	public Select build(boolean validate) {
 
 		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, joins, where, orderBy,
-				lockMode);
+				lockMode, lockWaitPolicy, lockWaitTimeout);
 
 		if (validate) {
 			SelectValidator.validate(select);
@@ -361,6 +384,18 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			return selectBuilder.lock(lockMode);
 		}
 
+		@Override
+		public SelectLock lock(LockMode lockMode, LockWaitPolicy waitPolicy) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.lock(lockMode, waitPolicy);
+		}
+
+		@Override
+		public SelectLock lock(LockMode lockMode, Duration waitTimeout) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.lock(lockMode, waitTimeout);
+		}
+
 		@Override
 		public Select build(boolean validate) {
 			selectBuilder.join(finishJoin());
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Default {@link Upsert} implementation.
+ *
+ * @since 3.4
+ */
+class DefaultUpsert implements Upsert {
+
+	private final Into into;
+	private final List<Column> columns;
+	private final Values values;
+	private final ConflictKey key;
+	private final ConflictUpdate update;
+
+	DefaultUpsert(@Nullable Table into, List<Column> columns, List<Expression> values, List<Column> key,
+			List<Column> update) {
+
+		this.into = new Into(into);
+		this.columns = new ArrayList<>(columns);
+		this.values = new Values(new ArrayList<>(values));
+		this.key = new ConflictKey(new ArrayList<>(key));
+		this.update = new ConflictUpdate(new ArrayList<>(update));
+	}
+
+	@Override
+	public void visit(Visitor visitor) {
+
+		Assert.notNull(visitor, "Visitor must not be null");
+
+		visitor.enter(this);
+
+		into.visit(visitor);
+		columns.forEach(it -> it.visit(visitor));
+		values.visit(visitor);
+		key.visit(visitor);
+		update.visit(visitor);
+
+		visitor.leave(this);
+	}
+
+	@Override
+	public String toString() {
+
+		return "UPSERT " + this.into + " (" + StringUtils.collectionToDelimitedString(this.columns, ", ") + ") "
+				+ this.values + " " + this.key + " " + this.update;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link UpsertBuilder} implementation.
+ *
+ * @since 3.4
+ */
+class DefaultUpsertBuilder implements UpsertBuilder, UpsertBuilder.UpsertColumns, UpsertBuilder.UpsertValues,
+		UpsertBuilder.UpsertKey, UpsertBuilder.UpsertUpdate {
+
+	private @Nullable Table into;
+	private final List<Column> columns = new ArrayList<>();
+	private final List<Expression> values = new ArrayList<>();
+	private final List<Column> key = new ArrayList<>();
+	private @Nullable List<Column> update;
+
+	@Override
+	public UpsertColumns into(Table table) {
+
+		Assert.notNull(table, "Upsert Into Table must not be null");
+
+		this.into = table;
+		return this;
+	}
+
+	@Override
+	public UpsertValues columns(Column... columns) {
+
+		Assert.notNull(columns, "Columns must not be null");
+
+		return columns(Arrays.asList(columns));
+	}
+
+	@Override
+	public UpsertValues columns(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Columns must not be null");
+
+		this.columns.addAll(columns);
+		return this;
+	}
+
+	@Override
+	public UpsertKey values(Expression... values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		return values(Arrays.asList(values));
+	}
+
+	@Override
+	public UpsertKey values(Collection<? extends Expression> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		this.values.addAll(values);
+		return this;
+	}
+
+	@Override
+	public UpsertUpdate key(Column... columns) {
+
+		Assert.notNull(columns, "Key columns must not be null");
+
+		return key(Arrays.asList(columns));
+	}
+
+	@Override
+	public UpsertUpdate key(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Key columns must not be null");
+
+		this.key.addAll(columns);
+		return this;
+	}
+
+	@Override
+	public BuildUpsert update(Column... columns) {
+
+		Assert.notNull(columns, "Update columns must not be null");
+
+		return update(Arrays.asList(columns));
+	}
+
+	@Override
+	public BuildUpsert update(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Update columns must not be null");
+
+		this.update = new ArrayList<>(columns);
+		return this;
+	}
+
+	@Override
+	public Upsert build() {
+
+		Assert.state(!this.columns.isEmpty(), "Upsert must declare at least one column");
+		Assert.state(this.columns.size() == this.values.size(), "Upsert must declare one value per column");
+		Assert.state(!this.key.isEmpty(), "Upsert must declare at least one key column");
+		Assert.state(this.columns.containsAll(this.key), "Key columns must be part of the upserted columns");
+
+		List<Column> update = this.update;
+
+		if (update == null) {
+
+			update = new ArrayList<>(this.columns);
+			update.removeAll(this.key);
+		} else {
+			Assert.state(this.columns.containsAll(update), "Update columns must be part of the upserted columns");
+		}
+
+		return new DefaultUpsert(this.into, this.columns, this.values, this.key, update);
+	}
+}
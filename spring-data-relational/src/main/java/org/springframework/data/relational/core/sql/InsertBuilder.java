@@ -15,8 +15,11 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.util.Arrays;
 import java.util.Collection;
 
+import org.springframework.util.Assert;
+
 /**
  * Entry point to construct an {@link Insert} statement.
  *
@@ -149,6 +152,36 @@ public interface InsertBuilder {
 		 */
 		@Override
 		InsertValuesWithBuild values(Collection<? extends Expression> values);
+
+		/**
+		 * Start a new row of {@link Expression values} to render a multi-row {@code VALUES (…), (…)} clause. Subsequent
+		 * calls to {@link #value(Expression)} and {@link #values(Expression...)} add values to the new row. All rows must
+		 * consist of the same number of values.
+		 *
+		 * @param values the values of the new row.
+		 * @return {@code this} builder.
+		 * @since 3.4
+		 */
+		default InsertValuesWithBuild andValues(Expression... values) {
+
+			Assert.notNull(values, "Values must not be null");
+
+			return andValues(Arrays.asList(values));
+		}
+
+		/**
+		 * Start a new row of {@link Expression values} to render a multi-row {@code VALUES (…), (…)} clause. Subsequent
+		 * calls to {@link #value(Expression)} and {@link #values(Collection)} add values to the new row. All rows must
+		 * consist of the same number of values.
+		 *
+		 * @param values the values of the new row.
+		 * @return {@code this} builder.
+		 * @throws UnsupportedOperationException if the builder does not support multi-row inserts.
+		 * @since 3.4
+		 */
+		default InsertValuesWithBuild andValues(Collection<? extends Expression> values) {
+			throw new UnsupportedOperationException("Multi-row inserts are not supported by " + getClass().getName());
+		}
 	}
 
 	/**
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -26,14 +29,39 @@ import org.springframework.util.Assert;
 public class LockOptions {
 
 	private final LockMode lockMode;
+	private final LockWaitPolicy waitPolicy;
+	private final @Nullable Duration waitTimeout;
 	private final From from;
 
 	public LockOptions(LockMode lockMode, From from) {
+		this(lockMode, LockWaitPolicy.WAIT, from);
+	}
+
+	/**
+	 * @since 3.4
+	 */
+	public LockOptions(LockMode lockMode, LockWaitPolicy waitPolicy, From from) {
+		this(lockMode, waitPolicy, null, from);
+	}
+
+	/**
+	 * @param waitTimeout maximum time to wait for conflicting locks, can be {@literal null} to wait indefinitely. Requires
+	 *          {@link LockWaitPolicy#WAIT}.
+	 * @since 3.4
+	 */
+	public LockOptions(LockMode lockMode, LockWaitPolicy waitPolicy, @Nullable Duration waitTimeout, From from) {
 
 		Assert.notNull(lockMode, "LockMode must not be null");
+		Assert.notNull(waitPolicy, "LockWaitPolicy must not be null");
 		Assert.notNull(from, "From must not be null");
+		Assert.isTrue(waitTimeout == null || waitPolicy == LockWaitPolicy.WAIT,
+				"Lock wait timeout requires LockWaitPolicy.WAIT");
+		Assert.isTrue(waitTimeout == null || (!waitTimeout.isNegative() && !waitTimeout.isZero()),
+				"Lock wait timeout must be positive");
 
 		this.lockMode = lockMode;
+		this.waitPolicy = waitPolicy;
+		this.waitTimeout = waitTimeout;
 		this.from = from;
 	}
 
@@ -41,6 +69,22 @@ public class LockOptions {
 		return this.lockMode;
 	}
 
+	/**
+	 * @since 3.4
+	 */
+	public LockWaitPolicy getWaitPolicy() {
+		return this.waitPolicy;
+	}
+
+	/**
+	 * @return the maximum time to wait for conflicting locks, {@literal null} to wait indefinitely.
+	 * @since 3.4
+	 */
+	@Nullable
+	public Duration getWaitTimeout() {
+		return this.waitTimeout;
+	}
+
 	public From getFrom() {
 		return this.from;
 	}
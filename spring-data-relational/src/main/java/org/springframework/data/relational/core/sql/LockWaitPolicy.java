@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * Defines how a locking {@code SELECT} behaves when rows to lock are already locked by another transaction. Dialects
+ * that cannot express a policy throw {@link UnsupportedOperationException} when rendering it, derived repository
+ * queries declaring such a policy are rejected when the query method is created.
+ *
+ * @since 3.4
+ * @see LockMode
+ * @see org.springframework.data.relational.core.dialect.LockClause#supports(LockWaitPolicy)
+ */
+public enum LockWaitPolicy {
+
+	/**
+	 * Wait until conflicting locks are released. This is the database default.
+	 */
+	WAIT,
+
+	/**
+	 * Fail immediately if a row to lock is locked by another transaction ({@code NOWAIT}).
+	 */
+	NOWAIT,
+
+	/**
+	 * Omit rows that are locked by another transaction from the result ({@code SKIP LOCKED}).
+	 */
+	SKIP_LOCKED
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.OptionalLong;
 
@@ -79,4 +80,25 @@ public interface Select extends Segment, Visitable {
 
 	@Nullable
 	LockMode getLockMode();
+
+	/**
+	 * The {@link LockWaitPolicy} to apply if this select {@link #getLockMode() locks} rows.
+	 *
+	 * @return the {@link LockWaitPolicy}, defaults to {@link LockWaitPolicy#WAIT}.
+	 * @since 3.4
+	 */
+	default LockWaitPolicy getLockWaitPolicy() {
+		return LockWaitPolicy.WAIT;
+	}
+
+	/**
+	 * The maximum time to wait for conflicting locks if this select {@link #getLockMode() locks} rows.
+	 *
+	 * @return the lock wait timeout, {@literal null} to wait indefinitely.
+	 * @since 3.4
+	 */
+	@Nullable
+	default Duration getLockWaitTimeout() {
+		return null;
+	}
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sql;
 
+import java.time.Duration;
 import java.util.Collection;
 
 /**
@@ -572,6 +573,26 @@ public interface SelectBuilder {
 		 * @return {@code this} builder.
 		 */
 		SelectLock lock(LockMode lockMode);
+
+		/**
+		 * Apply lock to read using the given {@link LockWaitPolicy}.
+		 *
+		 * @param lockMode lockMode to read.
+		 * @param waitPolicy how to treat rows locked by other transactions.
+		 * @return {@code this} builder.
+		 * @since 3.4
+		 */
+		SelectLock lock(LockMode lockMode, LockWaitPolicy waitPolicy);
+
+		/**
+		 * Apply lock to read waiting at most {@code waitTimeout} for rows locked by other transactions.
+		 *
+		 * @param lockMode lockMode to read.
+		 * @param waitTimeout maximum time to wait for conflicting locks, must be positive.
+		 * @return {@code this} builder.
+		 * @since 3.4
+		 */
+		SelectLock lock(LockMode lockMode, Duration waitTimeout);
 	}
 
 	/**
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * AST for an {@code UPSERT} statement, inserting a row or updating the existing row if a row with the same
+ * {@link ConflictKey key} already exists. There is no standard SQL syntax for upserts, rendering is therefore dialect
+ * specific ({@code MERGE}, {@code INSERT … ON CONFLICT}, {@code INSERT … ON DUPLICATE KEY UPDATE}). Visiting order:
+ * <ol>
+ * <li>Self</li>
+ * <li>{@link Into INTO table} clause</li>
+ * <li>{@link Column columns}</li>
+ * <li>{@link Values VALUEs}</li>
+ * <li>{@link ConflictKey key columns}</li>
+ * <li>{@link ConflictUpdate columns to update}</li>
+ * </ol>
+ *
+ * @since 3.4
+ * @see StatementBuilder
+ * @see UpsertBuilder
+ */
+public interface Upsert extends Segment, Visitable {
+
+	/**
+	 * Creates a new {@link UpsertBuilder}.
+	 *
+	 * @return a new {@link UpsertBuilder}.
+	 */
+	static UpsertBuilder builder() {
+		return new DefaultUpsertBuilder();
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Collection;
+
+/**
+ * Entry point to construct an {@link Upsert} statement.
+ *
+ * @since 3.4
+ * @see StatementBuilder
+ */
+public interface UpsertBuilder {
+
+	/**
+	 * Declare a {@link Table} to upsert into.
+	 *
+	 * @param table the table to upsert into, must not be {@literal null}.
+	 * @return {@code this} builder.
+	 * @see Into
+	 * @see SQL#table(String)
+	 */
+	UpsertColumns into(Table table);
+
+	/**
+	 * Interface exposing methods to declare the columns to upsert.
+	 */
+	interface UpsertColumns {
+
+		/**
+		 * Add one or more {@link Column columns} to upsert.
+		 *
+		 * @param columns the columns.
+		 * @return {@code this} builder.
+		 * @see Column
+		 */
+		UpsertValues columns(Column... columns);
+
+		/**
+		 * Add one or more {@link Column columns} to upsert.
+		 *
+		 * @param columns the columns.
+		 * @return {@code this} builder.
+		 * @see Column
+		 */
+		UpsertValues columns(Collection<Column> columns);
+	}
+
+	/**
+	 * Interface exposing methods to declare the values to upsert.
+	 */
+	interface UpsertValues {
+
+		/**
+		 * Add one or more {@link Expression values} to the {@code VALUES} list. Values must be declared in the order of
+		 * the columns to upsert.
+		 *
+		 * @param values the values.
+		 * @return {@code this} builder.
+		 */
+		UpsertKey values(Expression... values);
+
+		/**
+		 * Add one or more {@link Expression values} to the {@code VALUES} list. Values must be declared in the order of
+		 * the columns to upsert.
+		 *
+		 * @param values the values.
+		 * @return {@code this} builder.
+		 */
+		UpsertKey values(Collection<? extends Expression> values);
+	}
+
+	/**
+	 * Interface exposing methods to declare the key columns identifying an existing row.
+	 */
+	interface UpsertKey {
+
+		/**
+		 * Declare the key columns that identify an existing row, typically the primary key. Key columns must be part of
+		 * the columns to upsert.
+		 *
+		 * @param columns the key columns.
+		 * @return {@code this} builder.
+		 * @see ConflictKey
+		 */
+		UpsertUpdate key(Column... columns);
+
+		/**
+		 * Declare the key columns that identify an existing row, typically the primary key. Key columns must be part of
+		 * the columns to upsert.
+		 *
+		 * @param columns the key columns.
+		 * @return {@code this} builder.
+		 * @see ConflictKey
+		 */
+		UpsertUpdate key(Collection<Column> columns);
+	}
+
+	/**
+	 * Interface exposing methods to restrict the columns updated for an existing row and the build method. Without
+	 * declaring the columns to update, all columns that are not key columns get updated.
+	 */
+	interface UpsertUpdate extends BuildUpsert {
+
+		/**
+		 * Declare the columns to update if the row exists already. Columns must be part of the columns to upsert.
+		 * Declaring no columns leaves existing rows unchanged.
+		 *
+		 * @param columns the columns to update.
+		 * @return {@code this} builder.
+		 * @see ConflictUpdate
+		 */
+		BuildUpsert update(Column... columns);
+
+		/**
+		 * Declare the columns to update if the row exists already. Columns must be part of the columns to upsert.
+		 * Declaring no columns leaves existing rows unchanged.
+		 *
+		 * @param columns the columns to update.
+		 * @return {@code this} builder.
+		 * @see ConflictUpdate
+		 */
+		BuildUpsert update(Collection<Column> columns);
+	}
+
+	/**
+	 * Interface exposing the {@link Upsert} build method.
+	 */
+	interface BuildUpsert {
+
+		/**
+		 * Build the {@link Upsert} statement.
+		 *
+		 * @return the build and immutable {@link Upsert} statement.
+		 */
+		Upsert build();
+	}
+}
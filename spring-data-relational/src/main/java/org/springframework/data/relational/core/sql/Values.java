@@ -17,11 +17,13 @@ package org.springframework.data.relational.core.sql;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.StringJoiner;
 
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * {@code VALUES} clause.
+ * {@code VALUES} clause. Renders one or more rows of values, all rows consisting of the same number of values.
  *
  * @author Mark Paluch
  * @since 1.1
@@ -29,20 +31,65 @@ import org.springframework.util.StringUtils;
 public class Values extends AbstractSegment {
 
 	private final List<Expression> tables;
+	private final int rows;
 
 	Values(Expression... tables) {
 		this(Arrays.asList(tables));
 	}
 
 	Values(List<Expression> expressions) {
+		this(expressions, 1);
+	}
+
+	/**
+	 * Creates {@link Values} consisting of {@code rows} rows. {@code expressions} contains the values of all rows, row
+	 * after row.
+	 *
+	 * @param expressions the values of all rows.
+	 * @param rows the number of rows.
+	 * @since 3.4
+	 */
+	Values(List<Expression> expressions, int rows) {
 
 		super(expressions.toArray(new Expression[0]));
 
+		Assert.isTrue(rows > 0, "Number of rows must be greater than zero");
+		Assert.isTrue(expressions.size() % rows == 0, "All rows must consist of the same number of values");
+
 		this.tables = expressions;
+		this.rows = rows;
+	}
+
+	/**
+	 * @return the number of rows.
+	 * @since 3.4
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * @return the number of values per row.
+	 * @since 3.4
+	 */
+	public int getRowSize() {
+		return tables.size() / rows;
 	}
 
 	@Override
 	public String toString() {
-		return "VALUES(" + StringUtils.collectionToDelimitedString(tables, ", ") + ")";
+
+		if (rows == 1) {
+			return "VALUES(" + StringUtils.collectionToDelimitedString(tables, ", ") + ")";
+		}
+
+		StringJoiner joiner = new StringJoiner("), (", "VALUES(", ")");
+		int rowSize = getRowSize();
+
+		for (int i = 0; i < tables.size(); i += rowSize) {
+			joiner.add(StringUtils.collectionToDelimitedString(tables.subList(i, i + rowSize), ", "));
+		}
+
+		return joiner.toString();
 	}
 }
@@ -17,6 +17,8 @@ package org.springframework.data.relational.core.sql.render;
 
 import org.springframework.data.relational.core.dialect.InsertRenderContext;
 import org.springframework.data.relational.core.dialect.InsertRenderContexts;
+import org.springframework.data.relational.core.dialect.UpsertRenderContext;
+import org.springframework.data.relational.core.dialect.UpsertRenderContexts;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 
 /**
@@ -49,6 +51,11 @@ final class SimpleRenderContext implements RenderContext {
 		return InsertRenderContexts.DEFAULT;
 	}
 
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE;
+	}
+
 	public RenderNamingStrategy getNamingStrategy() {
 		return this.namingStrategy;
 	}
@@ -19,6 +19,7 @@ import org.springframework.data.relational.core.sql.Delete;
 import org.springframework.data.relational.core.sql.Insert;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.Upsert;
 import org.springframework.util.Assert;
 
 /**
@@ -89,6 +90,17 @@ public class SqlRenderer implements Renderer {
 		return create().render(update);
 	}
 
+	/**
+	 * Renders a {@link Upsert} statement into its SQL representation using SQL standard {@code MERGE}.
+	 *
+	 * @param upsert must not be {@literal null}.
+	 * @return the rendered statement.
+	 * @since 3.4
+	 */
+	public static String toString(Upsert upsert) {
+		return create().render(upsert);
+	}
+
 	/**
 	 * Renders a {@link Delete} statement into its SQL representation.
 	 *
@@ -152,4 +164,20 @@ public class SqlRenderer implements Renderer {
 
 		return visitor.getRenderedPart().toString();
 	}
+
+	/**
+	 * Render the {@link Upsert} AST into a SQL statement using the
+	 * {@link org.springframework.data.relational.core.dialect.UpsertRenderContext} of the {@link RenderContext}.
+	 *
+	 * @return the rendered statement.
+	 * @throws UnsupportedOperationException if the {@link RenderContext} does not support upserts.
+	 * @since 3.4
+	 */
+	public String render(Upsert upsert) {
+
+		UpsertStatementVisitor visitor = new UpsertStatementVisitor(context);
+		upsert.visit(visitor);
+
+		return visitor.getRenderedPart().toString();
+	}
 }
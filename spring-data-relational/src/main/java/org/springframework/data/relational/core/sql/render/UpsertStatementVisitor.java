@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.ConflictKey;
+import org.springframework.data.relational.core.sql.ConflictUpdate;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Into;
+import org.springframework.data.relational.core.sql.Upsert;
+import org.springframework.data.relational.core.sql.Values;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PartRenderer} for {@link Upsert} statements. Renders the parts of the statement and leaves assembling the
+ * statement to the {@link org.springframework.data.relational.core.dialect.UpsertRenderContext}.
+ *
+ * @since 3.4
+ */
+class UpsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
+
+	private final StringBuilder builder = new StringBuilder();
+	private final StringBuilder into = new StringBuilder();
+	private final List<String> values = new ArrayList<>();
+	private final List<String> columns = new ArrayList<>();
+	private final List<String> keyColumns = new ArrayList<>();
+	private final List<String> updateColumns = new ArrayList<>();
+
+	private final IntoClauseVisitor intoClauseVisitor;
+	private final RenderContext renderContext;
+
+	private List<String> currentColumns = columns;
+	private boolean inValues;
+	private @Nullable ExpressionVisitor currentValue;
+
+	UpsertStatementVisitor(RenderContext renderContext) {
+
+		Assert.notNull(renderContext, "renderContext must not be null");
+
+		this.renderContext = renderContext;
+		this.intoClauseVisitor = new IntoClauseVisitor(renderContext, into::append);
+	}
+
+	@Override
+	public Delegation doEnter(Visitable segment) {
+
+		if (segment instanceof Into) {
+			return Delegation.delegateTo(this.intoClauseVisitor);
+		}
+
+		if (segment instanceof Values) {
+			inValues = true;
+		}
+
+		if (inValues && segment instanceof Expression) {
+
+			currentValue = new ExpressionVisitor(renderContext);
+			return Delegation.delegateTo(currentValue);
+		}
+
+		if (segment instanceof Column) {
+
+			List<String> target = currentColumns;
+			return Delegation.delegateTo(new ColumnVisitor(renderContext, false, it -> target.add(it.toString())));
+		}
+
+		if (segment instanceof ConflictKey) {
+			currentColumns = keyColumns;
+		}
+
+		if (segment instanceof ConflictUpdate) {
+			currentColumns = updateColumns;
+		}
+
+		return Delegation.retain();
+	}
+
+	@Override
+	public Delegation doLeave(Visitable segment) {
+
+		if (segment instanceof Expression && currentValue != null) {
+
+			values.add(currentValue.getRenderedPart().toString());
+			currentValue = null;
+		}
+
+		if (segment instanceof Values) {
+			inValues = false;
+		}
+
+		if (segment instanceof Upsert) {
+
+			builder.append(renderContext.getUpsertRenderContext().render(into.toString(), columns, values,
+					keyColumns, updateColumns));
+
+			return Delegation.leave();
+		}
+
+		return Delegation.retain();
+	}
+
+	@Override
+	public CharSequence getRenderedPart() {
+		return builder;
+	}
+}
@@ -21,7 +21,9 @@ import org.springframework.data.relational.core.sql.Visitable;
 import org.springframework.lang.Nullable;
 
 /**
- * Renderer for {@link Values}. Uses a {@link RenderTarget} to call back for render results.
+ * Renderer for {@link Values}. Uses a {@link RenderTarget} to call back for render results. Renders the values of a
+ * multi-row {@link Values} clause as {@code a, b), (c, d} so that the enclosing statement renders the outer
+ * parentheses.
  *
  * @author Mark Paluch
  * @since 1.1
@@ -34,6 +36,8 @@ class ValuesVisitor extends TypedSubtreeVisitor<Values> {
 
 	private @Nullable ExpressionVisitor current;
 	private boolean first = true;
+	private int rowSize;
+	private int rendered;
 
 	ValuesVisitor(RenderContext context, RenderTarget parent) {
 
@@ -41,6 +45,14 @@ class ValuesVisitor extends TypedSubtreeVisitor<Values> {
 		this.parent = parent;
 	}
 
+	@Override
+	Delegation enterMatched(Values segment) {
+
+		this.rowSize = segment.getRowSize();
+
+		return super.enterMatched(segment);
+	}
+
 	@Override
 	Delegation enterNested(Visitable segment) {
 
@@ -59,11 +71,14 @@ class ValuesVisitor extends TypedSubtreeVisitor<Values> {
 
 			if (first) {
 				first = false;
+			} else if (rendered % rowSize == 0) {
+				builder.append("), (");
 			} else {
 				builder.append(", ");
 			}
 
 			builder.append(this.current.getRenderedPart());
+			rendered++;
 			this.current = null;
 		}
 
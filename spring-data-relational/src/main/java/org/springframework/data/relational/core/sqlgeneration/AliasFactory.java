@@ -35,6 +35,7 @@ public class AliasFactory {
 	private final SingleAliasFactory rowCountAliases = new SingleAliasFactory("rc");
 	private final SingleAliasFactory backReferenceAliases = new SingleAliasFactory("br");
 	private final SingleAliasFactory keyAliases = new SingleAliasFactory("key");
+	private final SingleAliasFactory rowOrderAliases = new SingleAliasFactory("ro");
 	private final AtomicInteger counter = new AtomicInteger();
 
 	private static String sanitize(String name) {
@@ -65,6 +66,17 @@ public class AliasFactory {
 		return keyAliases.getOrCreateFor(path);
 	}
 
+	/**
+	 * Returns the alias of the column numbering aggregate roots in the requested sort order.
+	 *
+	 * @param path the path of the aggregate root.
+	 * @return the alias of the row order column.
+	 * @since 3.4
+	 */
+	public String getRowOrderAlias(AggregatePath path) {
+		return rowOrderAliases.getOrCreateFor(path);
+	}
+
 	private class SingleAliasFactory {
 		private final String prefix;
 		private final Map<AggregatePath, String> cache = new ConcurrentHashMap<>();
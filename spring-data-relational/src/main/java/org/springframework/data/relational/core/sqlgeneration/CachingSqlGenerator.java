@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sqlgeneration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * A {@link SqlGenerator} that caches the SQL rendered by a delegate {@link SqlGenerator} per aggregate and
+ * {@link Condition} structure, including ordering, limit and offset.
+ * <p>
+ * Conditions are compared by their structure, that is their columns, operators and bind marker names. Bound values are
+ * not part of a {@link Condition} so that lookups of the same shape (e.g. {@code findById}) render the SQL only once.
+ *
+ * @since 3.4
+ */
+public class CachingSqlGenerator implements SqlGenerator {
+
+	static final int DEFAULT_CACHE_SIZE = 256;
+
+	private final SqlGenerator delegate;
+	private final ConcurrentLruCache<CacheKey, String> cache;
+
+	/**
+	 * Create a new {@link CachingSqlGenerator} using the default cache size.
+	 *
+	 * @param delegate the {@link SqlGenerator} rendering the actual SQL, must not be {@literal null}.
+	 */
+	public CachingSqlGenerator(SqlGenerator delegate) {
+		this(delegate, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Create a new {@link CachingSqlGenerator}.
+	 *
+	 * @param delegate the {@link SqlGenerator} rendering the actual SQL, must not be {@literal null}.
+	 * @param cacheSize maximum number of cached SQL statements.
+	 */
+	public CachingSqlGenerator(SqlGenerator delegate, int cacheSize) {
+
+		Assert.notNull(delegate, "SqlGenerator must not be null");
+
+		this.delegate = delegate;
+		this.cache = new ConcurrentLruCache<>(cacheSize, key -> delegate.findAll(key.aggregate(), key.condition(),
+				key.orderBy(), key.limit(), key.offset()));
+	}
+
+	@Override
+	public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition) {
+		return cache.get(new CacheKey(aggregate, condition, Collections.emptyList(), -1, -1));
+	}
+
+	@Override
+	public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition,
+			List<OrderByField> orderBy, long limit, long offset) {
+		return cache.get(new CacheKey(aggregate, condition, orderBy, Math.max(limit, -1), Math.max(offset, -1)));
+	}
+
+	@Override
+	public boolean supportsOrderingAndLimiting() {
+		return delegate.supportsOrderingAndLimiting();
+	}
+
+	@Override
+	public AliasFactory getAliasFactory() {
+		return delegate.getAliasFactory();
+	}
+
+	/**
+	 * Cache key using the {@link Object#toString() textual representation} of a {@link Condition} and the
+	 * {@link OrderByField order by fields} as structural fingerprint, consistent with how
+	 * {@link org.springframework.data.relational.core.sql.Segment segments} define equality. The fingerprint is computed
+	 * once per key.
+	 */
+	private static final class CacheKey {
+
+		private final RelationalPersistentEntity<?> aggregate;
+		private final @Nullable Condition condition;
+		private final List<OrderByField> orderBy;
+		private final long limit;
+		private final long offset;
+		private final String fingerprint;
+
+		CacheKey(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition, List<OrderByField> orderBy,
+				long limit, long offset) {
+
+			this.aggregate = aggregate;
+			this.condition = condition;
+			this.orderBy = orderBy;
+			this.limit = limit;
+			this.offset = offset;
+			this.fingerprint = fingerprint(condition, orderBy);
+		}
+
+		private static String fingerprint(@Nullable Condition condition, List<OrderByField> orderBy) {
+
+			if (orderBy.isEmpty()) {
+				return condition != null ? condition.toString() : "";
+			}
+
+			StringBuilder fingerprint = new StringBuilder(condition != null ? condition.toString() : "");
+			for (OrderByField field : orderBy) {
+				fingerprint.append(" ORDER BY ").append(field).append(' ').append(field.getNullHandling());
+			}
+
+			return fingerprint.toString();
+		}
+
+		RelationalPersistentEntity<?> aggregate() {
+			return aggregate;
+		}
+
+		@Nullable
+		Condition condition() {
+			return condition;
+		}
+
+		List<OrderByField> orderBy() {
+			return orderBy;
+		}
+
+		long limit() {
+			return limit;
+		}
+
+		long offset() {
+			return offset;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey that)) {
+				return false;
+			}
+
+			return aggregate.equals(that.aggregate) && (condition == null) == (that.condition == null) && limit == that.limit
+					&& offset == that.offset && fingerprint.equals(that.fingerprint);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(aggregate, fingerprint, limit, offset);
+		}
+	}
+}
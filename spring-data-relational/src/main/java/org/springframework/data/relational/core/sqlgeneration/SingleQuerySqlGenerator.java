@@ -17,10 +17,10 @@ package org.springframework.data.relational.core.sqlgeneration;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -35,6 +35,9 @@ import org.springframework.lang.Nullable;
 
 /**
  * A {@link SqlGenerator} that creates SQL statements for loading complete aggregates with a single statement.
+ * <p>
+ * Aggregates may contain embedded entities, single references and collections or maps of entities that are referenced
+ * directly by the aggregate root. Ordering, limit and offset are applied to the aggregate roots.
  *
  * @author Jens Schauder
  * @since 3.2
@@ -54,13 +57,20 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 
 	@Override
 	public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition) {
-		return createSelect(aggregate, condition);
+		return createSelect(aggregate, condition, Collections.emptyList(), -1, -1);
 	}
 
-	String createSelect(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition) {
+	@Override
+	public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition,
+			List<OrderByField> orderBy, long limit, long offset) {
+		return createSelect(aggregate, condition, orderBy, limit, offset);
+	}
+
+	String createSelect(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition,
+			List<OrderByField> orderBy, long limit, long offset) {
 
 		AggregatePath rootPath = context.getAggregatePath(aggregate);
-		QueryMeta queryMeta = createInlineQuery(rootPath, condition);
+		QueryMeta queryMeta = createInlineQuery(rootPath, condition, orderBy, limit, offset);
 		InlineQuery rootQuery = queryMeta.inlineQuery;
 		List<Expression> columns = new ArrayList<>(queryMeta.selectableExpressions);
 
@@ -68,7 +78,7 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		rownumbers.add(queryMeta.rowNumber);
 
 		PersistentPropertyPaths<?, RelationalPersistentProperty> entityPaths = context
-				.findPersistentPropertyPaths(aggregate.getType(), PersistentProperty::isEntity);
+				.findPersistentPropertyPaths(aggregate.getType(), SingleQuerySqlGenerator::isReferencedEntity);
 		List<QueryMeta> inlineQueries = createInlineQueries(entityPaths);
 		inlineQueries.forEach(qm -> {
 			columns.addAll(qm.selectableExpressions);
@@ -83,7 +93,9 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		Expression rootId = just(aliases.getColumnAlias(rootPath.append(aggregate.getRequiredIdProperty())));
 
 		List<Expression> selectList = getSelectList(queryMeta, inlineQueries, rootId);
-		Select fullQuery = StatementBuilder.select(selectList).from(inlineQuery).orderBy(rootId, just("rn")).build(false);
+		Expression[] ordering = queryMeta.rowOrder != null ? new Expression[] { queryMeta.rowOrder, rootId, just("rn") }
+				: new Expression[] { rootId, just("rn") };
+		Select fullQuery = StatementBuilder.select(selectList).from(inlineQuery).orderBy(ordering).build(false);
 
 		return SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext()).render(fullQuery);
 	}
@@ -135,7 +147,7 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 
 		for (PersistentPropertyPath<? extends RelationalPersistentProperty> ppp : paths) {
 
-			QueryMeta queryMeta = createInlineQuery(context.getAggregatePath(ppp), null);
+			QueryMeta queryMeta = createInlineQuery(context.getAggregatePath(ppp), null, Collections.emptyList(), -1, -1);
 			inlineQueries.add(queryMeta);
 		}
 		return inlineQueries;
@@ -149,11 +161,19 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 	 * that are not unique across tables and also the generated SQL doesn't contain quotes and funny column names, making
 	 * them easier to understand and also potentially shorter.
 	 *
+	 * <p>
+	 * When {@code orderBy} is not empty, the query additionally numbers its rows in the requested order, so that the
+	 * outer query can restore that order, as the selected columns are not available for ordering there.
+	 *
 	 * @param basePath the path for which to create the inline query.
 	 * @param condition a condition that is to be applied to the query. May be {@literal null}.
+	 * @param orderBy the fields to order the rows of the query by.
+	 * @param limit maximum number of rows to select, {@literal 0} or less for no limit.
+	 * @param offset number of rows to skip, {@literal 0} or less to skip none.
 	 * @return an inline query for the given path.
 	 */
-	private QueryMeta createInlineQuery(AggregatePath basePath, @Nullable Condition condition) {
+	private QueryMeta createInlineQuery(AggregatePath basePath, @Nullable Condition condition,
+			List<OrderByField> orderBy, long limit, long offset) {
 
 		RelationalPersistentEntity<?> entity = basePath.getRequiredLeafEntity();
 		Table table = Table.create(entity.getQualifiedTableName());
@@ -172,6 +192,15 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 						.partitionBy(table.column(basePath.getTableInfo().reverseColumnInfo().name())).as(rowCountAlias);
 		columns.add(count);
 
+		String rowOrderAlias = null;
+		if (!orderBy.isEmpty()) {
+
+			rowOrderAlias = aliases.getRowOrderAlias(basePath);
+			columns.add(AnalyticFunction.create("row_number") //
+					.orderBy(orderBy.toArray(new OrderByField[0])) //
+					.as(rowOrderAlias));
+		}
+
 		String backReferenceAlias = null;
 		String keyAlias = null;
 
@@ -190,11 +219,27 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		String id = getIdentifierProperty(paths);
 		List<Expression> columnAliases = getColumnAliases(table, paths, columns);
 		SelectBuilder.SelectWhere select = StatementBuilder.select(columns).from(table);
-		SelectBuilder.BuildSelect buildSelect = condition != null ? select.where(condition) : select;
+		SelectBuilder.SelectOrdered selectOrdered = condition != null ? select.where(condition) : select;
+
+		// ordering is only required to pick the rows to limit, the row order column carries the order otherwise
+		if (!orderBy.isEmpty() && (limit > 0 || offset > 0)) {
+			selectOrdered = selectOrdered.orderBy(orderBy);
+		}
+
+		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) selectOrdered;
+
+		if (limit > 0) {
+			limitable = limitable.limit(limit);
+		}
+
+		if (offset > 0) {
+			limitable = limitable.offset(offset);
+		}
 
+		SelectBuilder.BuildSelect buildSelect = (SelectBuilder.BuildSelect) limitable;
 		InlineQuery inlineQuery = InlineQuery.create(buildSelect.build(false), aliases.getTableAlias(basePath));
 		return QueryMeta.of(basePath, inlineQuery, columnAliases, just(id), just(backReferenceAlias), just(keyAlias),
-				just(rowNumberAlias), just(rowCountAlias));
+				just(rowNumberAlias), just(rowCountAlias), just(rowOrderAlias));
 	}
 
 	private List<Expression> getColumnAliases(Table table, List<AggregatePath> paths, List<Expression> columns) {
@@ -211,17 +256,35 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		return columnAliases;
 	}
 
-	private static List<AggregatePath> getAggregatePaths(AggregatePath basePath, RelationalPersistentEntity<?> entity) {
+	/**
+	 * Returns the paths to all columns of the table the given entity is mapped to, including the columns of embedded
+	 * entities.
+	 */
+	private List<AggregatePath> getAggregatePaths(AggregatePath basePath, RelationalPersistentEntity<?> entity) {
 
 		List<AggregatePath> paths = new ArrayList<>();
+		collectAggregatePaths(basePath, entity, paths);
+		return paths;
+	}
+
+	private void collectAggregatePaths(AggregatePath basePath, RelationalPersistentEntity<?> entity,
+			List<AggregatePath> paths) {
 
 		for (RelationalPersistentProperty property : entity) {
-			if (!property.isEntity()) {
+
+			if (property.isEmbedded()) {
+				collectAggregatePaths(basePath.append(property), context.getRequiredPersistentEntity(property), paths);
+			} else if (!property.isEntity()) {
 				paths.add(basePath.append(property));
 			}
 		}
+	}
 
-		return paths;
+	/**
+	 * Entities that are stored in a table of their own, i.e. all entities except embedded ones.
+	 */
+	private static boolean isReferencedEntity(RelationalPersistentProperty property) {
+		return property.isEntity() && !property.isEmbedded();
 	}
 
 	@Nullable
@@ -330,6 +393,11 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		return selectWhere.where(joins);
 	}
 
+	@Override
+	public boolean supportsOrderingAndLimiting() {
+		return true;
+	}
+
 	@Override
 	public AliasFactory getAliasFactory() {
 		return aliases;
@@ -418,10 +486,11 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 
 	record QueryMeta(AggregatePath basePath, InlineQuery inlineQuery, Collection<Expression> simpleColumns,
 			Collection<Expression> selectableExpressions, Expression id, Expression backReference, Expression key,
-			Expression rowNumber, Expression rowCount) {
+			Expression rowNumber, Expression rowCount, @Nullable Expression rowOrder) {
 
 		static QueryMeta of(AggregatePath basePath, InlineQuery inlineQuery, Collection<Expression> simpleColumns,
-				Expression id, Expression backReference, Expression key, Expression rowNumber, Expression rowCount) {
+				Expression id, Expression backReference, Expression key, Expression rowNumber, Expression rowCount,
+				@Nullable Expression rowOrder) {
 
 			List<Expression> selectableExpressions = new ArrayList<>(simpleColumns);
 			selectableExpressions.add(rowNumber);
@@ -435,9 +504,12 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 			if (key != null) {
 				selectableExpressions.add(key);
 			}
+			if (rowOrder != null) {
+				selectableExpressions.add(rowOrder);
+			}
 
 			return new QueryMeta(basePath, inlineQuery, simpleColumns, selectableExpressions, id, backReference, key,
-					rowNumber, rowCount);
+					rowNumber, rowCount, rowOrder);
 		}
 	}
 }
@@ -15,8 +15,11 @@
  */
 package org.springframework.data.relational.core.sqlgeneration;
 
+import java.util.List;
+
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.lang.Nullable;
 
 /**
@@ -33,5 +36,44 @@ public interface SqlGenerator {
 
 	String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition);
 
+	/**
+	 * Return whether this generator supports ordering, limiting and offsetting aggregates through
+	 * {@link #findAll(RelationalPersistentEntity, Condition, List, long, long)}. Callers must check this before
+	 * requesting ordering, a limit or an offset.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 3.4
+	 */
+	default boolean supportsOrderingAndLimiting() {
+		return false;
+	}
+
+	/**
+	 * Create a statement loading the aggregates matching {@code condition}. Ordering, {@code limit} and {@code offset}
+	 * apply to the aggregate roots, so that each selected aggregate is loaded completely. The default implementation
+	 * supports neither and falls back to {@link #findAll(RelationalPersistentEntity, Condition)} if none of them is
+	 * requested.
+	 *
+	 * @param aggregate the aggregate to load, must not be {@literal null}.
+	 * @param condition the condition restricting the aggregate roots, may be {@literal null}.
+	 * @param orderBy the fields to order the aggregate roots by, must not be {@literal null}.
+	 * @param limit maximum number of aggregate roots to load, {@literal 0} or less for no limit.
+	 * @param offset number of aggregate roots to skip, {@literal 0} or less to skip none.
+	 * @return the SQL statement.
+	 * @throws UnsupportedOperationException if ordering, a limit or an offset is requested but
+	 *           {@link #supportsOrderingAndLimiting()} returns {@literal false}.
+	 * @since 3.4
+	 */
+	default String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition,
+			List<OrderByField> orderBy, long limit, long offset) {
+
+		if (orderBy.isEmpty() && limit <= 0 && offset <= 0) {
+			return findAll(aggregate, condition);
+		}
+
+		throw new UnsupportedOperationException(
+				String.format("Ordering and limiting aggregates is not supported by %s", getClass().getName()));
+	}
+
 	AliasFactory getAliasFactory();
 }
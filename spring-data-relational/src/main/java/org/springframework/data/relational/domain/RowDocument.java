@@ -52,6 +52,25 @@ public class RowDocument implements Map<String, Object> {
 		this.delegate.putAll(map);
 	}
 
+	private RowDocument(Map<String, Object> delegate, @SuppressWarnings("unused") boolean wrap) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Factory method to create a RowDocument that is backed by the given {@link Map} instead of a copy. The map is
+	 * expected to resolve its keys case-insensitively.
+	 *
+	 * @param delegate the map to use, must not be {@literal null}.
+	 * @return
+	 * @since 3.4
+	 */
+	public static RowDocument wrap(Map<String, Object> delegate) {
+
+		Assert.notNull(delegate, "Delegate must not be null");
+
+		return new RowDocument(delegate, true);
+	}
+
 	/**
 	 * Factory method to create a RowDocument from a field and value.
 	 *
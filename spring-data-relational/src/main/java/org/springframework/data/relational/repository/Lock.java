@@ -17,6 +17,7 @@ package org.springframework.data.relational.repository;
 
 import org.springframework.data.annotation.QueryAnnotation;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 import java.lang.annotation.*;
 
@@ -36,4 +37,19 @@ public @interface Lock {
 	 */
 	LockMode value();
 
+	/**
+	 * Defines how to treat rows that are locked by other transactions.
+	 *
+	 * @since 3.4
+	 */
+	LockWaitPolicy waitPolicy() default LockWaitPolicy.WAIT;
+
+	/**
+	 * Maximum time in seconds to wait for rows locked by other transactions ({@code WAIT n}). Requires
+	 * {@link LockWaitPolicy#WAIT}. Defaults to {@literal -1} to wait indefinitely.
+	 *
+	 * @since 3.4
+	 */
+	int waitTimeout() default -1;
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Shape of a derived query invocation determining the rendered SQL: dynamic sort, paging, limit, the shape of the
+ * result, and per bindable parameter whether it is {@literal null} (rendered as {@code IS NULL}) or the size and element
+ * type of a collection or array (rendered as one bind marker per element or as a single array bind marker if the
+ * elements can be bound as array). Invocations of the same shape render the same SQL and differ only in their bind
+ * values, so the shape is suitable as key to cache rendered queries.
+ *
+ * @param parameters shape of each bindable parameter.
+ * @param sort the dynamic sort.
+ * @param pageSize the page size, {@literal -1} if unpaged.
+ * @param offset the offset, {@literal -1} if unpaged.
+ * @param limit the dynamic limit.
+ * @param resultShape store-specific discriminator of the selected columns, e.g. the returned type or the projected
+ *          properties.
+ * @since 3.4
+ */
+public record QueryShape(List<ParameterShape> parameters, Sort sort, int pageSize, long offset, Limit limit,
+		@Nullable Object resultShape) {
+
+	/**
+	 * Determine the {@link QueryShape} of the given invocation.
+	 *
+	 * @param accessor the parameter accessor of the invocation, must not be {@literal null}.
+	 * @param sort the dynamic sort, must not be {@literal null}.
+	 * @param pageable the paging, must not be {@literal null}.
+	 * @param limit the dynamic limit, must not be {@literal null}.
+	 * @param resultShape store-specific discriminator of the selected columns, can be {@literal null}.
+	 * @return the {@link QueryShape} of the invocation.
+	 */
+	public static QueryShape of(RelationalParameterAccessor accessor, Sort sort, Pageable pageable, Limit limit,
+			@Nullable Object resultShape) {
+
+		Assert.notNull(accessor, "RelationalParameterAccessor must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.notNull(limit, "Limit must not be null");
+
+		List<ParameterShape> parameters = new ArrayList<>();
+		for (Object value : accessor) {
+			parameters.add(ParameterShape.of(value));
+		}
+
+		return new QueryShape(parameters, sort, pageable.isPaged() ? pageable.getPageSize() : -1,
+				pageable.isPaged() ? pageable.getOffset() : -1, limit, resultShape);
+	}
+
+	/**
+	 * Shape of a single bindable parameter.
+	 *
+	 * @param size {@literal -1} for {@literal null}, {@literal -2} for single values or the number of elements of a
+	 *          collection or array.
+	 * @param elementType the type shared by all elements of a collection or array, {@literal null} if the parameter is
+	 *          no collection or array or if its elements contain {@literal null} or are of different types. Stores binding
+	 *          the elements as a single array fall back to individual bind markers for the latter.
+	 */
+	public record ParameterShape(int size, @Nullable Class<?> elementType) {
+
+		private static final ParameterShape NULL_VALUE = new ParameterShape(-1, null);
+		private static final ParameterShape SINGLE_VALUE = new ParameterShape(-2, null);
+
+		static ParameterShape of(@Nullable Object value) {
+
+			if (value == null) {
+				return NULL_VALUE;
+			}
+
+			if (value instanceof Collection<?> collection) {
+				return new ParameterShape(collection.size(), getElementType(collection));
+			}
+
+			// byte[] is bound as a single (binary) value
+			if (!value.getClass().isArray() || value instanceof byte[]) {
+				return SINGLE_VALUE;
+			}
+
+			List<Object> elements = new ArrayList<>(Array.getLength(value));
+			for (int i = 0; i < Array.getLength(value); i++) {
+				elements.add(Array.get(value, i));
+			}
+
+			return new ParameterShape(elements.size(), getElementType(elements));
+		}
+
+		@Nullable
+		private static Class<?> getElementType(Iterable<?> elements) {
+
+			Class<?> elementType = null;
+
+			for (Object element : elements) {
+
+				if (element == null || (elementType != null && !elementType.equals(element.getClass()))) {
+					return null;
+				}
+
+				elementType = element.getClass();
+			}
+
+			return elementType;
+		}
+	}
+}
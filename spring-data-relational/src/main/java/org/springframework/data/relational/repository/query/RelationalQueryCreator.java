@@ -18,8 +18,12 @@ package org.springframework.data.relational.repository.query;
 import java.util.Collection;
 import java.util.Iterator;
 
+import org.springframework.data.relational.core.dialect.LockClause;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
+import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
@@ -90,6 +94,25 @@ public abstract class RelationalQueryCreator<T> extends AbstractQueryCreator<T,
 		return base.or(criteria);
 	}
 
+	/**
+	 * Determine the maximum number of elements of a {@link org.springframework.data.domain.Window} returned by a scroll
+	 * query, either defined by the method name ({@code findFirst10By…}) or by a {@link org.springframework.data.domain.Limit}
+	 * parameter.
+	 *
+	 * @param tree the tree structure defining the query.
+	 * @param accessor accessor for the actual parameter values.
+	 * @return the limit or {@code 0} if unlimited.
+	 * @since 3.4
+	 */
+	public static int getScrollLimit(PartTree tree, ParameterAccessor accessor) {
+
+		if (tree.isLimiting()) {
+			return tree.getMaxResults();
+		}
+
+		return accessor.getLimit().isLimited() ? accessor.getLimit().max() : 0;
+	}
+
 	/**
 	 * Validate parameters for the derived query. Specifically checking that the query method defines scalar parameters
 	 * and collection parameters where required and that invalid parameter declarations are rejected.
@@ -113,6 +136,40 @@ public abstract class RelationalQueryCreator<T> extends AbstractQueryCreator<T,
 		}
 	}
 
+	/**
+	 * Validate that the {@link Lock} declared on a derived query can be rendered by the {@link LockClause} of the
+	 * dialect, rejecting wait policies and wait timeouts the database cannot express when the query method is created
+	 * rather than when it is executed.
+	 *
+	 * @param lock the lock declared on the query method.
+	 * @param lockClause the lock clause of the dialect.
+	 * @since 3.4
+	 */
+	public static void validate(Lock lock, LockClause lockClause) {
+
+		if (lock.waitTimeout() != -1) {
+
+			if (lock.waitTimeout() <= 0) {
+				throw new IllegalStateException(
+						String.format("Lock wait timeout must be positive but was %d", lock.waitTimeout()));
+			}
+
+			if (lock.waitPolicy() != LockWaitPolicy.WAIT) {
+				throw new IllegalStateException(
+						String.format("Lock wait timeout cannot be combined with lock wait policy %s", lock.waitPolicy()));
+			}
+
+			if (!lockClause.supportsWaitTimeout()) {
+				throw new IllegalStateException("Lock wait timeouts are not supported by the dialect");
+			}
+		}
+
+		if (!lockClause.supports(lock.waitPolicy())) {
+			throw new IllegalStateException(
+					String.format("Lock wait policy %s is not supported by the dialect", lock.waitPolicy()));
+		}
+	}
+
 	private static void throwExceptionOnArgumentMismatch(Part part, Parameters<?, ?> parameters, int index) {
 
 		Part.Type type = part.getType();
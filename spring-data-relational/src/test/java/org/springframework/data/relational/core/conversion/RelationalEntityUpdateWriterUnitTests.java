@@ -19,12 +19,16 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
 
 /**
  * Unit tests for the {@link RelationalEntityUpdateWriter}
@@ -57,6 +61,145 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	void withPreviousStateOnlyChangedListElementsGetWritten() {
+
+		ListContainer previous = new ListContainer(SOME_ENTITY_ID,
+				List.of(new Line("one"), new Line("two"), new Line("three")));
+		ListContainer current = new ListContainer(SOME_ENTITY_ID, List.of(new Line("one"), new Line("2")));
+
+		RootAggregateChange<ListContainer> aggregateChange = MutableAggregateChange.forSave(current);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(current, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath,
+						RelationalEntityUpdateWriterUnitTests::qualifier) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ListContainer.class, "", null), //
+						tuple(DbAction.DeleteSingle.class, Line.class, "lines", 2), //
+						tuple(DbAction.Update.class, Line.class, "lines", 1) //
+				);
+	}
+
+	@Test
+	void withPreviousStateMapEntriesGetMatchedByKey() {
+
+		MapContainer previous = new MapContainer(SOME_ENTITY_ID, Map.of("a", new Line("one"), "b", new Line("two")));
+		MapContainer current = new MapContainer(SOME_ENTITY_ID, Map.of("a", new Line("one"), "c", new Line("two")));
+
+		RootAggregateChange<MapContainer> aggregateChange = MutableAggregateChange.forSave(current);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(current, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath,
+						RelationalEntityUpdateWriterUnitTests::qualifier) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, MapContainer.class, "", null), //
+						tuple(DbAction.DeleteSingle.class, Line.class, "lines", "b"), //
+						tuple(DbAction.Insert.class, Line.class, "lines", "c") //
+				);
+	}
+
+	@Test
+	void withPreviousStateSetElementsWithIdGetMatchedById() {
+
+		SetContainer previous = new SetContainer(SOME_ENTITY_ID,
+				Set.of(new MutableElement(1L, "one"), new MutableElement(2L, "two"), new MutableElement(3L, "three")));
+		SetContainer current = new SetContainer(SOME_ENTITY_ID,
+				Set.of(new MutableElement(1L, "one"), new MutableElement(2L, "2"), new MutableElement(null, "new")));
+
+		RootAggregateChange<SetContainer> aggregateChange = MutableAggregateChange.forSave(current);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(current, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::actualEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, SetContainer.class, ""), //
+						tuple(DbAction.DeleteSingle.class, MutableElement.class, "elements"), //
+						tuple(DbAction.Update.class, MutableElement.class, "elements"), //
+						tuple(DbAction.Insert.class, MutableElement.class, "elements") //
+				);
+	}
+
+	@Test
+	void withPreviousStateSetElementsWithoutIdGetDeletedAndReinserted() {
+
+		LineSetContainer previous = new LineSetContainer(SOME_ENTITY_ID, Set.of(new Line("one")));
+		LineSetContainer current = new LineSetContainer(SOME_ENTITY_ID, Set.of(new Line("one")));
+
+		RootAggregateChange<LineSetContainer> aggregateChange = MutableAggregateChange.forSave(current);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(current, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, LineSetContainer.class, ""), //
+						tuple(DbAction.Delete.class, Line.class, "lines"), //
+						tuple(DbAction.Insert.class, Line.class, "lines") //
+				);
+	}
+
+	@Test
+	void withPreviousStateUnchangedSingleReferenceWithoutIdCausesNoAction() {
+
+		SingleReferenceNoIdEntity previous = new SingleReferenceNoIdEntity(SOME_ENTITY_ID, new Line("one"));
+		SingleReferenceNoIdEntity current = new SingleReferenceNoIdEntity(SOME_ENTITY_ID, new Line("one"));
+
+		RootAggregateChange<SingleReferenceNoIdEntity> aggregateChange = MutableAggregateChange.forSave(current);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(current, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)).extracting(DbAction::getClass)
+				.containsExactly(DbAction.UpdateRoot.class);
+	}
+
+	@Test
+	void withPreviousStateImmutableEntitiesWithGeneratedIdsGetDeletedAndReinserted() {
+
+		ImmutableSetContainer previous = new ImmutableSetContainer(SOME_ENTITY_ID, Set.of(new ImmutableElement(1L, "one")));
+		ImmutableSetContainer current = new ImmutableSetContainer(SOME_ENTITY_ID, Set.of(new ImmutableElement(1L, "one"), new ImmutableElement(null, "new")));
+
+		RootAggregateChange<ImmutableSetContainer> aggregateChange = MutableAggregateChange.forSave(current);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(current, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ""), //
+						tuple(DbAction.Delete.class, "elements"), //
+						tuple(DbAction.Insert.class, "elements"), //
+						tuple(DbAction.Insert.class, "elements") //
+				);
+	}
+
+	@Test
+	void withPreviousStateOfDifferentAggregateIsRejected() {
+
+		ListContainer previous = new ListContainer(SOME_ENTITY_ID + 1, List.of(new Line("one")));
+		ListContainer current = new ListContainer(SOME_ENTITY_ID, List.of(new Line("one")));
+
+		RootAggregateChange<ListContainer> aggregateChange = MutableAggregateChange.forSave(current);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new RelationalEntityUpdateWriter<>(context, previous).write(current, aggregateChange));
+	}
+
+	@Nullable
+	private static Object qualifier(DbAction<?> action) {
+
+		if (action instanceof DbAction.WithDependingOn<?> withDependingOn) {
+
+			Pair<?, Object> qualifier = withDependingOn.getQualifier();
+			return qualifier == null ? null : qualifier.getSecond();
+		}
+		return null;
+	}
+
 	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -74,4 +217,39 @@ public class RelationalEntityUpdateWriterUnitTests {
 	record Element(@Id Long id) {
 	}
 
+	record Line(String content) {
+	}
+
+	record ListContainer(@Id Long id, List<Line> lines) {
+	}
+
+	record MapContainer(@Id Long id, Map<String, Line> lines) {
+	}
+
+	record LineSetContainer(@Id Long id, Set<Line> lines) {
+	}
+
+	record SingleReferenceNoIdEntity(@Id Long id, Line line) {
+	}
+
+	record SetContainer(@Id Long id, Set<MutableElement> elements) {
+	}
+
+	record ImmutableSetContainer(@Id Long id, Set<ImmutableElement> elements) {
+	}
+
+	record ImmutableElement(@Id Long id, String content) {
+	}
+
+	static class MutableElement {
+
+		@Id Long id;
+		String content;
+
+		MutableElement(Long id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+
 }
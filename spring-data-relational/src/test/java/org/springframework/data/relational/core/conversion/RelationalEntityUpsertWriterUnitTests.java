@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for the {@link RelationalEntityUpsertWriter}.
+ */
+class RelationalEntityUpsertWriterUnitTests {
+
+	private final RelationalMappingContext context = new RelationalMappingContext();
+
+	@Test
+	void entityGetsConvertedToUpsertPlusReplacedReferences() {
+
+		ListContainer entity = new ListContainer(23L, List.of(new Line("one"), new Line("two")));
+
+		RootAggregateChange<ListContainer> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpsertWriter<ListContainer>(context).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpsertRoot.class, ListContainer.class, ""), //
+						tuple(DbAction.Delete.class, Line.class, "lines"), //
+						tuple(DbAction.Insert.class, Line.class, "lines"), //
+						tuple(DbAction.Insert.class, Line.class, "lines") //
+				);
+	}
+
+	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> actions = new ArrayList<>();
+		aggregateChange.forEachAction(actions::add);
+		return actions;
+	}
+
+	record ListContainer(@Id Long id, List<Line> lines) {
+	}
+
+	record Line(String text) {
+	}
+}
@@ -240,6 +240,125 @@ class SaveBatchingAggregateChangeTest {
 			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchInsertRoot.class).getActions())
 					.containsExactly(root1Insert, root2Insert);
 		}
+
+		@Test
+		void yieldsMultipleUpdateRoot_asBatchUpdateRootAction() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, null);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, null);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType)
+					.containsExactly(Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class));
+			DbAction.BatchWithValue<Root, DbAction<Root>, Object> batchUpdateRoot = getBatchWithValueAction(actions,
+					Root.class, DbAction.BatchUpdateRoot.class);
+			assertThat(batchUpdateRoot.getActions()).containsExactly(root1Update, root2Update);
+			assertThat(batchUpdateRoot.getBatchValue()).isEqualTo(false);
+		}
+
+		@Test
+		void yieldsVersionedAndUnversionedUpdateRoot_asSeparateActions() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, 1);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, 1);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			Root root3 = new Root(3L, null);
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(root3, null);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3);
+			aggregateChange3.setRootAction(root3Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly(
+					Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class), //
+					Tuple.tuple(DbAction.UpdateRoot.class, Root.class));
+			DbAction.BatchWithValue<Root, DbAction<Root>, Object> batchUpdateRoot = getBatchWithValueAction(actions,
+					Root.class, DbAction.BatchUpdateRoot.class);
+			assertThat(batchUpdateRoot.getActions()).containsExactly(root1Update, root2Update);
+			assertThat(batchUpdateRoot.getBatchValue()).isEqualTo(true);
+		}
+
+		@Test
+		void yieldsMultipleUpdateRoot_followedByInsertRoot_inOrder() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, null);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, null);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			Root root3 = new Root(null, null);
+			DbAction.InsertRoot<Root> root3Insert = new DbAction.InsertRoot<>(root3, IdValueSource.GENERATED);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3);
+			aggregateChange3.setRootAction(root3Insert);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly(
+					Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class), //
+					Tuple.tuple(DbAction.InsertRoot.class, Root.class));
+		}
+
+		@Test
+		void yieldsMultipleUpsertRoot_followedByUpdateRoot_inOrder() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpsertRoot<Root> root1Upsert = new DbAction.UpsertRoot<>(root1);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Upsert);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpsertRoot<Root> root2Upsert = new DbAction.UpsertRoot<>(root2);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Upsert);
+
+			Root root3 = new Root(3L, null);
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(root3, null);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3);
+			aggregateChange3.setRootAction(root3Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly(
+					Tuple.tuple(DbAction.BatchUpsertRoot.class, Root.class), //
+					Tuple.tuple(DbAction.UpdateRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpsertRoot.class).getActions())
+					.containsExactly(root1Upsert, root2Upsert);
+		}
 	}
 
 	@Test // GH-537
@@ -359,6 +478,40 @@ class SaveBatchingAggregateChangeTest {
 				Tuple.tuple(DbAction.BatchInsert.class, Intermediate.class));
 	}
 
+	@Test
+	void yieldsDeleteSingleAndUpdateActionsBetweenDeleteAndInsertActions() {
+
+		Root root = new Root(1L, null);
+		DbAction.UpdateRoot<Root> rootUpdate = new DbAction.UpdateRoot<>(root, null);
+		RootAggregateChange<Root> aggregateChange = MutableAggregateChange.forSave(root);
+		aggregateChange.setRootAction(rootUpdate);
+
+		Intermediate inserted = new Intermediate(null, "inserted", null);
+		aggregateChange.addAction(new DbAction.Insert<>(inserted,
+				context.getPersistentPropertyPath("intermediate", Root.class), rootUpdate, emptyMap(),
+				IdValueSource.GENERATED));
+		Intermediate updated = new Intermediate(2L, "updated", null);
+		aggregateChange.addAction(new DbAction.Update<>(updated,
+				context.getPersistentPropertyPath("intermediate", Root.class), rootUpdate, emptyMap(),
+				IdValueSource.PROVIDED));
+		Intermediate deleted = new Intermediate(3L, "deleted", null);
+		aggregateChange.addAction(new DbAction.DeleteSingle<>(deleted,
+				context.getPersistentPropertyPath("intermediate", Root.class), rootUpdate, emptyMap(),
+				IdValueSource.PROVIDED));
+		aggregateChange.addAction(new DbAction.Delete<>(1L,
+				context.getPersistentPropertyPath("intermediate.leaf", Root.class)));
+
+		BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+		change.add(aggregateChange);
+
+		assertThat(extractActions(change)).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly( //
+				Tuple.tuple(DbAction.UpdateRoot.class, Root.class), //
+				Tuple.tuple(DbAction.Delete.class, Leaf.class), //
+				Tuple.tuple(DbAction.DeleteSingle.class, Intermediate.class), //
+				Tuple.tuple(DbAction.Update.class, Intermediate.class), //
+				Tuple.tuple(DbAction.BatchInsert.class, Intermediate.class));
+	}
+
 	@Test // GH-537
 	void yieldsInsertActionsAsBatchInserts_groupedByIdValueSource() {
 
@@ -19,8 +19,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -82,4 +88,20 @@ public class HsqlDbDialectUnitTests {
 		assertThat(limit.getLock(lockOptions)).isEqualTo("FOR UPDATE");
 		assertThat(limit.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	void shouldRejectUnsupportedLockWaitPolicy() {
+
+		LockClause lock = HsqlDbDialect.INSTANCE.lock();
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED).build();
+		SqlRenderer renderer = SqlRenderer.create(new RenderContextFactory(HsqlDbDialect.INSTANCE).createRenderContext());
+
+		assertThat(lock.supports(LockWaitPolicy.WAIT)).isTrue();
+		assertThat(lock.supports(LockWaitPolicy.NOWAIT)).isFalse();
+		assertThat(lock.supports(LockWaitPolicy.SKIP_LOCKED)).isFalse();
+		assertThat(lock.supportsWaitTimeout()).isFalse();
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> renderer.render(select));
+	}
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InListStrategy}.
+ */
+class InListStrategyUnitTests {
+
+	@Test
+	void padsToNextPowerOfTwo() {
+
+		assertThat(InListStrategy.getPaddedSize(0)).isEqualTo(0);
+		assertThat(InListStrategy.getPaddedSize(1)).isEqualTo(1);
+		assertThat(InListStrategy.getPaddedSize(2)).isEqualTo(2);
+		assertThat(InListStrategy.getPaddedSize(3)).isEqualTo(4);
+		assertThat(InListStrategy.getPaddedSize(5)).isEqualTo(8);
+		assertThat(InListStrategy.getPaddedSize(512)).isEqualTo(512);
+	}
+
+	@Test
+	void limitsPaddingToMaxPaddedSize() {
+
+		assertThat(InListStrategy.getPaddedSize(513)).isEqualTo(InListStrategy.MAX_PADDED_SIZE);
+		assertThat(InListStrategy.getPaddedSize(1000)).isEqualTo(1000);
+		assertThat(InListStrategy.getPaddedSize(1001)).isEqualTo(1001);
+	}
+
+	@Test
+	void padsByRepeatingLastElement() {
+
+		List<String> values = List.of("a", "b", "c");
+
+		assertThat(InListStrategy.pad(values)).containsExactly("a", "b", "c", "c");
+		assertThat(InListStrategy.pad(List.of("a", "b"))).containsExactly("a", "b");
+	}
+
+	@Test
+	void dialectsDeclareInListStrategy() {
+
+		assertThat(HsqlDbDialect.INSTANCE.getInListStrategy()).isEqualTo(InListStrategy.PAD);
+		assertThat(PostgresDialect.INSTANCE.getInListStrategy()).isEqualTo(InListStrategy.ARRAY);
+		assertThat(H2Dialect.INSTANCE.getInListStrategy()).isEqualTo(InListStrategy.ARRAY);
+	}
+}
@@ -15,10 +15,13 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -83,4 +86,48 @@ public class MySqlDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("LOCK IN SHARE MODE");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	void shouldRenderLockWaitPolicy() {
+
+		LockClause lock = MySqlDialect.INSTANCE.lock();
+		From from = mock(From.class);
+
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED, from)))
+				.isEqualTo("FOR UPDATE SKIP LOCKED");
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, LockWaitPolicy.NOWAIT, from)))
+				.isEqualTo("FOR SHARE NOWAIT");
+	}
+
+	@Test
+	void shouldRenderMariaDbLockWaitPolicy() {
+
+		LockClause lock = new MariaDbDialect(MySqlDialect.INSTANCE.getIdentifierProcessing()).lock();
+		From from = mock(From.class);
+
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.NOWAIT, from)))
+				.isEqualTo("FOR UPDATE NOWAIT");
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, LockWaitPolicy.SKIP_LOCKED, from)))
+				.isEqualTo("LOCK IN SHARE MODE SKIP LOCKED");
+	}
+
+	@Test
+	void shouldRenderMariaDbLockWaitTimeout() {
+
+		LockClause lock = new MariaDbDialect(MySqlDialect.INSTANCE.getIdentifierProcessing()).lock();
+		From from = mock(From.class);
+
+		assertThat(lock.supportsWaitTimeout()).isTrue();
+		assertThat(lock.getLock(
+				new LockOptions(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.WAIT, Duration.ofMillis(1500), from)))
+				.isEqualTo("FOR UPDATE WAIT 2");
+		assertThat(
+				lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, LockWaitPolicy.WAIT, Duration.ofSeconds(3), from)))
+				.isEqualTo("LOCK IN SHARE MODE WAIT 3");
+	}
+
+	@Test
+	void shouldNotSupportMySqlLockWaitTimeout() {
+		assertThat(MySqlDialect.INSTANCE.lock().supportsWaitTimeout()).isFalse();
+	}
 }
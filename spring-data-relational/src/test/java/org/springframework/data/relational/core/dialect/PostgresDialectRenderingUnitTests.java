@@ -17,6 +17,8 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -152,6 +154,18 @@ public class PostgresDialectRenderingUnitTests {
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 FOR SHARE OF foo");
 	}
 
+	@Test
+	void shouldRejectSelectWithLockWaitTimeout() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, Duration.ofSeconds(5)).build();
+
+		SqlRenderer renderer = SqlRenderer.create(factory.createRenderContext());
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> renderer.render(select));
+	}
+
 	@Test // GH-821
 	void shouldRenderSelectOrderByWithNoOptions() {
 
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
@@ -145,6 +146,21 @@ public class SqlServerDialectRenderingUnitTests {
 			"SELECT foo.* FROM foo WITH (HOLDLOCK, ROWLOCK)");
 	}
 
+	@Test
+	void shouldRenderSelectWithLockWaitPolicy() {
+
+		Table table = Table.create("foo");
+		Select skipLocked = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED).build();
+		Select noWait = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_READ, LockWaitPolicy.NOWAIT).build();
+
+		SqlRenderer renderer = SqlRenderer.create(factory.createRenderContext());
+
+		assertThat(renderer.render(skipLocked)).isEqualTo("SELECT foo.* FROM foo WITH (UPDLOCK, ROWLOCK, READPAST)");
+		assertThat(renderer.render(noWait)).isEqualTo("SELECT foo.* FROM foo WITH (HOLDLOCK, ROWLOCK, NOWAIT)");
+	}
+
 	@Test // DATAJDBC-498
 	public void shouldRenderSelectWithLimitOffsetWithLockWrite() {
 
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Unit tests for {@link KeysetScrollSupport}.
+ */
+class KeysetScrollSupportUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Person.class);
+
+	@Test
+	void appendsIdentifierToSort() {
+
+		Sort sort = KeysetScrollSupport.getSort(Sort.by("name"), ScrollPosition.keyset(), entity);
+
+		assertThat(sort).containsExactly(Sort.Order.asc("name").nullsFirst(), Sort.Order.asc("id"));
+	}
+
+	@Test
+	void retainsIdentifierInSort() {
+
+		Sort sort = KeysetScrollSupport.getSort(Sort.by(Sort.Order.desc("id"), Sort.Order.asc("name")),
+				ScrollPosition.keyset(), entity);
+
+		assertThat(sort).containsExactly(Sort.Order.desc("id"), Sort.Order.asc("name").nullsFirst());
+	}
+
+	@Test
+	void reversesSortWhenScrollingBackward() {
+
+		Sort sort = KeysetScrollSupport.getSort(Sort.by("name"), ScrollPosition.backward(Map.of("name", "a", "id", 1)),
+				entity);
+
+		assertThat(sort).containsExactly(Sort.Order.desc("name").nullsLast(), Sort.Order.desc("id"));
+	}
+
+	@Test
+	void retainsExplicitNullHandlingAndReversesItWhenScrollingBackward() {
+
+		Sort sort = Sort.by(Sort.Order.asc("name").nullsLast());
+
+		assertThat(KeysetScrollSupport.getSort(sort, ScrollPosition.keyset(), entity))
+				.containsExactly(Sort.Order.asc("name").nullsLast(), Sort.Order.asc("id"));
+		assertThat(KeysetScrollSupport.getSort(sort, ScrollPosition.backward(Map.of("name", "a", "id", 1)), entity))
+				.containsExactly(Sort.Order.desc("name").nullsFirst(), Sort.Order.desc("id"));
+	}
+
+	@Test
+	void keepsNativeNullHandlingForNonNullableProperties() {
+
+		Sort sort = Sort.by(Sort.Order.desc("rank").nullsFirst(), Sort.Order.asc("name"));
+
+		assertThat(KeysetScrollSupport.getSort(sort, ScrollPosition.keyset(), entity))
+				.containsExactly(Sort.Order.desc("rank"), Sort.Order.asc("name").nullsFirst(), Sort.Order.asc("id"));
+		assertThat(KeysetScrollSupport.getSort(sort, ScrollPosition.backward(Map.of("rank", 1, "name", "a", "id", 1)),
+				entity)).containsExactly(Sort.Order.asc("rank"), Sort.Order.desc("name").nullsLast(), Sort.Order.desc("id"));
+	}
+
+	@Test
+	void determinesRequiredTopLevelProperties() {
+
+		Sort sort = Sort.by("address.city", "name", "address.street", "id");
+
+		assertThat(KeysetScrollSupport.getRequiredProperties(sort)).containsExactly("address", "name", "id");
+	}
+
+	@Test
+	void createsNoCriteriaForInitialPosition() {
+		assertThat(KeysetScrollSupport.createCriteria(Sort.by("name", "id"), ScrollPosition.keyset())).isNull();
+	}
+
+	@Test
+	void createsSingleComparisonForSingleSortProperty() {
+
+		Criteria criteria = KeysetScrollSupport.createCriteria(Sort.by("id"), ScrollPosition.forward(Map.of("id", 5)));
+
+		assertThat(criteria).hasToString("id > 5");
+	}
+
+	@Test
+	void createsExpandedComparisonForMultipleSortProperties() {
+
+		Criteria criteria = KeysetScrollSupport.createCriteria(
+				Sort.by(Sort.Order.asc("name"), Sort.Order.desc("id").nullsFirst()),
+				ScrollPosition.forward(Map.of("name", "a", "id", 5)));
+
+		assertThat(criteria).hasToString("name >= 'a' AND (name > 'a' OR (name = 'a' AND id < 5))");
+	}
+
+	@Test
+	void createsNullAwareComparisonForNullKeysSortingFirst() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("name", null);
+		keys.put("id", 5);
+
+		Criteria criteria = KeysetScrollSupport.createCriteria(Sort.by("name", "id"), ScrollPosition.forward(keys));
+
+		assertThat(criteria).hasToString("(name IS NOT NULL OR (name IS NULL AND id > 5))");
+	}
+
+	@Test
+	void createsNullAwareComparisonForNullKeysSortingLast() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("name", null);
+		keys.put("id", 5);
+
+		Criteria criteria = KeysetScrollSupport.createCriteria(
+				Sort.by(Sort.Order.asc("name").nullsLast(), Sort.Order.asc("id")), ScrollPosition.forward(keys));
+
+		assertThat(criteria).hasToString("name IS NULL AND (name IS NULL AND id > 5)");
+	}
+
+	@Test
+	void includesNullValuesWhenSortingNullsLast() {
+
+		Criteria criteria = KeysetScrollSupport.createCriteria(
+				Sort.by(Sort.Order.desc("name").nullsLast(), Sort.Order.asc("id")),
+				ScrollPosition.forward(Map.of("name", "a", "id", 5)));
+
+		assertThat(criteria).hasToString("(name < 'a' OR name IS NULL OR (name = 'a' AND id > 5))");
+	}
+
+	@Test
+	void omitsNullPredicatesForNonNullableProperties() {
+
+		Criteria criteria = KeysetScrollSupport.createCriteria(Sort.by(Sort.Order.desc("rank"), Sort.Order.desc("id")),
+				ScrollPosition.forward(Map.of("rank", 3, "id", 5)));
+
+		assertThat(criteria).hasToString("rank <= 3 AND (rank < 3 OR (rank = 3 AND id < 5))");
+	}
+
+	@Test
+	void rejectsPositionWithoutValueForSortProperty() {
+
+		KeysetScrollPosition position = ScrollPosition.forward(Map.of("name", "a"));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> KeysetScrollSupport.createCriteria(Sort.by("name", "id"), position));
+	}
+
+	@Test
+	void combinesKeysetWithQueryCriteria() {
+
+		Query query = Query.query(Criteria.where("age").greaterThan(18)).sort(Sort.by("name")).limit(10);
+
+		Query keysetQuery = KeysetScrollSupport.createQuery(query, ScrollPosition.forward(Map.of("name", "a", "id", 5)),
+				entity);
+
+		assertThat(keysetQuery.getCriteria()).get()
+				.hasToString("(age > 18 AND name >= 'a' AND (name > 'a' OR (name = 'a' AND id > 5)))");
+		assertThat(keysetQuery.getSort()).containsExactly(Sort.Order.asc("name").nullsFirst(), Sort.Order.asc("id"));
+		assertThat(keysetQuery.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void selectsSortPropertiesOfQueryWithColumns() {
+
+		Query query = Query.empty().columns("name").sort(Sort.by("age"));
+
+		Query keysetQuery = KeysetScrollSupport.createQuery(query, ScrollPosition.keyset(), entity);
+
+		assertThat(keysetQuery.getColumns()).extracting(SqlIdentifier::getReference).containsExactly("name", "age", "id");
+	}
+
+	@Test
+	void createsForwardWindow() {
+
+		List<Person> result = List.of(new Person(1L, "a", 1), new Person(2L, "b", 2), new Person(3L, "c", 3));
+		Sort sort = Sort.by("name", "id");
+
+		Window<Person> window = KeysetScrollSupport.createWindow(result, 2, ScrollPosition.keyset(), sort, entity);
+
+		assertThat(window).extracting(Person::name).containsExactly("a", "b");
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.positionAt(1)).isEqualTo(ScrollPosition.forward(Map.of("name", "b", "id", 2L)));
+	}
+
+	@Test
+	void createsBackwardWindowInRequestedOrder() {
+
+		List<Person> result = List.of(new Person(3L, "c", 3), new Person(2L, "b", 2), new Person(1L, "a", 1));
+		KeysetScrollPosition position = ScrollPosition.backward(Map.of("name", "d", "id", 4L));
+		Sort sort = KeysetScrollSupport.getSort(Sort.by("name"), position, entity);
+
+		Window<Person> window = KeysetScrollSupport.createWindow(result, 2, position, sort, entity);
+
+		assertThat(window).extracting(Person::name).containsExactly("b", "c");
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.backward(Map.of("name", "b", "id", 2L)));
+	}
+
+	record Person(@Id Long id, String name, int rank) {
+	}
+}
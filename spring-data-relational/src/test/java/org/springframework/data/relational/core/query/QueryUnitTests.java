@@ -17,9 +17,13 @@ package org.springframework.data.relational.core.query;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * Tests the {@link Query} class.
@@ -40,6 +44,31 @@ public class QueryUnitTests {
 				.containsExactly("alpha", "beta");
 	}
 
+	@Test
+	void lockIsRetainedByFurtherModifications() {
+
+		Query query = Query.empty() //
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED) //
+				.sort(Sort.by("alpha")) //
+				.limit(10);
+
+		assertThat(query.getLockMode()).isEqualTo(LockMode.PESSIMISTIC_WRITE);
+		assertThat(query.getLockWaitPolicy()).isEqualTo(LockWaitPolicy.SKIP_LOCKED);
+		assertThat(query.getLockWaitTimeout()).isNull();
+	}
+
+	@Test
+	void lockWithWaitTimeout() {
+
+		Query query = Query.empty().lock(LockMode.PESSIMISTIC_READ, Duration.ofSeconds(3));
+
+		assertThat(query.getLockMode()).isEqualTo(LockMode.PESSIMISTIC_READ);
+		assertThat(query.getLockWaitPolicy()).isEqualTo(LockWaitPolicy.WAIT);
+		assertThat(query.getLockWaitTimeout()).isEqualTo(Duration.ofSeconds(3));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> Query.empty().lock(LockMode.PESSIMISTIC_READ, Duration.ZERO));
+	}
+
 	@Test // DATAJDBC614
 	public void withCombinesEmptySortAndPaging() {
 
@@ -43,4 +43,28 @@ public class InsertBuilderUnitTests {
 
 		assertThat(insert.toString()).isEqualTo("INSERT INTO mytable (mytable.foo, mytable.bar) VALUES(?)");
 	}
+
+	@Test
+	void shouldCreateMultiRowInsert() {
+
+		Table table = SQL.table("mytable");
+		Column foo = table.column("foo");
+		Column bar = table.column("bar");
+
+		Insert insert = StatementBuilder.insert().into(table).columns(foo, bar).values(SQL.literalOf(1), SQL.literalOf(2))
+				.andValues(SQL.literalOf(3)).value(SQL.literalOf(4)).build();
+
+		assertThat(insert.toString()).isEqualTo("INSERT INTO mytable (mytable.foo, mytable.bar) VALUES(1, 2), (3, 4)");
+	}
+
+	@Test
+	void shouldRejectRowsOfDifferentSize() {
+
+		Table table = SQL.table("mytable");
+
+		assertThatIllegalStateException().isThrownBy(() -> StatementBuilder.insert().into(table)
+				.values(SQL.literalOf(1), SQL.literalOf(2)).andValues(SQL.literalOf(3)).build());
+		assertThatIllegalStateException().isThrownBy(() -> StatementBuilder.insert().into(table)
+				.values(SQL.literalOf(1)).andValues(SQL.literalOf(2), SQL.literalOf(3)).andValues(SQL.literalOf(4)));
+	}
 }
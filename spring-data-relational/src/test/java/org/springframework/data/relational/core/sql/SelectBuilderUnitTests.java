@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.sql;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
 import java.util.OptionalLong;
 
 import org.junit.jupiter.api.Test;
@@ -165,6 +166,35 @@ public class SelectBuilderUnitTests {
 
 		assertThat(visitor.enter).containsSequence(foo, table, bar, table, new From(table), table);
 		assertThat(select.getLockMode()).isEqualTo(lockMode);
+		assertThat(select.getLockWaitPolicy()).isEqualTo(LockWaitPolicy.WAIT);
+	}
+
+	@Test
+	void selectWithLockWaitPolicy() {
+
+		Table table = SQL.table("mytable");
+		Column foo = table.column("foo");
+
+		Select select = StatementBuilder.select(foo).from(table).join(SQL.table("other")).on(foo)
+				.equals(SQL.table("other").column("foo")).lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED)
+				.build();
+
+		assertThat(select.getLockMode()).isEqualTo(LockMode.PESSIMISTIC_WRITE);
+		assertThat(select.getLockWaitPolicy()).isEqualTo(LockWaitPolicy.SKIP_LOCKED);
+	}
+
+	@Test
+	void selectWithLockWaitTimeout() {
+
+		Table table = SQL.table("mytable");
+		Column foo = table.column("foo");
+
+		Select select = StatementBuilder.select(foo).from(table).lock(LockMode.PESSIMISTIC_WRITE, Duration.ofSeconds(5))
+				.build();
+
+		assertThat(select.getLockMode()).isEqualTo(LockMode.PESSIMISTIC_WRITE);
+		assertThat(select.getLockWaitPolicy()).isEqualTo(LockWaitPolicy.WAIT);
+		assertThat(select.getLockWaitTimeout()).isEqualTo(Duration.ofSeconds(5));
 	}
 
 	@Test // DATAJDBC-498
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link UpsertBuilder}.
+ */
+class UpsertBuilderUnitTests {
+
+	Table table = SQL.table("mytable");
+	Column id = table.column("id");
+	Column name = table.column("name");
+	Column created = table.column("created");
+
+	@Test
+	void shouldCreateUpsert() {
+
+		Upsert upsert = StatementBuilder.upsert(table).columns(id, name).values(SQL.bindMarker(), SQL.bindMarker())
+				.key(id).build();
+
+		CapturingVisitor visitor = new CapturingVisitor();
+		upsert.visit(visitor);
+
+		assertThat(visitor.enter).containsSequence(upsert, new Into(table), table, id, table, name, table,
+				new Values(SQL.bindMarker(), SQL.bindMarker()));
+
+		assertThat(upsert.toString()).isEqualTo(
+				"UPSERT INTO mytable (mytable.id, mytable.name) VALUES(?, ?) KEY (mytable.id) UPDATE (mytable.name)");
+	}
+
+	@Test
+	void shouldConsiderUpdateColumns() {
+
+		Upsert upsert = StatementBuilder.upsert(table).columns(id, name, created)
+				.values(SQL.bindMarker(), SQL.bindMarker(), SQL.bindMarker()).key(id).update(name).build();
+
+		assertThat(upsert.toString()).endsWith("KEY (mytable.id) UPDATE (mytable.name)");
+	}
+
+	@Test
+	void shouldRejectIncompleteUpsert() {
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> StatementBuilder.upsert(table).columns(id, name).values(SQL.bindMarker()).key(id).build());
+		assertThatIllegalStateException()
+				.isThrownBy(() -> StatementBuilder.upsert(table).columns(name).values(SQL.bindMarker()).key(id).build());
+		assertThatIllegalStateException().isThrownBy(
+				() -> StatementBuilder.upsert(table).columns(id).values(SQL.bindMarker()).key(id).update(name).build());
+	}
+}
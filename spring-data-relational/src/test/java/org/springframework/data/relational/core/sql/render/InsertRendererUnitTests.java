@@ -71,4 +71,17 @@ public class InsertRendererUnitTests {
 		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar VALUES (DEFAULT)");
 	}
 
+	@Test
+	void shouldRenderMultiRowInsert() {
+
+		Table bar = SQL.table("bar");
+
+		Insert insert = Insert.builder().into(bar).columns(bar.columns("foo", "baz")) //
+				.values(SQL.bindMarker(":foo_0"), SQL.bindMarker(":baz_0")) //
+				.andValues(SQL.bindMarker(":foo_1"), SQL.bindMarker(":baz_1")) //
+				.andValues(SQL.literalOf("foo"), SQL.literalOf(2)).build();
+
+		assertThat(SqlRenderer.toString(insert))
+				.isEqualTo("INSERT INTO bar (foo, baz) VALUES (:foo_0, :baz_0), (:foo_1, :baz_1), ('foo', 2)");
+	}
 }
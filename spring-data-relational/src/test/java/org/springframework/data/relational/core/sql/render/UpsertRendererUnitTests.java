@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.MariaDbDialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.dialect.UpsertRenderContext;
+import org.springframework.data.relational.core.dialect.UpsertRenderContexts;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Upsert;
+
+/**
+ * Unit tests for rendering {@link Upsert} statements.
+ */
+class UpsertRendererUnitTests {
+
+	Table table = SQL.table("person");
+	Column id = table.column("id");
+	Column name = table.column("name");
+
+	Upsert upsert = Upsert.builder().into(table).columns(id, name).values(SQL.bindMarker(":id"), SQL.bindMarker(":name"))
+			.key(id).build();
+
+	Upsert keyOnly = Upsert.builder().into(table).columns(id, name)
+			.values(SQL.bindMarker(":id"), SQL.bindMarker(":name")).key(id).update().build();
+
+	@Test
+	void shouldRenderStandardMerge() {
+
+		assertThat(SqlRenderer.toString(upsert)).isEqualTo(
+				"MERGE INTO person AS tgt USING (VALUES (:id, :name)) AS src (id, name) ON (tgt.id = src.id) WHEN MATCHED THEN UPDATE SET name = src.name WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+		assertThat(SqlRenderer.toString(keyOnly)).isEqualTo(
+				"MERGE INTO person AS tgt USING (VALUES (:id, :name)) AS src (id, name) ON (tgt.id = src.id) WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void shouldRenderOnConflictForPostgres() {
+
+		assertThat(render(PostgresDialect.INSTANCE, upsert)).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+		assertThat(render(PostgresDialect.INSTANCE, keyOnly))
+				.isEqualTo("INSERT INTO person (id, name) VALUES (:id, :name) ON CONFLICT (id) DO NOTHING");
+	}
+
+	@Test
+	void shouldRenderOnDuplicateKeyForMySql() {
+
+		assertThat(render(MySqlDialect.INSTANCE, upsert)).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) AS new ON DUPLICATE KEY UPDATE name = new.name");
+		assertThat(render(MySqlDialect.INSTANCE, keyOnly))
+				.isEqualTo("INSERT INTO person (id, name) VALUES (:id, :name) AS new ON DUPLICATE KEY UPDATE id = id");
+	}
+
+	@Test
+	void shouldRenderMergeKeyForH2() {
+
+		assertThat(render(H2Dialect.INSTANCE, upsert))
+				.isEqualTo("MERGE INTO person (id, name) KEY (id) VALUES (:id, :name)");
+		assertThat(render(H2Dialect.INSTANCE, keyOnly)).startsWith("MERGE INTO person AS tgt USING");
+	}
+
+	@Test
+	void shouldRenderTerminatedMergeForSqlServer() {
+
+		assertThat(render(SqlServerDialect.INSTANCE, upsert)).startsWith("MERGE INTO person AS tgt USING")
+				.endsWith("VALUES (src.id, src.name);");
+	}
+
+	@Test
+	void shouldRenderValuesFunctionForMariaDb() {
+
+		Dialect dialect = new MariaDbDialect(IdentifierProcessing.NONE);
+
+		assertThat(render(dialect, upsert)).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) ON DUPLICATE KEY UPDATE name = VALUES(name)");
+	}
+
+	@Test
+	void shouldRenderMergeFromDualForOracle() {
+
+		assertThat(render(OracleDialect.INSTANCE, upsert)).isEqualTo(
+				"MERGE INTO person tgt USING (SELECT :id AS id, :name AS name FROM DUAL) src ON (tgt.id = src.id) WHEN MATCHED THEN UPDATE SET name = src.name WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+		assertThat(render(OracleDialect.INSTANCE, keyOnly)).isEqualTo(
+				"MERGE INTO person tgt USING (SELECT :id AS id, :name AS name FROM DUAL) src ON (tgt.id = src.id) WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void shouldRejectUnsupportedDialect() {
+
+		UpsertRenderContext unsupported = UpsertRenderContexts.UNSUPPORTED;
+
+		assertThat(unsupported.isSupported()).isFalse();
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> unsupported.render("person", List.of("id"), List.of(":id"), List.of("id"), List.of()));
+	}
+
+	private static String render(Dialect dialect, Upsert upsert) {
+		return SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext()).render(upsert);
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sqlgeneration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link CachingSqlGenerator}.
+ */
+class CachingSqlGeneratorUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(TrivialAggregate.class);
+	Table table = Table.create(persistentEntity.getQualifiedTableName());
+
+	CountingSqlGenerator delegate = new CountingSqlGenerator(
+			new SingleQuerySqlGenerator(context, new AliasFactory(), PostgresDialect.INSTANCE));
+	CachingSqlGenerator sqlGenerator = new CachingSqlGenerator(delegate);
+
+	@Test
+	void rendersConditionOfSameStructureOnce() {
+
+		String first = sqlGenerator.findAll(persistentEntity, byId());
+		String second = sqlGenerator.findAll(persistentEntity, byId());
+
+		assertThat(second).isSameAs(first);
+		assertThat(delegate.invocations).hasValue(1);
+	}
+
+	@Test
+	void rendersConditionsOfDifferentStructureSeparately() {
+
+		String byId = sqlGenerator.findAll(persistentEntity, byId());
+		String byName = sqlGenerator.findAll(persistentEntity,
+				Conditions.isEqual(table.column("name"), SQL.bindMarker(":name")));
+
+		assertThat(byName).isNotEqualTo(byId).contains(":name");
+		assertThat(delegate.invocations).hasValue(2);
+	}
+
+	@Test
+	void cachesQueryWithoutCondition() {
+
+		String first = sqlGenerator.findAll(persistentEntity);
+		String second = sqlGenerator.findAll(persistentEntity, null);
+
+		assertThat(second).isSameAs(first).doesNotContain("WHERE");
+		assertThat(delegate.invocations).hasValue(1);
+	}
+
+	@Test
+	void distinguishesOrderingAndLimit() {
+
+		List<OrderByField> byNameDesc = List.of(OrderByField.from(table.column("name")).desc());
+
+		String first = sqlGenerator.findAll(persistentEntity, null, byNameDesc, 10, -1);
+		String second = sqlGenerator.findAll(persistentEntity, null,
+				List.of(OrderByField.from(table.column("name")).desc()), 10, -1);
+		String otherLimit = sqlGenerator.findAll(persistentEntity, null, byNameDesc, 20, -1);
+		String otherDirection = sqlGenerator.findAll(persistentEntity, null,
+				List.of(OrderByField.from(table.column("name")).asc()), 10, -1);
+
+		assertThat(second).isSameAs(first);
+		assertThat(otherLimit).isNotEqualTo(first).contains("LIMIT 20");
+		assertThat(otherDirection).isNotEqualTo(first).contains("ASC");
+		assertThat(delegate.invocations).hasValue(3);
+	}
+
+	@Test
+	void reportsOrderingAndLimitingSupportOfDelegate() {
+
+		SqlGenerator withoutOrdering = new SqlGenerator() {
+
+			@Override
+			public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition) {
+				return "SELECT";
+			}
+
+			@Override
+			public AliasFactory getAliasFactory() {
+				return new AliasFactory();
+			}
+		};
+
+		assertThat(sqlGenerator.supportsOrderingAndLimiting()).isTrue();
+		assertThat(new CachingSqlGenerator(withoutOrdering).supportsOrderingAndLimiting()).isFalse();
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> withoutOrdering
+				.findAll(persistentEntity, null, List.of(OrderByField.from(table.column("name"))), -1, -1));
+		assertThat(withoutOrdering.findAll(persistentEntity, null, List.of(), -1, -1)).isEqualTo("SELECT");
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedStatements() {
+
+		CachingSqlGenerator sqlGenerator = new CachingSqlGenerator(delegate, 1);
+
+		sqlGenerator.findAll(persistentEntity, byId());
+		sqlGenerator.findAll(persistentEntity, null);
+		sqlGenerator.findAll(persistentEntity, byId());
+
+		assertThat(delegate.invocations).hasValue(3);
+	}
+
+	private Condition byId() {
+		return Conditions.isEqual(table.column("id"), SQL.bindMarker(":id"));
+	}
+
+	static class CountingSqlGenerator implements SqlGenerator {
+
+		final SqlGenerator delegate;
+		final AtomicInteger invocations = new AtomicInteger();
+
+		CountingSqlGenerator(SqlGenerator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition) {
+
+			invocations.incrementAndGet();
+			return delegate.findAll(aggregate, condition);
+		}
+
+		@Override
+		public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition,
+				List<OrderByField> orderBy, long limit, long offset) {
+
+			invocations.incrementAndGet();
+			return delegate.findAll(aggregate, condition, orderBy, limit, offset);
+		}
+
+		@Override
+		public boolean supportsOrderingAndLimiting() {
+			return delegate.supportsOrderingAndLimiting();
+		}
+
+		@Override
+		public AliasFactory getAliasFactory() {
+			return delegate.getAliasFactory();
+		}
+	}
+
+	record TrivialAggregate(@Id Long id, String name) {
+	}
+}
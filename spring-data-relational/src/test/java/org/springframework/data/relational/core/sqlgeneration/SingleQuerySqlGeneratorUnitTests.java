@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sqlgeneration;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.relational.core.sqlgeneration.SqlAssert.*;
 
 import java.util.List;
@@ -26,10 +27,12 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.data.relational.core.sql.Table;
 
 /**
@@ -125,6 +128,43 @@ class SingleQuerySqlGeneratorUnitTests {
 					.extractWhereClause().isEqualTo("\"trivial_aggregate\".id IN (:ids)");
 		}
 
+		@Test
+		void createSelectForSortedAndLimitedFindAll() {
+
+			Table table = Table.create(persistentEntity.getQualifiedTableName());
+			String sql = sqlGenerator.findAll(persistentEntity, null, List.of(OrderByField.from(table.column("name")).desc()),
+					10, 20);
+
+			SqlAssert fullSelect = assertThatParsed(sql);
+			fullSelect.extractOrderBy().isEqualTo(roAlias() + ", " + alias("id") + ", rn");
+
+			SqlAssert rootSelect = fullSelect.hasInlineView().hasInlineViewSelectingFrom("\"trivial_aggregate\"");
+			rootSelect.extractOrderBy().isEqualTo("\"trivial_aggregate\".name DESC");
+			assertThat(sql).contains("row_number() OVER(ORDER BY \"trivial_aggregate\".name DESC) AS " + roAlias())
+					.contains("LIMIT 10 OFFSET 20");
+		}
+
+		@Test
+		void createSelectForSortedFindAllOrdersByRowOrderOnly() {
+
+			Table table = Table.create(persistentEntity.getQualifiedTableName());
+			String sql = sqlGenerator.findAll(persistentEntity, null, List.of(OrderByField.from(table.column("name"))), -1,
+					-1);
+
+			SqlAssert fullSelect = assertThatParsed(sql);
+			fullSelect.extractOrderBy().isEqualTo(roAlias() + ", " + alias("id") + ", rn");
+			fullSelect.hasInlineView().hasInlineViewSelectingFrom("\"trivial_aggregate\"").extractOrderBy().isEmpty();
+			assertThat(sql).doesNotContain("LIMIT");
+		}
+
+		@Test
+		void createSelectForLimitedFindAll() {
+
+			String sql = sqlGenerator.findAll(persistentEntity, null, List.of(), 1, -1);
+
+			assertThatParsed(sql).extractOrderBy().isEqualTo(alias("id") + ", rn");
+			assertThat(sql).contains("LIMIT 1").doesNotContain("OFFSET");
+		}
 	}
 
 	@Nested
@@ -184,6 +224,85 @@ class SingleQuerySqlGeneratorUnitTests {
 
 	}
 
+	@Nested
+	class AggregateWithEmbedded extends AbstractTestFixture {
+
+		private AggregateWithEmbedded() {
+			super(EmbeddingAggregate.class);
+		}
+
+		@Test
+		void createSelectForFindAll() {
+
+			String sql = sqlGenerator.findAll(persistentEntity);
+
+			SqlAssert baseSelect = assertThatParsed(sql).hasInlineView();
+
+			baseSelect //
+					.hasExactlyColumns( //
+							col(rnAlias()).as("rn"), //
+							col(rnAlias()), //
+							col(alias("id")), //
+							col(alias("address.street")), //
+							col(alias("address.city")) //
+					) //
+					.hasInlineViewSelectingFrom("\"embedding_aggregate\"") //
+					.hasExactlyColumns( //
+							lit(1).as(rnAlias()), //
+							lit(1).as(rcAlias()), //
+							col("\"id\"").as(alias("id")), //
+							col("\"address_street\"").as(alias("address.street")), //
+							col("\"address_city\"").as(alias("address.city")) //
+					);
+		}
+	}
+
+	@Nested
+	class AggregateWithOneToOneReference extends AbstractTestFixture {
+
+		private AggregateWithOneToOneReference() {
+			super(OneToOneAggregate.class);
+		}
+
+		@Test
+		void createSelectForFindById() {
+
+			Table table = Table.create(persistentEntity.getQualifiedTableName());
+			String sql = sqlGenerator.findAll(persistentEntity, table.column("id").isEqualTo(Conditions.just(":id")));
+
+			String rootRowNumber = rnAlias();
+			String trivialRowNumber = rnAlias("trivial");
+			String backref = backRefAlias("trivial");
+			String keyAlias = keyAlias("trivial");
+
+			SqlAssert baseSelect = assertThatParsed(sql).hasInlineView();
+
+			baseSelect //
+					.hasExactlyColumns( //
+							col(rootRowNumber), //
+							col(alias("id")), //
+							col(alias("name")), //
+							col(trivialRowNumber), //
+							col(alias("trivial.id")), //
+							col(alias("trivial.name")), //
+							func("greatest", func("coalesce", col(rootRowNumber), lit(1)),
+									func("coalesce", col(trivialRowNumber), lit(1))), //
+							col(backref), //
+							col(keyAlias) //
+					);
+			baseSelect.hasInlineViewSelectingFrom("\"trivial_aggregate\"") //
+					.hasExactlyColumns( //
+							rn(col("\"one_to_one_aggregate\"")).as(trivialRowNumber), //
+							count(col("\"one_to_one_aggregate\"")).as(rcAlias("trivial")), //
+							col("\"id\"").as(alias("trivial.id")), //
+							col("\"name\"").as(alias("trivial.name")), //
+							col("\"one_to_one_aggregate\"").as(backref), //
+							rn(col("\"one_to_one_aggregate\"")).as(keyAlias) //
+					).extractWhereClause().isEmpty();
+			baseSelect.hasJoin().on(alias("id"), backref);
+		}
+	}
+
 	private AggregatePath path(Class<?> type) {
 		return context.getAggregatePath(context.getRequiredPersistentEntity(type));
 	}
@@ -205,6 +324,15 @@ class SingleQuerySqlGeneratorUnitTests {
 	record SingleReferenceAggregate(@Id Long id, String name, List<TrivialAggregate> trivials) {
 	}
 
+	record EmbeddingAggregate(@Id Long id, @Embedded.Nullable(prefix = "address_") Address address) {
+	}
+
+	record Address(String street, String city) {
+	}
+
+	record OneToOneAggregate(@Id Long id, String name, TrivialAggregate trivial) {
+	}
+
 	private class AbstractTestFixture {
 		final Class<?> aggregateRootType;
 		final SingleQuerySqlGenerator sqlGenerator;
@@ -235,6 +363,10 @@ class SingleQuerySqlGeneratorUnitTests {
 			return aliases.getRowNumberAlias(path(path));
 		}
 
+		protected String roAlias() {
+			return aliases.getRowOrderAlias(path());
+		}
+
 		protected String rcAlias() {
 			return aliases.getRowCountAlias(path());
 		}
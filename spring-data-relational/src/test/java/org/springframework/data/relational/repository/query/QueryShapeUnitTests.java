@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethod;
+
+/**
+ * Unit tests for {@link QueryShape}.
+ */
+class QueryShapeUnitTests {
+
+	@Test
+	void invocationsWithDifferentValuesShareShape() throws Exception {
+
+		QueryShape first = getShape("findByName", String.class, "Alice");
+		QueryShape second = getShape("findByName", String.class, "Bob");
+
+		assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+	}
+
+	@Test
+	void distinguishesNullValues() throws Exception {
+
+		QueryShape value = getShape("findByName", String.class, "Alice");
+		QueryShape nullValue = getShape("findByName", String.class, (Object) null);
+
+		assertThat(value).isNotEqualTo(nullValue);
+	}
+
+	@Test
+	void distinguishesCollectionSizes() throws Exception {
+
+		QueryShape one = getShape("findByNameIn", Collection.class, List.of("Alice"));
+		QueryShape otherOne = getShape("findByNameIn", Collection.class, List.of("Bob"));
+		QueryShape two = getShape("findByNameIn", Collection.class, List.of("Alice", "Bob"));
+
+		assertThat(one).isEqualTo(otherOne).isNotEqualTo(two);
+	}
+
+	@Test
+	void distinguishesCollectionsContainingNullOrMixedTypes() throws Exception {
+
+		QueryShape strings = getShape("findByNameIn", Collection.class, List.of("Alice", "Bob"));
+		QueryShape withNull = getShape("findByNameIn", Collection.class, Arrays.asList("Alice", null));
+		QueryShape mixed = getShape("findByNameIn", Collection.class, List.of("Alice", 1));
+
+		assertThat(strings).isNotEqualTo(withNull).isNotEqualTo(mixed);
+		assertThat(withNull).isEqualTo(mixed);
+	}
+
+	@Test
+	void distinguishesArrayLengths() throws Exception {
+
+		QueryShape one = getShape("findByNameIn", String[].class, (Object) new String[] { "Alice" });
+		QueryShape two = getShape("findByNameIn", String[].class, (Object) new String[] { "Alice", "Bob" });
+
+		assertThat(one).isNotEqualTo(two);
+	}
+
+	@Test
+	void considersByteArraysSingleValues() throws Exception {
+
+		QueryShape one = getShape("findByContent", byte[].class, (Object) new byte[] { 1 });
+		QueryShape two = getShape("findByContent", byte[].class, (Object) new byte[] { 1, 2 });
+
+		assertThat(one).isEqualTo(two);
+	}
+
+	@Test
+	void distinguishesSortPagingLimitAndResultShape() throws Exception {
+
+		RelationalParameterAccessor accessor = getAccessor("findByName", String.class, "Alice");
+		QueryShape shape = QueryShape.of(accessor, Sort.unsorted(), Pageable.unpaged(), Limit.unlimited(), User.class);
+
+		assertThat(shape)
+				.isNotEqualTo(QueryShape.of(accessor, Sort.by("name"), Pageable.unpaged(), Limit.unlimited(), User.class))
+				.isNotEqualTo(
+						QueryShape.of(accessor, Sort.unsorted(), PageRequest.of(1, 10), Limit.unlimited(), User.class))
+				.isNotEqualTo(QueryShape.of(accessor, Sort.unsorted(), Pageable.unpaged(), Limit.of(1), User.class))
+				.isNotEqualTo(QueryShape.of(accessor, Sort.unsorted(), Pageable.unpaged(), Limit.unlimited(),
+						List.of("name")));
+	}
+
+	private QueryShape getShape(String methodName, Class<?> parameterType, Object... values) throws Exception {
+		return QueryShape.of(getAccessor(methodName, parameterType, values), Sort.unsorted(), Pageable.unpaged(),
+				Limit.unlimited(), User.class);
+	}
+
+	private RelationalParameterAccessor getAccessor(String methodName, Class<?> parameterType, Object... values)
+			throws Exception {
+
+		Method method = UserRepository.class.getMethod(methodName, parameterType);
+		return new RelationalParametersParameterAccessor(new RelationalQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory()), values);
+	}
+
+	static class RelationalQueryMethod extends QueryMethod {
+
+		public RelationalQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
+			super(method, metadata, factory);
+		}
+	}
+
+	interface UserRepository extends Repository<User, String> {
+
+		List<User> findByName(String name);
+
+		List<User> findByNameIn(Collection<String> names);
+
+		List<User> findByNameIn(String[] names);
+
+		List<User> findByContent(byte[] content);
+	}
+
+	static class User {
+		String name;
+		byte[] content;
+	}
+}